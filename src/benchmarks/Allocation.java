@@ -0,0 +1,44 @@
+package benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Access to the per thread allocation counter of the JVM.
+ *
+ * @version 10/19/2026
+ */
+public final class Allocation {
+
+    /** The HotSpot thread bean, or null if the JVM does not provide allocation counters. */
+    private static final com.sun.management.ThreadMXBean THREADS = getThreadBean();
+
+    private Allocation() {
+    }
+
+    /**
+     * Gets the total amount of bytes allocated by the current thread so far.
+     * @return the bytes allocated by the current thread, or -1 if the JVM does not support allocation counters.
+     */
+    public static long currentThreadAllocatedBytes() {
+        if (THREADS == null) {
+            return -1;
+        }
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean result = (com.sun.management.ThreadMXBean) bean;
+
+            if (result.isThreadAllocatedMemorySupported()) {
+                result.setThreadAllocatedMemoryEnabled(true);
+                return result;
+            }
+        }
+
+        return null;
+    }
+}
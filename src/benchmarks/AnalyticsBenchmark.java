@@ -0,0 +1,77 @@
+package benchmarks;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import model.AnalyticsSnapshot;
+import model.ConferenceSystem;
+import model.Review;
+import view.DataGenerator;
+
+/**
+ * Compares the columnar analytics of AnalyticsSnapshot with the same queries over the object model.
+ *
+ * For each model size the benchmark times taking a snapshot, grouping all reviews by every dimension of the snapshot
+ * and, as the baseline, grouping the parallel review stream of the ConferenceSystem by score and by reviewer.
+ * One operation is one pass over all reviews. About 10 million reviews need conferences=10 papers=400000 and a
+ * heap of several gigabytes (-Xmx8g).
+ *
+ * Usage: java benchmarks.AnalyticsBenchmark [name=value ...]
+ * where the parameters are
+ * papers (per conference, comma separated list of sizes), conferences, users (0 derives it from the size),
+ * reviewers (per paper), warmup, iterations, time (milliseconds per iteration) and seed.
+ *
+ * @version 10/19/2026
+ */
+public class AnalyticsBenchmark {
+
+    /**
+     * Runs the benchmark.
+     * @param args the parameters as name=value pairs.
+     */
+    public static void main(String[] args) {
+        final ModelBenchmarks.Parameters params = new ModelBenchmarks.Parameters(args);
+        final int conferences = (int) params.getLong("conferences", "10");
+        final int reviewers = (int) params.getLong("reviewers", "3");
+        final ConferenceSystem sys = ConferenceSystem.getInstance();
+
+        for (final int papers : params.getInts("papers", "1000,10000")) {
+            int users = (int) params.getLong("users", "0");
+            if (users <= 0) {
+                users = Math.max(1000, conferences * papers / 2);
+            }
+
+            sys.clear();
+            new DataGenerator(params.getLong("seed", "42"), conferences, users, papers, reviewers).generate(sys);
+            final AnalyticsSnapshot snapshot = sys.getAnalytics(0);
+            final String scale = String.format("[c=%d p=%d reviews=%d]",
+                    conferences, papers, snapshot.getReviewCount());
+            System.out.println("Built model " + scale);
+
+            final BenchmarkHarness harness = params.createHarness();
+            harness.run("takeSnapshot " + scale, () -> sys.getAnalytics(0).getReviewCount() >= 0 ? 1 : 0);
+            for (final AnalyticsSnapshot.Dimension dimension : AnalyticsSnapshot.Dimension.values()) {
+                harness.run("aggregate " + dimension + " " + scale,
+                        () -> snapshot.aggregate(dimension).getGroupCount() >= 0 ? 1 : 0);
+            }
+            harness.run("aggregate SCORE last day " + scale, () -> snapshot.aggregate(AnalyticsSnapshot.Dimension.SCORE,
+                    AnalyticsSnapshot.NO_ID, snapshot.getTakenMillis() - 86_400_000L, Long.MAX_VALUE)
+                    .getGroupCount() >= 0 ? 1 : 0);
+            harness.run("papersPerAuthor accepted " + scale,
+                    () -> snapshot.getPapersPerAuthor(true).length >= 0 ? 1 : 0);
+            harness.run("stream groupBy SCORE " + scale, () -> {
+                final Map<Integer, Long> counts = sys.reviews().parallel()
+                        .collect(Collectors.groupingByConcurrent(review -> review.score, Collectors.counting()));
+                return counts.size() >= 0 ? 1 : 0;
+            });
+            harness.run("stream groupBy REVIEWER " + scale, () -> {
+                final Map<Object, Double> means = sys.reviews().parallel().filter(review -> review.reviewer != null)
+                        .collect(Collectors.groupingByConcurrent(review -> review.reviewer,
+                                Collectors.averagingInt((Review review) -> review.score)));
+                return means.size() >= 0 ? 1 : 0;
+            });
+            harness.printResults();
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import model.Conference;
+import model.Paper;
+import model.SubprogramUtilities.Assignment;
+import model.UserProfile;
+
+/**
+ * Compares assigning reviewers one call at a time with SubprogramUtilities.assignReviewers() in one batch.
+ *
+ * Every measured run assigns the same amount of random (reviewer, paper) pairs to a fresh conference, the given
+ * amount of reviewers per paper, built unmeasured before the run. One operation is one assignment.
+ * The fresh conferences leave much garbage, so give a fixed heap (-Xms4g -Xmx4g) to keep collections out of the
+ * measured runs.
+ *
+ * Usage: java benchmarks.AssignmentBenchmark [name=value ...]
+ * where the parameters are
+ * assignments (comma separated list of sizes, default 100000), users, reviewers (per paper),
+ * warmup, iterations, time (milliseconds per iteration) and seed.
+ *
+ * @version 10/19/2026
+ */
+public class AssignmentBenchmark {
+
+    /**
+     * Runs the benchmark.
+     * @param args the parameters as name=value pairs.
+     */
+    public static void main(String[] args) {
+        final ModelBenchmarks.Parameters params = new ModelBenchmarks.Parameters(args);
+        final int users = (int) params.getLong("users", "10000");
+        final int reviewers = (int) params.getLong("reviewers", "3");
+
+        for (final int assignments : params.getInts("assignments", "100000")) {
+            final ModelFixture fixture = new ModelFixture(1, users, 0, reviewers, params.getLong("seed", "42"));
+            final String scale = String.format("[u=%d r=%d assignments=%d]", users, reviewers, assignments);
+            final BenchmarkHarness harness = params.createHarness();
+            final Batch batch = new Batch(fixture, assignments, reviewers);
+
+            harness.run("assignReviewer per call " + scale, new BenchmarkHarness.Benchmark() {
+                @Override
+                public void setup() {
+                    batch.create();
+                }
+
+                @Override
+                public long run() {
+                    for (final Assignment assignment : batch.myAssignments) {
+                        batch.myConference.getSubprogramRole().assignReviewer(assignment.getReviewer(),
+                                assignment.getPaper());
+                    }
+                    return batch.myAssignments.size();
+                }
+            });
+            harness.run("assignReviewers batch " + scale, new BenchmarkHarness.Benchmark() {
+                @Override
+                public void setup() {
+                    batch.create();
+                }
+
+                @Override
+                public long run() {
+                    if (!batch.myConference.getSubprogramRole().assignReviewers(batch.myAssignments).isApplied()) {
+                        throw new IllegalStateException();
+                    }
+                    return batch.myAssignments.size();
+                }
+            });
+            harness.printResults();
+            System.out.println();
+        }
+    }
+
+    /**
+     * A fresh conference and the assignments to make in it.
+     */
+    private static final class Batch {
+
+        private final ModelFixture myFixture;
+        private final int mySize;
+        private final int myReviewersPerPaper;
+        private int myRuns;
+        private Conference myConference;
+        private List<Assignment> myAssignments;
+
+        private Batch(final ModelFixture theFixture, final int theSize, final int theReviewersPerPaper) {
+            myFixture = theFixture;
+            mySize = theSize;
+            myReviewersPerPaper = theReviewersPerPaper;
+        }
+
+        private void create() {
+            myConference = ModelFixture.createOpenConference("Assignment Benchmark " + myRuns++);
+            final List<Paper> papers = myFixture.addPapers(myConference,
+                    (mySize + myReviewersPerPaper - 1) / myReviewersPerPaper);
+            ModelFixture.closeSubmissions(myConference);
+
+            myAssignments = new ArrayList<>(mySize);
+            final List<UserProfile> assigned = new ArrayList<>(myReviewersPerPaper);
+            for (int p = 0; myAssignments.size() < mySize; p++) {
+                assigned.clear();
+                while (assigned.size() < myReviewersPerPaper && myAssignments.size() < mySize) {
+                    final UserProfile reviewer = myFixture.randomReviewerFor(papers.get(p));
+                    if (!assigned.contains(reviewer)) {
+                        assigned.add(reviewer);
+                        myAssignments.add(new Assignment(reviewer, papers.get(p)));
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package benchmarks;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * A small self contained benchmark harness for the model.
+ *
+ * Each benchmark is run for a number of warmup iterations followed by a number of measured iterations. For the
+ * measured iterations the harness reports the throughput in operations per second, the allocation rate and the
+ * bytes allocated per operation (taken from the per thread allocation counter of the JVM) and the amount of garbage
+ * collections that happened while measuring, much like the JMH gc profiler does.
+ *
+ * @version 10/19/2026
+ */
+public class BenchmarkHarness {
+
+    /** The default amount of warmup iterations. */
+    public static final int DEFAULT_WARMUP_ITERATIONS = 3;
+
+    /** The default amount of measured iterations. */
+    public static final int DEFAULT_MEASURE_ITERATIONS = 5;
+
+    /** The default minimum time of a single iteration in milliseconds. */
+    public static final long DEFAULT_ITERATION_MILLIS = 500;
+
+    /**
+     * Everything given to consume(). A volatile write can not be removed, so neither can the code computing it.
+     */
+    private static volatile long mySink;
+
+    private final int myWarmupIterations;
+    private final int myMeasureIterations;
+    private final long myIterationNanos;
+    private final List<Result> myResults;
+
+    /**
+     * Creates a harness with the default iteration settings.
+     */
+    public BenchmarkHarness() {
+        this(DEFAULT_WARMUP_ITERATIONS, DEFAULT_MEASURE_ITERATIONS, DEFAULT_ITERATION_MILLIS);
+    }
+
+    /**
+     * Creates a harness with the given iteration settings.
+     * @param theWarmupIterations the amount of iterations to run before measuring.
+     * @param theMeasureIterations the amount of measured iterations.
+     * @param theIterationMillis the minimum length of a single iteration.
+     * @throws IllegalArgumentException if theMeasureIterations or theIterationMillis are not positive or
+     * theWarmupIterations is negative.
+     */
+    public BenchmarkHarness(
+            final int theWarmupIterations,
+            final int theMeasureIterations,
+            final long theIterationMillis
+            ) {
+        if (theWarmupIterations < 0 || theMeasureIterations <= 0 || theIterationMillis <= 0) {
+            throw new IllegalArgumentException();
+        }
+
+        myWarmupIterations = theWarmupIterations;
+        myMeasureIterations = theMeasureIterations;
+        myIterationNanos = theIterationMillis * 1_000_000L;
+        myResults = new ArrayList<>();
+    }
+
+    /**
+     * Runs theBenchmark and records its result.
+     * @param theName the name to report the benchmark as.
+     * @param theBenchmark the benchmark to run.
+     * @return the result of the benchmark.
+     * @throws NullPointerException if any argument is null.
+     */
+    public Result run(final String theName, final Benchmark theBenchmark) {
+        Objects.requireNonNull(theName);
+        Objects.requireNonNull(theBenchmark);
+
+        for (int i = 0; i < myWarmupIterations; i++) {
+            iterate(theBenchmark);
+        }
+
+        long operations = 0;
+        long nanos = 0;
+        long bytes = 0;
+        long gcCount = 0;
+        long gcMillis = 0;
+
+        for (int i = 0; i < myMeasureIterations; i++) {
+            final long gcCountBefore = collectionCount();
+            final long gcMillisBefore = collectionMillis();
+            final long[] measured = iterate(theBenchmark);
+
+            operations += measured[0];
+            nanos += measured[1];
+            bytes = measured[2] < 0 || bytes < 0 ? -1 : bytes + measured[2];
+            gcCount += collectionCount() - gcCountBefore;
+            gcMillis += collectionMillis() - gcMillisBefore;
+        }
+
+        final Result result = new Result(theName, operations, nanos, bytes, gcCount, gcMillis);
+        myResults.add(result);
+        return result;
+    }
+
+    /**
+     * Gets all the results recorded by this harness so far, in the order they were run.
+     * @return all the results recorded by this harness.
+     */
+    public List<Result> getResults() {
+        return myResults;
+    }
+
+    /**
+     * Prints a table of all the recorded results to standard out.
+     */
+    public void printResults() {
+        System.out.println(String.format(Locale.ROOT, "%-48s %16s %14s %14s %8s %10s",
+                "Benchmark", "ops/s", "MB/s alloc", "B/op", "gc", "gc ms"));
+
+        for (final Result r : myResults) {
+            System.out.println(r);
+        }
+    }
+
+    /**
+     * Runs theBenchmark until the iteration time has passed.
+     * @return an array of the operations, elapsed nanoseconds and allocated bytes.
+     */
+    private long[] iterate(final Benchmark theBenchmark) {
+        long operations = 0;
+        long nanos = 0;
+        long bytes = 0;
+
+        while (nanos < myIterationNanos) {
+            theBenchmark.setup();
+
+            final long bytesBefore = Allocation.currentThreadAllocatedBytes();
+            final long start = System.nanoTime();
+            operations += theBenchmark.run();
+            nanos += System.nanoTime() - start;
+            bytes += Allocation.currentThreadAllocatedBytes() - bytesBefore;
+        }
+
+        if (Allocation.currentThreadAllocatedBytes() < 0) {
+            bytes = -1;
+        }
+
+        return new long[] {operations, nanos, bytes};
+    }
+
+    /**
+     * Keeps the JIT from removing benchmarked code whose result is otherwise unused, like the Blackhole of JMH.
+     * Call it once per run() with the results folded into theResult.
+     * @param theResult the result of the benchmarked code.
+     * @param theOperations the amount of operations which computed theResult.
+     * @return theOperations.
+     */
+    public static long consume(final long theResult, final long theOperations) {
+        mySink += theResult;
+        return theOperations;
+    }
+
+    private static long collectionCount() {
+        long result = 0;
+        for (final GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            result += Math.max(0, gc.getCollectionCount());
+        }
+        return result;
+    }
+
+    private static long collectionMillis() {
+        long result = 0;
+        for (final GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            result += Math.max(0, gc.getCollectionTime());
+        }
+        return result;
+    }
+
+    /**
+     * A single benchmark. The setup is run before every invocation of run and is not measured.
+     */
+    public interface Benchmark {
+
+        /**
+         * Prepares the state for the next call to run. Not measured.
+         */
+        default void setup() {
+        }
+
+        /**
+         * Runs the benchmarked code.
+         * @return the amount of operations performed.
+         */
+        long run();
+    }
+
+    /**
+     * The measured result of a single benchmark.
+     */
+    public static class Result {
+
+        public final String name;
+        public final long operations;
+        public final long nanos;
+        public final long allocatedBytes;
+        public final long gcCount;
+        public final long gcMillis;
+
+        private Result(String name, long operations, long nanos, long allocatedBytes, long gcCount, long gcMillis) {
+            this.name = name;
+            this.operations = operations;
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+
+        /**
+         * @return the throughput in operations per second.
+         */
+        public double opsPerSecond() {
+            return operations / (nanos / 1e9);
+        }
+
+        /**
+         * @return the allocation rate in megabytes per second, or NaN if unsupported by the JVM.
+         */
+        public double allocatedMegabytesPerSecond() {
+            return allocatedBytes < 0 ? Double.NaN : (allocatedBytes / 1e6) / (nanos / 1e9);
+        }
+
+        /**
+         * @return the allocated bytes per operation, or NaN if unsupported by the JVM.
+         */
+        public double allocatedBytesPerOperation() {
+            return allocatedBytes < 0 || operations == 0 ? Double.NaN : allocatedBytes / (double) operations;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-48s %16.1f %14.2f %14.1f %8d %10d",
+                    name, opsPerSecond(), allocatedMegabytesPerSecond(), allocatedBytesPerOperation(),
+                    gcCount, gcMillis);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package benchmarks;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import model.ConferenceSystem;
+import model.UserProfile;
+import view.DataGenerator;
+
+/**
+ * Measures the time from starting to load a saved model until a user can log in, for a snapshot which is
+ * decoded as a whole and for a model image which is used in place, at increasing model sizes.
+ *
+ * For each size the benchmark generates a model, saves it both ways and then repeatedly loads it again:
+ * readSnapshot() from the buffered snapshot files, or openImage() on the image, followed by the
+ * getUserProfile() of a login and the getConference() of the conference the user opens first. The files are
+ * read through the page cache, so the image times exclude the first touch of its pages on a cold disk.
+ *
+ * Usage: java benchmarks.ColdStartBenchmark [name=value ...]
+ * where the parameters are papers (per conference, comma separated list of sizes), conferences,
+ * users (0 derives it from the size), repetitions and seed.
+ *
+ * @version 10/19/2026
+ */
+public class ColdStartBenchmark {
+
+    /**
+     * Runs the benchmark.
+     * @param args the parameters as name=value pairs.
+     * @throws Exception if the model can not be saved or loaded.
+     */
+    public static void main(String[] args) throws Exception {
+        final ModelBenchmarks.Parameters params = new ModelBenchmarks.Parameters(args);
+        final int conferences = (int) params.getLong("conferences", "10");
+        final int repetitions = (int) params.getLong("repetitions", "5");
+        final Path directory = Files.createTempDirectory("coldstart");
+        final File users = directory.resolve("UserMap.ser").toFile();
+        final File conferenceMap = directory.resolve("ConferenceMap.ser").toFile();
+        final Path image = directory.resolve("Model.img");
+        final ConferenceSystem sys = ConferenceSystem.getInstance();
+
+        System.out.println(String.format(Locale.ROOT, "%-9s %10s %12s %12s %12s %12s",
+                "format", "papers", "bytes", "login ms", "open ms", "total ms"));
+        try {
+            for (final int papers : params.getInts("papers", "100,1000,10000")) {
+                int userCount = (int) params.getLong("users", "0");
+                if (userCount <= 0) {
+                    userCount = Math.max(1000, conferences * papers / 2);
+                }
+                sys.clear();
+                new DataGenerator(params.getLong("seed", "42"), conferences, userCount, papers, 3).generate(sys);
+                final String uid = sys.getConferences().get(0).getInfo().getAllPapers().get(0)
+                        .getSubmitterUserProfile().getUID();
+                final String conference = sys.getConferences().get(0).getInfo().getName();
+                try (OutputStream u = new BufferedOutputStream(new FileOutputStream(users), 1 << 16);
+                     OutputStream c = new BufferedOutputStream(new FileOutputStream(conferenceMap), 1 << 16)) {
+                    sys.writeSnapshot(u, c);
+                }
+                sys.checkpoint(image);
+                final long modelPapers = (long) conferences * papers;
+
+                final long[] snapshot = new long[2];
+                final long[] mapped = new long[2];
+                for (int i = 0; i <= repetitions; i++) {
+                    final long[] s = time(sys, uid, conference, () -> {
+                        try (InputStream u = new BufferedInputStream(new FileInputStream(users), 1 << 16);
+                             InputStream c = new BufferedInputStream(new FileInputStream(conferenceMap), 1 << 16)) {
+                            sys.readSnapshot(u, c);
+                        }
+                    });
+                    final long[] m = time(sys, uid, conference, () -> sys.openImage(image));
+                    if (i > 0) {
+                        for (int t = 0; t < 2; t++) {
+                            snapshot[t] += s[t];
+                            mapped[t] += m[t];
+                        }
+                    }
+                }
+                print("snapshot", modelPapers, users.length() + conferenceMap.length(), snapshot, repetitions);
+                print("image", modelPapers, Files.size(image), mapped, repetitions);
+            }
+        } finally {
+            sys.clear();
+            Files.deleteIfExists(users.toPath());
+            Files.deleteIfExists(conferenceMap.toPath());
+            Files.deleteIfExists(image);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * A way of loading the saved model.
+     */
+    @FunctionalInterface
+    private interface Load {
+        void run() throws Exception;
+    }
+
+    /**
+     * @return the nanoseconds until theUserID is logged in and until theConference is opened after that.
+     */
+    private static long[] time(final ConferenceSystem theSystem, final String theUserID, final String theConference,
+            final Load theLoad) throws Exception {
+        theSystem.clear();
+        System.gc();
+        final long start = System.nanoTime();
+        theLoad.run();
+        final UserProfile user = theSystem.getUserProfile(theUserID);
+        final long login = System.nanoTime();
+        if (user == null || theSystem.getConference(theConference) == null) {
+            throw new IllegalStateException("The saved model is incomplete");
+        }
+        return new long[] {login - start, System.nanoTime() - login};
+    }
+
+    private static void print(final String theFormat, final long thePapers, final long theBytes,
+            final long[] theNanos, final int theRepetitions) {
+        final double login = theNanos[0] / 1e6 / theRepetitions;
+        final double open = theNanos[1] / 1e6 / theRepetitions;
+        System.out.println(String.format(Locale.ROOT, "%-9s %10d %12d %12.3f %12.3f %12.3f",
+                theFormat, thePapers, theBytes, login, open, login + open));
+    }
+}
@@ -0,0 +1,118 @@
+package benchmarks;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntFunction;
+
+import model.ConferenceSystem;
+import model.Paper;
+import model.Review;
+import model.UserProfile;
+import view.DataGenerator;
+
+/**
+ * Measures the retained heap of the model objects at scale.
+ *
+ * Each row builds count objects, keeps them reachable and divides the growth of the used heap after a full
+ * collection by count. Run with a fixed heap (for example -Xms4g -Xmx4g) and -XX:+UseSerialGC for stable numbers.
+ *
+ * Usage: java benchmarks.FootprintReport [count=n] [conferences=n] [papers=n]
+ * where count is the amount of objects per row and conferences and papers size the generated model.
+ *
+ * @version 10/19/2026
+ */
+public class FootprintReport {
+
+    /**
+     * Prints the footprint report.
+     * @param args the parameters as name=value pairs.
+     */
+    public static void main(String[] args) {
+        final ModelBenchmarks.Parameters params = new ModelBenchmarks.Parameters(args);
+        final int count = (int) params.getLong("count", "200000");
+        final List<UserProfile> users = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            users.add(new UserProfile("user" + i, "User Name " + i));
+        }
+        final File shared = new File("");
+
+        System.out.println(String.format("%-44s %14s", "Object", "bytes/object"));
+
+        report("UserProfile", count, i -> new UserProfile("uid" + i, "User Name " + (i % 1000)));
+
+        report("Review (shared file)", count, i -> new Review(shared, i % 10));
+
+        report("Review (own file)", count, i -> new Review(new File("reviews/review" + i + ".pdf"), i % 10));
+
+        report("Paper (2 authors, no reviews)", count, i -> {
+            final List<String> authors = new ArrayList<>();
+            authors.add(users.get(i % 1000).getName());
+            authors.add(new String(users.get((i + 1) % 1000).getName()));
+            return Paper.createPaper(new File("papers/paper" + i + ".pdf"), authors, "Title " + i, users.get(i % 1000));
+        });
+
+        report("Paper (2 authors, 3 reviews)", count, i -> {
+            final List<String> authors = new ArrayList<>();
+            authors.add(users.get(i % 1000).getName());
+            authors.add(new String(users.get((i + 1) % 1000).getName()));
+            final Paper p = Paper.createPaper(new File("papers/paper" + i + ".pdf"), authors, "Title " + i,
+                    users.get(i % 1000));
+            for (int r = 0; r < 3; r++) {
+                p.addReview(new Review(new File("reviews/review" + i + "-" + r + ".pdf"), r));
+            }
+            return p;
+        });
+
+        final int conferences = (int) params.getLong("conferences", "10");
+        final int papers = (int) params.getLong("papers", String.valueOf(count / conferences));
+        final long before = usedHeap();
+        final ConferenceSystem sys = ConferenceSystem.getInstance();
+        new DataGenerator(42, conferences, Math.max(1000, conferences * papers / 2), papers, 3).generate(sys);
+        final long after = usedHeap();
+        long paperCount = 0;
+        for (final model.Conference c : sys.getConferences()) {
+            paperCount += c.getInfo().getAllPapers().size();
+        }
+        print("Generated model, per paper", (after - before) / (double) paperCount);
+        sys.clear();
+    }
+
+    /**
+     * Builds theCount objects with theFactory and prints their retained size.
+     */
+    private static void report(final String theName, final int theCount, final IntFunction<Object> theFactory) {
+        final Object[] objects = new Object[theCount];
+        final long before = usedHeap();
+        for (int i = 0; i < theCount; i++) {
+            objects[i] = theFactory.apply(i);
+        }
+        final long after = usedHeap();
+
+        print(theName, (after - before) / (double) theCount);
+
+        if (objects[theCount - 1] == null) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private static void print(final String theName, final double theBytes) {
+        System.out.println(String.format(Locale.ROOT, "%-44s %14.1f", theName, theBytes));
+    }
+
+    /**
+     * @return the used heap after a few full collections.
+     */
+    private static long usedHeap() {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long result = Long.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            result = Math.min(result, memory.getHeapMemoryUsage().getUsed());
+        }
+        return result;
+    }
+}
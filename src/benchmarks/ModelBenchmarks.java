@@ -0,0 +1,356 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import model.Conference;
+import model.ConferenceData;
+import model.Cursor;
+import model.Paper;
+import model.UserProfile;
+
+/**
+ * Benchmarks for the query and mutation hot paths of the model.
+ *
+ * Usage: java benchmarks.ModelBenchmarks [name=value ...]
+ * where the parameters are
+ * conferences, users, papers (per conference), reviewers (per paper),
+ * warmup, iterations, time (milliseconds per iteration) and seed.
+ * The scale parameters accept a comma separated list of values, every combination of them is benchmarked.
+ * For example: java benchmarks.ModelBenchmarks papers=1000,10000 reviewers=3
+ *
+ * @version 10/19/2026
+ */
+public class ModelBenchmarks {
+
+    /** The amount of operations performed per measured batch. */
+    public static final int BATCH_SIZE = 1024;
+
+    /**
+     * Runs the benchmarks.
+     * @param args the parameters as name=value pairs.
+     */
+    public static void main(String[] args) {
+        final Parameters params = new Parameters(args);
+
+        for (final int conferences : params.getInts("conferences", "4")) {
+            for (final int users : params.getInts("users", "1000")) {
+                for (final int papers : params.getInts("papers", "2000")) {
+                    for (final int reviewers : params.getInts("reviewers", "3")) {
+                        final String scale = String.format("[c=%d u=%d p=%d r=%d]",
+                                conferences, users, papers, reviewers);
+                        System.out.println("Building model " + scale);
+
+                        final ModelFixture fixture = new ModelFixture(conferences, users, papers, reviewers,
+                                params.getLong("seed", "42"));
+                        final BenchmarkHarness harness = params.createHarness();
+                        runAll(harness, fixture, scale);
+                        harness.printResults();
+                        System.out.println();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs all of the model benchmarks against theFixture.
+     * @param theHarness the harness to run with.
+     * @param theFixture the model to run against.
+     * @param theSuffix appended to every benchmark name.
+     */
+    public static void runAll(
+            final BenchmarkHarness theHarness,
+            final ModelFixture theFixture,
+            final String theSuffix
+            ) {
+        final ConferenceData[] infos = new ConferenceData[BATCH_SIZE];
+        final Paper[] papers = new Paper[BATCH_SIZE];
+        final UserProfile[] users = new UserProfile[BATCH_SIZE];
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final int c = theFixture.getRandom().nextInt(theFixture.getConferences().size());
+            final List<Paper> conferencePapers = theFixture.getPapers(c);
+
+            infos[i] = theFixture.getConferences().get(c).getInfo();
+            papers[i] = conferencePapers.isEmpty() ? null
+                    : conferencePapers.get(theFixture.getRandom().nextInt(conferencePapers.size()));
+            users[i] = theFixture.randomUser();
+        }
+
+        theHarness.run("getAllPapers " + theSuffix, () -> {
+            long sink = 0;
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                sink += infos[i].getAllPapers().size();
+            }
+            return BenchmarkHarness.consume(sink, BATCH_SIZE);
+        });
+
+        theHarness.run("getReviewers " + theSuffix, () -> {
+            long sink = 0;
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                sink += infos[i].getReviewers().size();
+            }
+            return BenchmarkHarness.consume(sink, BATCH_SIZE);
+        });
+
+        // The allocation free reads of the same data, which should report 0 B/op.
+        final Counter counter = new Counter();
+        theHarness.run("forEachPaper " + theSuffix, () -> {
+            counter.count = 0;
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                infos[i].forEachPaper(counter);
+            }
+            return BenchmarkHarness.consume(counter.count, BATCH_SIZE);
+        });
+
+        theHarness.run("forEachReviewer " + theSuffix, () -> {
+            final Consumer<UserProfile> action = reviewer -> counter.count++;
+            counter.count = 0;
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                infos[i].forEachReviewer(action);
+            }
+            return BenchmarkHarness.consume(counter.count, BATCH_SIZE);
+        });
+
+        theHarness.run("getPapersSubmittedBy " + theSuffix, () -> {
+            long sink = 0;
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                sink += infos[i].getPapersSubmittedBy(users[i]).size();
+            }
+            return BenchmarkHarness.consume(sink, BATCH_SIZE);
+        });
+
+        theHarness.run("getPaperCountSubmittedBy " + theSuffix, () -> {
+            long sink = 0;
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                sink += infos[i].getPaperCountSubmittedBy(users[i]);
+            }
+            return BenchmarkHarness.consume(sink, BATCH_SIZE);
+        });
+
+        final Cursor<Paper> cursor = new Cursor<>();
+        theHarness.run("openPapersAssignedToReviewer " + theSuffix, () -> {
+            long sink = 0;
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                final Cursor<Paper> assigned = infos[i].openPapersAssignedToReviewer(users[i], cursor);
+                while (assigned.next()) {
+                    sink += assigned.get().getReviewCount();
+                }
+            }
+            return BenchmarkHarness.consume(sink, BATCH_SIZE);
+        });
+
+        if (!theFixture.getPapers().isEmpty()) {
+            theHarness.run("getReviewersForPaper " + theSuffix, () -> {
+                long sink = 0;
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    sink += infos[i].getReviewersForPaper(papers[i]).size();
+                }
+                return BenchmarkHarness.consume(sink, BATCH_SIZE);
+            });
+        }
+
+        theHarness.run("isUserRole " + theSuffix, () -> {
+            long sink = 0;
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                final ConferenceData info = infos[i];
+                final UserProfile user = users[i];
+                sink += info.isUserAuthor(user) ? 1 : 0;
+                sink += info.isUserReviewer(user) ? 1 : 0;
+                sink += info.isUserSubprogramChair(user) ? 1 : 0;
+                sink += info.isUserProgramChair(user) ? 1 : 0;
+                sink += info.isUserDirector(user) ? 1 : 0;
+            }
+            return BenchmarkHarness.consume(sink, BATCH_SIZE * 5);
+        });
+
+        if (!theFixture.getPapers().isEmpty()) {
+            // Conflict checks as in candidate filtering: every tenth candidate is the submitter, an author.
+            final Paper[] conflictPapers = new Paper[BATCH_SIZE];
+            final UserProfile[] candidates = new UserProfile[BATCH_SIZE];
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                conflictPapers[i] = theFixture.randomPaper();
+                candidates[i] = i % 10 == 0 ? conflictPapers[i].getSubmitterUserProfile() : theFixture.randomUser();
+            }
+
+            theHarness.run("isAuthoredBy name " + theSuffix, () -> {
+                long sink = 0;
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    sink += conflictPapers[i].isAuthoredBy(candidates[i].getName()) ? 1 : 0;
+                }
+                return BenchmarkHarness.consume(sink, BATCH_SIZE);
+            });
+
+            theHarness.run("isAuthoredBy profile " + theSuffix, () -> {
+                long sink = 0;
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    sink += conflictPapers[i].isAuthoredBy(candidates[i]) ? 1 : 0;
+                }
+                return BenchmarkHarness.consume(sink, BATCH_SIZE);
+            });
+        }
+
+        runMutations(theHarness, theFixture, theSuffix);
+    }
+
+    /**
+     * Runs the mutation benchmarks. Each of them works on fresh papers so that the fixture model is left unchanged.
+     */
+    private static void runMutations(
+            final BenchmarkHarness theHarness,
+            final ModelFixture theFixture,
+            final String theSuffix
+            ) {
+        final Conference open = ModelFixture.createOpenConference("Open Benchmark Conference");
+        theFixture.addPapers(open, theFixture.getPapers().size() / theFixture.getConferences().size());
+
+        final Paper[] submissions = new Paper[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            submissions[i] = theFixture.createPaper("Submission " + i);
+        }
+
+        theHarness.run("addPaper+removePaper " + theSuffix, () -> {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                final Paper p = submissions[i];
+                open.getUserRole().addPaper(p.getSubmitterUserProfile(), p);
+                open.getUserRole().removePaper(p.getSubmitterUserProfile(), p);
+            }
+            return BATCH_SIZE * 2;
+        });
+
+        final Mutation assign = new Mutation(theFixture, BATCH_SIZE);
+        theHarness.run("assignReviewer " + theSuffix, new BenchmarkHarness.Benchmark() {
+            @Override
+            public void setup() {
+                assign.reset();
+            }
+
+            @Override
+            public long run() {
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    assign.conference.getSubprogramRole().assignReviewer(assign.reviewers[i], assign.papers.get(i));
+                }
+                return BATCH_SIZE;
+            }
+        });
+
+        final Mutation review = new Mutation(theFixture, BATCH_SIZE);
+        theHarness.run("sendReview " + theSuffix, new BenchmarkHarness.Benchmark() {
+            @Override
+            public void setup() {
+                review.reset();
+            }
+
+            @Override
+            public long run() {
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    review.conference.getReviewerRole().sendReview(review.reviewers[i], review.papers.get(i),
+                            ModelFixture.EMPTY_FILE, i % 10);
+                }
+                return BATCH_SIZE;
+            }
+        });
+    }
+
+    /**
+     * A reusable action which counts what it is given.
+     */
+    private static class Counter implements Consumer<Object> {
+        private long count;
+
+        @Override
+        public void accept(final Object theItem) {
+            count++;
+        }
+    }
+
+    /**
+     * A conference with papers and a non author reviewer for each paper, recreated before every batch: it is created
+     * open, the papers are submitted and then its submissions are closed, so reviewers can be assigned.
+     */
+    private static class Mutation {
+        private final ModelFixture myFixture;
+        private final int mySize;
+        private Conference conference;
+        private List<Paper> papers;
+        private UserProfile[] reviewers;
+
+        private Mutation(final ModelFixture theFixture, final int theSize) {
+            myFixture = theFixture;
+            mySize = theSize;
+        }
+
+        private void reset() {
+            conference = ModelFixture.createOpenConference("Mutation Benchmark Conference");
+            papers = myFixture.addPapers(conference, mySize);
+            ModelFixture.closeSubmissions(conference);
+
+            reviewers = new UserProfile[mySize];
+            for (int i = 0; i < mySize; i++) {
+                reviewers[i] = myFixture.randomReviewerFor(papers.get(i));
+            }
+        }
+    }
+
+    /**
+     * The name=value command line parameters of a benchmark run.
+     */
+    public static class Parameters {
+        private final Map<String, String> myValues;
+
+        /**
+         * @param args the name=value pairs.
+         * @throws IllegalArgumentException if an argument is not a name=value pair.
+         */
+        public Parameters(final String[] args) {
+            myValues = new HashMap<>();
+
+            for (final String arg : args) {
+                final int split = arg.indexOf('=');
+                if (split <= 0) {
+                    throw new IllegalArgumentException("Expected name=value but was " + arg);
+                }
+                myValues.put(arg.substring(0, split), arg.substring(split + 1));
+            }
+        }
+
+        /**
+         * @return the value of theName, or theDefault if not given.
+         */
+        public String get(final String theName, final String theDefault) {
+            return myValues.getOrDefault(theName, theDefault);
+        }
+
+        /**
+         * @return the value of theName as a long, or theDefault if not given.
+         */
+        public long getLong(final String theName, final String theDefault) {
+            return Long.parseLong(get(theName, theDefault));
+        }
+
+        /**
+         * @return the comma separated values of theName, or theDefault if not given.
+         */
+        public List<Integer> getInts(final String theName, final String theDefault) {
+            final List<Integer> result = new ArrayList<>();
+            for (final String value : get(theName, theDefault).split(",")) {
+                result.add(Integer.parseInt(value.trim()));
+            }
+            return result;
+        }
+
+        /**
+         * @return a harness configured by the warmup, iterations and time parameters.
+         */
+        public BenchmarkHarness createHarness() {
+            return new BenchmarkHarness(
+                    (int) getLong("warmup", String.valueOf(BenchmarkHarness.DEFAULT_WARMUP_ITERATIONS)),
+                    (int) getLong("iterations", String.valueOf(BenchmarkHarness.DEFAULT_MEASURE_ITERATIONS)),
+                    getLong("time", String.valueOf(BenchmarkHarness.DEFAULT_ITERATION_MILLIS)));
+        }
+    }
+}
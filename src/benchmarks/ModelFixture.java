@@ -0,0 +1,227 @@
+package benchmarks;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import model.Conference;
+import model.Paper;
+import model.UserProfile;
+
+/**
+ * A deterministic, parameterized model used as the state for the benchmarks.
+ *
+ * Every conference has the configured amount of papers, each submitted by a random user with up to two random
+ * coauthors, assigned to a subprogram chair and to the configured amount of reviewers. All submission deadlines
+ * are closed once the papers have been added so that reviewers can be assigned.
+ *
+ * @version 10/19/2026
+ */
+public class ModelFixture {
+
+    /** The file every generated paper and review points to. */
+    public static final File EMPTY_FILE = new File("");
+
+    /** The limits used for the generated conferences, large enough to never be hit by the fixture. */
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final Random myRandom;
+    private final List<UserProfile> myUsers;
+    private final List<Conference> myConferences;
+    private final List<Paper> myPapers;
+    private final List<List<Paper>> myPapersByConference;
+
+    /**
+     * Creates a fixture of the given scale.
+     * @param theConferences the amount of conferences.
+     * @param theUsers the amount of users, must be larger than theReviewersPerPaper + 3.
+     * @param thePapersPerConference the amount of papers in each conference.
+     * @param theReviewersPerPaper the amount of reviewers assigned to each paper.
+     * @param theSeed the seed of the random generator.
+     * @throws IllegalArgumentException if any of the amounts are out of range.
+     */
+    public ModelFixture(
+            final int theConferences,
+            final int theUsers,
+            final int thePapersPerConference,
+            final int theReviewersPerPaper,
+            final long theSeed
+            ) {
+        if (theConferences <= 0 || thePapersPerConference < 0 || theReviewersPerPaper < 0
+                || theUsers <= theReviewersPerPaper + 3) {
+            throw new IllegalArgumentException();
+        }
+
+        myRandom = new Random(theSeed);
+        myUsers = new ArrayList<>(theUsers);
+        myConferences = new ArrayList<>(theConferences);
+        myPapers = new ArrayList<>(theConferences * thePapersPerConference);
+        myPapersByConference = new ArrayList<>(theConferences);
+
+        for (int i = 0; i < theUsers; i++) {
+            myUsers.add(new UserProfile("user" + i, "User Name " + i));
+        }
+
+        for (int i = 0; i < theConferences; i++) {
+            final Conference c = createOpenConference("Conference " + i);
+            final UserProfile director = myUsers.get(i % theUsers);
+            c.getDirectorRole().addUserRole(director, Conference.DIRECTOR_ROLE);
+
+            final List<Paper> papers = addPapers(c, thePapersPerConference);
+            closeSubmissions(c);
+
+            for (final Paper p : papers) {
+                c.getDirectorRole().assignPaperToSubProgramChair(randomUser(), p);
+                assignReviewers(c, p, theReviewersPerPaper);
+            }
+
+            myConferences.add(c);
+            myPapers.addAll(papers);
+            myPapersByConference.add(papers);
+        }
+    }
+
+    /**
+     * Creates a conference with an open submission deadline and no limits.
+     * @param theName the name of the conference.
+     * @return the new conference.
+     */
+    public static Conference createOpenConference(final String theName) {
+        return Conference.createConference(theName, new Date(Long.MAX_VALUE), UNLIMITED, UNLIMITED);
+    }
+
+    /**
+     * Closes the submission deadline of theConference so that reviewers can be assigned.
+     * @param theConference the conference to close.
+     */
+    public static void closeSubmissions(final Conference theConference) {
+        theConference.getInfo().setSubmissionDate(new Date(System.currentTimeMillis() - 1));
+    }
+
+    /**
+     * Creates and submits thePaperCount random papers to theConference.
+     * @param theConference the conference to submit to, must be open for submissions.
+     * @param thePaperCount the amount of papers to create.
+     * @return the new papers.
+     */
+    public List<Paper> addPapers(final Conference theConference, final int thePaperCount) {
+        final List<Paper> result = new ArrayList<>(thePaperCount);
+
+        for (int i = 0; i < thePaperCount; i++) {
+            final Paper p = createPaper(theConference.getInfo().getName() + " Paper " + i);
+            theConference.getUserRole().addPaper(p.getSubmitterUserProfile(), p);
+            result.add(p);
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a paper submitted by a random user with up to two random coauthors.
+     * @param theTitle the title of the paper.
+     * @return the new paper.
+     */
+    public Paper createPaper(final String theTitle) {
+        final UserProfile submitter = randomUser();
+        final List<String> authors = new ArrayList<>();
+        authors.add(submitter.getName());
+
+        final int coauthors = myRandom.nextInt(3);
+        for (int i = 0; i < coauthors; i++) {
+            final String name = randomUser().getName();
+            if (!authors.contains(name)) {
+                authors.add(name);
+            }
+        }
+
+        return Paper.createPaper(EMPTY_FILE, authors, theTitle, submitter);
+    }
+
+    /**
+     * Assigns theReviewerCount random reviewers who did not author thePaper to thePaper.
+     * @param theConference the conference of the paper, must be closed for submissions.
+     * @param thePaper the paper to assign.
+     * @param theReviewerCount the amount of reviewers to assign.
+     */
+    public void assignReviewers(final Conference theConference, final Paper thePaper, final int theReviewerCount) {
+        final List<UserProfile> assigned = new ArrayList<>(theReviewerCount);
+
+        while (assigned.size() < theReviewerCount) {
+            final UserProfile reviewer = randomReviewerFor(thePaper);
+            if (!assigned.contains(reviewer)) {
+                theConference.getSubprogramRole().assignReviewer(reviewer, thePaper);
+                assigned.add(reviewer);
+            }
+        }
+    }
+
+    /**
+     * @return a random user which did not author thePaper.
+     */
+    public UserProfile randomReviewerFor(final Paper thePaper) {
+        UserProfile result;
+        do {
+            result = randomUser();
+        } while (thePaper.isAuthoredBy(result));
+        return result;
+    }
+
+    /**
+     * @return a random user of this fixture.
+     */
+    public UserProfile randomUser() {
+        return myUsers.get(myRandom.nextInt(myUsers.size()));
+    }
+
+    /**
+     * @return a random conference of this fixture.
+     */
+    public Conference randomConference() {
+        return myConferences.get(myRandom.nextInt(myConferences.size()));
+    }
+
+    /**
+     * @return a random paper of this fixture, or null if there are no papers.
+     */
+    public Paper randomPaper() {
+        return myPapers.isEmpty() ? null : myPapers.get(myRandom.nextInt(myPapers.size()));
+    }
+
+    /**
+     * @param theConferenceIndex the index of the conference in getConferences().
+     * @return all the papers submitted to the conference at theConferenceIndex.
+     */
+    public List<Paper> getPapers(final int theConferenceIndex) {
+        return myPapersByConference.get(theConferenceIndex);
+    }
+
+    /**
+     * @return the random generator of this fixture.
+     */
+    public Random getRandom() {
+        return myRandom;
+    }
+
+    /**
+     * @return all the users of this fixture.
+     */
+    public List<UserProfile> getUsers() {
+        return myUsers;
+    }
+
+    /**
+     * @return all the conferences of this fixture.
+     */
+    public List<Conference> getConferences() {
+        return myConferences;
+    }
+
+    /**
+     * @return all the papers of this fixture.
+     */
+    public List<Paper> getPapers() {
+        return myPapers;
+    }
+}
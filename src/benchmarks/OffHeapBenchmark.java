@@ -0,0 +1,157 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import model.Paper;
+import model.PaperStore;
+import model.Review;
+
+/**
+ * Compares the garbage collection pauses of a model whose papers live on the heap with one whose papers live in
+ * a memory mapped PaperStore.
+ *
+ * The same generated papers, each with the given amount of reviews, are first held as Paper objects and then,
+ * after they were written to a store and dropped, as the mapped store alone. For each the benchmark reports the
+ * used heap after a full collection, the mean pause of a full collection, the collections and their total time
+ * while allocating the given amount of short lived garbage, a scan of the mean scores of all papers, and for the
+ * store how long opening (mapping) it took. Run with a fixed heap (for example -Xms4g -Xmx4g) and the collector
+ * to compare, e.g. -XX:+UseSerialGC or -XX:+UseParallelGC.
+ *
+ * Usage: java benchmarks.OffHeapBenchmark [name=value ...]
+ * where the parameters are papers (default 1000000), reviews (per paper), users, collections (full collections
+ * measured), churn (MB of garbage allocated) and seed.
+ *
+ * @version 10/19/2026
+ */
+public class OffHeapBenchmark {
+
+    /** The size of one short lived allocation of the churn. */
+    private static final int CHURN_BYTES = 1024;
+
+    /** Keeps the last churn allocations reachable, so some of them survive a young collection. */
+    private static final Object[] SURVIVORS = new Object[4096];
+
+    /**
+     * Runs the benchmark.
+     * @param args the parameters as name=value pairs.
+     * @throws IOException if the store can not be written.
+     */
+    public static void main(String[] args) throws IOException {
+        final ModelBenchmarks.Parameters params = new ModelBenchmarks.Parameters(args);
+        final int paperCount = (int) params.getLong("papers", "1000000");
+        final int reviews = (int) params.getLong("reviews", "3");
+        final int users = (int) params.getLong("users", "100000");
+        final int collections = (int) params.getLong("collections", "5");
+        final long churn = params.getLong("churn", "2000") << 20;
+
+        final ModelFixture fixture = new ModelFixture(1, users, 0, 0, params.getLong("seed", "42"));
+        final File reviewFile = new File("reviews/review.pdf");
+        List<Paper> papers = new ArrayList<>(paperCount);
+        for (int p = 0; p < paperCount; p++) {
+            final Paper paper = fixture.createPaper("Off Heap Paper " + p);
+            for (int r = 0; r < reviews; r++) {
+                paper.addReview(new Review(reviewFile, fixture.getRandom().nextInt(10)));
+            }
+            papers.add(paper);
+        }
+
+        System.out.println(String.format(Locale.ROOT, "%d papers, %d reviews each", paperCount, reviews));
+        System.out.println(String.format(Locale.ROOT, "%-8s %10s %12s %14s %12s %10s %10s",
+                "papers", "heap MB", "full gc ms", "churn gcs", "churn gc ms", "scan ms", "open ms"));
+
+        final List<Paper> heapPapers = papers;
+        report("heap", collections, churn, Double.NaN, () -> {
+            double sum = 0;
+            for (final Paper paper : heapPapers) {
+                sum += paper.getReviewCount() == 0 ? 0 : paper.getMeanScore();
+            }
+            return sum;
+        });
+
+        final Path file = Files.createTempFile("papers", ".store");
+        try {
+            PaperStore.write(file, papers);
+            papers = null;
+            heapPapers.clear();
+
+            final long start = System.nanoTime();
+            final PaperStore store = PaperStore.open(file);
+            final double openMillis = (System.nanoTime() - start) / 1e6;
+            final PaperStore.PaperView view = store.view();
+            report("store", collections, churn, openMillis, () -> {
+                double sum = 0;
+                for (int p = 0; p < store.getPaperCount(); p++) {
+                    sum += view.at(p).getReviewCount() == 0 ? 0 : view.getMeanScore();
+                }
+                return sum;
+            });
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * A scan of every paper, returning a result so it is not optimized away.
+     */
+    @FunctionalInterface
+    private interface Scan {
+        double run();
+    }
+
+    private static void report(final String theName, final int theCollections, final long theChurn,
+            final double theOpenMillis, final Scan theScan) {
+        System.gc();
+        final long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+
+        long fullNanos = 0;
+        for (int c = 0; c < theCollections; c++) {
+            final long start = System.nanoTime();
+            System.gc();
+            fullNanos += System.nanoTime() - start;
+        }
+
+        final long gcsBefore = collectionCount();
+        final long gcMillisBefore = collectionMillis();
+        for (long allocated = 0, i = 0; allocated < theChurn; allocated += CHURN_BYTES, i++) {
+            SURVIVORS[(int) (i % SURVIVORS.length)] = new byte[CHURN_BYTES];
+        }
+        final long gcs = collectionCount() - gcsBefore;
+        final long gcMillis = collectionMillis() - gcMillisBefore;
+
+        theScan.run();
+        final long start = System.nanoTime();
+        final double result = theScan.run();
+        final double scanMillis = (System.nanoTime() - start) / 1e6;
+        if (Double.isNaN(result)) {
+            throw new IllegalStateException();
+        }
+
+        System.out.println(String.format(Locale.ROOT, "%-8s %10.1f %12.1f %14d %12d %10.1f %10s",
+                theName, heap / (1024.0 * 1024), fullNanos / 1e6 / Math.max(1, theCollections), gcs, gcMillis,
+                scanMillis, Double.isNaN(theOpenMillis) ? "-" : String.format(Locale.ROOT, "%.2f", theOpenMillis)));
+    }
+
+    private static long collectionCount() {
+        long result = 0;
+        for (final GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            result += Math.max(0, gc.getCollectionCount());
+        }
+        return result;
+    }
+
+    private static long collectionMillis() {
+        long result = 0;
+        for (final GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            result += Math.max(0, gc.getCollectionTime());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,386 @@
+package benchmarks;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import model.Conference;
+import model.ConferenceSystem;
+import model.Paper;
+import model.SnapshotCodec;
+import model.SnapshotInputStream;
+import model.SnapshotOutputStream;
+import view.DataGenerator;
+
+/**
+ * Round trips synthetic models of increasing size through every snapshot format and compares them.
+ *
+ * For each model size and format the benchmark reports the bytes on disk, the encode and decode time, the peak heap
+ * while encoding and decoding (the sum of the peaks of the heap memory pools, after a full collection) and the bytes
+ * allocated by the benchmark thread. Results are printed and appended to a CSV file so they can be tracked across
+ * releases. The block formats are the SnapshotOutputStream codecs ConferenceSystem.serializeModel() can use,
+ * compressing blocks on the given amount of threads and decompressing them as the snapshot is read.
+ *
+ * Usage: java benchmarks.SerializationBenchmark [name=value ...]
+ * where the parameters are
+ * papers (per conference, comma separated list of sizes), conferences, users (0 derives it from the size),
+ * formats (comma separated, default all), threads (of the block formats, default one per processor),
+ * repetitions, seed, label (the release written to the CSV),
+ * csv (the output file, default serialization-benchmark.csv) and dir (for the snapshot files, default temporary).
+ *
+ * @version 10/19/2026
+ */
+public class SerializationBenchmark {
+
+    /** The header of the CSV output. */
+    public static final String CSV_HEADER = "timestamp,label,conferences,users,papers,reviews,format,bytes,"
+            + "encodeMillis,decodeMillis,encodePeakHeapBytes,decodePeakHeapBytes,"
+            + "encodeAllocatedBytes,decodeAllocatedBytes";
+
+    /**
+     * Runs the benchmark.
+     * @param args the parameters as name=value pairs.
+     * @throws Exception if the snapshots can not be written or read.
+     */
+    public static void main(String[] args) throws Exception {
+        final ModelBenchmarks.Parameters params = new ModelBenchmarks.Parameters(args);
+        final List<SnapshotFormat> formats = selectFormats(params.get("formats", ""),
+                (int) params.getLong("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        final int conferences = (int) params.getLong("conferences", "10");
+        final int repetitions = (int) params.getLong("repetitions", "3");
+        final File directory = params.get("dir", "").isEmpty()
+                ? Files.createTempDirectory("snapshot").toFile() : new File(params.get("dir", ""));
+        final File csv = new File(params.get("csv", "serialization-benchmark.csv"));
+        final String label = params.get("label", "dev");
+
+        final ConferenceSystem sys = ConferenceSystem.getInstance();
+        final boolean newCsv = !csv.exists();
+
+        try (PrintWriter out = new PrintWriter(new FileWriter(csv, true))) {
+            if (newCsv) {
+                out.println(CSV_HEADER);
+            }
+
+            System.out.println(String.format("%-16s %10s %12s %14s %12s %12s %12s %12s",
+                    "format", "papers", "bytes", "bytes/paper", "encode ms", "decode ms", "peak MB", "alloc MB"));
+
+            for (final int papers : params.getInts("papers", "100,1000,10000")) {
+                int users = (int) params.getLong("users", "0");
+                if (users <= 0) {
+                    users = Math.max(1000, conferences * papers / 2);
+                }
+
+                sys.clear();
+                new DataGenerator(params.getLong("seed", "42"), conferences, users, papers, 3).generate(sys);
+                final long paperCount = countPapers(sys);
+                final long reviewCount = countReviews(sys);
+
+                for (final SnapshotFormat format : formats) {
+                    final Measurement m = measure(sys, format, directory, repetitions);
+
+                    out.println(String.join(",", Instant.now().toString(), label,
+                            String.valueOf(conferences), String.valueOf(users), String.valueOf(paperCount),
+                            String.valueOf(reviewCount), format.getName(), String.valueOf(m.bytes),
+                            format(m.encodeNanos / 1e6), format(m.decodeNanos / 1e6),
+                            String.valueOf(m.encodePeakHeap), String.valueOf(m.decodePeakHeap),
+                            String.valueOf(m.encodeAllocated), String.valueOf(m.decodeAllocated)));
+                    out.flush();
+
+                    System.out.println(String.format(Locale.ROOT,
+                            "%-16s %10d %12d %14.1f %12.1f %12.1f %12.1f %12.1f",
+                            format.getName(), paperCount, m.bytes, m.bytes / (double) Math.max(1, paperCount),
+                            m.encodeNanos / 1e6, m.decodeNanos / 1e6,
+                            Math.max(m.encodePeakHeap, m.decodePeakHeap) / 1e6,
+                            (m.encodeAllocated + m.decodeAllocated) / 1e6));
+                }
+            }
+        }
+    }
+
+    /**
+     * @param theThreads the amount of threads compressing the blocks of the block formats.
+     * @return all the snapshot formats which are compared.
+     */
+    public static List<SnapshotFormat> allFormats(final int theThreads) {
+        final List<SnapshotFormat> result = new ArrayList<>();
+
+        result.add(new SnapshotFormat("java") {
+            @Override
+            public OutputStream wrap(OutputStream theStream) {
+                return theStream;
+            }
+
+            @Override
+            public InputStream wrap(InputStream theStream) {
+                return theStream;
+            }
+        });
+
+        result.add(new SnapshotFormat("java-buffered") {
+            @Override
+            public OutputStream wrap(OutputStream theStream) {
+                return new BufferedOutputStream(theStream, 1 << 16);
+            }
+
+            @Override
+            public InputStream wrap(InputStream theStream) {
+                return new BufferedInputStream(theStream, 1 << 16);
+            }
+        });
+
+        result.add(new SnapshotFormat("gzip") {
+            @Override
+            public OutputStream wrap(OutputStream theStream) throws IOException {
+                return new GZIPOutputStream(theStream, 1 << 16);
+            }
+
+            @Override
+            public InputStream wrap(InputStream theStream) throws IOException {
+                return new GZIPInputStream(theStream, 1 << 16);
+            }
+        });
+
+        final int[] levels = {Deflater.BEST_SPEED, Deflater.DEFAULT_COMPRESSION, Deflater.BEST_COMPRESSION};
+        for (final int level : levels) {
+            result.add(new SnapshotFormat("deflate-" + (level < 0 ? 6 : level)) {
+                @Override
+                public OutputStream wrap(OutputStream theStream) {
+                    final Deflater deflater = new Deflater(level);
+                    return new DeflaterOutputStream(theStream, deflater, 1 << 16) {
+                        @Override
+                        public void close() throws IOException {
+                            try {
+                                super.close();
+                            } finally {
+                                deflater.end();
+                            }
+                        }
+                    };
+                }
+
+                @Override
+                public InputStream wrap(InputStream theStream) {
+                    return new InflaterInputStream(theStream, new Inflater(), 1 << 16) {
+                        @Override
+                        public void close() throws IOException {
+                            try {
+                                super.close();
+                            } finally {
+                                inf.end();
+                            }
+                        }
+                    };
+                }
+            });
+        }
+
+        final List<SnapshotCodec> codecs = Arrays.asList(SnapshotCodec.lz(),
+                SnapshotCodec.deflate(Deflater.BEST_SPEED), SnapshotCodec.deflate(6),
+                SnapshotCodec.deflate(Deflater.BEST_COMPRESSION));
+        for (final SnapshotCodec codec : codecs) {
+            result.add(new SnapshotFormat("block-" + codec.getName()) {
+                @Override
+                public OutputStream wrap(OutputStream theStream) throws IOException {
+                    return new SnapshotOutputStream(theStream, codec, SnapshotOutputStream.DEFAULT_BLOCK_SIZE,
+                            theThreads);
+                }
+
+                @Override
+                public InputStream wrap(InputStream theStream) throws IOException {
+                    return new SnapshotInputStream(theStream);
+                }
+            });
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the formats named in theNames, or all formats if theNames is empty.
+     * @throws IllegalArgumentException if a name does not match any format.
+     */
+    private static List<SnapshotFormat> selectFormats(final String theNames, final int theThreads) {
+        final List<SnapshotFormat> all = allFormats(theThreads);
+        if (theNames.isEmpty()) {
+            return all;
+        }
+
+        final List<SnapshotFormat> result = new ArrayList<>();
+        for (final String name : theNames.split(",")) {
+            SnapshotFormat match = null;
+            for (final SnapshotFormat format : all) {
+                if (format.getName().equals(name.trim())) {
+                    match = format;
+                }
+            }
+            if (match == null) {
+                throw new IllegalArgumentException("Unknown format " + name);
+            }
+            result.add(match);
+        }
+        return result;
+    }
+
+    /**
+     * Encodes and decodes the snapshot of theSystem one warmup and theRepetitions measured times.
+     * @return the mean of the measured repetitions.
+     */
+    private static Measurement measure(
+            final ConferenceSystem theSystem,
+            final SnapshotFormat theFormat,
+            final File theDirectory,
+            final int theRepetitions
+            ) throws IOException, ClassNotFoundException {
+        final File users = new File(theDirectory, "UserMap." + theFormat.getName());
+        final File conferences = new File(theDirectory, "ConferenceMap." + theFormat.getName());
+        final Measurement result = new Measurement();
+
+        for (int i = 0; i <= theRepetitions; i++) {
+            final boolean measured = i > 0;
+
+            resetPeakHeap();
+            long allocated = Allocation.currentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            try (OutputStream u = theFormat.wrap(new FileOutputStream(users));
+                 OutputStream c = theFormat.wrap(new FileOutputStream(conferences))) {
+                theSystem.writeSnapshot(u, c);
+            }
+            if (measured) {
+                result.encodeNanos += System.nanoTime() - start;
+                result.encodeAllocated += Allocation.currentThreadAllocatedBytes() - allocated;
+                result.encodePeakHeap = Math.max(result.encodePeakHeap, peakHeap());
+                result.bytes = users.length() + conferences.length();
+            }
+
+            resetPeakHeap();
+            allocated = Allocation.currentThreadAllocatedBytes();
+            start = System.nanoTime();
+            try (InputStream u = theFormat.wrap(new FileInputStream(users));
+                 InputStream c = theFormat.wrap(new FileInputStream(conferences))) {
+                theSystem.readSnapshot(u, c);
+            }
+            if (measured) {
+                result.decodeNanos += System.nanoTime() - start;
+                result.decodeAllocated += Allocation.currentThreadAllocatedBytes() - allocated;
+                result.decodePeakHeap = Math.max(result.decodePeakHeap, peakHeap());
+            }
+        }
+
+        result.encodeNanos /= theRepetitions;
+        result.decodeNanos /= theRepetitions;
+        result.encodeAllocated /= theRepetitions;
+        result.decodeAllocated /= theRepetitions;
+
+        users.delete();
+        conferences.delete();
+        return result;
+    }
+
+    private static void resetPeakHeap() {
+        System.gc();
+        for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeap() {
+        long result = 0;
+        for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid() && pool.getPeakUsage() != null) {
+                result += pool.getPeakUsage().getUsed();
+            }
+        }
+        return result;
+    }
+
+    private static long countPapers(final ConferenceSystem theSystem) {
+        long result = 0;
+        for (final Conference c : theSystem.getConferences()) {
+            result += c.getInfo().getAllPapers().size();
+        }
+        return result;
+    }
+
+    private static long countReviews(final ConferenceSystem theSystem) {
+        long result = 0;
+        for (final Conference c : theSystem.getConferences()) {
+            for (final Paper p : c.getInfo().getAllPapers()) {
+                result += p.getReviews().size();
+            }
+        }
+        return result;
+    }
+
+    private static String format(final double theValue) {
+        return String.format(Locale.ROOT, "%.3f", theValue);
+    }
+
+    /**
+     * A way of storing a snapshot: the stream the ObjectOutputStream of the snapshot is written through.
+     */
+    public abstract static class SnapshotFormat {
+
+        private final String myName;
+
+        /**
+         * @param theName the name of the format as written to the results.
+         */
+        protected SnapshotFormat(final String theName) {
+            myName = theName;
+        }
+
+        /**
+         * @return the name of the format.
+         */
+        public String getName() {
+            return myName;
+        }
+
+        /**
+         * @return a stream encoding everything written to it into theStream. Closing it closes theStream.
+         */
+        public abstract OutputStream wrap(OutputStream theStream) throws IOException;
+
+        /**
+         * @return a stream decoding theStream. Closing it closes theStream.
+         */
+        public abstract InputStream wrap(InputStream theStream) throws IOException;
+    }
+
+    /**
+     * The measured result of a format at one model size.
+     */
+    private static class Measurement {
+        private long bytes;
+        private long encodeNanos;
+        private long decodeNanos;
+        private long encodePeakHeap;
+        private long decodePeakHeap;
+        private long encodeAllocated;
+        private long decodeAllocated;
+    }
+}
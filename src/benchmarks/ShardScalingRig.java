@@ -0,0 +1,116 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import model.Conference;
+import model.Paper;
+import model.ShardRouter;
+import model.UserProfile;
+
+/**
+ * Shows how the heap of a sharded model spreads over worker processes on one host.
+ *
+ * For each amount of shards the rig launches that many ShardWorker processes through ShardRouter.launch(), sends
+ * the same generated conferences to them one by one and measures the heap each worker uses for the model, after
+ * a full collection and less the heap it used empty. With an even spread the largest shard holds the model of one
+ * process (the run with 1 shard, else the total of the run) divided by the amount of shards; the efficiency is
+ * that ideal divided by the largest shard, 100% for linear scaling. It then measures a routed lookup
+ * (getUserProfile) and a scattered one (getAllPapersSubmitted).
+ *
+ * Usage: java benchmarks.ShardScalingRig [name=value ...]
+ * where the parameters are
+ * shards (comma separated list, default 1,2,4), conferences, papers (per conference), users, reviewers
+ * (per paper), jvm (space separated options of the workers, default -Xmx1g -XX:+UseSerialGC),
+ * warmup, iterations, time (milliseconds per iteration) and seed.
+ *
+ * @version 10/19/2026
+ */
+public class ShardScalingRig {
+
+    /**
+     * Runs the rig.
+     * @param args the parameters as name=value pairs.
+     * @throws IOException if the workers can not be launched.
+     */
+    public static void main(String[] args) throws IOException {
+        final ModelBenchmarks.Parameters params = new ModelBenchmarks.Parameters(args);
+        final int conferences = (int) params.getLong("conferences", "32");
+        final int papers = (int) params.getLong("papers", "2000");
+        final int users = (int) params.getLong("users", "20000");
+        final int reviewers = (int) params.getLong("reviewers", "3");
+        final long seed = params.getLong("seed", "42");
+        final List<String> jvm = Arrays.asList(params.get("jvm", "-Xmx1g -XX:+UseSerialGC").trim().split("\\s+"));
+
+        System.out.println(String.format(Locale.ROOT, "%d conferences, %d papers each, %d users, %d reviewers per paper",
+                conferences, papers, users, reviewers));
+        System.out.println(String.format(Locale.ROOT, "%-7s %14s %14s %14s %11s",
+                "shards", "model MB", "largest MB", "ideal MB", "efficiency"));
+
+        long single = -1;
+        for (final int shards : params.getInts("shards", "1,2,4")) {
+            try (ShardRouter router = ShardRouter.launch(shards, jvm)) {
+                final long[] empty = router.getHeapUsed();
+                final ModelFixture fixture = load(router, conferences, papers, users, reviewers, seed);
+                final long[] loaded = router.getHeapUsed();
+
+                long total = 0;
+                long largest = 0;
+                for (int s = 0; s < shards; s++) {
+                    total += loaded[s] - empty[s];
+                    largest = Math.max(largest, loaded[s] - empty[s]);
+                }
+                if (shards == 1) {
+                    single = total;
+                }
+                final double ideal = (single < 0 ? total : single) / (double) shards;
+                System.out.println(String.format(Locale.ROOT, "%-7d %14.1f %14.1f %14.1f %10.0f%%",
+                        shards, mb(total), mb(largest), mb(ideal), 100 * ideal / largest));
+
+                measure(params, router, fixture, shards);
+            }
+        }
+    }
+
+    /**
+     * Builds the conferences one at a time, so this JVM never holds the whole model, and sends them out.
+     */
+    private static ModelFixture load(final ShardRouter theRouter, final int theConferences, final int thePapers,
+            final int theUsers, final int theReviewers, final long theSeed) {
+        final ModelFixture fixture = new ModelFixture(1, theUsers, 0, 0, theSeed);
+        for (final UserProfile user : fixture.getUsers()) {
+            theRouter.addUserProfile(user);
+        }
+        for (int c = 0; c < theConferences; c++) {
+            final Conference conference = ModelFixture.createOpenConference("Sharded Conference " + c);
+            final List<Paper> added = fixture.addPapers(conference, thePapers);
+            ModelFixture.closeSubmissions(conference);
+            for (final Paper paper : added) {
+                fixture.assignReviewers(conference, paper, theReviewers);
+            }
+            theRouter.addConference(conference);
+        }
+        return fixture;
+    }
+
+    private static void measure(final ModelBenchmarks.Parameters theParams, final ShardRouter theRouter,
+            final ModelFixture theFixture, final int theShards) {
+        final BenchmarkHarness harness = theParams.createHarness();
+        harness.run("getUserProfile routed [shards=" + theShards + "]", () -> {
+            theRouter.getUserProfile(theFixture.randomUser().getUID());
+            return 1;
+        });
+        harness.run("getAllPapersSubmitted scattered [shards=" + theShards + "]", () -> {
+            theRouter.getAllPapersSubmitted(theFixture.randomUser());
+            return 1;
+        });
+        harness.printResults();
+        System.out.println();
+    }
+
+    private static double mb(final double theBytes) {
+        return theBytes / (1024 * 1024);
+    }
+}
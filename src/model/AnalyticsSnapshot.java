@@ -0,0 +1,636 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A read-only columnar copy of the reviews, reviewer assignments and authorships of every conference, for director
+ * analytics such as score distributions, reviewer throughput and acceptance per author.
+ *
+ * Every review is one row of primitive columns: conference ID, paper ID, reviewer ID, score and time. Reviews are
+ * stored conference by conference and paper by paper, so their conference and paper columns are sorted. Assignments
+ * and authorships are columns of their own. Conference, paper and reviewer IDs are dense and only mean something
+ * within one snapshot; author IDs are those of ConferenceSystem.getAuthorDictionary().
+ *
+ * Queries group rows by one column and run as plain loops over the arrays on the common ForkJoinPool. Groups of a
+ * sorted column are split between tasks at group boundaries and written in place; other groups are counted in
+ * partial arrays per task which are merged, with no more tasks than keep those partials within PARTIAL_CELLS.
+ *
+ * Take a snapshot with ConferenceSystem.getAnalytics(), on the thread which changes the model.
+ *
+ * @version 10/19/2026
+ */
+public final class AnalyticsSnapshot {
+
+    /** Returned for reviews without a known reviewer and for unknown IDs. */
+    public static final int NO_ID = -1;
+
+    /** The fewest rows a task splits. */
+    private static final int LEAF_ROWS = 1 << 15;
+
+    /** The most cells of partial results all tasks of one query hold together. */
+    private static final long PARTIAL_CELLS = 1L << 22;
+
+    /**
+     * The columns review rows can be grouped by.
+     */
+    public enum Dimension {
+        CONFERENCE, PAPER, REVIEWER, SCORE
+    }
+
+    private final long myTakenMillis;
+
+    private final ConferenceInfo[] myConferences;
+    private final Paper[] myPapers;
+    private final UserProfile[] myReviewers;
+    private final int[] myPaperConference;
+    private final boolean[] myPaperAccepted;
+
+    private final int[] myReviewConference;
+    private final int[] myReviewPaper;
+    private final int[] myReviewReviewer;
+    private final int[] myReviewScore;
+    private final long[] myReviewTime;
+    private final int myMinScore;
+    private final int myMaxScore;
+
+    private final int[] myAssignmentConference;
+    private final int[] myAssignmentPaper;
+    private final int[] myAssignmentReviewer;
+
+    private final int[] myAuthorshipAuthor;
+    private final int[] myAuthorshipPaper;
+    private final int myAuthorCount;
+
+    /**
+     * Copies the reviews, assignments and authorships of theConferences into columns.
+     */
+    AnalyticsSnapshot(final ConferenceData[] theConferences, final long theTakenMillis) {
+        myTakenMillis = theTakenMillis;
+        myConferences = Arrays.copyOf(theConferences, theConferences.length, ConferenceInfo[].class);
+
+        int paperCount = 0;
+        int reviewCount = 0;
+        int assignmentCount = 0;
+        int authorshipCount = 0;
+        for (final ConferenceData conference : theConferences) {
+            final List<Paper> papers = conference.paperList();
+            paperCount += papers.size();
+            for (int i = 0; i < papers.size(); i++) {
+                reviewCount += papers.get(i).getReviewCount();
+                authorshipCount += papers.get(i).authorIds().length;
+            }
+            for (final List<Paper> assigned : conference.getReviewerAssignmentMap().values()) {
+                assignmentCount += assigned.size();
+            }
+        }
+
+        myPapers = new Paper[paperCount];
+        myPaperConference = new int[paperCount];
+        myPaperAccepted = new boolean[paperCount];
+        myReviewConference = new int[reviewCount];
+        myReviewPaper = new int[reviewCount];
+        myReviewReviewer = new int[reviewCount];
+        myReviewScore = new int[reviewCount];
+        myReviewTime = new long[reviewCount];
+        myAuthorshipAuthor = new int[authorshipCount];
+        myAuthorshipPaper = new int[authorshipCount];
+
+        final Map<UserProfile, Integer> reviewerIds = new HashMap<>();
+        final List<UserProfile> reviewers = new ArrayList<>();
+        int minScore = Integer.MAX_VALUE;
+        int maxScore = Integer.MIN_VALUE;
+        int maxAuthor = -1;
+        int paper = 0;
+        int review = 0;
+        int authorship = 0;
+        int assignment = 0;
+        final int[] assignmentConference = new int[assignmentCount];
+        final int[] assignmentPaper = new int[assignmentCount];
+        final int[] assignmentReviewer = new int[assignmentCount];
+
+        for (int c = 0; c < theConferences.length; c++) {
+            final ConferenceData conference = theConferences[c];
+            final List<Paper> papers = conference.paperList();
+            final Map<Paper, Integer> paperIds = new IdentityHashMap<>(papers.size() * 2);
+            for (int i = 0; i < papers.size(); i++, paper++) {
+                final Paper current = papers.get(i);
+                paperIds.putIfAbsent(current, paper);
+                myPapers[paper] = current;
+                myPaperConference[paper] = c;
+                final Review recommendation = current.getMyRecommendation();
+                myPaperAccepted[paper] = recommendation != null
+                        && recommendation.score == SubprogramUtilities.RecommendStatus.YES.intRepresentation;
+                for (final int author : current.authorIds()) {
+                    myAuthorshipAuthor[authorship] = author;
+                    myAuthorshipPaper[authorship++] = paper;
+                    maxAuthor = Math.max(maxAuthor, author);
+                }
+                for (int r = 0; r < current.getReviewCount(); r++, review++) {
+                    final Review currentReview = current.getReview(r);
+                    myReviewConference[review] = c;
+                    myReviewPaper[review] = paper;
+                    myReviewReviewer[review] = idOf(currentReview.reviewer, reviewerIds, reviewers);
+                    myReviewScore[review] = currentReview.score;
+                    myReviewTime[review] = currentReview.time;
+                    minScore = Math.min(minScore, currentReview.score);
+                    maxScore = Math.max(maxScore, currentReview.score);
+                }
+            }
+            for (final Map.Entry<UserProfile, List<Paper>> assigned : conference.getReviewerAssignmentMap().entrySet()) {
+                final int reviewer = idOf(assigned.getKey(), reviewerIds, reviewers);
+                for (final Paper assignedPaper : assigned.getValue()) {
+                    final Integer id = paperIds.get(assignedPaper);
+                    if (id != null) {
+                        assignmentConference[assignment] = c;
+                        assignmentPaper[assignment] = id;
+                        assignmentReviewer[assignment++] = reviewer;
+                    }
+                }
+            }
+        }
+        myReviewers = reviewers.toArray(new UserProfile[0]);
+        myMinScore = reviewCount == 0 ? 0 : minScore;
+        myMaxScore = reviewCount == 0 ? -1 : maxScore;
+        myAssignmentConference = Arrays.copyOf(assignmentConference, assignment);
+        myAssignmentPaper = Arrays.copyOf(assignmentPaper, assignment);
+        myAssignmentReviewer = Arrays.copyOf(assignmentReviewer, assignment);
+        myAuthorCount = maxAuthor + 1;
+    }
+
+    private static int idOf(final UserProfile theReviewer, final Map<UserProfile, Integer> theIds,
+            final List<UserProfile> theReviewers) {
+        if (theReviewer == null) {
+            return NO_ID;
+        }
+        Integer result = theIds.get(theReviewer);
+        if (result == null) {
+            result = theReviewers.size();
+            theIds.put(theReviewer, result);
+            theReviewers.add(theReviewer);
+        }
+        return result;
+    }
+
+    /**
+     * @return when the snapshot was taken, by the clock of the DeadlineScheduler.
+     */
+    public long getTakenMillis() {
+        return myTakenMillis;
+    }
+
+    /**
+     * @return the amount of review rows.
+     */
+    public int getReviewCount() {
+        return myReviewScore.length;
+    }
+
+    /**
+     * @return the amount of reviewer assignment rows.
+     */
+    public int getAssignmentCount() {
+        return myAssignmentPaper.length;
+    }
+
+    /**
+     * @return the amount of conference IDs.
+     */
+    public int getConferenceCount() {
+        return myConferences.length;
+    }
+
+    /**
+     * @return the amount of paper IDs.
+     */
+    public int getPaperCount() {
+        return myPapers.length;
+    }
+
+    /**
+     * @return the amount of reviewer IDs.
+     */
+    public int getReviewerCount() {
+        return myReviewers.length;
+    }
+
+    /**
+     * @return the conference with theConferenceId.
+     */
+    public ConferenceInfo getConference(final int theConferenceId) {
+        return myConferences[theConferenceId];
+    }
+
+    /**
+     * @return the paper with thePaperId.
+     */
+    public Paper getPaper(final int thePaperId) {
+        return myPapers[thePaperId];
+    }
+
+    /**
+     * @return the conference ID of the paper with thePaperId.
+     */
+    public int getPaperConference(final int thePaperId) {
+        return myPaperConference[thePaperId];
+    }
+
+    /**
+     * @return whether the paper with thePaperId was recommended for acceptance.
+     */
+    public boolean isPaperAccepted(final int thePaperId) {
+        return myPaperAccepted[thePaperId];
+    }
+
+    /**
+     * @return the reviewer with theReviewerId.
+     */
+    public UserProfile getReviewer(final int theReviewerId) {
+        return myReviewers[theReviewerId];
+    }
+
+    /**
+     * @return the lowest score of any review; the scores of getScoreHistogram() start here.
+     */
+    public int getMinScore() {
+        return myMinScore;
+    }
+
+    /**
+     * @return the highest score of any review, less than getMinScore() if there are none.
+     */
+    public int getMaxScore() {
+        return myMaxScore;
+    }
+
+    /**
+     * Groups every review by theDimension.
+     * @param theDimension the (non-null) column to group by.
+     * @return the count, sum, minimum and maximum score of each group.
+     */
+    public Aggregate aggregate(final Dimension theDimension) {
+        return aggregate(theDimension, NO_ID, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Groups the reviews of one or all conferences written in a period by theDimension.
+     * Reviews without a known reviewer are left out of the REVIEWER groups.
+     * @param theDimension the (non-null) column to group by.
+     * @param theConferenceId the conference to aggregate or NO_ID for all of them.
+     * @param theFromMillis the earliest time of a review included.
+     * @param theToMillis the time after the last review included.
+     * @return the count, sum, minimum and maximum score of each group; for SCORE the groups are the scores from
+     * getMinScore().
+     */
+    public Aggregate aggregate(final Dimension theDimension, final int theConferenceId,
+            final long theFromMillis, final long theToMillis) {
+        final Query query = new Query(Objects.requireNonNull(theDimension), theConferenceId, theFromMillis,
+                theToMillis);
+        final int rows = getReviewCount();
+        if (theDimension == Dimension.CONFERENCE || theDimension == Dimension.PAPER) {
+            final Aggregate result = new Aggregate(query.myGroups);
+            ForkJoinPool.commonPool().invoke(new SortedAggregation(query, result, 0, rows));
+            return result;
+        }
+        return ForkJoinPool.commonPool().invoke(new PartialAggregation(query, 0, rows,
+                leafRows(rows, query.myGroups)));
+    }
+
+    /**
+     * Counts the reviews of each score.
+     * @param theConferenceId the conference to count or NO_ID for all of them.
+     * @return the amount of reviews with each score, starting at getMinScore().
+     */
+    public long[] getScoreHistogram(final int theConferenceId) {
+        return aggregate(Dimension.SCORE, theConferenceId, Long.MIN_VALUE, Long.MAX_VALUE).myCounts;
+    }
+
+    /**
+     * Counts the reviewer assignments of each reviewer; with aggregate(REVIEWER) this gives the throughput of
+     * each reviewer.
+     * @return the amount of papers assigned to each reviewer ID.
+     */
+    public long[] getAssignmentsPerReviewer() {
+        return count(myAssignmentReviewer, myReviewers.length, null, null);
+    }
+
+    /**
+     * Counts the papers of each author.
+     * @param theAcceptedOnly whether to count only the papers recommended for acceptance.
+     * @return the amount of papers of each author ID, up to the highest author ID in this snapshot.
+     */
+    public long[] getPapersPerAuthor(final boolean theAcceptedOnly) {
+        return count(myAuthorshipAuthor, myAuthorCount, theAcceptedOnly ? myAuthorshipPaper : null,
+                myPaperAccepted);
+    }
+
+    /**
+     * Counts the rows with each key in parallel, only those whose theFilterIndex is true in theFilter if given.
+     */
+    private static long[] count(final int[] theKeys, final int theGroups, final int[] theFilterIndex,
+            final boolean[] theFilter) {
+        return ForkJoinPool.commonPool().invoke(new Count(theKeys, theGroups, theFilterIndex, theFilter,
+                0, theKeys.length, leafRows(theKeys.length, theGroups)));
+    }
+
+    /**
+     * @return the rows per task such that the partial results of all tasks stay within PARTIAL_CELLS.
+     */
+    private static int leafRows(final int theRows, final int theGroups) {
+        final long tasks = Math.max(1, PARTIAL_CELLS / Math.max(1, theGroups));
+        return (int) Math.max(LEAF_ROWS, (theRows + tasks - 1) / tasks);
+    }
+
+    /**
+     * The count, sum, minimum and maximum score of each group of an aggregation.
+     */
+    public static final class Aggregate {
+
+        private final long[] myCounts;
+        private final long[] mySums;
+        private final int[] myMins;
+        private final int[] myMaxes;
+
+        private Aggregate(final int theGroups) {
+            myCounts = new long[theGroups];
+            mySums = new long[theGroups];
+            myMins = new int[theGroups];
+            myMaxes = new int[theGroups];
+            Arrays.fill(myMins, Integer.MAX_VALUE);
+            Arrays.fill(myMaxes, Integer.MIN_VALUE);
+        }
+
+        /**
+         * @return the amount of groups.
+         */
+        public int getGroupCount() {
+            return myCounts.length;
+        }
+
+        /**
+         * @return the amount of reviews in theGroup.
+         */
+        public long getCount(final int theGroup) {
+            return myCounts[theGroup];
+        }
+
+        /**
+         * @return the sum of the scores in theGroup.
+         */
+        public long getSum(final int theGroup) {
+            return mySums[theGroup];
+        }
+
+        /**
+         * @return the mean score in theGroup, NaN if it is empty.
+         */
+        public double getMean(final int theGroup) {
+            return myCounts[theGroup] == 0 ? Double.NaN : mySums[theGroup] / (double) myCounts[theGroup];
+        }
+
+        /**
+         * @return the lowest score in theGroup, Integer.MAX_VALUE if it is empty.
+         */
+        public int getMin(final int theGroup) {
+            return myMins[theGroup];
+        }
+
+        /**
+         * @return the highest score in theGroup, Integer.MIN_VALUE if it is empty.
+         */
+        public int getMax(final int theGroup) {
+            return myMaxes[theGroup];
+        }
+
+        private void merge(final Aggregate theOther) {
+            for (int g = 0; g < myCounts.length; g++) {
+                myCounts[g] += theOther.myCounts[g];
+                mySums[g] += theOther.mySums[g];
+                myMins[g] = Math.min(myMins[g], theOther.myMins[g]);
+                myMaxes[g] = Math.max(myMaxes[g], theOther.myMaxes[g]);
+            }
+        }
+    }
+
+    /**
+     * The key column and filters of an aggregation.
+     */
+    private final class Query {
+
+        private final int[] myKeys;
+        private final int myKeyOffset;
+        private final int myGroups;
+        private final int myConferenceId;
+        private final long myFromMillis;
+        private final long myToMillis;
+
+        private Query(final Dimension theDimension, final int theConferenceId, final long theFromMillis,
+                final long theToMillis) {
+            switch (theDimension) {
+                case CONFERENCE:
+                    myKeys = myReviewConference;
+                    myGroups = myConferences.length;
+                    break;
+                case PAPER:
+                    myKeys = myReviewPaper;
+                    myGroups = myPapers.length;
+                    break;
+                case REVIEWER:
+                    myKeys = myReviewReviewer;
+                    myGroups = myReviewers.length;
+                    break;
+                default:
+                    myKeys = myReviewScore;
+                    myGroups = myMaxScore - myMinScore + 1;
+                    break;
+            }
+            myKeyOffset = theDimension == Dimension.SCORE ? myMinScore : 0;
+            myConferenceId = theConferenceId;
+            myFromMillis = theFromMillis;
+            myToMillis = theToMillis;
+        }
+
+        /**
+         * Adds the review rows from theFrom to theTo to theResult.
+         */
+        private void accumulate(final Aggregate theResult, final int theFrom, final int theTo) {
+            final int[] keys = myKeys;
+            final int[] conferences = myReviewConference;
+            final int[] scores = myReviewScore;
+            final long[] times = myReviewTime;
+            final long[] counts = theResult.myCounts;
+            final long[] sums = theResult.mySums;
+            final int[] mins = theResult.myMins;
+            final int[] maxes = theResult.myMaxes;
+            final boolean anyConference = myConferenceId == NO_ID;
+            final boolean anyTime = myFromMillis == Long.MIN_VALUE && myToMillis == Long.MAX_VALUE;
+            for (int i = theFrom; i < theTo; i++) {
+                final int group = keys[i] - myKeyOffset;
+                if (group >= 0 && (anyConference || conferences[i] == myConferenceId)
+                        && (anyTime || times[i] >= myFromMillis && times[i] < myToMillis)) {
+                    final int score = scores[i];
+                    counts[group]++;
+                    sums[group] += score;
+                    mins[group] = Math.min(mins[group], score);
+                    maxes[group] = Math.max(maxes[group], score);
+                }
+            }
+        }
+    }
+
+    /**
+     * Aggregates rows by a sorted column straight into the result, splitting at group boundaries so that no two
+     * tasks write the same group.
+     */
+    private static final class SortedAggregation extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Query myQuery;
+        private final Aggregate myResult;
+        private final int myFrom;
+        private final int myTo;
+
+        private SortedAggregation(final Query theQuery, final Aggregate theResult, final int theFrom,
+                final int theTo) {
+            myQuery = theQuery;
+            myResult = theResult;
+            myFrom = theFrom;
+            myTo = theTo;
+        }
+
+        @Override
+        protected void compute() {
+            int middle = split();
+            if (middle < 0) {
+                myQuery.accumulate(myResult, myFrom, myTo);
+                return;
+            }
+            invokeAll(new SortedAggregation(myQuery, myResult, myFrom, middle),
+                    new SortedAggregation(myQuery, myResult, middle, myTo));
+        }
+
+        /**
+         * @return the group boundary nearest the middle of the rows, -1 if the rows are too few or one group.
+         */
+        private int split() {
+            if (myTo - myFrom <= LEAF_ROWS) {
+                return -1;
+            }
+            final int[] keys = myQuery.myKeys;
+            final int middle = (myFrom + myTo) >>> 1;
+            int after = middle;
+            while (after < myTo && keys[after] == keys[middle - 1]) {
+                after++;
+            }
+            if (after < myTo) {
+                return after;
+            }
+            int before = middle;
+            while (before > myFrom && keys[before - 1] == keys[middle]) {
+                before--;
+            }
+            return before > myFrom ? before : -1;
+        }
+    }
+
+    /**
+     * Aggregates rows by an unsorted column into a partial result per task, which are merged.
+     */
+    private static final class PartialAggregation extends RecursiveTask<Aggregate> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Query myQuery;
+        private final int myFrom;
+        private final int myTo;
+        private final int myLeafRows;
+
+        private PartialAggregation(final Query theQuery, final int theFrom, final int theTo, final int theLeafRows) {
+            myQuery = theQuery;
+            myFrom = theFrom;
+            myTo = theTo;
+            myLeafRows = theLeafRows;
+        }
+
+        @Override
+        protected Aggregate compute() {
+            if (myTo - myFrom <= myLeafRows) {
+                final Aggregate result = new Aggregate(myQuery.myGroups);
+                myQuery.accumulate(result, myFrom, myTo);
+                return result;
+            }
+            final int middle = (myFrom + myTo) >>> 1;
+            final PartialAggregation first = new PartialAggregation(myQuery, myFrom, middle, myLeafRows);
+            first.fork();
+            final Aggregate result = new PartialAggregation(myQuery, middle, myTo, myLeafRows).compute();
+            result.merge(first.join());
+            return result;
+        }
+    }
+
+    /**
+     * Counts rows by an unsorted column into a partial count per task, which are merged.
+     */
+    private static final class Count extends RecursiveTask<long[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] myKeys;
+        private final int myGroups;
+        private final int[] myFilterIndex;
+        private final boolean[] myFilter;
+        private final int myFrom;
+        private final int myTo;
+        private final int myLeafRows;
+
+        private Count(final int[] theKeys, final int theGroups, final int[] theFilterIndex, final boolean[] theFilter,
+                final int theFrom, final int theTo, final int theLeafRows) {
+            myKeys = theKeys;
+            myGroups = theGroups;
+            myFilterIndex = theFilterIndex;
+            myFilter = theFilter;
+            myFrom = theFrom;
+            myTo = theTo;
+            myLeafRows = theLeafRows;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (myTo - myFrom <= myLeafRows) {
+                final long[] result = new long[myGroups];
+                final int[] keys = myKeys;
+                if (myFilterIndex == null) {
+                    for (int i = myFrom; i < myTo; i++) {
+                        result[keys[i]]++;
+                    }
+                } else {
+                    for (int i = myFrom; i < myTo; i++) {
+                        if (myFilter[myFilterIndex[i]]) {
+                            result[keys[i]]++;
+                        }
+                    }
+                }
+                return result;
+            }
+            final int middle = (myFrom + myTo) >>> 1;
+            final Count first = new Count(myKeys, myGroups, myFilterIndex, myFilter, myFrom, middle, myLeafRows);
+            first.fork();
+            final long[] result =
+                    new Count(myKeys, myGroups, myFilterIndex, myFilter, middle, myTo, myLeafRows).compute();
+            final long[] other = first.join();
+            for (int g = 0; g < result.length; g++) {
+                result[g] += other[g];
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,531 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * A read-only, primitive view of the papers, authors and assignments of one conference for bulk algorithms.
+ *
+ * Papers and users get dense int IDs, which stay the same for the life of the ConferenceData: a removed paper keeps
+ * its ID and isSubmitted() returns false for it. The edges are stored in compressed sparse row form (see Adjacency) for
+ * paper to reviewer, reviewer to paper, paper to author and chair to paper. Author IDs are those of
+ * ConferenceSystem.getAuthorDictionary().
+ *
+ * Get the view from ConferenceData.getAssignmentGraph(). A view never changes; after the conference changes the next
+ * call returns a new view which shares the arrays of the relations which did not change.
+ *
+ * The first view is built whole from the maps of the ConferenceData. After that the conference logs its changes in
+ * Ids, and the next view rebuilds only the rows they touch: the new targets of a changed row are appended to the
+ * targets array the earlier views share, past the part those views read, and the row is pointed at them. The old
+ * targets of the row stay behind until the array is full, when it is compacted into a new one twice the size of the
+ * live edges. A change costs O(R) for the row bounds of its relation plus the edges of the rows it touches, instead
+ * of O(E) for the whole relation.
+ *
+ * @version 10/19/2026
+ */
+public final class AssignmentGraph {
+
+    /** Returned for papers and users which have no ID. */
+    public static final int NO_ID = -1;
+
+    private final Paper[] myPapers;
+    private final boolean[] mySubmitted;
+    private final UserProfile[] myUsers;
+    private final Ids myIds;
+    private final Adjacency myPaperReviewers;
+    private final Adjacency myReviewerPapers;
+    private final Adjacency myPaperAuthors;
+    private final Adjacency myChairPapers;
+
+    private AssignmentGraph(
+            final Paper[] thePapers,
+            final boolean[] theSubmitted,
+            final UserProfile[] theUsers,
+            final Ids theIds,
+            final Adjacency thePaperReviewers,
+            final Adjacency theReviewerPapers,
+            final Adjacency thePaperAuthors,
+            final Adjacency theChairPapers
+            ) {
+        myPapers = thePapers;
+        mySubmitted = theSubmitted;
+        myUsers = theUsers;
+        myIds = theIds;
+        myPaperReviewers = thePaperReviewers;
+        myReviewerPapers = theReviewerPapers;
+        myPaperAuthors = thePaperAuthors;
+        myChairPapers = theChairPapers;
+    }
+
+    /**
+     * @return the amount of paper IDs; every paper ID is less than this.
+     */
+    public int getPaperCount() {
+        return myPapers.length;
+    }
+
+    /**
+     * @return the paper with thePaperId.
+     */
+    public Paper getPaper(final int thePaperId) {
+        return myPapers[thePaperId];
+    }
+
+    /**
+     * @return whether the paper with thePaperId is submitted to the conference; false once it is removed, or if it
+     * was only ever assigned.
+     */
+    public boolean isSubmitted(final int thePaperId) {
+        return thePaperId < mySubmitted.length && mySubmitted[thePaperId];
+    }
+
+    /**
+     * @return the ID of thePaper, or NO_ID if it is not part of this view.
+     */
+    public int getPaperId(final Paper thePaper) {
+        final int id = myIds.paperId(thePaper);
+        return id < myPapers.length ? id : NO_ID;
+    }
+
+    /**
+     * @return the amount of user IDs; every user ID is less than this.
+     */
+    public int getUserCount() {
+        return myUsers.length;
+    }
+
+    /**
+     * @return the user with theUserId.
+     */
+    public UserProfile getUser(final int theUserId) {
+        return myUsers[theUserId];
+    }
+
+    /**
+     * @return the ID of theUser, or NO_ID if the user is not part of this view.
+     */
+    public int getUserId(final UserProfile theUser) {
+        final int id = myIds.userId(theUser);
+        return id < myUsers.length ? id : NO_ID;
+    }
+
+    /**
+     * @return the reviewer user IDs of every paper ID.
+     */
+    public Adjacency getPaperReviewers() {
+        return myPaperReviewers;
+    }
+
+    /**
+     * @return the paper IDs assigned to every reviewer user ID.
+     */
+    public Adjacency getReviewerPapers() {
+        return myReviewerPapers;
+    }
+
+    /**
+     * @return the author dictionary IDs of every paper ID.
+     */
+    public Adjacency getPaperAuthors() {
+        return myPaperAuthors;
+    }
+
+    /**
+     * @return the paper IDs assigned to every subprogram chair user ID.
+     */
+    public Adjacency getChairPapers() {
+        return myChairPapers;
+    }
+
+    /**
+     * Builds the view of theData: whole if there is no previous view, otherwise by patching the rows of thePrevious
+     * which the changes logged in theIds since then touch.
+     * @param thePrevious the last view of theData, or null.
+     */
+    static AssignmentGraph update(final AssignmentGraph thePrevious, final Ids theIds, final ConferenceData theData) {
+        if (thePrevious == null) {
+            return build(theIds, theData);
+        }
+        if (theIds.myPaperChanges.mySize == 0 && theIds.myReviewerChanges.mySize == 0
+                && theIds.myChairChanges.mySize == 0) {
+            return thePrevious;
+        }
+
+        final int paperCount = theIds.myPapers.size();
+        final int userCount = theIds.myUsers.size();
+
+        boolean[] submitted = thePrevious.mySubmitted;
+        Adjacency paperAuthors = thePrevious.myPaperAuthors;
+        if (theIds.myPaperChanges.mySize > 0) {
+            final EdgeList changes = theIds.myPaperChanges;
+            submitted = Arrays.copyOf(submitted, paperCount);
+            final boolean[] replaced = new boolean[paperCount];
+            for (int i = 0; i < changes.mySize; i++) {
+                submitted[changes.mySources[i]] = changes.myTargets[i] != 0;
+                replaced[changes.mySources[i]] = true;
+            }
+            final EdgeList edges = new EdgeList();
+            for (int id = 0; id < paperCount; id++) {
+                if (replaced[id] && submitted[id]) {
+                    for (final int author : theIds.myPapers.get(id).authorIds()) {
+                        edges.add(id, author);
+                    }
+                }
+            }
+            paperAuthors = paperAuthors.patch(edges.toAdjacency(paperCount), replaced);
+        }
+
+        Adjacency reviewerPapers = thePrevious.myReviewerPapers;
+        Adjacency paperReviewers = thePrevious.myPaperReviewers;
+        if (theIds.myReviewerChanges.mySize > 0) {
+            final EdgeList changes = theIds.myReviewerChanges;
+            reviewerPapers = reviewerPapers.patch(changes.toAdjacency(userCount), null);
+            paperReviewers = paperReviewers.patch(changes.transpose().toAdjacency(paperCount), null);
+        }
+
+        Adjacency chairPapers = thePrevious.myChairPapers;
+        if (theIds.myChairChanges.mySize > 0) {
+            chairPapers = chairPapers.patch(theIds.myChairChanges.toAdjacency(userCount), null);
+        }
+
+        theIds.clearChanges();
+        final Paper[] papers = thePrevious.myPapers.length == paperCount
+                ? thePrevious.myPapers : theIds.myPapers.toArray(new Paper[0]);
+        final UserProfile[] users = thePrevious.myUsers.length == userCount
+                ? thePrevious.myUsers : theIds.myUsers.toArray(new UserProfile[0]);
+        return new AssignmentGraph(papers, submitted, users, theIds,
+                paperReviewers, reviewerPapers, paperAuthors, chairPapers);
+    }
+
+    /**
+     * @return the view of theData built whole from its maps, registering new IDs in theIds.
+     */
+    private static AssignmentGraph build(final Ids theIds, final ConferenceData theData) {
+        final List<Paper> current = theData.getAllPapers();
+        for (final Paper p : current) {
+            theIds.paperId(p, true);
+        }
+        final boolean[] submitted = new boolean[theIds.myPapers.size()];
+        final EdgeList authorEdges = new EdgeList();
+        for (final Paper p : current) {
+            final int id = theIds.paperId(p);
+            submitted[id] = true;
+            for (final int author : p.authorIds()) {
+                authorEdges.add(id, author);
+            }
+        }
+        final Adjacency paperAuthors = authorEdges.toAdjacency(submitted.length);
+
+        final EdgeList reviewerEdges = edgesOf(theIds, theData.getReviewerAssignmentMap());
+        final EdgeList chairEdges = edgesOf(theIds, theData.getSubprogramAssignmentMap());
+        final Adjacency reviewerPapers = reviewerEdges.toAdjacency(theIds.myUsers.size());
+        final Adjacency paperReviewers = reviewerEdges.transpose().toAdjacency(theIds.myPapers.size());
+        final Adjacency chairPapers = chairEdges.toAdjacency(theIds.myUsers.size());
+
+        theIds.clearChanges();
+        return new AssignmentGraph(theIds.myPapers.toArray(new Paper[0]), submitted,
+                theIds.myUsers.toArray(new UserProfile[0]), theIds,
+                paperReviewers, reviewerPapers, paperAuthors, chairPapers);
+    }
+
+    /**
+     * @return the edges from the user IDs to the paper IDs of theAssignments, registering new IDs.
+     */
+    private static EdgeList edgesOf(final Ids theIds, final Map<UserProfile, List<Paper>> theAssignments) {
+        final EdgeList result = new EdgeList();
+        for (final Map.Entry<UserProfile, List<Paper>> entry : theAssignments.entrySet()) {
+            final int user = theIds.userId(entry.getKey(), true);
+            for (final Paper p : entry.getValue()) {
+                result.add(user, theIds.paperId(p, true));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The edges of one relation in compressed sparse row form: the targets of row r are
+     * getTarget(getStart(r)) up to, but excluding, getTarget(getEnd(r)), in the order they were assigned.
+     * Rows past getRowCount() have no edges. The rows are not stored in order, and the targets array may hold
+     * targets which no row refers to any more, see AssignmentGraph.
+     */
+    public static final class Adjacency {
+
+        private final int[] myStarts;
+        private final int[] myEnds;
+        private final int[] myTargets;
+        /** The amount of targets the rows refer to. */
+        private final int myEdgeCount;
+        /** The amount of targets written, by this or an earlier Adjacency sharing myTargets. */
+        private final int myUsed;
+
+        private Adjacency(final int[] theStarts, final int[] theEnds, final int[] theTargets,
+                final int theEdgeCount, final int theUsed) {
+            myStarts = theStarts;
+            myEnds = theEnds;
+            myTargets = theTargets;
+            myEdgeCount = theEdgeCount;
+            myUsed = theUsed;
+        }
+
+        /**
+         * @return the amount of rows stored.
+         */
+        public int getRowCount() {
+            return myStarts.length;
+        }
+
+        /**
+         * @return the amount of edges of all rows.
+         */
+        public int getEdgeCount() {
+            return myEdgeCount;
+        }
+
+        /**
+         * @return the index of the first target of theRow.
+         */
+        public int getStart(final int theRow) {
+            return theRow < myStarts.length ? myStarts[theRow] : 0;
+        }
+
+        /**
+         * @return the index after the last target of theRow.
+         */
+        public int getEnd(final int theRow) {
+            return theRow < myEnds.length ? myEnds[theRow] : 0;
+        }
+
+        /**
+         * @return the target at theIndex, between getStart() and getEnd() of a row.
+         */
+        public int getTarget(final int theIndex) {
+            return myTargets[theIndex];
+        }
+
+        /**
+         * @return the amount of edges of theRow.
+         */
+        public int getDegree(final int theRow) {
+            return getEnd(theRow) - getStart(theRow);
+        }
+
+        /**
+         * Passes every target of theRow to theConsumer.
+         */
+        public void forEach(final int theRow, final IntConsumer theConsumer) {
+            for (int i = getStart(theRow), end = getEnd(theRow); i < end; i++) {
+                theConsumer.accept(myTargets[i]);
+            }
+        }
+
+        /**
+         * @return whether theRow has an edge to theTarget.
+         */
+        public boolean contains(final int theRow, final int theTarget) {
+            for (int i = getStart(theRow), end = getEnd(theRow); i < end; i++) {
+                if (myTargets[i] == theTarget) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return a copy of the targets of theRow.
+         */
+        public int[] toArray(final int theRow) {
+            return Arrays.copyOfRange(myTargets, getStart(theRow), getEnd(theRow));
+        }
+
+        /**
+         * Gets this relation with the edges of theDelta added to their rows, or put in place of the edges of the
+         * rows marked in theReplaced. Only the changed rows are written, after everything written to the shared
+         * targets array so far, so this Adjacency never changes; it must be the latest one patched from its array.
+         * @param theDelta the edges to add, with at least as many rows as this.
+         * @param theReplaced the rows whose edges are replaced, or null to only add edges.
+         */
+        private Adjacency patch(final Adjacency theDelta, final boolean[] theReplaced) {
+            final int rowCount = theDelta.getRowCount();
+            final int[] starts = Arrays.copyOf(myStarts, rowCount);
+            final int[] ends = Arrays.copyOf(myEnds, rowCount);
+            int edgeCount = myEdgeCount;
+            int needed = myUsed;
+            for (int row = 0; row < rowCount; row++) {
+                final boolean replaced = theReplaced != null && theReplaced[row];
+                if (replaced || theDelta.getDegree(row) > 0) {
+                    final int kept = replaced ? 0 : ends[row] - starts[row];
+                    edgeCount += kept + theDelta.getDegree(row) - (ends[row] - starts[row]);
+                    needed += kept + theDelta.getDegree(row);
+                }
+            }
+
+            int[] targets = myTargets;
+            int used = myUsed;
+            if (needed > targets.length) {
+                targets = new int[Math.max(16, 2 * edgeCount)];
+                used = 0;
+                for (int row = 0; row < rowCount; row++) {
+                    final boolean changed = theReplaced != null && theReplaced[row] || theDelta.getDegree(row) > 0;
+                    if (!changed) {
+                        final int degree = ends[row] - starts[row];
+                        System.arraycopy(myTargets, starts[row], targets, used, degree);
+                        starts[row] = used;
+                        used += degree;
+                        ends[row] = used;
+                    }
+                }
+            }
+
+            for (int row = 0; row < rowCount; row++) {
+                final boolean replaced = theReplaced != null && theReplaced[row];
+                final int added = theDelta.getDegree(row);
+                if (!replaced && added == 0) {
+                    continue;
+                }
+                final int kept = replaced ? 0 : ends[row] - starts[row];
+                if (targets == myTargets && kept > 0 && ends[row] == used) {
+                    // the row was the last one written, so it grows in place
+                    System.arraycopy(theDelta.myTargets, theDelta.getStart(row), targets, used, added);
+                } else {
+                    System.arraycopy(myTargets, starts[row], targets, used, kept);
+                    System.arraycopy(theDelta.myTargets, theDelta.getStart(row), targets, used + kept, added);
+                    starts[row] = used;
+                }
+                used = starts[row] + kept + added;
+                ends[row] = used;
+            }
+            return new Adjacency(starts, ends, targets, edgeCount, used);
+        }
+    }
+
+    /**
+     * The IDs of the papers and users of one conference. IDs are only ever added, so removed papers stay referenced.
+     * Also logs the changes of the conference since the last view, see update().
+     */
+    static final class Ids {
+
+        private final Map<Paper, Integer> myPaperIds = new IdentityHashMap<>();
+        private final List<Paper> myPapers = new ArrayList<>();
+        private final Map<UserProfile, Integer> myUserIds = new HashMap<>();
+        private final List<UserProfile> myUsers = new ArrayList<>();
+        /** Paper IDs to 1 if the paper was submitted, 0 if it was removed. */
+        private EdgeList myPaperChanges = new EdgeList();
+        private EdgeList myReviewerChanges = new EdgeList();
+        private EdgeList myChairChanges = new EdgeList();
+
+        /**
+         * Logs that thePaper was submitted, or removed if not theSubmitted.
+         */
+        void paperChanged(final Paper thePaper, final boolean theSubmitted) {
+            myPaperChanges.add(paperId(thePaper, true), theSubmitted ? 1 : 0);
+        }
+
+        /**
+         * Logs that theReviewer was assigned thePaper.
+         */
+        void reviewerAssigned(final UserProfile theReviewer, final Paper thePaper) {
+            myReviewerChanges.add(userId(theReviewer, true), paperId(thePaper, true));
+        }
+
+        /**
+         * Logs that theChair was assigned thePaper.
+         */
+        void chairAssigned(final UserProfile theChair, final Paper thePaper) {
+            myChairChanges.add(userId(theChair, true), paperId(thePaper, true));
+        }
+
+        private void clearChanges() {
+            myPaperChanges = new EdgeList();
+            myReviewerChanges = new EdgeList();
+            myChairChanges = new EdgeList();
+        }
+
+        private int paperId(final Paper thePaper) {
+            return paperId(thePaper, false);
+        }
+
+        private int paperId(final Paper thePaper, final boolean theRegister) {
+            final Integer id = myPaperIds.get(thePaper);
+            if (id != null) {
+                return id;
+            }
+            if (!theRegister) {
+                return NO_ID;
+            }
+            myPaperIds.put(thePaper, myPapers.size());
+            myPapers.add(thePaper);
+            return myPapers.size() - 1;
+        }
+
+        private int userId(final UserProfile theUser) {
+            return userId(theUser, false);
+        }
+
+        private int userId(final UserProfile theUser, final boolean theRegister) {
+            final Integer id = myUserIds.get(theUser);
+            if (id != null) {
+                return id;
+            }
+            if (!theRegister) {
+                return NO_ID;
+            }
+            myUserIds.put(theUser, myUsers.size());
+            myUsers.add(theUser);
+            return myUsers.size() - 1;
+        }
+    }
+
+    /**
+     * The edges of a relation while it is built.
+     */
+    private static final class EdgeList {
+
+        private int[] mySources = new int[16];
+        private int[] myTargets = new int[16];
+        private int mySize;
+
+        private void add(final int theSource, final int theTarget) {
+            if (mySize == mySources.length) {
+                mySources = Arrays.copyOf(mySources, mySize * 2);
+                myTargets = Arrays.copyOf(myTargets, mySize * 2);
+            }
+            mySources[mySize] = theSource;
+            myTargets[mySize] = theTarget;
+            mySize++;
+        }
+
+        private EdgeList transpose() {
+            final EdgeList result = new EdgeList();
+            result.mySources = myTargets;
+            result.myTargets = mySources;
+            result.mySize = mySize;
+            return result;
+        }
+
+        /**
+         * Sorts the edges into rows with a counting sort, keeping the order of the edges within a row.
+         */
+        private Adjacency toAdjacency(final int theRowCount) {
+            final int[] offsets = new int[theRowCount + 1];
+            for (int i = 0; i < mySize; i++) {
+                offsets[mySources[i] + 1]++;
+            }
+            for (int row = 0; row < theRowCount; row++) {
+                offsets[row + 1] += offsets[row];
+            }
+
+            final int[] next = Arrays.copyOf(offsets, theRowCount);
+            final int[] targets = new int[mySize];
+            for (int i = 0; i < mySize; i++) {
+                targets[next[mySources[i]]++] = myTargets[i];
+            }
+            return new Adjacency(Arrays.copyOf(offsets, theRowCount), Arrays.copyOfRange(offsets, 1, theRowCount + 1),
+                    targets, mySize, mySize);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package model;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps author names to dense integer IDs so authorship indexes and conflict checks compare ints instead of Strings.
+ *
+ * Names are normalized before lookup: Unicode NFKC, surrounding whitespace trimmed, inner whitespace collapsed to one
+ * space and lower cased. So "Jane  Doe" and "jane doe" are the same author. IDs start at zero and are handed out in
+ * order of first use; they live as long as the process and are not part of the snapshot, the model rebuilds them when
+ * it is loaded. Safe for concurrent use.
+ *
+ * @version 10/19/2026
+ */
+public final class AuthorDictionary {
+
+    /** Returned by lookup() for a name which has no ID. */
+    public static final int NO_ID = -1;
+
+    /** Maps the names as given to their IDs, so repeated lookups skip the normalization. */
+    private final ConcurrentHashMap<String, Integer> myRawIds = new ConcurrentHashMap<>();
+
+    /** Maps the normalized names to their IDs. */
+    private final ConcurrentHashMap<String, Integer> myIds = new ConcurrentHashMap<>();
+
+    /** The first spelling seen of every ID. */
+    private volatile String[] myNames = new String[64];
+
+    private int mySize;
+
+    /**
+     * @param theName a name, non-null.
+     * @return the normalized form of theName.
+     */
+    public static String normalize(final String theName) {
+        final String composed = Normalizer.normalize(theName, Normalizer.Form.NFKC);
+        final StringBuilder result = new StringBuilder(composed.length());
+        boolean space = false;
+
+        for (int i = 0; i < composed.length(); i++) {
+            final char c = composed.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                space = result.length() > 0;
+            } else {
+                if (space) {
+                    result.append(' ');
+                    space = false;
+                }
+                result.append(c);
+            }
+        }
+
+        return result.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the ID of theName, assigning the next ID if the normalized name is new.
+     * @param theName the name of an author, non-null.
+     * @return the ID of theName.
+     */
+    public int idOf(final String theName) {
+        final Integer raw = myRawIds.get(theName);
+        if (raw != null) {
+            return raw;
+        }
+
+        final String key = normalize(theName);
+        Integer id = myIds.get(key);
+        if (id == null) {
+            synchronized (this) {
+                id = myIds.get(key);
+                if (id == null) {
+                    id = mySize;
+                    String[] names = myNames;
+                    if (id == names.length) {
+                        names = Arrays.copyOf(names, names.length * 2);
+                    }
+                    names[id] = NamePool.intern(theName);
+                    myNames = names;
+                    mySize++;
+                    myIds.put(key, id);
+                }
+            }
+        }
+
+        myRawIds.putIfAbsent(NamePool.intern(theName), id);
+        return id;
+    }
+
+    /**
+     * Gets the ID of theName without assigning one.
+     * @param theName the name of an author, may be null.
+     * @return the ID of theName, or NO_ID if no author with that normalized name is known.
+     */
+    public int lookup(final String theName) {
+        if (theName == null) {
+            return NO_ID;
+        }
+        final Integer raw = myRawIds.get(theName);
+        if (raw != null) {
+            return raw;
+        }
+        final Integer id = myIds.get(normalize(theName));
+        return id == null ? NO_ID : id;
+    }
+
+    /**
+     * @param theId an ID returned by idOf().
+     * @return the first spelling of the name with theId.
+     * @throws IllegalArgumentException if theId was not handed out.
+     */
+    public String getName(final int theId) {
+        final String[] names = myNames;
+        if (theId < 0 || theId >= names.length || names[theId] == null) {
+            throw new IllegalArgumentException("Unknown author ID " + theId);
+        }
+        return names[theId];
+    }
+
+    /**
+     * @return the amount of IDs handed out; every ID is less than this.
+     */
+    public synchronized int size() {
+        return mySize;
+    }
+}
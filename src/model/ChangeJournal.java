@@ -0,0 +1,324 @@
+package model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An append only log of the changes made to a ConferenceSystem, which a JournalFollower replays to keep a read only
+ * copy of the model, e.g. in a second process on the same host.
+ *
+ * Install it with ConferenceSystem.setJournal(), which first writes the whole current model. From then on the
+ * journal records the users and conferences added to the system and the changes made to those conferences through
+ * their role utilities and deadline setters, after they succeeded. Changes made to conferences which are not in the
+ * system, or to papers directly, are not recorded.
+ *
+ * Every entry is written with a single write of
+ * <pre>
+ * int length (of the rest) | long sequence | long time | byte type | fields of the type
+ * </pre>
+ * so a follower reading while the entry is written sees a short entry and waits for the rest. Users are written as
+ * their UID and name, papers as their submitter and their index in the papers the submitter has in the conference,
+ * or -1 if it is not submitted there. The time is the clock of the DeadlineScheduler, which followers compare with
+ * their own to report the replication lag.
+ *
+ * A change is recorded after it is made, so a failed write does not fail it: the journal is broken from then on,
+ * see isBroken(), and writes nothing more. Followers stop at the last complete entry; set a new journal to go on.
+ *
+ * @version 10/19/2026
+ */
+public final class ChangeJournal implements Closeable {
+
+    private static final LongAdder ENTRIES = MetricsRegistry.getInstance().counter("ChangeJournal.entries");
+    private static final LongAdder BYTES = MetricsRegistry.getInstance().counter("ChangeJournal.bytes");
+    private static final LongAdder WRITE_ERRORS = MetricsRegistry.getInstance().counter("ChangeJournal.writeErrors");
+
+    /** The size of an entry header after its length. */
+    static final int HEADER_BYTES = Long.BYTES * 2 + 1;
+
+    /**
+     * The kinds of entries, written as their ordinal.
+     */
+    enum Type {
+        /** All conferences and users were dropped, the state which follows replaces them. */
+        CLEAR,
+        /** A user was added to the system: user. */
+        USER,
+        /** A conference was added to the system: name, length and bytes of the serialized Conference. */
+        CONFERENCE,
+        /** The submission deadline was moved: conference, millis. */
+        SUBMISSION_DEADLINE,
+        /** The review deadline was moved: conference, millis or -1 for none. */
+        REVIEW_DEADLINE,
+        /** A paper was submitted: conference, submitter, title, author count, authors, file, submitted millis. */
+        PAPER,
+        /** A paper was withdrawn: conference, submitter, index before it was withdrawn. */
+        REMOVE_PAPER,
+        /** A role was given: conference, user, role. */
+        ROLE,
+        /** A paper was assigned to a subprogram chair: conference, chair, paper. */
+        SUBPROGRAM_CHAIR,
+        /** A paper was assigned to a reviewer: conference, reviewer, paper. */
+        REVIEWER,
+        /** A review was sent: conference, reviewer or none, paper, file or none, score, millis. */
+        REVIEW,
+        /** A recommendation was made: conference, subprogram chair or none, paper, file or none, score, millis. */
+        RECOMMENDATION
+    }
+
+    /**
+     * Writes the fields of one entry.
+     */
+    @FunctionalInterface
+    private interface Fields {
+        void write(DataOutputStream theOut) throws IOException;
+    }
+
+    private final Path myPath;
+    private final FileChannel myChannel;
+    private final ByteArrayOutputStream myBuffer = new ByteArrayOutputStream(256);
+    private final DataOutputStream myOut = new DataOutputStream(myBuffer);
+    private long mySequence;
+    private volatile boolean myBroken;
+
+    private ChangeJournal(final Path thePath, final FileChannel theChannel) {
+        myPath = thePath;
+        myChannel = theChannel;
+    }
+
+    /**
+     * Opens a new journal, replacing any file at thePath.
+     * @param thePath the (non-null) file to write the journal to.
+     * @return the open journal.
+     * @throws IOException if the file can not be created.
+     */
+    public static ChangeJournal create(final Path thePath) throws IOException {
+        return new ChangeJournal(thePath, FileChannel.open(thePath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+    }
+
+    /**
+     * @return the file the journal is written to.
+     */
+    public Path getPath() {
+        return myPath;
+    }
+
+    /**
+     * @return the amount of entries written.
+     */
+    public synchronized long getSequence() {
+        return mySequence;
+    }
+
+    /**
+     * Forces the written entries to the storage device. Followers see every entry once it is written, without this.
+     * @throws IOException if the file can not be synced.
+     */
+    public void sync() throws IOException {
+        myChannel.force(false);
+    }
+
+    /**
+     * @return true iff an entry could not be written, after which nothing more is; see ChangeJournal.
+     */
+    public boolean isBroken() {
+        return myBroken;
+    }
+
+    @Override
+    public void close() throws IOException {
+        myChannel.close();
+    }
+
+    /**
+     * Appends one entry with a single write, unless the journal is broken. If the entry can not be written the
+     * journal is broken and the error is counted in "ChangeJournal.writeErrors"; the change it records stands.
+     */
+    private synchronized void write(final Type theType, final Fields theFields) {
+        if (myBroken) {
+            return;
+        }
+        try {
+            myBuffer.reset();
+            myOut.writeInt(0);
+            myOut.writeLong(mySequence + 1);
+            myOut.writeLong(DeadlineScheduler.getInstance().currentTimeMillis());
+            myOut.writeByte(theType.ordinal());
+            theFields.write(myOut);
+            myOut.flush();
+            final ByteBuffer entry = ByteBuffer.wrap(myBuffer.toByteArray());
+            entry.putInt(0, entry.remaining() - Integer.BYTES);
+            while (entry.hasRemaining()) {
+                myChannel.write(entry);
+            }
+            mySequence++;
+            ENTRIES.increment();
+            BYTES.add(entry.capacity());
+        } catch (IOException | RuntimeException e) {
+            broken(e);
+        }
+    }
+
+    private void broken(final Exception theError) {
+        myBroken = true;
+        WRITE_ERRORS.increment();
+        theError.printStackTrace();
+    }
+
+    /**
+     * Writes the whole model of theSystem: a CLEAR entry followed by its users and conferences.
+     */
+    void writeState(final List<UserProfile> theUsers, final List<Conference> theConferences) {
+        write(Type.CLEAR, out -> { });
+        for (final UserProfile user : theUsers) {
+            userAdded(user);
+        }
+        for (final Conference conference : theConferences) {
+            conferenceAdded(conference);
+        }
+    }
+
+    void userAdded(final UserProfile theUser) {
+        write(Type.USER, out -> writeUser(out, theUser));
+    }
+
+    void conferenceAdded(final Conference theConference) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(theConference);
+        } catch (IOException e) {
+            synchronized (this) {
+                if (!myBroken) {
+                    broken(e);
+                }
+            }
+            return;
+        }
+        write(Type.CONFERENCE, out -> {
+            out.writeUTF(theConference.getInfo().getName());
+            out.writeInt(bytes.size());
+            bytes.writeTo(out);
+        });
+    }
+
+    /*
+     * The records of the changes of one conference, which do nothing unless theData has a journal.
+     */
+
+    static void deadlinesChanged(final ConferenceData theData, final boolean theSubmission) {
+        final ChangeJournal journal = theData.getJournal();
+        if (journal != null) {
+            final long millis = theSubmission ? theData.getSubmissionDate().getTime()
+                    : theData.getReviewDeadline() == null ? -1 : theData.getReviewDeadline().getTime();
+            journal.write(theSubmission ? Type.SUBMISSION_DEADLINE : Type.REVIEW_DEADLINE, out -> {
+                out.writeUTF(theData.getName());
+                out.writeLong(millis);
+            });
+        }
+    }
+
+    static void paperAdded(final ConferenceData theData, final UserProfile theSubmitter, final Paper thePaper) {
+        final ChangeJournal journal = theData.getJournal();
+        if (journal != null) {
+            journal.write(Type.PAPER, out -> {
+                out.writeUTF(theData.getName());
+                writeUser(out, theSubmitter);
+                out.writeUTF(thePaper.getTitle());
+                out.writeInt(thePaper.getAuthors().size());
+                for (final String author : thePaper.getAuthors()) {
+                    out.writeUTF(author);
+                }
+                out.writeUTF(thePaper.getPaperFile().getPath());
+                out.writeLong(thePaper.getSubmitMillis());
+            });
+        }
+    }
+
+    /**
+     * @param theIndex the index thePaper had in the papers of theSubmitter before it was removed.
+     */
+    static void paperRemoved(final ConferenceData theData, final UserProfile theSubmitter, final int theIndex) {
+        final ChangeJournal journal = theData.getJournal();
+        if (journal != null) {
+            journal.write(Type.REMOVE_PAPER, out -> {
+                out.writeUTF(theData.getName());
+                writeUser(out, theSubmitter);
+                out.writeInt(theIndex);
+            });
+        }
+    }
+
+    static void roleAdded(final ConferenceData theData, final UserProfile theUser, final String theRole) {
+        final ChangeJournal journal = theData.getJournal();
+        if (journal != null) {
+            journal.write(Type.ROLE, out -> {
+                out.writeUTF(theData.getName());
+                writeUser(out, theUser);
+                out.writeUTF(theRole);
+            });
+        }
+    }
+
+    static void paperAssigned(final ConferenceData theData, final boolean theChair, final UserProfile theUser,
+            final Paper thePaper) {
+        final ChangeJournal journal = theData.getJournal();
+        if (journal != null) {
+            journal.write(theChair ? Type.SUBPROGRAM_CHAIR : Type.REVIEWER, out -> {
+                out.writeUTF(theData.getName());
+                writeUser(out, theUser);
+                writePaper(out, theData, thePaper);
+            });
+        }
+    }
+
+    static void reviewAdded(final ConferenceData theData, final boolean theRecommendation, final Paper thePaper,
+            final Review theReview) {
+        final ChangeJournal journal = theData == null ? null : theData.getJournal();
+        if (journal != null) {
+            journal.write(theRecommendation ? Type.RECOMMENDATION : Type.REVIEW, out -> {
+                out.writeUTF(theData.getName());
+                out.writeBoolean(theReview.reviewer != null);
+                if (theReview.reviewer != null) {
+                    writeUser(out, theReview.reviewer);
+                }
+                writePaper(out, theData, thePaper);
+                out.writeBoolean(theReview.review != null);
+                if (theReview.review != null) {
+                    out.writeUTF(theReview.review.getPath());
+                }
+                out.writeInt(theReview.score);
+                out.writeLong(theReview.time);
+            });
+        }
+    }
+
+    private static void writeUser(final DataOutputStream theOut, final UserProfile theUser) throws IOException {
+        theOut.writeUTF(theUser.getUID());
+        theOut.writeUTF(theUser.getName());
+    }
+
+    /**
+     * Writes the submitter of thePaper and its index in the papers the submitter has in theData. Titles are not
+     * unique, the index is: a follower holds the same lists of papers, in the same order, at every entry.
+     */
+    private static void writePaper(final DataOutputStream theOut, final ConferenceData theData,
+            final Paper thePaper) throws IOException {
+        final UserProfile submitter = thePaper.getSubmitterUserProfile();
+        writeUser(theOut, submitter);
+        final List<Paper> papers = theData.getPapersSubmittedBy(submitter);
+        int index = papers.size() - 1;
+        while (index >= 0 && papers.get(index) != thePaper) {
+            index--;
+        }
+        theOut.writeInt(index);
+    }
+}
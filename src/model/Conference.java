@@ -1,5 +1,7 @@
 package model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Date;
 import java.util.Objects;
@@ -34,7 +36,11 @@ public class Conference implements Serializable{
     private final UserUtilities myUserRole;
     private final SubprogramUtilities mySubprogramRole;
     private final DirectorUtilities myDirectorRole;
-    private final ReviewerUtilities myReviewerRole;
+    /**
+     * Not final so that snapshots saved before ReviewerUtilities kept
+     * its ConferenceData can be fixed up in readObject().
+     */
+    private ReviewerUtilities myReviewerRole;
     
     private Conference(
     		final String theConferenceName,
@@ -98,6 +104,14 @@ public class Conference implements Serializable{
     	return myInfo;
     }
     
+    /**
+     * {@link ConferenceInfoCache}
+     * @return a ConferenceInfo Object which caches the queries screens repeat.
+     */
+    public ConferenceInfo getCachedInfo(){
+    	return myInfo.getCachedInfo();
+    }
+    
     /**
      * A getter method for associated UserUtilities Object.
      * {@link UserUtilities}
@@ -132,6 +146,17 @@ public class Conference implements Serializable{
         return myReviewerRole;
     }
     
+    /**
+     * Reads a Conference, replacing a ReviewerUtilities from an older snapshot
+     * which does not know its ConferenceData.
+     */
+    private void readObject(final ObjectInputStream theStream) throws IOException, ClassNotFoundException {
+        theStream.defaultReadObject();
+        if (myReviewerRole == null || !myReviewerRole.hasConferenceData()) {
+            myReviewerRole = new ReviewerUtilities(myInfo);
+        }
+    }
+    
     @Override
     public String toString() {
         return myInfo.getName();
@@ -1,15 +1,21 @@
 package model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 
 /**
  * A class for specifically holding all the Data related to a Conference.
@@ -25,7 +31,12 @@ public class ConferenceData implements ConferenceInfo, Serializable{
 	 */
 	private static final long serialVersionUID = 3694105038281388854L;
 	private final String myConferenceName;
-    private final Date myPaperSubmissionDeadline;
+    private Date myPaperSubmissionDeadline;
+    /**
+     * When the recommendation phase starts, null if it never does.
+     * Snapshots from before review deadlines have none.
+     */
+    private Date myReviewDeadline;
     private final int myPaperSubmissionLimit;
     private final int myReviewerAssignmentLimit;
     /**
@@ -33,9 +44,10 @@ public class ConferenceData implements ConferenceInfo, Serializable{
      */
     private final Map<UserProfile, List<Paper>> myPaperSubmissionMap;
     /**
-     * Maps an Author/Coauthor's name to a Paper.
+     * Maps an Author/Coauthor's ID in the author dictionary to a Paper.
+     * Not serialized, the IDs are rebuilt from the papers when the conference is loaded.
      */
-    private final Map<String, List<Paper>> myPaperAuthorshipMap;
+    private transient IntObjectMap<List<Paper>> myPaperAuthorshipMap;
     /**
      * Maps a Reviewer's UserProfile to a Paper.
      */
@@ -48,18 +60,57 @@ public class ConferenceData implements ConferenceInfo, Serializable{
      * Maps a User's UserProfile to a Role. 
      */
     private final Map<UserProfile, List<String>> myUserRoleMap;
+    /**
+     * The IDs of the AssignmentGraph and the changes since its last view, null until the first view.
+     */
+    private transient AssignmentGraph.Ids myGraphIds;
+    private transient AssignmentGraph myAssignmentGraph;
+    /**
+     * The rankings of the papers by review statistics, built on first use and then kept up to date.
+     */
+    private transient Map<PaperRanking.Criterion, PaperRanking> myRankings;
+    /**
+     * The current phase, kept by the DeadlineScheduler while this Conference is in a ConferenceSystem, else null.
+     */
+    private transient volatile ConferencePhase myPhase;
+    /**
+     * The submitted papers by state, with counters for this Conference and each subprogram chair.
+     */
+    private transient PaperStateIndex myStateIndex;
+    /**
+     * The cache of the queries of this Conference, created on first use.
+     */
+    private transient volatile ConferenceInfoCache myCache;
+    /**
+     * Every submitted paper in the order of submission and every reviewer in the order they got the role,
+     * for the allocation free reads. Every list of papers in the maps above is random access as well.
+     */
+    private transient List<Paper> myAllPapers;
+    private transient List<UserProfile> myReviewers;
+    /**
+     * Maps a Paper to its reviewers, the inverse of myReviewerAssignmentMap.
+     */
+    private transient Map<Paper, List<UserProfile>> myPaperReviewers;
+    /**
+     * The journal of the ConferenceSystem this Conference is in, null if its changes are not recorded.
+     */
+    private transient ChangeJournal myJournal;
     
     protected ConferenceData(final String theConferenceName,
             final Date thePaperDeadline,
             final int thePaperSubmissionLimit,
             final int thePaperAssignmentLimit) {
 		myPaperSubmissionMap = new HashMap<>();
-		myPaperAuthorshipMap = new HashMap<>();
+		myPaperAuthorshipMap = new IntObjectMap<>();
 		myReviewerAssignmentMap = new HashMap<>();
 		mySubprogramAssignmentMap = new HashMap<>();
 		myUserRoleMap = new HashMap<>();
+		myStateIndex = new PaperStateIndex();
+		myAllPapers = new ArrayList<>();
+		myReviewers = new ArrayList<>();
+		myPaperReviewers = new IdentityHashMap<>();
 		myConferenceName = theConferenceName;
-		myPaperSubmissionDeadline = thePaperDeadline;
+		myPaperSubmissionDeadline = new Date(thePaperDeadline.getTime());
 		myPaperSubmissionLimit = thePaperSubmissionLimit;
 		myReviewerAssignmentLimit = thePaperAssignmentLimit;
     }
@@ -73,9 +124,108 @@ public class ConferenceData implements ConferenceInfo, Serializable{
 		return myConferenceName;
 	}
 	
+	/**
+	 * Gets the submission deadline. Use setSubmissionDate() to change it.
+	 * @return a copy of the submission deadline.
+	 */
 	@Override
 	public Date getSubmissionDate() {
-		return myPaperSubmissionDeadline;
+		return new Date(myPaperSubmissionDeadline.getTime());
+	}
+	
+	/**
+	 * Moves the submission deadline and updates the phase of this Conference.
+	 * @param theDeadline the (non-null) new deadline; it is copied.
+	 * @throws IllegalArgumentException if theDeadline is not before the review deadline.
+	 */
+	public void setSubmissionDate(final Date theDeadline) {
+		if (myReviewDeadline != null && !theDeadline.before(myReviewDeadline)) {
+			throw new IllegalArgumentException("Submission deadline must be before the review deadline.");
+		}
+		myPaperSubmissionDeadline = new Date(theDeadline.getTime());
+		DeadlineScheduler.getInstance().reschedule(this);
+		ChangeJournal.deadlinesChanged(this, true);
+	}
+	
+	@Override
+	public Date getReviewDeadline() {
+		return myReviewDeadline == null ? null : new Date(myReviewDeadline.getTime());
+	}
+	
+	/**
+	 * Sets when the recommendation phase starts and updates the phase of this Conference.
+	 * @param theDeadline the new deadline, it is copied; null for none.
+	 * @throws IllegalArgumentException if theDeadline is not after the submission deadline.
+	 */
+	public void setReviewDeadline(final Date theDeadline) {
+		if (theDeadline != null && !theDeadline.after(myPaperSubmissionDeadline)) {
+			throw new IllegalArgumentException("Review deadline must be after the submission deadline.");
+		}
+		myReviewDeadline = theDeadline == null ? null : new Date(theDeadline.getTime());
+		DeadlineScheduler.getInstance().reschedule(this);
+		ChangeJournal.deadlinesChanged(this, false);
+	}
+	
+	/**
+	 * Gets the current phase: the one kept by the DeadlineScheduler while this Conference is in a
+	 * ConferenceSystem, else the phase at the time of the clock of the scheduler.
+	 */
+	@Override
+	public ConferencePhase getPhase() {
+		final ConferencePhase phase = myPhase;
+		return phase != null ? phase : phaseAt(DeadlineScheduler.getInstance().currentTimeMillis());
+	}
+	
+	@Override
+	public boolean isSubmissionOpen() {
+		return getPhase() == ConferencePhase.SUBMISSION;
+	}
+	
+	/**
+	 * @return the phase of this Conference at theTime in milliseconds.
+	 */
+	ConferencePhase phaseAt(final long theTime) {
+		return ConferencePhase.at(theTime, myPaperSubmissionDeadline.getTime(), reviewDeadlineMillis());
+	}
+	
+	/**
+	 * @return the first deadline of this Conference after theTime in milliseconds, Long.MAX_VALUE if none is.
+	 */
+	long nextDeadlineAfter(final long theTime) {
+		final long submission = myPaperSubmissionDeadline.getTime();
+		if (theTime < submission) {
+			return submission;
+		}
+		final long review = reviewDeadlineMillis();
+		return theTime < review ? review : Long.MAX_VALUE;
+	}
+	
+	/**
+	 * Sets the current phase; only the DeadlineScheduler does.
+	 * @return the phase before.
+	 */
+	ConferencePhase setPhase(final ConferencePhase thePhase) {
+		final ConferencePhase old = myPhase;
+		myPhase = thePhase;
+		return old;
+	}
+	
+	private long reviewDeadlineMillis() {
+		return myReviewDeadline == null ? Long.MAX_VALUE : myReviewDeadline.getTime();
+	}
+	
+	/**
+	 * @return the amount of papers an author may submit to this Conference.
+	 */
+	public int getPaperSubmissionLimit() {
+		return myPaperSubmissionLimit;
+	}
+	
+	/**
+	 * @return the amount of papers a reviewer may be assigned in this Conference.
+	 */
+	public int getReviewerAssignmentLimit() {
+		return myReviewerAssignmentLimit;
 	}
 	
 	/**
@@ -86,13 +236,7 @@ public class ConferenceData implements ConferenceInfo, Serializable{
 	 */
 	@Override
 	public List<String> getUserRoles(final UserProfile theUserProfile) {
-		final List<String> userRoles;
-    	if(myUserRoleMap.containsKey(theUserProfile))
-    		userRoles = myUserRoleMap.get(theUserProfile);
-    	else{
-    		userRoles = new ArrayList<>();
-    	}
-        return userRoles;
+		return orEmpty(myUserRoleMap.get(theUserProfile));
 	}
 	
     /**
@@ -104,13 +248,7 @@ public class ConferenceData implements ConferenceInfo, Serializable{
      * @author Dimitar Kumanov 
      */
     public List<Paper> getPapersSubmittedBy(final UserProfile theUserProfile) {
-    	final List<Paper> submittedPapers;
-    	if(myPaperSubmissionMap.containsKey(theUserProfile))
-    		submittedPapers = myPaperSubmissionMap.get(theUserProfile);
-    	else{
-    		submittedPapers = new ArrayList<>();
-    	}
-        return submittedPapers;
+    	return orEmpty(myPaperSubmissionMap.get(theUserProfile));
     }
     
     /**
@@ -123,13 +261,27 @@ public class ConferenceData implements ConferenceInfo, Serializable{
      * @author Dimitar Kumanov 
      */
     public List<Paper> getPapersAuthoredBy(final String theAuthorName) {
-    	final List<Paper> authoredPapers;
-    	if(myPaperAuthorshipMap.containsKey(theAuthorName))
-    		authoredPapers = myPaperAuthorshipMap.get(theAuthorName);
-    	else{
-    		authoredPapers = new ArrayList<>();
-    	}
-        return authoredPapers;
+    	return orEmpty(authoredBy(theAuthorName));
+    }
+    
+    /**
+     * A method to acquire all papers authored or
+     * coauthored by the author with theAuthorId.
+     * @param theAuthorId The ID of the Author in the author dictionary.
+     * @return A list of all papers in this conference authored by the author.
+     * Returns an empty list if no papers found.
+     */
+    public List<Paper> getPapersAuthoredBy(final int theAuthorId) {
+    	return orEmpty(myPaperAuthorshipMap.get(theAuthorId));
+    }
+    
+    /**
+     * Counts the papers authored or coauthored by the author with theAuthorId.
+     * @param theAuthorId The ID of the Author in the author dictionary.
+     * @return the amount of papers in this conference authored by the author.
+     */
+    public int getPaperCountAuthoredBy(final int theAuthorId) {
+    	return count(myPaperAuthorshipMap.get(theAuthorId));
     }
     
     /**
@@ -143,14 +295,7 @@ public class ConferenceData implements ConferenceInfo, Serializable{
      * @author Dimitar Kumanov
      */
     public List<Paper> getPapersAssignedToReviewer(final UserProfile theReviewerProfile) {
-    	
-    	final List<Paper> papersAssignedForReview;
-    	if(myReviewerAssignmentMap.containsKey(theReviewerProfile))
-    		papersAssignedForReview = myReviewerAssignmentMap.get(theReviewerProfile);
-    	else{
-    		papersAssignedForReview = new ArrayList<>();
-    	}
-        return papersAssignedForReview;
+    	return orEmpty(myReviewerAssignmentMap.get(theReviewerProfile));
     }
     
     /**
@@ -163,8 +308,8 @@ public class ConferenceData implements ConferenceInfo, Serializable{
      */
     public boolean isPaperInAuthorSubmissionLimit(final Paper thePaper){
     	boolean result = true;
-    	for(final String currentAuthor: thePaper.getAuthors()){
-    		if(getPapersAuthoredBy(currentAuthor).size() >= myPaperSubmissionLimit){
+    	for(final int currentAuthor: thePaper.authorIds()){
+    		if(count(myPaperAuthorshipMap.get(currentAuthor)) >= myPaperSubmissionLimit){
     			result = false;
     			break;
     		}
@@ -185,7 +330,7 @@ public class ConferenceData implements ConferenceInfo, Serializable{
      * @author Dimitar Kumanov
      */
     public boolean isPaperInSubmissionDeadline(final Paper thePaper){
-    	return thePaper.getSubmitDate().before(myPaperSubmissionDeadline);
+    	return thePaper.getSubmitMillis() < myPaperSubmissionDeadline.getTime();
     }
     
     /**
@@ -196,13 +341,14 @@ public class ConferenceData implements ConferenceInfo, Serializable{
      * @author Dimitar Kumanov
      */
     public boolean isReviewerInAssignmentLimit(final UserProfile theReviewerProfile){
-    	return getPapersAssignedToReviewer(theReviewerProfile).size() < myReviewerAssignmentLimit;
+    	return getPaperCountAssignedToReviewer(theReviewerProfile) < myReviewerAssignmentLimit;
     }
     
     /**
      * Checks whether any of the authors of thePaper  match with theReviewerName.
      * @param theReviewerName The name of the Reviewer to check for.
      * @param thePaper the Paper to check for
+     * Names are compared after normalization, see AuthorDictionary.
      * @return true iff no author of thePaper matches theReviewerName
      * @author Dimitar Kumanov
      */
@@ -210,15 +356,7 @@ public class ConferenceData implements ConferenceInfo, Serializable{
     		final String theReviewerName,
     		final Paper thePaper
     		){
-    	boolean result = false;
-    	
-    	for(final String currentAuthor: thePaper.getAuthors()){
-    		if(currentAuthor.equals(theReviewerName)){
-    			result = true;
-    			break;
-    		}
-    	}
-    	return result;
+    	return thePaper.isAuthoredBy(theReviewerName);
     }
     @Override
 	public boolean isUserAuthor(final UserProfile theUserProfile) {
@@ -272,6 +410,10 @@ public class ConferenceData implements ConferenceInfo, Serializable{
     	
     	if(!myUserRoleMap.get(theUserProfile).contains(theUserRole)){
     		myUserRoleMap.get(theUserProfile).add(theUserRole);
+    		if(Conference.REVIEW_ROLE.equals(theUserRole)){
+    			myReviewers.add(theUserProfile);
+    			invalidate(ConferenceInfoCache.Query.REVIEWERS, null);
+    		}
     	}
     }
 	/**
@@ -283,7 +425,7 @@ public class ConferenceData implements ConferenceInfo, Serializable{
 	/**
 	 * @return the myPaperAuthorshipMap
 	 */
-	protected Map<String, List<Paper>> getPaperAuthorshipMap() {
+	protected IntObjectMap<List<Paper>> getPaperAuthorshipMap() {
 		return myPaperAuthorshipMap;
 	}
 	
@@ -311,14 +453,7 @@ public class ConferenceData implements ConferenceInfo, Serializable{
 	 */
 	@Override
 	public List<UserProfile> getReviewers() {
-		final List<UserProfile> reviewerList = new ArrayList<>();
-		for(final UserProfile currentUserProfile: myUserRoleMap.keySet()){
-			if(myUserRoleMap.get(currentUserProfile).contains(Conference.REVIEW_ROLE)){
-				reviewerList.add(currentUserProfile);
-			}
-		}
-		
-		return reviewerList;
+		return new ArrayList<>(myReviewers);
 	}
 
 	/**
@@ -326,11 +461,7 @@ public class ConferenceData implements ConferenceInfo, Serializable{
 	 */
 	@Override
 	public List<Paper> getAllPapers() {
-		final List<Paper> paperList = new ArrayList<>();
-		for(final Entry<UserProfile, List<Paper>> currentUserPaperEntry: myPaperSubmissionMap.entrySet()) {
-			paperList.addAll(currentUserPaperEntry.getValue());
-		}
-		return paperList;
+		return new ArrayList<>(myAllPapers);
 	}
 
 	/**
@@ -361,29 +492,433 @@ public class ConferenceData implements ConferenceInfo, Serializable{
         
         List<Paper> papers = mySubprogramAssignmentMap.get(theSubProgramChair);
         if (papers == null) {
-            papers = new LinkedList<>();
+            papers = new ArrayList<>();
             addUserToRole(theSubProgramChair, Conference.PROGRAM_ROLE);
             mySubprogramAssignmentMap.put(theSubProgramChair, papers);
         }
         
         if (!papers.contains(p)) {
             papers.add(p);
+            graphChairAssigned(theSubProgramChair, p);
+            invalidate(ConferenceInfoCache.Query.SUBPROGRAM_CHAIR_PAPERS, theSubProgramChair);
         }
+        myStateIndex.chairAssigned(theSubProgramChair, p);
+        advancePaper(p, PaperState.ASSIGNED);
     }
-
     
-    public List<UserProfile> getReviewersForPaper(Paper p) {
-        List<UserProfile> result = new LinkedList<UserProfile>();
-        
-        
-        for (UserProfile reviewer : this.myReviewerAssignmentMap.keySet()) {
-            
-            if (myReviewerAssignmentMap.get(reviewer).contains(p) && !result.contains(reviewer)) {
-                result.add(reviewer);
+    /**
+     * Gets how many submitted papers are in theState, e.g. UNDER_REVIEW for the papers still waiting for reviews.
+     * Withdrawn papers are not counted.
+     * @param theState the (non-null) state.
+     * @return the amount of papers of this Conference in theState.
+     */
+    @Override
+    public int getPaperCount(final PaperState theState) {
+        return myStateIndex.count(Objects.requireNonNull(theState));
+    }
+    
+    /**
+     * Gets how many of the submitted papers assigned to theSubProgramChair are in theState.
+     * @param theSubProgramChair the subprogram chair.
+     * @param theState the (non-null) state.
+     * @return the amount of papers of theSubProgramChair in theState.
+     */
+    @Override
+    public int getPaperCount(final UserProfile theSubProgramChair, final PaperState theState) {
+        return myStateIndex.count(theSubProgramChair, Objects.requireNonNull(theState));
+    }
+    
+    /**
+     * Gets the submitted papers in theState.
+     * @param theState the (non-null) state.
+     * @return an unmodifiable live view of the papers in theState, in the order they got there.
+     */
+    @Override
+    public Set<Paper> getPapers(final PaperState theState) {
+        return myStateIndex.papers(Objects.requireNonNull(theState));
+    }
+    
+    @Override
+    public void forEachUserRole(final UserProfile theUserProfile, final Consumer<? super String> theAction) {
+        forEach(myUserRoleMap.get(theUserProfile), theAction);
+    }
+    
+    /**
+     * Visits every submitted paper in the order of submission.
+     */
+    @Override
+    public void forEachPaper(final Consumer<? super Paper> theAction) {
+        forEach(myAllPapers, theAction);
+    }
+    
+    @Override
+    public void forEachPaperSubmittedBy(final UserProfile theUserProfile, final Consumer<? super Paper> theAction) {
+        forEach(myPaperSubmissionMap.get(theUserProfile), theAction);
+    }
+    
+    @Override
+    public void forEachPaperAuthoredBy(final String theAuthorName, final Consumer<? super Paper> theAction) {
+        forEach(authoredBy(theAuthorName), theAction);
+    }
+    
+    @Override
+    public void forEachPaperAssignedToReviewer(final UserProfile theReviewerProfile,
+            final Consumer<? super Paper> theAction) {
+        forEach(myReviewerAssignmentMap.get(theReviewerProfile), theAction);
+    }
+    
+    @Override
+    public void forEachPaperAssignedToSubProgramChair(final UserProfile theSubProgramChair,
+            final Consumer<? super Paper> theAction) {
+        forEach(mySubprogramAssignmentMap.get(theSubProgramChair), theAction);
+    }
+    
+    /**
+     * Visits every reviewer in the order they got the role.
+     */
+    @Override
+    public void forEachReviewer(final Consumer<? super UserProfile> theAction) {
+        forEach(myReviewers, theAction);
+    }
+    
+    /**
+     * Visits every reviewer of thePaper.
+     */
+    @Override
+    public void forEachReviewerForPaper(final Paper thePaper, final Consumer<? super UserProfile> theAction) {
+        forEach(myPaperReviewers.get(thePaper), theAction);
+    }
+    
+    @Override
+    public int getPaperCount() {
+        return myAllPapers.size();
+    }
+    
+    @Override
+    public int getPaperCountSubmittedBy(final UserProfile theUserProfile) {
+        return count(myPaperSubmissionMap.get(theUserProfile));
+    }
+    
+    @Override
+    public int getPaperCountAuthoredBy(final String theAuthorName) {
+        return count(authoredBy(theAuthorName));
+    }
+    
+    @Override
+    public int getPaperCountAssignedToReviewer(final UserProfile theReviewerProfile) {
+        return count(myReviewerAssignmentMap.get(theReviewerProfile));
+    }
+    
+    @Override
+    public int getPaperCountAssignedToSubProgramChair(final UserProfile theSubProgramChair) {
+        return count(mySubprogramAssignmentMap.get(theSubProgramChair));
+    }
+    
+    @Override
+    public int getReviewerCount() {
+        return myReviewers.size();
+    }
+    
+    @Override
+    public int getReviewerCountForPaper(final Paper thePaper) {
+        return count(myPaperReviewers.get(thePaper));
+    }
+    
+    @Override
+    public Cursor<Paper> openPapers(final Cursor<Paper> theCursor) {
+        return theCursor.reset(myAllPapers);
+    }
+    
+    @Override
+    public Cursor<Paper> openPapersSubmittedBy(final UserProfile theUserProfile, final Cursor<Paper> theCursor) {
+        return theCursor.reset(myPaperSubmissionMap.get(theUserProfile));
+    }
+    
+    @Override
+    public Cursor<Paper> openPapersAuthoredBy(final String theAuthorName, final Cursor<Paper> theCursor) {
+        return theCursor.reset(authoredBy(theAuthorName));
+    }
+    
+    @Override
+    public Cursor<Paper> openPapersAssignedToReviewer(final UserProfile theReviewerProfile,
+            final Cursor<Paper> theCursor) {
+        return theCursor.reset(myReviewerAssignmentMap.get(theReviewerProfile));
+    }
+    
+    @Override
+    public Cursor<Paper> openPapersAssignedToSubProgramChair(final UserProfile theSubProgramChair,
+            final Cursor<Paper> theCursor) {
+        return theCursor.reset(mySubprogramAssignmentMap.get(theSubProgramChair));
+    }
+    
+    @Override
+    public Cursor<UserProfile> openReviewers(final Cursor<UserProfile> theCursor) {
+        return theCursor.reset(myReviewers);
+    }
+    
+    @Override
+    public Cursor<UserProfile> openReviewersForPaper(final Paper thePaper, final Cursor<UserProfile> theCursor) {
+        return theCursor.reset(myPaperReviewers.get(thePaper));
+    }
+    
+    /**
+     * @return the random access list of every submitted paper, in the order of submission; not a copy.
+     */
+    List<Paper> paperList() {
+        return myAllPapers;
+    }
+    
+    /**
+     * @return the papers of the author with theAuthorName, null if none.
+     */
+    private List<Paper> authoredBy(final String theAuthorName) {
+        return myPaperAuthorshipMap.get(ConferenceSystem.getAuthorDictionary().lookup(theAuthorName));
+    }
+    
+    /**
+     * Visits theItems, which are random access, by index so that no iterator is allocated.
+     */
+    private static <T> void forEach(final List<? extends T> theItems, final Consumer<? super T> theAction) {
+        Objects.requireNonNull(theAction);
+        if (theItems != null) {
+            for (int i = 0; i < theItems.size(); i++) {
+                theAction.accept(theItems.get(i));
             }
         }
-        
-        
-        return result;
+    }
+    
+    private static int count(final List<?> theItems) {
+        return theItems == null ? 0 : theItems.size();
+    }
+    
+    private static <T> List<T> orEmpty(final List<T> theItems) {
+        return theItems == null ? Collections.emptyList() : theItems;
+    }
+    
+    /**
+     * Gets the cache of the queries of this Conference, which is kept up to date by every mutation.
+     * @return the (non-null) ConferenceInfoCache of this Conference.
+     */
+    public synchronized ConferenceInfoCache getCachedInfo() {
+        if (myCache == null) {
+            myCache = new ConferenceInfoCache(this);
+        }
+        return myCache;
+    }
+    
+    /**
+     * Gets the primitive view of the papers, authors and assignments of this Conference.
+     * The view is cached and only the rows which changed since the last call are rebuilt, see AssignmentGraph.
+     * @return the (non-null) read-only AssignmentGraph of this Conference as it is now.
+     */
+    public synchronized AssignmentGraph getAssignmentGraph() {
+        if (myGraphIds == null) {
+            myGraphIds = new AssignmentGraph.Ids();
+        }
+        myAssignmentGraph = AssignmentGraph.update(myAssignmentGraph, myGraphIds, this);
+        return myAssignmentGraph;
+    }
+    
+    private synchronized void graphPaperChanged(final Paper thePaper, final boolean theSubmitted) {
+        if (myGraphIds != null) {
+            myGraphIds.paperChanged(thePaper, theSubmitted);
+        }
+    }
+    
+    private synchronized void graphReviewerAssigned(final UserProfile theReviewer, final Paper thePaper) {
+        if (myGraphIds != null) {
+            myGraphIds.reviewerAssigned(theReviewer, thePaper);
+        }
+    }
+    
+    private synchronized void graphChairAssigned(final UserProfile theChair, final Paper thePaper) {
+        if (myGraphIds != null) {
+            myGraphIds.chairAssigned(theChair, thePaper);
+        }
+    }
+    
+    /**
+     * Gets the papers of this Conference ranked by a review statistic.
+     * The ranking is built on first use and then updated as papers are added, removed and reviewed.
+     * @param theCriterion the (non-null) statistic to rank by.
+     * @return the (non-null) live ranking.
+     */
+    public synchronized PaperRanking getRanking(final PaperRanking.Criterion theCriterion) {
+        Objects.requireNonNull(theCriterion);
+        if (myRankings == null) {
+            myRankings = new EnumMap<>(PaperRanking.Criterion.class);
+        }
+        PaperRanking ranking = myRankings.get(theCriterion);
+        if (ranking == null) {
+            ranking = new PaperRanking(theCriterion);
+            for (final Paper paper : getAllPapers()) {
+                ranking.update(paper);
+            }
+            myRankings.put(theCriterion, ranking);
+        }
+        return ranking;
+    }
+    
+    /**
+     * @return the journal the changes of this Conference are recorded in, null if none.
+     */
+    ChangeJournal getJournal() {
+        return myJournal;
+    }
+    
+    /**
+     * @param theJournal the journal to record the changes of this Conference in, null for none.
+     */
+    void setJournal(final ChangeJournal theJournal) {
+        myJournal = theJournal;
+    }
+    
+    /**
+     * Records that thePaper was submitted to this Conference, for getAssignmentGraph(), getRanking(),
+     * getCachedInfo() and the paper states. A withdrawn paper is submitted again.
+     */
+    void paperAdded(final Paper thePaper) {
+        myAllPapers.add(thePaper);
+        graphPaperChanged(thePaper, true);
+        invalidate(ConferenceInfoCache.Query.ALL_PAPERS, null);
+        if (thePaper.conferenceData() == this) {
+            return;
+        }
+        thePaper.moveTo(PaperState.SUBMITTED);
+        thePaper.setConferenceData(this);
+        myStateIndex.add(thePaper);
+        if (myRankings != null) {
+            for (final PaperRanking ranking : myRankings.values()) {
+                ranking.update(thePaper);
+            }
+        }
+    }
+    
+    /**
+     * Records that thePaper was removed from this Conference, for getAssignmentGraph(), getRanking(),
+     * getCachedInfo() and the paper states. The paper is withdrawn.
+     */
+    void paperRemoved(final Paper thePaper) {
+        myAllPapers.remove(thePaper);
+        graphPaperChanged(thePaper, myAllPapers.contains(thePaper));
+        invalidate(ConferenceInfoCache.Query.ALL_PAPERS, null);
+        invalidate(ConferenceInfoCache.Query.REVIEWERS_FOR_PAPER, thePaper);
+        if (thePaper.conferenceData() == this) {
+            myStateIndex.remove(thePaper);
+            thePaper.setConferenceData(null);
+            thePaper.moveTo(PaperState.WITHDRAWN);
+        }
+        if (myRankings != null) {
+            for (final PaperRanking ranking : myRankings.values()) {
+                ranking.remove(thePaper);
+            }
+        }
+    }
+    
+    /**
+     * Records that thePaper got a new review, for getRanking().
+     */
+    void reviewAdded(final Paper thePaper) {
+        if (myRankings != null) {
+            for (final PaperRanking ranking : myRankings.values()) {
+                ranking.update(thePaper);
+            }
+        }
+    }
+    
+    /**
+     * Moves thePaper on to theTarget if it is submitted to this Conference; the state of papers submitted
+     * elsewhere is left alone.
+     */
+    void advancePaper(final Paper thePaper, final PaperState theTarget) {
+        if (thePaper.conferenceData() == this) {
+            thePaper.moveTo(theTarget);
+        }
+    }
+    
+    /**
+     * Records that thePaper moved from theOld to theNew state, for getPaperCount() and getPapers().
+     */
+    void paperStateChanged(final Paper thePaper, final PaperState theOld, final PaperState theNew) {
+        myStateIndex.move(thePaper, theOld, theNew);
+    }
+    
+    /**
+     * Records that theReviewer was assigned thePaper, for getAssignmentGraph() and getCachedInfo().
+     */
+    void reviewerAssigned(final UserProfile theReviewer, final Paper thePaper) {
+        addPaperReviewer(thePaper, theReviewer);
+        graphReviewerAssigned(theReviewer, thePaper);
+        invalidate(ConferenceInfoCache.Query.REVIEWERS_FOR_PAPER, thePaper);
+    }
+    
+    private void invalidate(final ConferenceInfoCache.Query theQuery, final Object theArgument) {
+        if (myCache != null) {
+            myCache.invalidate(theQuery, theArgument);
+        }
+    }
+
+    
+    private void addPaperReviewer(final Paper thePaper, final UserProfile theReviewer) {
+        final List<UserProfile> reviewers = myPaperReviewers.computeIfAbsent(thePaper, p -> new ArrayList<>(4));
+        if (!reviewers.contains(theReviewer)) {
+            reviewers.add(theReviewer);
+        }
+    }
+    
+    /**
+     * Empty list if no reviewers are assigned thePaper.
+     * @return an unmodifiable list of the reviewers of thePaper.
+     */
+    @Override
+    public List<UserProfile> getReviewersForPaper(final Paper thePaper) {
+        final List<UserProfile> result = myPaperReviewers.get(thePaper);
+        return result == null ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+    
+    /**
+     * Rebuilds the authorship, paper, reviewer and state indexes, which are not serialized, from the papers and
+     * assignments and attaches the papers to this Conference. Its deadlines are scheduled once it is in a
+     * ConferenceSystem.
+     * Earlier snapshots hold a name keyed index which is skipped, and linked lists of subprogram chair papers
+     * which are copied to random access lists.
+     */
+    private void readObject(final ObjectInputStream theStream) throws IOException, ClassNotFoundException {
+    	theStream.defaultReadObject();
+    	myStateIndex = new PaperStateIndex();
+    	myPaperAuthorshipMap = new IntObjectMap<>();
+    	myAllPapers = new ArrayList<>();
+    	myReviewers = new ArrayList<>();
+    	myPaperReviewers = new IdentityHashMap<>();
+    	for(final List<Paper> papers: myPaperSubmissionMap.values()){
+    		for(final Paper paper: papers){
+    			myAllPapers.add(paper);
+    			paper.setConferenceData(this);
+    			myStateIndex.add(paper);
+    			for(final int author: paper.authorIds()){
+    				myPaperAuthorshipMap.computeIfAbsent(author, id -> new ArrayList<>()).add(paper);
+    			}
+    		}
+    	}
+    	for(final Entry<UserProfile, List<String>> userRoles: myUserRoleMap.entrySet()){
+    		if(userRoles.getValue().contains(Conference.REVIEW_ROLE)){
+    			myReviewers.add(userRoles.getKey());
+    		}
+    	}
+    	for(final Entry<UserProfile, List<Paper>> chairPapers: mySubprogramAssignmentMap.entrySet()){
+    		if(!(chairPapers.getValue() instanceof RandomAccess)){
+    			chairPapers.setValue(new ArrayList<>(chairPapers.getValue()));
+    		}
+    		for(final Paper paper: chairPapers.getValue()){
+    			myStateIndex.chairAssigned(chairPapers.getKey(), paper);
+    			advancePaper(paper, PaperState.ASSIGNED);
+    		}
+    	}
+    	for(final Entry<UserProfile, List<Paper>> reviewerPapers: myReviewerAssignmentMap.entrySet()){
+    		for(final Paper paper: reviewerPapers.getValue()){
+    			addPaperReviewer(paper, reviewerPapers.getKey());
+    			advancePaper(paper, PaperState.UNDER_REVIEW);
+    		}
+    	}
     }
 }
@@ -2,6 +2,8 @@ package model;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * An Interface for relevant Conference getter methods,
@@ -14,13 +16,52 @@ public interface ConferenceInfo {
 	public String getName();
 	
 	public Date getSubmissionDate();
+	public Date getReviewDeadline();
+	public ConferencePhase getPhase();
 	public List<String> getUserRoles(final UserProfile theUserProfile);
 	public List<Paper> getAllPapers();
 	public List<Paper> getPapersSubmittedBy(final UserProfile theUserProfile);
 	public List<Paper> getPapersAuthoredBy(final String theAuthorName);
 	public List<Paper> getPapersAssignedToReviewer(final UserProfile theReviewerProfile);
 	public List<UserProfile> getReviewers();
+	public List<UserProfile> getReviewersForPaper(final Paper thePaper);
 	public List<Paper> getPapersAssignedToSubProgramChair(final UserProfile theSubProgramChair);
+	public int getPaperCount(final PaperState theState);
+	public int getPaperCount(final UserProfile theSubProgramChair, final PaperState theState);
+	public Set<Paper> getPapers(final PaperState theState);
+	
+	/*
+	 * The allocation free reads: visit each result, count the results or open a reusable Cursor over them.
+	 * The list getters above read the same indexes; getAllPapers() and getReviewers() return copies of them.
+	 */
+	public void forEachUserRole(final UserProfile theUserProfile, final Consumer<? super String> theAction);
+	public void forEachPaper(final Consumer<? super Paper> theAction);
+	public void forEachPaperSubmittedBy(final UserProfile theUserProfile, final Consumer<? super Paper> theAction);
+	public void forEachPaperAuthoredBy(final String theAuthorName, final Consumer<? super Paper> theAction);
+	public void forEachPaperAssignedToReviewer(final UserProfile theReviewerProfile,
+			final Consumer<? super Paper> theAction);
+	public void forEachPaperAssignedToSubProgramChair(final UserProfile theSubProgramChair,
+			final Consumer<? super Paper> theAction);
+	public void forEachReviewer(final Consumer<? super UserProfile> theAction);
+	public void forEachReviewerForPaper(final Paper thePaper, final Consumer<? super UserProfile> theAction);
+	
+	public int getPaperCount();
+	public int getPaperCountSubmittedBy(final UserProfile theUserProfile);
+	public int getPaperCountAuthoredBy(final String theAuthorName);
+	public int getPaperCountAssignedToReviewer(final UserProfile theReviewerProfile);
+	public int getPaperCountAssignedToSubProgramChair(final UserProfile theSubProgramChair);
+	public int getReviewerCount();
+	public int getReviewerCountForPaper(final Paper thePaper);
+	
+	public Cursor<Paper> openPapers(final Cursor<Paper> theCursor);
+	public Cursor<Paper> openPapersSubmittedBy(final UserProfile theUserProfile, final Cursor<Paper> theCursor);
+	public Cursor<Paper> openPapersAuthoredBy(final String theAuthorName, final Cursor<Paper> theCursor);
+	public Cursor<Paper> openPapersAssignedToReviewer(final UserProfile theReviewerProfile,
+			final Cursor<Paper> theCursor);
+	public Cursor<Paper> openPapersAssignedToSubProgramChair(final UserProfile theSubProgramChair,
+			final Cursor<Paper> theCursor);
+	public Cursor<UserProfile> openReviewers(final Cursor<UserProfile> theCursor);
+	public Cursor<UserProfile> openReviewersForPaper(final Paper thePaper, final Cursor<UserProfile> theCursor);
 	
 	public boolean isUserAuthor(final UserProfile theUserProfile);
 	public boolean isUserReviewer(final UserProfile theUserProfile);
@@ -29,6 +70,7 @@ public interface ConferenceInfo {
 	public boolean isUserDirector(final UserProfile theUserProfile);
 	
 	public boolean isSubmissionOpen(final Date theDate);
+	public boolean isSubmissionOpen();
 	
 	public boolean isPaperInAuthorSubmissionLimit(final Paper thePaper);
 	public boolean isPaperInSubmissionDeadline(final Paper thePaper);
@@ -0,0 +1,460 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A ConferenceInfo which remembers the results of the queries which scan a whole Conference, for screens which ask
+ * the same questions on every repaint.
+ *
+ * getReviewers(), getAllPapers(), getReviewersForPaper() and getPapersAssignedToSubProgramChair() are cached by query
+ * and argument, up to a capacity, evicting the least recently used result. Every other query goes straight to the
+ * ConferenceData. The ConferenceData drops exactly the results a mutation changes: a reviewer assignment drops the
+ * reviewers of that paper only, a chair assignment the papers of that chair only, and so on.
+ *
+ * Cached lists are unmodifiable snapshots; copy them before changing them. Hits, misses, evictions and invalidations
+ * are counted per cache and in the MetricsRegistry as ConferenceInfoCache.hits, .misses, .evictions and
+ * .invalidations. Get the cache of a conference with ConferenceData.getCachedInfo().
+ *
+ * @version 10/19/2026
+ */
+public final class ConferenceInfoCache implements ConferenceInfo {
+
+    /** The amount of results a new cache holds. */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private static final LongAdder HITS = MetricsRegistry.getInstance().counter("ConferenceInfoCache.hits");
+    private static final LongAdder MISSES = MetricsRegistry.getInstance().counter("ConferenceInfoCache.misses");
+    private static final LongAdder EVICTIONS = MetricsRegistry.getInstance().counter("ConferenceInfoCache.evictions");
+    private static final LongAdder INVALIDATIONS =
+            MetricsRegistry.getInstance().counter("ConferenceInfoCache.invalidations");
+
+    /**
+     * The cached queries.
+     */
+    enum Query {
+        REVIEWERS, ALL_PAPERS, REVIEWERS_FOR_PAPER, SUBPROGRAM_CHAIR_PAPERS
+    }
+
+    private final ConferenceData myData;
+
+    /** The cached results in least recently used order, guarded by this. */
+    private final LinkedHashMap<Key, List<?>> myResults;
+
+    private int myCapacity;
+
+    private long myHits;
+    private long myMisses;
+    private long myEvictions;
+    private long myInvalidations;
+
+    ConferenceInfoCache(final ConferenceData theData) {
+        myData = Objects.requireNonNull(theData);
+        myCapacity = DEFAULT_CAPACITY;
+        myResults = new LinkedHashMap<Key, List<?>>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, List<?>> theEldest) {
+                if (size() > myCapacity) {
+                    myEvictions++;
+                    EVICTIONS.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return the most results this cache holds.
+     */
+    public synchronized int getCapacity() {
+        return myCapacity;
+    }
+
+    /**
+     * Sets the most results this cache holds, evicting the least recently used ones above theCapacity.
+     * @param theCapacity the new capacity.
+     * @throws IllegalArgumentException if theCapacity is negative.
+     */
+    public synchronized void setCapacity(final int theCapacity) {
+        if (theCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity " + theCapacity);
+        }
+        myCapacity = theCapacity;
+        final Iterator<Key> keys = myResults.keySet().iterator();
+        while (myResults.size() > myCapacity) {
+            keys.next();
+            keys.remove();
+            myEvictions++;
+            EVICTIONS.increment();
+        }
+    }
+
+    /**
+     * @return the amount of cached results.
+     */
+    public synchronized int size() {
+        return myResults.size();
+    }
+
+    /**
+     * Drops every cached result.
+     */
+    public synchronized void clear() {
+        myResults.clear();
+    }
+
+    /**
+     * @return how many queries were answered from the cache.
+     */
+    public synchronized long getHitCount() {
+        return myHits;
+    }
+
+    /**
+     * @return how many queries went to the ConferenceData.
+     */
+    public synchronized long getMissCount() {
+        return myMisses;
+    }
+
+    /**
+     * @return how many results were dropped for lack of capacity.
+     */
+    public synchronized long getEvictionCount() {
+        return myEvictions;
+    }
+
+    /**
+     * @return how many results were dropped because a mutation changed them.
+     */
+    public synchronized long getInvalidationCount() {
+        return myInvalidations;
+    }
+
+    /**
+     * Drops the result of theQuery for theArgument, null for the queries without one.
+     * Called by the ConferenceData on each mutation.
+     */
+    synchronized void invalidate(final Query theQuery, final Object theArgument) {
+        if (myResults.remove(new Key(theQuery, theArgument)) != null) {
+            myInvalidations++;
+            INVALIDATIONS.increment();
+        }
+    }
+
+    @Override
+    public List<UserProfile> getReviewers() {
+        return lookup(Query.REVIEWERS, null, myData::getReviewers);
+    }
+
+    @Override
+    public List<Paper> getAllPapers() {
+        return lookup(Query.ALL_PAPERS, null, myData::getAllPapers);
+    }
+
+    @Override
+    public List<UserProfile> getReviewersForPaper(final Paper thePaper) {
+        return lookup(Query.REVIEWERS_FOR_PAPER, thePaper, () -> myData.getReviewersForPaper(thePaper));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Null if theSubProgramChair has no papers, which is not cached.
+     */
+    @Override
+    public List<Paper> getPapersAssignedToSubProgramChair(final UserProfile theSubProgramChair) {
+        return lookup(Query.SUBPROGRAM_CHAIR_PAPERS, theSubProgramChair,
+                () -> myData.getPapersAssignedToSubProgramChair(theSubProgramChair));
+    }
+
+    @Override
+    public String getName() {
+        return myData.getName();
+    }
+
+    @Override
+    public Date getSubmissionDate() {
+        return myData.getSubmissionDate();
+    }
+
+    @Override
+    public Date getReviewDeadline() {
+        return myData.getReviewDeadline();
+    }
+
+    @Override
+    public ConferencePhase getPhase() {
+        return myData.getPhase();
+    }
+
+    @Override
+    public List<String> getUserRoles(final UserProfile theUserProfile) {
+        return myData.getUserRoles(theUserProfile);
+    }
+
+    @Override
+    public List<Paper> getPapersSubmittedBy(final UserProfile theUserProfile) {
+        return myData.getPapersSubmittedBy(theUserProfile);
+    }
+
+    @Override
+    public List<Paper> getPapersAuthoredBy(final String theAuthorName) {
+        return myData.getPapersAuthoredBy(theAuthorName);
+    }
+
+    @Override
+    public List<Paper> getPapersAssignedToReviewer(final UserProfile theReviewerProfile) {
+        return myData.getPapersAssignedToReviewer(theReviewerProfile);
+    }
+
+    @Override
+    public int getPaperCount(final PaperState theState) {
+        return myData.getPaperCount(theState);
+    }
+
+    @Override
+    public int getPaperCount(final UserProfile theSubProgramChair, final PaperState theState) {
+        return myData.getPaperCount(theSubProgramChair, theState);
+    }
+
+    @Override
+    public Set<Paper> getPapers(final PaperState theState) {
+        return myData.getPapers(theState);
+    }
+
+    @Override
+    public void forEachUserRole(final UserProfile theUserProfile, final Consumer<? super String> theAction) {
+        myData.forEachUserRole(theUserProfile, theAction);
+    }
+
+    @Override
+    public void forEachPaper(final Consumer<? super Paper> theAction) {
+        myData.forEachPaper(theAction);
+    }
+
+    @Override
+    public void forEachPaperSubmittedBy(final UserProfile theUserProfile, final Consumer<? super Paper> theAction) {
+        myData.forEachPaperSubmittedBy(theUserProfile, theAction);
+    }
+
+    @Override
+    public void forEachPaperAuthoredBy(final String theAuthorName, final Consumer<? super Paper> theAction) {
+        myData.forEachPaperAuthoredBy(theAuthorName, theAction);
+    }
+
+    @Override
+    public void forEachPaperAssignedToReviewer(final UserProfile theReviewerProfile,
+            final Consumer<? super Paper> theAction) {
+        myData.forEachPaperAssignedToReviewer(theReviewerProfile, theAction);
+    }
+
+    @Override
+    public void forEachPaperAssignedToSubProgramChair(final UserProfile theSubProgramChair,
+            final Consumer<? super Paper> theAction) {
+        myData.forEachPaperAssignedToSubProgramChair(theSubProgramChair, theAction);
+    }
+
+    @Override
+    public void forEachReviewer(final Consumer<? super UserProfile> theAction) {
+        myData.forEachReviewer(theAction);
+    }
+
+    @Override
+    public void forEachReviewerForPaper(final Paper thePaper, final Consumer<? super UserProfile> theAction) {
+        myData.forEachReviewerForPaper(thePaper, theAction);
+    }
+
+    @Override
+    public int getPaperCount() {
+        return myData.getPaperCount();
+    }
+
+    @Override
+    public int getPaperCountSubmittedBy(final UserProfile theUserProfile) {
+        return myData.getPaperCountSubmittedBy(theUserProfile);
+    }
+
+    @Override
+    public int getPaperCountAuthoredBy(final String theAuthorName) {
+        return myData.getPaperCountAuthoredBy(theAuthorName);
+    }
+
+    @Override
+    public int getPaperCountAssignedToReviewer(final UserProfile theReviewerProfile) {
+        return myData.getPaperCountAssignedToReviewer(theReviewerProfile);
+    }
+
+    @Override
+    public int getPaperCountAssignedToSubProgramChair(final UserProfile theSubProgramChair) {
+        return myData.getPaperCountAssignedToSubProgramChair(theSubProgramChair);
+    }
+
+    @Override
+    public int getReviewerCount() {
+        return myData.getReviewerCount();
+    }
+
+    @Override
+    public int getReviewerCountForPaper(final Paper thePaper) {
+        return myData.getReviewerCountForPaper(thePaper);
+    }
+
+    @Override
+    public Cursor<Paper> openPapers(final Cursor<Paper> theCursor) {
+        return myData.openPapers(theCursor);
+    }
+
+    @Override
+    public Cursor<Paper> openPapersSubmittedBy(final UserProfile theUserProfile, final Cursor<Paper> theCursor) {
+        return myData.openPapersSubmittedBy(theUserProfile, theCursor);
+    }
+
+    @Override
+    public Cursor<Paper> openPapersAuthoredBy(final String theAuthorName, final Cursor<Paper> theCursor) {
+        return myData.openPapersAuthoredBy(theAuthorName, theCursor);
+    }
+
+    @Override
+    public Cursor<Paper> openPapersAssignedToReviewer(final UserProfile theReviewerProfile,
+            final Cursor<Paper> theCursor) {
+        return myData.openPapersAssignedToReviewer(theReviewerProfile, theCursor);
+    }
+
+    @Override
+    public Cursor<Paper> openPapersAssignedToSubProgramChair(final UserProfile theSubProgramChair,
+            final Cursor<Paper> theCursor) {
+        return myData.openPapersAssignedToSubProgramChair(theSubProgramChair, theCursor);
+    }
+
+    @Override
+    public Cursor<UserProfile> openReviewers(final Cursor<UserProfile> theCursor) {
+        return myData.openReviewers(theCursor);
+    }
+
+    @Override
+    public Cursor<UserProfile> openReviewersForPaper(final Paper thePaper, final Cursor<UserProfile> theCursor) {
+        return myData.openReviewersForPaper(thePaper, theCursor);
+    }
+
+    @Override
+    public boolean isUserAuthor(final UserProfile theUserProfile) {
+        return myData.isUserAuthor(theUserProfile);
+    }
+
+    @Override
+    public boolean isUserReviewer(final UserProfile theUserProfile) {
+        return myData.isUserReviewer(theUserProfile);
+    }
+
+    @Override
+    public boolean isUserSubprogramChair(final UserProfile theUserProfile) {
+        return myData.isUserSubprogramChair(theUserProfile);
+    }
+
+    @Override
+    public boolean isUserProgramChair(final UserProfile theUserProfile) {
+        return myData.isUserProgramChair(theUserProfile);
+    }
+
+    @Override
+    public boolean isUserDirector(final UserProfile theUserProfile) {
+        return myData.isUserDirector(theUserProfile);
+    }
+
+    @Override
+    public boolean isSubmissionOpen(final Date theDate) {
+        return myData.isSubmissionOpen(theDate);
+    }
+
+    @Override
+    public boolean isSubmissionOpen() {
+        return myData.isSubmissionOpen();
+    }
+
+    @Override
+    public boolean isPaperInAuthorSubmissionLimit(final Paper thePaper) {
+        return myData.isPaperInAuthorSubmissionLimit(thePaper);
+    }
+
+    @Override
+    public boolean isPaperInSubmissionDeadline(final Paper thePaper) {
+        return myData.isPaperInSubmissionDeadline(thePaper);
+    }
+
+    @Override
+    public boolean isReviewerInAssignmentLimit(final UserProfile theReviewerProfile) {
+        return myData.isReviewerInAssignmentLimit(theReviewerProfile);
+    }
+
+    @Override
+    public boolean isPaperAuthoredByReviewer(final String theReviewerName, final Paper thePaper) {
+        return myData.isPaperAuthoredByReviewer(theReviewerName, thePaper);
+    }
+
+    /**
+     * Gets the cached result of theQuery for theArgument, loading and caching it on a miss.
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized <T> List<T> lookup(final Query theQuery, final Object theArgument,
+            final Supplier<List<T>> theLoader) {
+        final Key key = new Key(theQuery, theArgument);
+        final List<T> cached = (List<T>) myResults.get(key);
+        if (cached != null) {
+            myHits++;
+            HITS.increment();
+            return cached;
+        }
+        myMisses++;
+        MISSES.increment();
+        final List<T> loaded = theLoader.get();
+        if (loaded == null) {
+            return null;
+        }
+        final List<T> result = Collections.unmodifiableList(new ArrayList<>(loaded));
+        if (myCapacity > 0) {
+            myResults.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * A query with its argument; papers compare by identity, profiles by ID.
+     */
+    private static final class Key {
+
+        private final Query myQuery;
+        private final Object myArgument;
+
+        private Key(final Query theQuery, final Object theArgument) {
+            myQuery = theQuery;
+            myArgument = theArgument;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * myQuery.hashCode() + Objects.hashCode(myArgument);
+        }
+
+        @Override
+        public boolean equals(final Object theOther) {
+            if (!(theOther instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) theOther;
+            return myQuery == other.myQuery && Objects.equals(myArgument, other.myArgument);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package model;
+
+import java.util.List;
+
+/**
+ * The lookups of Conferences, UserProfiles and Papers which client code needs,
+ * answered by the ConferenceSystem of this JVM or by a ShardRouter over worker processes.
+ * @version 10/19/2026
+ */
+public interface ConferenceLookup {
+	public Conference getConference(final String theConferenceName);
+	public List<Conference> getConferences();
+	public UserProfile getUserProfile(final String theUserID);
+	public List<Paper> getAllPapersSubmitted(final UserProfile theUserProfile);
+	public List<Paper> getAllPapersAssignedTo(final UserProfile theUserProfile);
+}
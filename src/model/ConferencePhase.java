@@ -0,0 +1,33 @@
+package model;
+
+/**
+ * The phases a Conference passes through as its deadlines pass, in order.
+ * The current phase of a conference is kept by the DeadlineScheduler, see ConferenceData.getPhase().
+ *
+ * @version 10/19/2026
+ */
+public enum ConferencePhase {
+
+    /** Before the submission deadline: authors submit and remove papers. */
+    SUBMISSION,
+
+    /** After the submission deadline: reviewers are assigned and submit reviews. */
+    REVIEW,
+
+    /** After the review deadline, if the conference has one: subprogram chairs recommend papers. */
+    RECOMMENDATION;
+
+    /**
+     * Gets the phase of a conference at a time.
+     * @param theTime the time in milliseconds.
+     * @param theSubmissionDeadline the submission deadline in milliseconds.
+     * @param theReviewDeadline the review deadline in milliseconds, Long.MAX_VALUE if there is none.
+     * @return the (non-null) phase at theTime.
+     */
+    static ConferencePhase at(final long theTime, final long theSubmissionDeadline, final long theReviewDeadline) {
+        if (theTime < theSubmissionDeadline) {
+            return SUBMISSION;
+        }
+        return theTime < theReviewDeadline ? REVIEW : RECOMMENDATION;
+    }
+}
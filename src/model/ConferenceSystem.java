@@ -4,12 +4,24 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A singleton system class which is responsible for holding
@@ -20,12 +32,33 @@ import java.util.Map;
  * @author Dimitar Kumanov
  * @version 4/27/2017
  */
-public class ConferenceSystem {
+public class ConferenceSystem implements ConferenceLookup {
 	
 	private static final String CONFERENCE_MAP_SER = "./data/ConferenceMap.ser";
 
     private static final String USER_MAP_SER = "./data/UserMap.ser";
 
+    private static final String MODEL_IMAGE = "./data/Model.img";
+
+    /**
+     * The codec of the snapshot files, which are mostly Strings and compress well.
+     */
+    private static final SnapshotCodec SNAPSHOT_CODEC = SnapshotCodec.lz();
+
+    private static final LatencyHistogram SERIALIZE_LATENCY =
+    		MetricsRegistry.getInstance().histogram("ConferenceSystem.serializeModel");
+    private static final LongAdder SERIALIZE_ERRORS =
+    		MetricsRegistry.getInstance().counter("ConferenceSystem.serializeModel.errors");
+    private static final LatencyHistogram DESERIALIZE_LATENCY =
+    		MetricsRegistry.getInstance().histogram("ConferenceSystem.deserializeData");
+    private static final LongAdder DESERIALIZE_ERRORS =
+    		MetricsRegistry.getInstance().counter("ConferenceSystem.deserializeData.errors");
+
+    /**
+     * The author names of all conferences, shared so an author has one ID in every conference.
+     */
+    private static final AuthorDictionary AUTHOR_DICTIONARY = new AuthorDictionary();
+
     /**
 	 * My only Object instance. This is what is returned from getInstance().
 	 */
@@ -41,6 +74,22 @@ public class ConferenceSystem {
 	 */
 	private Map<String, UserProfile> myUserMap;
 	
+	/**
+	 * The last snapshot taken by getAnalytics(), null if it must be taken again.
+	 */
+	private AnalyticsSnapshot myAnalytics;
+	
+	/**
+	 * The journal every change is recorded in, null if changes are not recorded.
+	 */
+	private ChangeJournal myJournal;
+	
+	/**
+	 * The mapped model the Conferences and UserProfiles not in the maps are read from, null if there is none.
+	 * The maps hold what was read from it and every change since it was written.
+	 */
+	private ModelImage myImage;
+	
 	private ConferenceSystem(){
 		myConferenceMap = new HashMap<>();
 		myUserMap = new HashMap<>();
@@ -58,85 +107,315 @@ public class ConferenceSystem {
 		return myInstance;
 	}
 	
+	/**
+	 * Creates a system apart from getInstance(), e.g. the read only copy a JournalFollower keeps
+	 * or the part of the Conferences a ShardWorker holds.
+	 */
+	static ConferenceSystem createReplica(){
+		return new ConferenceSystem();
+	}
+	
+	/**
+	 * Gets the dictionary which maps the normalized names of all authors to their integer IDs.
+	 * Authorship indexes and conflict checks of all conferences use these IDs.
+	 * @return the (non-null) author dictionary shared by all conferences.
+	 */
+	public static AuthorDictionary getAuthorDictionary(){
+		return AUTHOR_DICTIONARY;
+	}
+	
 	/**
 	 * Loads up all Conference/UserProfile objects into the RSYstem.
+	 * If a model image was saved it is mapped with openImage() instead, so nothing is read until it is used.
 	 */
 	public void deserializeData() {
+		final long start = System.nanoTime();
+		final FlightEvents.Persistence event = new FlightEvents.Persistence();
+		event.begin();
 		/*
 		 * TODO: Code for deserializing Data, aka loading up our
 		 * Conference/UserProfile objects should happen here
 		 */
-		if((new File(USER_MAP_SER)).exists() && (new File(CONFERENCE_MAP_SER)).exists()){
+		if((new File(MODEL_IMAGE)).exists()){
+			try {
+				openImage(Paths.get(MODEL_IMAGE));
+			} catch (IOException e) {
+				DESERIALIZE_ERRORS.increment();
+				e.printStackTrace();
+			}
+		} else if((new File(USER_MAP_SER)).exists() && (new File(CONFERENCE_MAP_SER)).exists()){
 			try {
 				FileInputStream fisUser = new FileInputStream(USER_MAP_SER);
-				ObjectInputStream oisUser = new ObjectInputStream(fisUser);
 				FileInputStream fisCon = new FileInputStream(CONFERENCE_MAP_SER);
-				ObjectInputStream oisCon = new ObjectInputStream(fisCon);
 				
-				@SuppressWarnings("unchecked")
-				Map<String, UserProfile> newUserMap = new HashMap<>((HashMap<String, UserProfile>) oisUser.readObject());
+				readSnapshot(fisUser, fisCon);
 				
-				@SuppressWarnings("unchecked")
-				Map<String, Conference> newConfMap = new HashMap<>((HashMap<String, Conference>) oisCon.readObject());
-	
-				if (newUserMap != null && newConfMap != null) {
-					myUserMap = new HashMap<>(newUserMap);
-					myConferenceMap = new HashMap<>(newConfMap);
-				}
-				
-				oisUser.close(); fisUser.close();
-				oisCon.close(); fisCon.close();
+				fisUser.close();
+				fisCon.close();
 			} catch (IOException e) {
+				DESERIALIZE_ERRORS.increment();
 				e.printStackTrace();
 			} catch (ClassNotFoundException e) {
+				DESERIALIZE_ERRORS.increment();
 				e.printStackTrace();
 			}
 			
 //			System.out.print("Deserialization successful.");
 		}
+		DESERIALIZE_LATENCY.recordSince(start);
+		commitPersistenceEvent(event, "deserializeData");
 	}
 	
 	/**
 	 * Saves all state(data) into files for a later session of the program.
 	 * This method should be called before closing the
 	 * application to save all of its Conference/UserProfile Objects.
+	 * The model image is written at every save, merging only the Conferences and UserProfiles on the heap
+	 * into it. The snapshot files are written as well while no image is open, since the whole model is on the
+	 * heap then; once an image is open deserializeData() reads it instead of them, so they are left as they are
+	 * rather than reading the whole image to rewrite them.
 	 */
 	public void serializeModel() {
+		final long start = System.nanoTime();
+		final FlightEvents.Persistence event = new FlightEvents.Persistence();
+		event.begin();
 		/*
 		 * TODO: Code for serializing Data, aka saving up our
 		 * Conference/UserProfile objects should happen here
 		 */
 		try {
-			FileOutputStream fosUser = new FileOutputStream(USER_MAP_SER);
-			ObjectOutputStream oosUser = new ObjectOutputStream(fosUser);
-			FileOutputStream fosCon = new FileOutputStream(CONFERENCE_MAP_SER);
-			ObjectOutputStream oosCon = new ObjectOutputStream(fosCon);
-
-			oosUser.writeObject(myUserMap);
-			oosCon.writeObject(myConferenceMap);
-			
-			oosUser.flush();
-			oosUser.close();
-			fosUser.flush();
-			fosUser.close();
-			oosCon.flush();
-			oosCon.close();
-			fosCon.flush();
-			fosCon.close();
+			if (myImage == null) {
+				try (FileOutputStream userFile = new FileOutputStream(USER_MAP_SER);
+						FileOutputStream conFile = new FileOutputStream(CONFERENCE_MAP_SER);
+						SnapshotOutputStream fosUser = new SnapshotOutputStream(userFile, SNAPSHOT_CODEC);
+						SnapshotOutputStream fosCon = new SnapshotOutputStream(conFile, SNAPSHOT_CODEC)) {
+					writeSnapshot(fosUser, fosCon);
+				}
+			}
+			checkpoint(Paths.get(MODEL_IMAGE));
 		} catch (IOException e) {
+			SERIALIZE_ERRORS.increment();
 			e.printStackTrace();
 		}
+		SERIALIZE_LATENCY.recordSince(start);
+		commitPersistenceEvent(event, "serializeModel");
 //		System.out.print("Serialization successful.");
 	}
 	
+	/**
+	 * Replaces all Conference/UserProfile objects with the ones read from the given streams.
+	 * The streams must hold a snapshot written by writeSnapshot(), either as it is or through a
+	 * SnapshotOutputStream, and are not closed.
+	 * If reading fails the system is left unchanged.
+	 * @param theUserStream the stream to read the UserProfiles from.
+	 * @param theConferenceStream the stream to read the Conferences from.
+	 * @throws IOException if either stream can not be read.
+	 * @throws ClassNotFoundException if the snapshot holds unknown classes.
+	 */
+	public void readSnapshot(
+			final InputStream theUserStream,
+			final InputStream theConferenceStream
+			) throws IOException, ClassNotFoundException {
+		ObjectInputStream oisUser = new ObjectInputStream(SnapshotInputStream.decoding(theUserStream));
+		ObjectInputStream oisCon = new ObjectInputStream(SnapshotInputStream.decoding(theConferenceStream));
+		
+		@SuppressWarnings("unchecked")
+		Map<String, UserProfile> newUserMap = new HashMap<>((HashMap<String, UserProfile>) oisUser.readObject());
+		
+		@SuppressWarnings("unchecked")
+		Map<String, Conference> newConfMap = new HashMap<>((HashMap<String, Conference>) oisCon.readObject());
+
+		if (newUserMap != null && newConfMap != null) {
+			cancelDeadlines();
+			myUserMap = newUserMap;
+			myConferenceMap = newConfMap;
+			for (final Conference conference : newConfMap.values()) {
+				DeadlineScheduler.getInstance().schedule(conference.getInfo());
+			}
+			myImage = null;
+			myAnalytics = null;
+			journalState();
+		}
+	}
+	
+	/**
+	 * Writes all Conference/UserProfile objects to the given streams.
+	 * The streams are flushed but not closed.
+	 * @param theUserStream the stream to write the UserProfiles to.
+	 * @param theConferenceStream the stream to write the Conferences to.
+	 * @throws IOException if either stream can not be written.
+	 */
+	public void writeSnapshot(
+			final OutputStream theUserStream,
+			final OutputStream theConferenceStream
+			) throws IOException {
+		readImage();
+		ObjectOutputStream oosUser = new ObjectOutputStream(theUserStream);
+		ObjectOutputStream oosCon = new ObjectOutputStream(theConferenceStream);
+
+		oosUser.writeObject(myUserMap);
+		oosCon.writeObject(myConferenceMap);
+		
+		oosUser.flush();
+		oosCon.flush();
+	}
+	
+	/**
+	 * Removes all Conferences and UserProfiles from the system.
+	 */
+	public void clear() {
+		cancelDeadlines();
+		myConferenceMap = new HashMap<>();
+		myUserMap = new HashMap<>();
+		myImage = null;
+		myAnalytics = null;
+		journalState();
+	}
+	
+	/**
+	 * Replaces all Conference/UserProfile objects with the model image at thePath, which is mapped and used
+	 * in place: getUserProfile() and getConference() search it and decode just the entry they return, so
+	 * opening takes the same time whatever the size of the model. Until the next checkpoint() the system keeps
+	 * what it read and every change on the heap, over the image.
+	 * @param thePath the (non-null) image written by checkpoint().
+	 * @throws IOException if the image can not be mapped.
+	 */
+	public void openImage(final Path thePath) throws IOException {
+		final ModelImage image = ModelImage.open(thePath);
+		cancelDeadlines();
+		myConferenceMap = new HashMap<>();
+		myUserMap = new HashMap<>();
+		myImage = image;
+		myAnalytics = null;
+		journalState();
+	}
+	
+	/**
+	 * Merges the Conferences and UserProfiles on the heap into the open model image, or writes all of them if
+	 * none is open, as a new image at thePath which is then used in place of the old one. The Conferences of
+	 * the old image which were never read are copied without decoding them; the ones on the heap stay there.
+	 * @param thePath the (non-null) file to write, which may be the one the open image is mapped from.
+	 * @throws IOException if the image can not be written or mapped.
+	 */
+	public void checkpoint(final Path thePath) throws IOException {
+		ModelImage.write(thePath, myImage, myUserMap.values(), myConferenceMap.values());
+		myImage = ModelImage.open(thePath);
+	}
+	
+	/**
+	 * Reads every Conference and UserProfile of the model image onto the heap.
+	 */
+	private void readImage() {
+		if (myImage != null) {
+			for (final String name : myImage.getConferenceNames()) {
+				getConference(name);
+			}
+			for (final String uid : myImage.getUserIDs()) {
+				getUserProfile(uid);
+			}
+		}
+	}
+	
+	/**
+	 * Records every later change of this system in theJournal, after writing all current Conferences and
+	 * UserProfiles to it, so a JournalFollower of theJournal keeps a copy of this system.
+	 * Only the changes made through the role utilities of the Conferences, their deadline setters and this
+	 * system are recorded. The journal is not closed when it is replaced.
+	 * @param theJournal the journal to write to, null to stop recording.
+	 */
+	public void setJournal(final ChangeJournal theJournal) {
+		myJournal = theJournal;
+		if (theJournal == null) {
+			for (final Conference conference : myConferenceMap.values()) {
+				conference.getInfo().setJournal(null);
+			}
+		}
+		journalState();
+	}
+	
+	/**
+	 * Writes all Conferences and UserProfiles to the journal, if there is one, replacing what it held before.
+	 */
+	private void journalState() {
+		if (myJournal != null) {
+			readImage();
+			for (final Conference conference : myConferenceMap.values()) {
+				conference.getInfo().setJournal(myJournal);
+			}
+			myJournal.writeState(new ArrayList<>(myUserMap.values()), getConferences());
+		}
+	}
+	
+	/**
+	 * Stops the DeadlineScheduler and the journal from tracking the Conferences which are about to be dropped.
+	 */
+	private void cancelDeadlines() {
+		for (final Conference conference : myConferenceMap.values()) {
+			DeadlineScheduler.getInstance().cancel(conference.getInfo());
+			conference.getInfo().setJournal(null);
+		}
+	}
+	
+	/**
+	 * Fills in and commits theEvent if it is recorded.
+	 */
+	private void commitPersistenceEvent(final FlightEvents.Persistence theEvent, final String theOperation) {
+		if (theEvent.shouldCommit()) {
+			theEvent.operation = theOperation;
+			theEvent.itemCount = myImage == null ? myConferenceMap.size() : myImage.getConferenceCount();
+			theEvent.users = myImage == null ? myUserMap.size() : myImage.getUserCount();
+			theEvent.commit();
+		}
+	}
+	
 	/**
 	 * Gets all of the Conferences in the system.
 	 * @return a (non-null) List of Conferences in the system.
 	 */
 	public List<Conference> getConferences(){
+		readImage();
 		return new ArrayList<>(myConferenceMap.values());
 	}
 	
+	/**
+	 * Gets the names of all of the Conferences in the system, without reading the ones in the model image.
+	 * @return a (non-null) sorted List of the names of the Conferences in the system.
+	 */
+	public List<String> getConferenceNames() {
+		final TreeSet<String> names = new TreeSet<>(myConferenceMap.keySet());
+		if (myImage != null) {
+			names.addAll(myImage.getConferenceNames());
+		}
+		return new ArrayList<>(names);
+	}
+	
+	/**
+	 * Gets the submission deadline of a Conference, without reading it from the model image.
+	 * @param theConferenceName the Conference name to match a Conference with
+	 * @return the submission deadline of the Conference. null if no Conference matches.
+	 */
+	public Date getSubmissionDate(final String theConferenceName) {
+		final Conference conference = myConferenceMap.get(theConferenceName);
+		if (conference != null) {
+			return conference.getInfo().getSubmissionDate();
+		}
+		return myImage == null ? null : myImage.getSubmissionDate(theConferenceName);
+	}
+	
+	/**
+	 * Checks whether a Conference takes submissions, without reading it from the model image.
+	 * @param theConferenceName the Conference name to match a Conference with
+	 * @return true iff a Conference matches and it is in its submission phase.
+	 */
+	public boolean isSubmissionOpen(final String theConferenceName) {
+		final Conference conference = myConferenceMap.get(theConferenceName);
+		if (conference != null) {
+			return conference.getInfo().isSubmissionOpen();
+		}
+		final Date deadline = getSubmissionDate(theConferenceName);
+		return deadline != null && DeadlineScheduler.getInstance().currentTimeMillis() < deadline.getTime();
+	}
+	
 	/**
 	 * Gets a specific Conference in system based on theConferenceName
 	 * @param theConferenceName the Conference name to match a Conference with
@@ -144,19 +423,37 @@ public class ConferenceSystem {
 	 * @author Dimitar Kumanov
 	 */
 	public Conference getConference(final String theConferenceName){
-		return myConferenceMap.get(theConferenceName);
+		Conference result = myConferenceMap.get(theConferenceName);
+		if (result == null && myImage != null) {
+			result = myImage.readConference(theConferenceName);
+			if (result != null) {
+				myConferenceMap.put(theConferenceName, result);
+				DeadlineScheduler.getInstance().schedule(result.getInfo());
+				if (myJournal != null) {
+					result.getInfo().setJournal(myJournal);
+				}
+			}
+		}
+		return result;
 	}
 	
 	/**
-	 * Adds a Conference to the System.
+	 * Adds a Conference to the System and has the DeadlineScheduler move it through its phases.
 	 * @param theConference the Conference to add to the RSystem.
 	 * @throws IllegalArgumentException if theConference name matches a Conference already in the RSystem.
 	 */
 	public void addConference(final Conference theConference) throws IllegalArgumentException{
-		if(myConferenceMap.containsKey(theConference.getInfo().getName())){
+		if(myConferenceMap.containsKey(theConference.getInfo().getName())
+				|| myImage != null && myImage.containsConference(theConference.getInfo().getName())){
 			throw new IllegalArgumentException("There exists a Conference with this name in the RSystem already!");
 		}
 		myConferenceMap.put(theConference.getInfo().getName(), theConference);
+		DeadlineScheduler.getInstance().schedule(theConference.getInfo());
+		myAnalytics = null;
+		if (myJournal != null) {
+			theConference.getInfo().setJournal(myJournal);
+			myJournal.conferenceAdded(theConference);
+		}
 	}
 	
 	/**
@@ -166,7 +463,14 @@ public class ConferenceSystem {
 	 * @return the Profile of the User. null if no profile found.
 	 */
 	public UserProfile getUserProfile(final String theUserID){
-		return myUserMap.get(theUserID);
+		UserProfile result = myUserMap.get(theUserID);
+		if (result == null && myImage != null) {
+			result = myImage.getUserProfile(theUserID);
+			if (result != null) {
+				myUserMap.put(theUserID, result);
+			}
+		}
+		return result;
 	}
 	
 	/**
@@ -175,10 +479,14 @@ public class ConferenceSystem {
 	 * @throws IllegalArgumentException  if theUserProfile's userID matches a UserProfile's userID already in the RSystem.
 	 */
 	public void addUserProfile(final UserProfile theUserProfile) throws IllegalArgumentException{
-		if(myUserMap.containsKey(theUserProfile.getName())){
+		if(myUserMap.containsKey(theUserProfile.getName())
+				|| myImage != null && myImage.containsUser(theUserProfile.getUID())){
 			throw new IllegalArgumentException("There exists a UserProfile with userID in the RSystem already!");
 		}
 		myUserMap.put(theUserProfile.getUID(), theUserProfile);
+		if (myJournal != null) {
+			myJournal.userAdded(theUserProfile);
+		}
 	}
 	
 	/**
@@ -188,6 +496,11 @@ public class ConferenceSystem {
 	 */
 	public List<Paper> getAllPapersSubmitted(final UserProfile theUserProfile){
 		final List<Paper> submittedPapers = new ArrayList<>();
+		if (myImage != null) {
+			for (final String name : myImage.getSubmittedConferences(theUserProfile.getUID())) {
+				getConference(name);
+			}
+		}
 		for(final Conference currentConference: myConferenceMap.values()){
 			submittedPapers.addAll(currentConference.getInfo().getPapersSubmittedBy(theUserProfile));
 		}
@@ -201,9 +514,175 @@ public class ConferenceSystem {
 	 */
 	public List<Paper> getAllPapersAssignedTo(final UserProfile theUserProfile){
 		final List<Paper> submittedPapers = new ArrayList<>();
+		if (myImage != null) {
+			for (final String name : myImage.getReviewedConferences(theUserProfile.getUID())) {
+				getConference(name);
+			}
+		}
 		for(final Conference currentConference: myConferenceMap.values()){
 			submittedPapers.addAll(currentConference.getInfo().getPapersAssignedToReviewer(theUserProfile));
 		}
 		return submittedPapers;
 	}
+	
+	/**
+	 * Streams every Paper submitted to every Conference, read in place.
+	 * The stream knows its exact size and splits evenly, so parallel() fans out without copying the papers.
+	 * The model must not change while the stream runs.
+	 * @return a sequential stream of all submitted papers, conference by conference.
+	 */
+	public Stream<Paper> papers() {
+		final ConferenceData[] conferences = conferenceData();
+		final long[] offsets = FlatSpliterator.offsets(conferences.length, i -> conferences[i].getPaperCount());
+		return StreamSupport.stream(new FlatSpliterator<List<Paper>, Paper>(
+				i -> conferences[i].paperList(), offsets, List::get), false);
+	}
+	
+	/**
+	 * Streams every Review of every submitted Paper, read in place.
+	 * Like papers() the stream is exactly sized and splits evenly, also within the reviews of one paper.
+	 * The model must not change while the stream runs.
+	 * @return a sequential stream of all reviews, paper by paper.
+	 */
+	public Stream<Review> reviews() {
+		final ConferenceData[] conferences = conferenceData();
+		final long[] paperOffsets = FlatSpliterator.offsets(conferences.length, i -> conferences[i].getPaperCount());
+		final IntFunction<Paper> papers = i -> {
+			final int conference = FlatSpliterator.partOf(paperOffsets, i);
+			return conferences[conference].paperList().get((int) (i - paperOffsets[conference]));
+		};
+		final long[] offsets = new long[(int) paperOffsets[conferences.length] + 1];
+		int next = 0;
+		for (final ConferenceData conference : conferences) {
+			final List<Paper> conferencePapers = conference.paperList();
+			for (int i = 0; i < conferencePapers.size(); i++, next++) {
+				offsets[next + 1] = offsets[next] + conferencePapers.get(i).getReviewCount();
+			}
+		}
+		return StreamSupport.stream(new FlatSpliterator<Paper, Review>(papers, offsets, Paper::getReview), false);
+	}
+	
+	/**
+	 * Streams every reviewer assignment of every Conference, read in place.
+	 * Like papers() the stream is exactly sized and splits evenly.
+	 * The model must not change while the stream runs.
+	 * @return a sequential stream of all reviewer assignments, reviewer by reviewer.
+	 */
+	public Stream<Assignment> assignments() {
+		final List<ReviewerPapers> reviewers = new ArrayList<>();
+		for (final ConferenceData conference : conferenceData()) {
+			for (final Entry<UserProfile, List<Paper>> entry : conference.getReviewerAssignmentMap().entrySet()) {
+				reviewers.add(new ReviewerPapers(conference, entry.getKey(), entry.getValue()));
+			}
+		}
+		final long[] offsets = FlatSpliterator.offsets(reviewers.size(), i -> reviewers.get(i).myPapers.size());
+		return StreamSupport.stream(new FlatSpliterator<ReviewerPapers, Assignment>(reviewers::get, offsets,
+				(reviewer, index) -> new Assignment(reviewer.myConference, reviewer.myReviewer,
+						reviewer.myPapers.get(index))), false);
+	}
+	
+	/**
+	 * Gets a columnar snapshot of the reviews, assignments and authorships of every Conference for analytics.
+	 * The snapshot is taken again once it is older than theMaxAgeMillis by the DeadlineScheduler clock, or when
+	 * Conferences are added or replaced; in between the same snapshot is returned, so a dashboard polling this
+	 * refreshes its figures at most every theMaxAgeMillis. Call it on the thread which changes the model.
+	 * @param theMaxAgeMillis how old the returned snapshot may be, 0 to always take a new one.
+	 * @return a (non-null) snapshot of all Conferences.
+	 * @throws IllegalArgumentException if theMaxAgeMillis is negative.
+	 */
+	public AnalyticsSnapshot getAnalytics(final long theMaxAgeMillis) {
+		if (theMaxAgeMillis < 0) {
+			throw new IllegalArgumentException("The maximum age can not be negative!");
+		}
+		final long now = DeadlineScheduler.getInstance().currentTimeMillis();
+		if (myAnalytics == null || now - myAnalytics.getTakenMillis() >= theMaxAgeMillis) {
+			myAnalytics = new AnalyticsSnapshot(conferenceData(), now);
+		}
+		return myAnalytics;
+	}
+	
+	private ConferenceData[] conferenceData() {
+		readImage();
+		final ConferenceData[] result = new ConferenceData[myConferenceMap.size()];
+		int next = 0;
+		for (final Conference conference : myConferenceMap.values()) {
+			result[next++] = conference.getInfo();
+		}
+		return result;
+	}
+	
+	/**
+	 * The papers of one reviewer in one Conference, a part of assignments().
+	 */
+	private static final class ReviewerPapers {
+		
+		private final ConferenceData myConference;
+		private final UserProfile myReviewer;
+		private final List<Paper> myPapers;
+		
+		private ReviewerPapers(final ConferenceData theConference, final UserProfile theReviewer,
+				final List<Paper> thePapers) {
+			myConference = theConference;
+			myReviewer = theReviewer;
+			myPapers = thePapers;
+		}
+	}
+	
+	/**
+	 * A Paper assigned to a reviewer in a Conference, as streamed by assignments().
+	 */
+	public static final class Assignment {
+		
+		private final ConferenceData myConference;
+		private final UserProfile myReviewer;
+		private final Paper myPaper;
+		
+		private Assignment(final ConferenceData theConference, final UserProfile theReviewer,
+				final Paper thePaper) {
+			myConference = theConference;
+			myReviewer = theReviewer;
+			myPaper = thePaper;
+		}
+		
+		/**
+		 * @return the Conference the assignment is made in.
+		 */
+		public ConferenceInfo getConference() {
+			return myConference;
+		}
+		
+		/**
+		 * @return the assigned reviewer.
+		 */
+		public UserProfile getReviewer() {
+			return myReviewer;
+		}
+		
+		/**
+		 * @return the paper the reviewer is assigned to.
+		 */
+		public Paper getPaper() {
+			return myPaper;
+		}
+		
+		@Override
+		public int hashCode() {
+			return Objects.hash(myConference, myReviewer, myPaper);
+		}
+		
+		@Override
+		public boolean equals(final Object theOther) {
+			if (!(theOther instanceof Assignment)) {
+				return false;
+			}
+			final Assignment other = (Assignment) theOther;
+			return myConference == other.myConference && myReviewer.equals(other.myReviewer)
+					&& myPaper == other.myPaper;
+		}
+		
+		@Override
+		public String toString() {
+			return myConference.getName() + ": " + myReviewer.getName() + " reviews " + myPaper.getTitle();
+		}
+	}
 }
@@ -0,0 +1,75 @@
+package model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A reusable cursor over the results of a ConferenceInfo query, for reading without allocating.
+ *
+ * A cursor is opened by one of the open methods of ConferenceInfo, e.g. openPapersSubmittedBy(), and can be opened
+ * again and again for other queries. It reads the model directly, so it is only valid until the next mutation of the
+ * conference.
+ * <pre>
+ * final Cursor&lt;Paper&gt; papers = info.openPapersSubmittedBy(user, myCursor);
+ * while (papers.next()) {
+ *     use(papers.get());
+ * }
+ * </pre>
+ *
+ * @param <T> the type of the results.
+ * @version 10/19/2026
+ */
+public final class Cursor<T> {
+
+    private List<? extends T> myItems;
+
+    private int myIndex;
+
+    /**
+     * Creates a cursor over nothing.
+     */
+    public Cursor() {
+        myItems = Collections.emptyList();
+        myIndex = -1;
+    }
+
+    /**
+     * Points this cursor before the first of theItems, which are random access.
+     * @return this.
+     */
+    Cursor<T> reset(final List<? extends T> theItems) {
+        myItems = theItems == null ? Collections.<T>emptyList() : theItems;
+        myIndex = -1;
+        return this;
+    }
+
+    /**
+     * Moves to the next result.
+     * @return true iff there is one.
+     */
+    public boolean next() {
+        if (myIndex < myItems.size()) {
+            myIndex++;
+        }
+        return myIndex < myItems.size();
+    }
+
+    /**
+     * @return the current result.
+     * @throws NoSuchElementException if next() was not called or returned false.
+     */
+    public T get() {
+        if (myIndex < 0 || myIndex >= myItems.size()) {
+            throw new NoSuchElementException();
+        }
+        return myItems.get(myIndex);
+    }
+
+    /**
+     * @return the amount of results.
+     */
+    public int size() {
+        return myItems.size();
+    }
+}
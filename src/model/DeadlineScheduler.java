@@ -0,0 +1,277 @@
+package model;
+
+import java.lang.ref.WeakReference;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A singleton which moves every Conference of a ConferenceSystem to its next phase when a deadline passes.
+ *
+ * The ConferenceSystem schedules a conference when it is added or loaded and cancels it when it is dropped; the
+ * phase of a conference which is in no system is worked out from the clock whenever it is asked for.
+ * All model code reads the time from the clock of the scheduler, which tests replace with setClock(). The next
+ * deadline of every conference sits in one TimerWheel. With the system clock a daemon thread advances the wheel every
+ * TICK_MILLIS; with any other clock nothing moves until runPending() is called, so tests step through time
+ * deterministically. A phase changes exactly once per deadline and every change is published to the
+ * PhaseListeners, after the new phase is visible. Checking the phase of a conference is a volatile read.
+ *
+ * @version 10/19/2026
+ */
+public final class DeadlineScheduler {
+
+    /** How often the daemon thread advances the wheel, in milliseconds. */
+    public static final long TICK_MILLIS = 100;
+
+    private static final LongAdder TRANSITIONS =
+            MetricsRegistry.getInstance().counter("DeadlineScheduler.transitions");
+
+    private static final Clock SYSTEM_CLOCK = Clock.systemUTC();
+
+    /** My only instance. */
+    private static final DeadlineScheduler INSTANCE = new DeadlineScheduler();
+
+    /**
+     * Told about each phase change of a conference.
+     */
+    @FunctionalInterface
+    public interface PhaseListener {
+
+        /**
+         * Called on the thread which saw the deadline pass, without any lock held.
+         * @param theConference the conference which changed phase.
+         * @param theOldPhase the phase before, null if the conference was just added to or loaded into a
+         * ConferenceSystem.
+         * @param theNewPhase the phase now.
+         */
+        void phaseChanged(ConferenceData theConference, ConferencePhase theOldPhase, ConferencePhase theNewPhase);
+    }
+
+    private volatile Clock myClock;
+
+    /**
+     * The next deadline of each conference, guarded by this. The timeouts only refer to their conference weakly, so
+     * neither the wheel nor the values of myConferences keep a conference from being collected.
+     */
+    private TimerWheel<WeakReference<ConferenceData>> myWheel;
+
+    /**
+     * Every known conference with its pending timeout, or null once all its deadlines passed. Weak so that dropped
+     * conferences are collected; guarded by this.
+     */
+    private final Map<ConferenceData, TimerWheel.Timeout<WeakReference<ConferenceData>>> myConferences;
+
+    private final List<PhaseListener> myListeners;
+
+    private DeadlineScheduler() {
+        myClock = SYSTEM_CLOCK;
+        myWheel = new TimerWheel<>(myClock.millis());
+        myConferences = new WeakHashMap<>();
+        myListeners = new CopyOnWriteArrayList<>();
+
+        final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "DeadlineScheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(() -> {
+            if (myClock == SYSTEM_CLOCK) {
+                runPending();
+            }
+        }, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets THE scheduler, starting its thread on the first call.
+     * @return the only DeadlineScheduler.
+     */
+    public static DeadlineScheduler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return the system clock the scheduler starts with, to restore after setClock().
+     */
+    public static Clock systemClock() {
+        return SYSTEM_CLOCK;
+    }
+
+    /**
+     * @return the clock the model reads the time from.
+     */
+    public Clock getClock() {
+        return myClock;
+    }
+
+    /**
+     * @return the current time of the clock in milliseconds.
+     */
+    public long currentTimeMillis() {
+        return myClock.millis();
+    }
+
+    /**
+     * Replaces the clock, for tests and simulations, and brings every known conference to its phase at the time of
+     * theClock. Unless theClock is systemClock(), deadlines only pass in runPending(). Time only moves forward within
+     * one clock; set a new clock to go back.
+     * @param theClock the (non-null) new clock.
+     */
+    public void setClock(final Clock theClock) {
+        Objects.requireNonNull(theClock);
+        final List<Change> changes = new ArrayList<>();
+        synchronized (this) {
+            myClock = theClock;
+            myWheel = new TimerWheel<>(theClock.millis());
+            myConferences.replaceAll((conference, timeout) -> null);
+            for (final ConferenceData conference : new ArrayList<>(myConferences.keySet())) {
+                update(conference, changes);
+            }
+        }
+        publish(changes);
+    }
+
+    /**
+     * Adds theListener to be told about phase changes.
+     * @param theListener the (non-null) listener.
+     */
+    public void addPhaseListener(final PhaseListener theListener) {
+        myListeners.add(Objects.requireNonNull(theListener));
+    }
+
+    /**
+     * Removes theListener if it was added.
+     */
+    public void removePhaseListener(final PhaseListener theListener) {
+        myListeners.remove(theListener);
+    }
+
+    /**
+     * Advances the wheel to the current time of the clock and moves every conference whose deadline passed to its
+     * next phase. Called every TICK_MILLIS by the thread of the scheduler for the system clock, and by the owner of any
+     * other clock after moving it.
+     * @return the amount of phase changes.
+     */
+    public int runPending() {
+        final List<Change> changes = new ArrayList<>();
+        synchronized (this) {
+            advance(changes);
+        }
+        publish(changes);
+        return changes.size();
+    }
+
+    /**
+     * Starts tracking theConference: sets its phase for the current time and schedules its next deadline.
+     * Called when a conference is added to or loaded into a ConferenceSystem.
+     */
+    void schedule(final ConferenceData theConference) {
+        final List<Change> changes = new ArrayList<>();
+        synchronized (this) {
+            advance(changes);
+            update(theConference, changes);
+        }
+        publish(changes);
+    }
+
+    /**
+     * Schedules theConference again after one of its deadlines changed, if it is tracked.
+     */
+    void reschedule(final ConferenceData theConference) {
+        final List<Change> changes = new ArrayList<>();
+        synchronized (this) {
+            if (!myConferences.containsKey(theConference)) {
+                return;
+            }
+            advance(changes);
+            update(theConference, changes);
+        }
+        publish(changes);
+    }
+
+    /**
+     * Stops tracking theConference; from then on its phase is worked out from the clock when asked for.
+     */
+    synchronized void cancel(final ConferenceData theConference) {
+        if (!myConferences.containsKey(theConference)) {
+            return;
+        }
+        final TimerWheel.Timeout<WeakReference<ConferenceData>> timeout = myConferences.remove(theConference);
+        if (timeout != null) {
+            myWheel.cancel(timeout);
+        }
+        theConference.setPhase(null);
+    }
+
+    /**
+     * Advances the wheel to the current time of the clock and updates the conferences whose deadline passed.
+     * Timeouts of conferences which were collected are dropped. Holds the lock of this.
+     */
+    private void advance(final List<Change> theChanges) {
+        myWheel.advance(myClock.millis(), reference -> {
+            final ConferenceData conference = reference.get();
+            if (conference != null) {
+                update(conference, theChanges);
+            }
+        });
+    }
+
+    /**
+     * Brings theConference to its phase at the time of the wheel and schedules its next deadline.
+     * Holds the lock of this.
+     */
+    private void update(final ConferenceData theConference, final List<Change> theChanges) {
+        final TimerWheel.Timeout<WeakReference<ConferenceData>> old = myConferences.get(theConference);
+        if (old != null) {
+            myWheel.cancel(old);
+        }
+        final long now = myWheel.getTime();
+        final ConferencePhase phase = theConference.phaseAt(now);
+        final ConferencePhase oldPhase = theConference.setPhase(phase);
+        if (oldPhase != phase) {
+            theChanges.add(new Change(theConference, oldPhase, phase));
+        }
+        final long next = theConference.nextDeadlineAfter(now);
+        myConferences.put(theConference,
+                next == Long.MAX_VALUE ? null : myWheel.schedule(next, new WeakReference<>(theConference)));
+    }
+
+    private void publish(final List<Change> theChanges) {
+        for (final Change change : theChanges) {
+            if (change.myOldPhase != null) {
+                TRANSITIONS.increment();
+            }
+            for (final PhaseListener listener : myListeners) {
+                try {
+                    listener.phaseChanged(change.myConference, change.myOldPhase, change.myNewPhase);
+                } catch (final RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    /**
+     * A phase change waiting to be published.
+     */
+    private static final class Change {
+
+        private final ConferenceData myConference;
+        private final ConferencePhase myOldPhase;
+        private final ConferencePhase myNewPhase;
+
+        private Change(final ConferenceData theConference, final ConferencePhase theOldPhase,
+                final ConferencePhase theNewPhase) {
+            myConference = theConference;
+            myOldPhase = theOldPhase;
+            myNewPhase = theNewPhase;
+        }
+    }
+}
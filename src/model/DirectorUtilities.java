@@ -12,6 +12,10 @@ public class DirectorUtilities implements Serializable {
 	 * 
 	 */
 	private static final long serialVersionUID = 2623288211147054753L;
+	private static final LatencyHistogram ADD_USER_ROLE_LATENCY =
+			MetricsRegistry.getInstance().histogram("DirectorUtilities.addUserRole");
+	private static final LatencyHistogram ASSIGN_SUBPROGRAM_CHAIR_LATENCY =
+			MetricsRegistry.getInstance().histogram("DirectorUtilities.assignPaperToSubProgramChair");
 	private final ConferenceData myConferenceInfo;
     
 	/**
@@ -26,13 +30,19 @@ public class DirectorUtilities implements Serializable {
             final UserProfile theUserProfile,
             final String theUserRole
             ){
+        final long start = System.nanoTime();
         myConferenceInfo.addUserToRole(theUserProfile, theUserRole);
+        ChangeJournal.roleAdded(myConferenceInfo, theUserProfile, theUserRole);
+        ADD_USER_ROLE_LATENCY.recordSince(start);
     }
     
     public void assignPaperToSubProgramChair(
             final UserProfile theUserProfile,
             final Paper p
             ){
+        final long start = System.nanoTime();
         myConferenceInfo.assignSubprogramchairToPaper(theUserProfile, p);
+        ChangeJournal.paperAssigned(myConferenceInfo, true, theUserProfile, p);
+        ASSIGN_SUBPROGRAM_CHAIR_LATENCY.recordSince(start);
     }
 }
@@ -0,0 +1,163 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A spliterator over the elements of a sequence of parts, e.g. the papers of every conference, read in place.
+ *
+ * The elements are numbered across all parts by the prefix sums of the part sizes, so the spliterator knows its exact
+ * size and splits in half at any element, also in the middle of a part: SIZED and SUBSIZED, which lets parallel
+ * streams fan out evenly without copying the elements first. The parts must not change while it is used.
+ *
+ * @param <P> the type of the parts.
+ * @param <T> the type of the elements.
+ * @version 10/19/2026
+ */
+final class FlatSpliterator<P, T> implements Spliterator<T> {
+
+    /**
+     * Reads one element of a part.
+     */
+    @FunctionalInterface
+    interface Element<P, T> {
+
+        /**
+         * @return the element at theIndex in thePart.
+         */
+        T get(P thePart, int theIndex);
+    }
+
+    private final IntFunction<P> myParts;
+
+    /** The number of the first element of each part, followed by the total. */
+    private final long[] myOffsets;
+
+    private final Element<P, T> myElement;
+
+    private long myIndex;
+
+    private final long myEnd;
+
+    private int myPartIndex;
+
+    /** The part of myPartIndex, null until it is read. */
+    private P myPart;
+
+    /**
+     * Creates a spliterator over every element of the parts.
+     * @param theParts gets a part by its index.
+     * @param theOffsets the result of offsets() for the parts.
+     * @param theElement reads an element of a part.
+     */
+    FlatSpliterator(final IntFunction<P> theParts, final long[] theOffsets, final Element<P, T> theElement) {
+        this(theParts, theOffsets, theElement, 0, theOffsets[theOffsets.length - 1], 0);
+    }
+
+    private FlatSpliterator(final IntFunction<P> theParts, final long[] theOffsets, final Element<P, T> theElement,
+            final long theIndex, final long theEnd, final int thePartIndex) {
+        myParts = theParts;
+        myOffsets = theOffsets;
+        myElement = theElement;
+        myIndex = theIndex;
+        myEnd = theEnd;
+        myPartIndex = thePartIndex;
+    }
+
+    /**
+     * Gets the prefix sums of the sizes of theCount parts.
+     * @param theCount the amount of parts.
+     * @param theSizes gets the size of a part by its index.
+     * @return the number of the first element of each part, followed by the total amount of elements.
+     */
+    static long[] offsets(final int theCount, final IntUnaryOperator theSizes) {
+        final long[] result = new long[theCount + 1];
+        for (int i = 0; i < theCount; i++) {
+            result[i + 1] = result[i] + theSizes.applyAsInt(i);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the part which holds an element.
+     * @param theOffsets the result of offsets().
+     * @param theIndex the number of the element, less than the total.
+     * @return the index of the last non empty part starting at or before theIndex.
+     */
+    static int partOf(final long[] theOffsets, final long theIndex) {
+        int result = Arrays.binarySearch(theOffsets, theIndex);
+        if (result < 0) {
+            return -result - 2;
+        }
+        // Skip the empty parts which start at the same element.
+        while (result + 1 < theOffsets.length && theOffsets[result + 1] == theIndex) {
+            result++;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> theAction) {
+        if (myIndex >= myEnd) {
+            return false;
+        }
+        seek();
+        theAction.accept(myElement.get(myPart, (int) (myIndex - myOffsets[myPartIndex])));
+        myIndex++;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> theAction) {
+        while (myIndex < myEnd) {
+            seek();
+            final long partEnd = Math.min(myEnd, myOffsets[myPartIndex + 1]);
+            final long start = myOffsets[myPartIndex];
+            for (long i = myIndex; i < partEnd; i++) {
+                theAction.accept(myElement.get(myPart, (int) (i - start)));
+            }
+            myIndex = partEnd;
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final long middle = (myIndex + myEnd) >>> 1;
+        if (middle <= myIndex) {
+            return null;
+        }
+        final FlatSpliterator<P, T> prefix =
+                new FlatSpliterator<>(myParts, myOffsets, myElement, myIndex, middle, myPartIndex);
+        prefix.myPart = myPart;
+        myIndex = middle;
+        myPartIndex = partOf(myOffsets, middle);
+        myPart = null;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return myEnd - myIndex;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+
+    /**
+     * Moves to the part holding myIndex, which is less than myEnd.
+     */
+    private void seek() {
+        if (myPart != null && myIndex < myOffsets[myPartIndex + 1]) {
+            return;
+        }
+        while (myIndex >= myOffsets[myPartIndex + 1]) {
+            myPartIndex++;
+        }
+        myPart = myParts.apply(myPartIndex);
+    }
+}
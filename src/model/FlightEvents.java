@@ -0,0 +1,126 @@
+package model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder events of the model.
+ *
+ * Every event is timed from begin() to commit() and carries the conference name, the hash of the paper title, the UID
+ * of the acting user and an item count where they apply. Callers should only fill in the fields when shouldCommit()
+ * is true, so an event costs close to nothing when the recorder is off. Record with
+ * java -XX:StartFlightRecording=filename=model.jfr view.Main and summarize with view.FlightRecordingSummary.
+ *
+ * @version 10/19/2026
+ */
+public final class FlightEvents {
+
+    /** The category all model events are grouped under. */
+    public static final String CATEGORY = "ReviewIT";
+
+    private FlightEvents() {
+    }
+
+    /**
+     * @return the hash of the title of thePaper, or zero if thePaper is null.
+     */
+    public static int titleHash(final Paper thePaper) {
+        return thePaper == null ? 0 : thePaper.getTitle().hashCode();
+    }
+
+    /**
+     * The fields shared by all model events.
+     */
+    public abstract static class ModelEvent extends Event {
+
+        @Label("Conference")
+        public String conferenceName;
+
+        @Label("Paper Title Hash")
+        public int paperTitleHash;
+
+        @Label("User UID")
+        public String userUID;
+
+        @Label("Item Count")
+        public long itemCount;
+
+        @Label("Rejected")
+        @Description("Whether the operation was rejected by a business rule.")
+        public boolean rejected;
+
+        /**
+         * Sets the fields of this event.
+         * @param theConference the data of the conference, may be null.
+         * @param thePaper the paper acted on, may be null.
+         * @param theUser the acting user, may be null.
+         * @param theItemCount the amount of items involved.
+         */
+        public void set(
+                final ConferenceData theConference,
+                final Paper thePaper,
+                final UserProfile theUser,
+                final long theItemCount
+                ) {
+            conferenceName = theConference == null ? null : theConference.getName();
+            paperTitleHash = titleHash(thePaper);
+            userUID = theUser == null ? null : theUser.getUID();
+            itemCount = theItemCount;
+        }
+    }
+
+    /**
+     * A paper submitted through UserUtilities.addPaper. The item count is the amount of authors.
+     */
+    @Name("model.PaperSubmission")
+    @Label("Paper Submission")
+    @Category(CATEGORY)
+    public static class Submission extends ModelEvent {
+    }
+
+    /**
+     * A reviewer assigned through SubprogramUtilities.assignReviewer.
+     * The item count is the amount of papers assigned to the reviewer.
+     */
+    @Name("model.ReviewerAssignment")
+    @Label("Reviewer Assignment")
+    @Category(CATEGORY)
+    public static class Assignment extends ModelEvent {
+    }
+
+    /**
+     * A recommendation made through SubprogramUtilities.recommend. The item count is the amount of reviews.
+     */
+    @Name("model.Recommendation")
+    @Label("Recommendation")
+    @Category(CATEGORY)
+    public static class Recommendation extends ModelEvent {
+    }
+
+    /**
+     * A review sent through ReviewerUtilities.sendReview. The item count is the amount of reviews of the paper.
+     */
+    @Name("model.Review")
+    @Label("Review")
+    @Category(CATEGORY)
+    public static class ReviewSent extends ModelEvent {
+    }
+
+    /**
+     * A save or load of the ConferenceSystem. The item count is the amount of conferences.
+     */
+    @Name("model.Persistence")
+    @Label("Persistence")
+    @Category(CATEGORY)
+    public static class Persistence extends ModelEvent {
+
+        @Label("Operation")
+        public String operation;
+
+        @Label("Users")
+        public long users;
+    }
+}
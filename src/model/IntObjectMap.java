@@ -0,0 +1,162 @@
+package model;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * A hash map from int keys to objects with open addressing, so lookups neither box the key nor allocate.
+ *
+ * Used for the indexes of the model which are keyed by the IDs of AuthorDictionary. Null values are not allowed.
+ * Not thread safe.
+ *
+ * @param <V> the type of the values.
+ * @version 10/19/2026
+ */
+public class IntObjectMap<V> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] myKeys;
+
+    private Object[] myValues;
+
+    private int mySize;
+
+    /**
+     * Creates an empty map.
+     */
+    public IntObjectMap() {
+        myKeys = new int[MIN_CAPACITY];
+        myValues = new Object[MIN_CAPACITY];
+    }
+
+    /**
+     * @return the value of theKey or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final int theKey) {
+        final int index = indexOf(theKey);
+        return index < 0 ? null : (V) myValues[index];
+    }
+
+    /**
+     * @return the value of theKey, first putting theFactory's value for it if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(final int theKey, final IntFunction<? extends V> theFactory) {
+        final int index = indexOf(theKey);
+        if (index >= 0) {
+            return (V) myValues[index];
+        }
+        final V value = theFactory.apply(theKey);
+        put(theKey, value);
+        return value;
+    }
+
+    /**
+     * Maps theKey to theValue.
+     * @return the previous value of theKey or null if there was none.
+     * @throws NullPointerException if theValue is null.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(final int theKey, final V theValue) {
+        if (theValue == null) {
+            throw new NullPointerException();
+        }
+        if ((mySize + 1) * 4 > myKeys.length * 3) {
+            resize(myKeys.length * 2);
+        }
+
+        final int mask = myKeys.length - 1;
+        int index = mix(theKey) & mask;
+        while (myValues[index] != null) {
+            if (myKeys[index] == theKey) {
+                final V previous = (V) myValues[index];
+                myValues[index] = theValue;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        myKeys[index] = theKey;
+        myValues[index] = theValue;
+        mySize++;
+        return null;
+    }
+
+    /**
+     * Removes theKey.
+     * @return the value of theKey or null if there was none.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(final int theKey) {
+        int index = indexOf(theKey);
+        if (index < 0) {
+            return null;
+        }
+        final V previous = (V) myValues[index];
+        myValues[index] = null;
+        mySize--;
+
+        // shift the following entries of the probe sequence back so lookups do not stop at the gap
+        final int mask = myKeys.length - 1;
+        int next = (index + 1) & mask;
+        while (myValues[next] != null) {
+            final int home = mix(myKeys[next]) & mask;
+            if (((next - home) & mask) >= ((next - index) & mask)) {
+                myKeys[index] = myKeys[next];
+                myValues[index] = myValues[next];
+                myValues[next] = null;
+                index = next;
+            }
+            next = (next + 1) & mask;
+        }
+        return previous;
+    }
+
+    /**
+     * @return the amount of keys.
+     */
+    public int size() {
+        return mySize;
+    }
+
+    /**
+     * Removes all keys.
+     */
+    public void clear() {
+        Arrays.fill(myValues, null);
+        mySize = 0;
+    }
+
+    private int indexOf(final int theKey) {
+        final int mask = myKeys.length - 1;
+        int index = mix(theKey) & mask;
+        while (myValues[index] != null) {
+            if (myKeys[index] == theKey) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(final int theCapacity) {
+        final int[] keys = myKeys;
+        final Object[] values = myValues;
+        myKeys = new int[theCapacity];
+        myValues = new Object[theCapacity];
+        mySize = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null) {
+                put(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    private static int mix(final int theKey) {
+        final int h = theKey * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
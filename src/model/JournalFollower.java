@@ -0,0 +1,449 @@
+package model;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * A read only copy of a ConferenceSystem, kept up to date by tailing the ChangeJournal the primary system writes,
+ * so reads such as dashboards and reports can be served by another thread or another JVM on the same host.
+ *
+ * poll() applies the complete entries written since the last poll to a ConferenceSystem of its own, and start()
+ * polls on a thread of its own. Queries run with query() or getUserProfile() under a read lock, so they never see
+ * an entry half applied; the ConferenceInfo passed to a query must not be kept or changed.
+ *
+ * The replication lag of each entry, the time between the primary writing it and the follower applying it by the
+ * clock of the DeadlineScheduler, is recorded in the "JournalFollower.lag" histogram, in nanoseconds like the
+ * latencies; entries which can not be applied, e.g. a review of a paper not submitted to the conference, are counted
+ * as skipped. An entry naming a paper the copy does not hold means the copy has diverged from the primary, so poll()
+ * fails on it, every time it is polled.
+ *
+ * Usage: java model.JournalFollower journal [interval=milliseconds]
+ * which follows the journal and prints the conferences and the lag each interval.
+ *
+ * @version 10/19/2026
+ */
+public final class JournalFollower implements Closeable {
+
+    private static final LatencyHistogram LAG = MetricsRegistry.getInstance().histogram("JournalFollower.lag");
+    private static final LongAdder APPLIED = MetricsRegistry.getInstance().counter("JournalFollower.applied");
+    private static final LongAdder SKIPPED = MetricsRegistry.getInstance().counter("JournalFollower.skipped");
+    private static final LongAdder ERRORS = MetricsRegistry.getInstance().counter("JournalFollower.errors");
+
+    /** The bytes read from the journal at once, unless an entry is larger. */
+    private static final int READ_BYTES = 64 * 1024;
+
+    private final FileChannel myChannel;
+    private final ConferenceSystem mySystem = ConferenceSystem.createReplica();
+    private final ReentrantReadWriteLock myLock = new ReentrantReadWriteLock();
+    /** Every user named in the journal by UID, including those which are not in the system. */
+    private final Map<String, UserProfile> myUsers = new HashMap<>();
+    private ByteBuffer myBuffer = ByteBuffer.allocate(READ_BYTES);
+    private long myOffset;
+    private long mySequence;
+    private volatile long myLagMillis;
+    private ScheduledExecutorService myPoller;
+
+    private JournalFollower(final FileChannel theChannel) {
+        myChannel = theChannel;
+    }
+
+    /**
+     * Opens the journal at thePath to follow it from the start. Nothing is applied before the first poll().
+     * @param thePath the (non-null) journal written by a ChangeJournal.
+     * @return the follower.
+     * @throws IOException if the journal can not be opened.
+     */
+    public static JournalFollower open(final Path thePath) throws IOException {
+        return new JournalFollower(FileChannel.open(thePath, StandardOpenOption.READ));
+    }
+
+    /**
+     * Follows the journal named in args and prints the state of the copy each interval.
+     * @param args the journal and optionally interval=milliseconds.
+     * @throws IOException if the journal can not be opened.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Path journal = null;
+        long interval = 1000;
+        for (final String arg : args) {
+            if (arg.startsWith("interval=")) {
+                interval = Long.parseLong(arg.substring("interval=".length()));
+            } else {
+                journal = Paths.get(arg);
+            }
+        }
+        if (journal == null) {
+            System.err.println("Usage: java model.JournalFollower journal [interval=milliseconds]");
+            return;
+        }
+
+        try (JournalFollower follower = open(journal)) {
+            follower.start(Math.max(1, interval / 10));
+            while (true) {
+                Thread.sleep(interval);
+                final List<String> conferences = follower.getConferenceNames();
+                final int papers = conferences.stream()
+                        .mapToInt(name -> follower.query(name, ConferenceInfo::getPaperCount)).sum();
+                System.out.printf("sequence %d: %d conferences, %d papers, lag %d ms, %d bytes behind%n",
+                        follower.getSequence(), conferences.size(), papers, follower.getLagMillis(),
+                        follower.getBytesBehind());
+            }
+        }
+    }
+
+    /**
+     * Polls the journal every theIntervalMillis on a daemon thread until close().
+     * @param theIntervalMillis the time between the end of one poll and the start of the next.
+     * @throws IllegalArgumentException if theIntervalMillis is not positive.
+     * @throws IllegalStateException if the follower was started already.
+     */
+    public synchronized void start(final long theIntervalMillis) {
+        if (theIntervalMillis <= 0) {
+            throw new IllegalArgumentException("The interval must be positive!");
+        }
+        if (myPoller != null) {
+            throw new IllegalStateException("The follower was started already!");
+        }
+        myPoller = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "journal-follower");
+            thread.setDaemon(true);
+            return thread;
+        });
+        myPoller.scheduleWithFixedDelay(() -> {
+            try {
+                poll();
+            } catch (IOException | RuntimeException e) {
+                ERRORS.increment();
+            }
+        }, 0, theIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Applies every complete entry written to the journal since the last poll.
+     * @return the amount of entries read, including the skipped ones.
+     * @throws IOException if the journal can not be read.
+     * @throws IllegalStateException if the journal is not the one followed so far, e.g. it was created again, or an
+     * entry names a paper the copy does not hold.
+     */
+    public int poll() throws IOException {
+        int result = 0;
+        myLock.writeLock().lock();
+        try {
+            int read;
+            do {
+                read = pollBuffer();
+                result += read;
+            } while (read > 0);
+        } finally {
+            myLock.writeLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Reads the journal from myOffset into myBuffer and applies the complete entries in it.
+     */
+    private int pollBuffer() throws IOException {
+        myBuffer.clear();
+        while (myBuffer.hasRemaining() && myChannel.read(myBuffer, myOffset + myBuffer.position()) > 0) {
+            // Fill the buffer as far as the journal goes.
+        }
+        myBuffer.flip();
+
+        int result = 0;
+        while (myBuffer.remaining() >= Integer.BYTES) {
+            final int length = myBuffer.getInt(myBuffer.position());
+            if (length < ChangeJournal.HEADER_BYTES) {
+                throw new IllegalStateException("Bad journal entry at " + myOffset);
+            }
+            if (myBuffer.remaining() - Integer.BYTES < length) {
+                if (result == 0 && Integer.BYTES + length > myBuffer.capacity()) {
+                    myBuffer = ByteBuffer.allocate(Integer.BYTES + length);
+                    return pollBuffer();
+                }
+                break;
+            }
+            apply(new DataInputStream(new ByteArrayInputStream(myBuffer.array(),
+                    myBuffer.position() + Integer.BYTES, length)));
+            myBuffer.position(myBuffer.position() + Integer.BYTES + length);
+            myOffset += Integer.BYTES + length;
+            result++;
+        }
+        return result;
+    }
+
+    private void apply(final DataInputStream theIn) throws IOException {
+        final long sequence = theIn.readLong();
+        if (sequence != mySequence + 1) {
+            throw new IllegalStateException("Journal entry " + sequence + " follows entry " + mySequence);
+        }
+        final long time = theIn.readLong();
+        final ChangeJournal.Type type = ChangeJournal.Type.values()[theIn.readByte()];
+        try {
+            if (apply(type, theIn)) {
+                APPLIED.increment();
+            } else {
+                SKIPPED.increment();
+            }
+        } catch (IllegalArgumentException e) {
+            SKIPPED.increment();
+        }
+        mySequence = sequence;
+        myLagMillis = Math.max(0, DeadlineScheduler.getInstance().currentTimeMillis() - time);
+        LAG.record(myLagMillis * 1_000_000);
+    }
+
+    /**
+     * Applies one entry to the copy.
+     * @return false if it refers to something the copy does not hold.
+     */
+    private boolean apply(final ChangeJournal.Type theType, final DataInputStream theIn) throws IOException {
+        switch (theType) {
+        case CLEAR:
+            mySystem.clear();
+            myUsers.clear();
+            return true;
+        case USER:
+            mySystem.addUserProfile(readUser(theIn));
+            return true;
+        case CONFERENCE:
+            return addConference(theIn);
+        default:
+            break;
+        }
+
+        final Conference conference = mySystem.getConference(theIn.readUTF());
+        if (conference == null) {
+            return false;
+        }
+        final ConferenceData info = conference.getInfo();
+        switch (theType) {
+        case SUBMISSION_DEADLINE:
+            info.setSubmissionDate(new Date(theIn.readLong()));
+            return true;
+        case REVIEW_DEADLINE:
+            final long deadline = theIn.readLong();
+            info.setReviewDeadline(deadline < 0 ? null : new Date(deadline));
+            return true;
+        case PAPER:
+            final UserProfile submitter = readUser(theIn);
+            final String title = theIn.readUTF();
+            final List<String> authors = new ArrayList<>();
+            for (int a = theIn.readInt(); a > 0; a--) {
+                authors.add(theIn.readUTF());
+            }
+            final Paper paper = Paper.createPaper(new File(theIn.readUTF()), authors, title, submitter);
+            paper.setSubmissionDate(new Date(theIn.readLong()));
+            conference.getUserRole().applyPaper(submitter, paper);
+            return true;
+        case ROLE:
+            info.addUserToRole(readUser(theIn), theIn.readUTF());
+            return true;
+        default:
+            break;
+        }
+
+        if (theType == ChangeJournal.Type.REMOVE_PAPER) {
+            final UserProfile submitter = readUser(theIn);
+            final Paper paper = paperAt(info, submitter, theIn.readInt());
+            if (paper == null) {
+                return false;
+            }
+            conference.getUserRole().applyRemovePaper(submitter, paper);
+            return true;
+        }
+        final boolean review = theType == ChangeJournal.Type.REVIEW || theType == ChangeJournal.Type.RECOMMENDATION;
+        final UserProfile user = !review || theIn.readBoolean() ? readUser(theIn) : null;
+        final Paper paper = readPaper(theIn, info);
+        if (paper == null) {
+            return false;
+        }
+        final File file = review && theIn.readBoolean() ? new File(theIn.readUTF()) : null;
+        switch (theType) {
+        case SUBPROGRAM_CHAIR:
+            info.assignSubprogramchairToPaper(user, paper);
+            return true;
+        case REVIEWER:
+            conference.getSubprogramRole().applyAssignment(user, paper);
+            return true;
+        case REVIEW:
+            paper.addReview(new Review(file, theIn.readInt(), user, theIn.readLong()));
+            return true;
+        case RECOMMENDATION:
+            paper.setMyRecommendation(new Review(file, theIn.readInt(), user, theIn.readLong()));
+            return true;
+        default:
+            throw new IllegalStateException("Unknown journal entry " + theType);
+        }
+    }
+
+    private boolean addConference(final DataInputStream theIn) throws IOException {
+        final String name = theIn.readUTF();
+        final byte[] bytes = new byte[theIn.readInt()];
+        theIn.readFully(bytes);
+        final Conference conference;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            conference = (Conference) in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Unknown class in the journal entry of " + name, e);
+        }
+        if (mySystem.getConference(name) != null) {
+            return false;
+        }
+        mySystem.addConference(conference);
+        return true;
+    }
+
+    /**
+     * Reads a user, the same UserProfile for every entry naming its UID.
+     */
+    private UserProfile readUser(final DataInputStream theIn) throws IOException {
+        final String uid = theIn.readUTF();
+        final String name = theIn.readUTF();
+        return myUsers.computeIfAbsent(uid, id -> new UserProfile(id, name));
+    }
+
+    /**
+     * Reads a paper by its submitter and its index in the papers of the submitter.
+     * @return the paper, null if it is not submitted to the conference of theInfo.
+     * @throws IllegalStateException if theInfo has no paper at the index.
+     */
+    private Paper readPaper(final DataInputStream theIn, final ConferenceData theInfo) throws IOException {
+        final UserProfile submitter = readUser(theIn);
+        return paperAt(theInfo, submitter, theIn.readInt());
+    }
+
+    /**
+     * @return the paper at theIndex in the papers theSubmitter has in theInfo, null if theIndex is -1.
+     * @throws IllegalStateException if there is no such paper, as the copy has diverged from the primary.
+     */
+    private Paper paperAt(final ConferenceData theInfo, final UserProfile theSubmitter, final int theIndex) {
+        if (theIndex == -1) {
+            return null;
+        }
+        final List<Paper> papers = theInfo.getPapersSubmittedBy(theSubmitter);
+        if (theIndex < 0 || theIndex >= papers.size()) {
+            throw new IllegalStateException("Journal entry " + (mySequence + 1) + " names paper " + theIndex
+                    + " of " + theSubmitter.getUID() + " in " + theInfo.getName() + ", which has "
+                    + papers.size());
+        }
+        return papers.get(theIndex);
+    }
+
+    /**
+     * Runs theQuery on the copy of a Conference while no entry is applied.
+     * @param theConference the name of the Conference.
+     * @param theQuery the query, which must not change the Conference or keep it.
+     * @return the result of theQuery, null if the copy has no such Conference.
+     */
+    public <T> T query(final String theConference, final Function<? super ConferenceInfo, T> theQuery) {
+        myLock.readLock().lock();
+        try {
+            final Conference conference = mySystem.getConference(theConference);
+            return conference == null ? null : theQuery.apply(conference.getInfo());
+        } finally {
+            myLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the names of the Conferences in the copy.
+     */
+    public List<String> getConferenceNames() {
+        myLock.readLock().lock();
+        try {
+            final List<String> result = new ArrayList<>();
+            for (final Conference conference : mySystem.getConferences()) {
+                result.add(conference.getInfo().getName());
+            }
+            return result;
+        } finally {
+            myLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param theUserID the UID of a user.
+     * @return the UserProfile added to the primary system with theUserID, null if there is none.
+     */
+    public UserProfile getUserProfile(final String theUserID) {
+        myLock.readLock().lock();
+        try {
+            return mySystem.getUserProfile(theUserID);
+        } finally {
+            myLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the sequence number of the last entry read, 0 if none was.
+     */
+    public long getSequence() {
+        myLock.readLock().lock();
+        try {
+            return mySequence;
+        } finally {
+            myLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the replication lag of the last entry read in milliseconds, 0 if none was.
+     */
+    public long getLagMillis() {
+        return myLagMillis;
+    }
+
+    /**
+     * @return how many bytes of the journal were written but not read yet.
+     * @throws IOException if the size of the journal can not be read.
+     */
+    public long getBytesBehind() throws IOException {
+        myLock.readLock().lock();
+        try {
+            return Math.max(0, myChannel.size() - myOffset);
+        } finally {
+            myLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stops polling, closes the journal and drops the copy.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (myPoller != null) {
+                myPoller.shutdown();
+            }
+        }
+        myLock.writeLock().lock();
+        try {
+            myChannel.close();
+            mySystem.clear();
+        } finally {
+            myLock.writeLock().unlock();
+        }
+    }
+}
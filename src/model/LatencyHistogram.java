@@ -0,0 +1,159 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock free histogram of latencies in nanoseconds.
+ *
+ * Values are counted in log-linear buckets: every power of two is split into SUB_BUCKETS equally sized buckets, so any
+ * recorded value is known within 1 / SUB_BUCKETS of its actual value, like an HDR histogram with one significant
+ * digit. Recording is a couple of atomic increments and is safe to call from any thread.
+ *
+ * @version 10/19/2026
+ */
+public class LatencyHistogram {
+
+    /** The amount of sub buckets each power of two is split into, must be a power of two. */
+    public static final int SUB_BUCKETS = 8;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+
+    /** Enough buckets to hold any non negative long. */
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final String myName;
+    private final AtomicLongArray myBuckets;
+    private final LongAdder myCount;
+    private final LongAdder mySum;
+    private final LongAccumulator myMax;
+
+    /**
+     * Creates an empty histogram.
+     * @param theName the name of the measured operation.
+     */
+    public LatencyHistogram(final String theName) {
+        myName = theName;
+        myBuckets = new AtomicLongArray(BUCKET_COUNT);
+        myCount = new LongAdder();
+        mySum = new LongAdder();
+        myMax = new LongAccumulator(Math::max, 0);
+    }
+
+    /**
+     * @return the name of the measured operation.
+     */
+    public String getName() {
+        return myName;
+    }
+
+    /**
+     * Records a single latency. Negative values are recorded as zero.
+     * @param theNanos the latency in nanoseconds.
+     */
+    public void record(final long theNanos) {
+        final long value = Math.max(0, theNanos);
+        myBuckets.incrementAndGet(bucketOf(value));
+        myCount.increment();
+        mySum.add(value);
+        myMax.accumulate(value);
+    }
+
+    /**
+     * Records the time passed since theStartNanos, as given by System.nanoTime().
+     * @param theStartNanos the System.nanoTime() at the start of the operation.
+     */
+    public void recordSince(final long theStartNanos) {
+        record(System.nanoTime() - theStartNanos);
+    }
+
+    /**
+     * @return the amount of recorded values.
+     */
+    public long getCount() {
+        return myCount.sum();
+    }
+
+    /**
+     * @return the sum of all recorded values in nanoseconds.
+     */
+    public long getSum() {
+        return mySum.sum();
+    }
+
+    /**
+     * @return the largest recorded value in nanoseconds, or zero if none have been recorded.
+     */
+    public long getMax() {
+        return myMax.get();
+    }
+
+    /**
+     * @return the mean of all recorded values in nanoseconds, or zero if none have been recorded.
+     */
+    public double getMean() {
+        final long count = getCount();
+        return count == 0 ? 0 : getSum() / (double) count;
+    }
+
+    /**
+     * Gets an upper bound of the value at thePercentile. Concurrent updates may or may not be seen.
+     * @param thePercentile the percentile between 0 and 100.
+     * @return the upper bound of the bucket holding thePercentile in nanoseconds, or zero if none have been recorded.
+     * @throws IllegalArgumentException if thePercentile is not between 0 and 100.
+     */
+    public long getPercentile(final double thePercentile) {
+        if (!(thePercentile >= 0 && thePercentile <= 100)) {
+            throw new IllegalArgumentException();
+        }
+
+        final long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = myBuckets.get(i);
+            total += counts[i];
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(total * thePercentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * @return the index of the bucket which counts theValue.
+     */
+    static int bucketOf(final long theValue) {
+        if (theValue < SUB_BUCKETS) {
+            return (int) theValue;
+        }
+
+        final int magnitude = 63 - Long.numberOfLeadingZeros(theValue) - SUB_BUCKET_BITS;
+        final int subBucket = (int) (theValue >>> magnitude) - SUB_BUCKETS;
+        return (magnitude + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @return the largest value counted by the bucket at theIndex.
+     */
+    static long upperBoundOf(final int theIndex) {
+        if (theIndex < SUB_BUCKETS) {
+            return theIndex;
+        }
+
+        final int magnitude = theIndex / SUB_BUCKETS - 1;
+        final long subBucket = theIndex % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << magnitude) - 1;
+    }
+}
@@ -0,0 +1,187 @@
+package model;
+
+import java.io.IOException;
+
+/**
+ * A byte oriented LZ77 codec in the manner of LZ4, which trades ratio for speed: matches are found through a
+ * single probe of a hash table of 4 byte sequences, runs without matches are stepped through faster and faster,
+ * and there is no entropy coding.
+ *
+ * A block is a run of sequences. Each starts with a token whose high nibble is the amount of literals and whose
+ * low nibble is the match length less MIN_MATCH, a nibble of 15 continuing in extra bytes which are added up until
+ * one is less than 255. The literals follow, then the offset of the match as 2 bytes little endian and the extra
+ * bytes of its length. The last sequence has only literals; the decoder knows where the block ends.
+ *
+ * @version 10/19/2026
+ */
+final class LzCodec implements SnapshotCodec {
+
+    /** The shared codec, it keeps no state. */
+    static final LzCodec INSTANCE = new LzCodec();
+
+    private static final int MIN_MATCH = 4;
+    private static final int MAX_OFFSET = 0xFFFF;
+    private static final int HASH_BITS = 14;
+    private static final int RUN_MASK = 15;
+
+    private LzCodec() {
+    }
+
+    @Override
+    public int getId() {
+        return LZ;
+    }
+
+    @Override
+    public int getLevel() {
+        return 0;
+    }
+
+    @Override
+    public String getName() {
+        return "lz";
+    }
+
+    @Override
+    public int compress(final byte[] theSource, final int theLength, final byte[] theTarget) {
+        final int[] table = new int[1 << HASH_BITS];
+        final int limit = theLength - 1;
+        int out = 0;
+        int anchor = 0;
+        int in = 0;
+        int misses = 0;
+        while (in <= theLength - MIN_MATCH) {
+            final int sequence = readInt(theSource, in);
+            final int hash = (sequence * 0x9E3779B1) >>> (Integer.SIZE - HASH_BITS);
+            final int candidate = table[hash] - 1;
+            table[hash] = in + 1;
+            if (candidate < 0 || in - candidate > MAX_OFFSET || readInt(theSource, candidate) != sequence) {
+                // step faster through bytes which do not compress
+                in += 1 + (misses++ >>> 6);
+                continue;
+            }
+            misses = 0;
+            int length = MIN_MATCH;
+            while (in + length < theLength && theSource[candidate + length] == theSource[in + length]) {
+                length++;
+            }
+            out = writeSequence(theSource, anchor, in - anchor, theTarget, out, limit);
+            if (out < 0) {
+                return -1;
+            }
+            final int extra = length - MIN_MATCH;
+            theTarget[out - (in - anchor) - runBytes(in - anchor) - 1] |= (byte) Math.min(extra, RUN_MASK);
+            if (out + 2 + runBytes(extra) > limit) {
+                return -1;
+            }
+            theTarget[out++] = (byte) (in - candidate);
+            theTarget[out++] = (byte) ((in - candidate) >>> 8);
+            out = writeRun(theTarget, out, extra);
+            in += length;
+            anchor = in;
+        }
+        out = writeSequence(theSource, anchor, theLength - anchor, theTarget, out, limit);
+        return out;
+    }
+
+    /**
+     * Writes the token, literal length and literals of a sequence; the match nibble of the token is left 0.
+     * @return the position after the literals, -1 if they do not fit before theLimit.
+     */
+    private static int writeSequence(final byte[] theSource, final int theStart, final int theLiterals,
+            final byte[] theTarget, final int theOut, final int theLimit) {
+        if ((long) theOut + 1 + runBytes(theLiterals) + theLiterals > theLimit) {
+            return -1;
+        }
+        theTarget[theOut] = (byte) (Math.min(theLiterals, RUN_MASK) << 4);
+        final int out = writeRun(theTarget, theOut + 1, theLiterals);
+        System.arraycopy(theSource, theStart, theTarget, out, theLiterals);
+        return out + theLiterals;
+    }
+
+    /**
+     * @return the amount of extra bytes of a nibble holding theRun.
+     */
+    private static int runBytes(final int theRun) {
+        return theRun < RUN_MASK ? 0 : (theRun - RUN_MASK) / 255 + 1;
+    }
+
+    private static int writeRun(final byte[] theTarget, final int theOut, final int theRun) {
+        int out = theOut;
+        if (theRun >= RUN_MASK) {
+            int rest = theRun - RUN_MASK;
+            while (rest >= 255) {
+                theTarget[out++] = (byte) 255;
+                rest -= 255;
+            }
+            theTarget[out++] = (byte) rest;
+        }
+        return out;
+    }
+
+    private static int readInt(final byte[] theBytes, final int theIndex) {
+        return (theBytes[theIndex] & 0xFF) | (theBytes[theIndex + 1] & 0xFF) << 8
+                | (theBytes[theIndex + 2] & 0xFF) << 16 | (theBytes[theIndex + 3] & 0xFF) << 24;
+    }
+
+    @Override
+    public void decompress(final byte[] theSource, final int theLength, final byte[] theTarget,
+            final int theTargetLength) throws IOException {
+        int in = 0;
+        int out = 0;
+        try {
+            while (true) {
+                if (in >= theLength) {
+                    throw new IOException("An LZ block is truncated");
+                }
+                final int token = theSource[in++] & 0xFF;
+                int literals = token >>> 4;
+                if (literals == RUN_MASK) {
+                    int extra;
+                    do {
+                        extra = theSource[in++] & 0xFF;
+                        literals += extra;
+                    } while (extra == 255);
+                }
+                if (in + literals > theLength || out + literals > theTargetLength) {
+                    throw new IOException("An LZ block is corrupt");
+                }
+                System.arraycopy(theSource, in, theTarget, out, literals);
+                in += literals;
+                out += literals;
+                if (out == theTargetLength && in == theLength) {
+                    return;
+                }
+
+                if (in + 2 > theLength) {
+                    throw new IOException("An LZ block is truncated");
+                }
+                final int offset = (theSource[in] & 0xFF) | (theSource[in + 1] & 0xFF) << 8;
+                in += 2;
+                int length = token & RUN_MASK;
+                if (length == RUN_MASK) {
+                    int extra;
+                    do {
+                        extra = theSource[in++] & 0xFF;
+                        length += extra;
+                    } while (extra == 255);
+                }
+                length += MIN_MATCH;
+                if (offset == 0 || offset > out || out + length > theTargetLength) {
+                    throw new IOException("An LZ block is corrupt");
+                }
+                final int from = out - offset;
+                if (offset >= length) {
+                    System.arraycopy(theTarget, from, theTarget, out, length);
+                } else {
+                    for (int b = 0; b < length; b++) {
+                        theTarget[out + b] = theTarget[from + b];
+                    }
+                }
+                out += length;
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("An LZ block is truncated", e);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package model;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * A singleton registry of the counters and latency histograms of the model.
+ *
+ * Metrics are created on first use and never removed. Updating them is lock free.
+ * All metrics are exported over the platform MBean server as the MBean OBJECT_NAME, so they can be read locally
+ * with jconsole or any other JMX client. Every counter is an attribute with its own name, every histogram is
+ * exported as the attributes name.count, name.meanMicros, name.p50Micros, name.p99Micros and name.maxMicros.
+ *
+ * @version 10/19/2026
+ */
+public class MetricsRegistry implements DynamicMBean {
+
+    /** The name the registry is exported as on the platform MBean server. */
+    public static final String OBJECT_NAME = "model:type=Metrics";
+
+    /** My only instance. */
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    private final ConcurrentMap<String, LongAdder> myCounters;
+    private final ConcurrentMap<String, LatencyHistogram> myHistograms;
+
+    private MetricsRegistry() {
+        myCounters = new ConcurrentHashMap<>();
+        myHistograms = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets THE registry, exporting it over JMX on the first call.
+     * @return the only MetricsRegistry.
+     */
+    public static MetricsRegistry getInstance() {
+        Exporter.ensureRegistered();
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the counter with theName, creating it if needed.
+     * @param theName the name of the counter.
+     * @return the counter with theName.
+     */
+    public LongAdder counter(final String theName) {
+        return myCounters.computeIfAbsent(theName, name -> new LongAdder());
+    }
+
+    /**
+     * Gets the latency histogram with theName, creating it if needed.
+     * @param theName the name of the histogram.
+     * @return the histogram with theName.
+     */
+    public LatencyHistogram histogram(final String theName) {
+        return myHistograms.computeIfAbsent(theName, LatencyHistogram::new);
+    }
+
+    /**
+     * Gets the current value of every counter and histogram attribute.
+     * @return a sorted map of attribute name to value.
+     */
+    public Map<String, Number> snapshot() {
+        final Map<String, Number> result = new TreeMap<>();
+
+        for (final Map.Entry<String, LongAdder> counter : myCounters.entrySet()) {
+            result.put(counter.getKey(), counter.getValue().sum());
+        }
+
+        for (final LatencyHistogram histogram : myHistograms.values()) {
+            final String name = histogram.getName();
+            result.put(name + ".count", histogram.getCount());
+            result.put(name + ".meanMicros", histogram.getMean() / 1000);
+            result.put(name + ".p50Micros", histogram.getPercentile(50) / 1000.0);
+            result.put(name + ".p99Micros", histogram.getPercentile(99) / 1000.0);
+            result.put(name + ".maxMicros", histogram.getMax() / 1000.0);
+        }
+
+        return result;
+    }
+
+    @Override
+    public Object getAttribute(final String theAttribute) throws AttributeNotFoundException {
+        final Number result = snapshot().get(theAttribute);
+        if (result == null) {
+            throw new AttributeNotFoundException(theAttribute);
+        }
+        return result;
+    }
+
+    @Override
+    public AttributeList getAttributes(final String[] theAttributes) {
+        final Map<String, Number> values = snapshot();
+        final AttributeList result = new AttributeList();
+
+        for (final String name : theAttributes) {
+            if (values.containsKey(name)) {
+                result.add(new Attribute(name, values.get(name)));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Metrics are read only.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void setAttribute(final Attribute theAttribute) {
+        throw new UnsupportedOperationException("Metrics are read only.");
+    }
+
+    /**
+     * Metrics are read only.
+     * @return an empty list.
+     */
+    @Override
+    public AttributeList setAttributes(final AttributeList theAttributes) {
+        return new AttributeList();
+    }
+
+    /**
+     * There are no operations on the metrics.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public Object invoke(final String theActionName, final Object[] theParams, final String[] theSignature) {
+        throw new UnsupportedOperationException(theActionName);
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        final List<MBeanAttributeInfo> attributes = new ArrayList<>();
+
+        for (final Map.Entry<String, Number> value : snapshot().entrySet()) {
+            attributes.add(new MBeanAttributeInfo(value.getKey(), value.getValue().getClass().getName(),
+                    value.getKey(), true, false, false));
+        }
+
+        return new MBeanInfo(getClass().getName(), "Counters and latencies of the conference model.",
+                attributes.toArray(new MBeanAttributeInfo[attributes.size()]), null,
+                new MBeanOperationInfo[0], null);
+    }
+
+    /**
+     * Registers the registry with the platform MBean server once, the first time it is used.
+     */
+    private static class Exporter {
+
+        static {
+            try {
+                final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                final ObjectName name = new ObjectName(OBJECT_NAME);
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(INSTANCE, name);
+                }
+            } catch (JMException | SecurityException e) {
+                e.printStackTrace();
+            }
+        }
+
+        private static void ensureRegistered() {
+        }
+    }
+}
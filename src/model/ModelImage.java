@@ -0,0 +1,628 @@
+package model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The UserProfiles and Conferences of a ConferenceSystem in one memory mapped file which is used in place, so
+ * opening a model takes the same time whatever its size.
+ *
+ * Users and Conferences are kept in tables sorted by the UTF-8 bytes of their UID and name, which getUserProfile()
+ * and readConference() binary search in the mapping; a UserProfile is built from its table entry, a Conference is
+ * decoded from its own serialized bytes only when it is read. For every user the file also holds adjacency arrays
+ * of the Conferences the user submitted papers to and reviews papers of, so the papers of one user are found
+ * without reading the other Conferences. The image is read only; ConferenceSystem keeps the changes on the heap and
+ * merges them into a new image with write() at a checkpoint.
+ *
+ * The file holds, little endian, a header of eight ints (magic, version, the counts of users, conferences and
+ * adjacency entries, the size of the conference bytes and of the string arena, and 0), then
+ * <pre>
+ * users       USER_BYTES each, sorted: UID, name (arena offsets), registered (1 or 0),
+ *             first and count of submitted conferences, first and count of reviewed conferences
+ * conferences CONFERENCE_BYTES each, sorted: name (arena offset), first byte and length of the serialized
+ *             Conference, paper count, submission deadline (long millis)
+ * adjacency   the conference indexes of all users, each user two ranges of them
+ * bytes       the serialized Conferences
+ * arena       every distinct String once, as its length in bytes and its UTF-8 bytes
+ * </pre>
+ * Users who submitted or review papers without being added to the system have entries which are not registered.
+ *
+ * @version 10/19/2026
+ */
+public final class ModelImage {
+
+    /** The size of one user entry in bytes. */
+    public static final int USER_BYTES = 28;
+
+    /** The size of one conference entry in bytes. */
+    public static final int CONFERENCE_BYTES = 24;
+
+    private static final LongAdder CONFERENCE_READS =
+            MetricsRegistry.getInstance().counter("ModelImage.conferenceReads");
+
+    private static final int MAGIC = 0x4D494D47;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 8 * Integer.BYTES;
+
+    private static final int UID = 0;
+    private static final int NAME = 4;
+    private static final int REGISTERED = 8;
+    private static final int SUBMITTED_START = 12;
+    private static final int SUBMITTED_COUNT = 16;
+    private static final int REVIEWED_START = 20;
+    private static final int REVIEWED_COUNT = 24;
+
+    private static final int BYTES_START = 4;
+    private static final int BYTES_LENGTH = 8;
+    private static final int PAPER_COUNT = 12;
+    private static final int SUBMISSION = 16;
+
+    private final ByteBuffer myBuffer;
+    private final int myUserCount;
+    private final int myConferenceCount;
+    private final int myRegisteredCount;
+    private final int myConferences;
+    private final int myAdjacency;
+    private final int myBytes;
+    private final int myArena;
+
+    private ModelImage(final ByteBuffer theBuffer) throws IOException {
+        myBuffer = theBuffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (myBuffer.capacity() < HEADER_BYTES || myBuffer.getInt(0) != MAGIC || myBuffer.getInt(4) != VERSION) {
+            throw new IOException("Not a model image of version " + VERSION);
+        }
+        myUserCount = myBuffer.getInt(8);
+        myConferenceCount = myBuffer.getInt(12);
+        final int adjacency = myBuffer.getInt(16);
+        final int bytes = myBuffer.getInt(20);
+        final int arenaBytes = myBuffer.getInt(24);
+        myConferences = HEADER_BYTES + myUserCount * USER_BYTES;
+        myAdjacency = myConferences + myConferenceCount * CONFERENCE_BYTES;
+        myBytes = myAdjacency + adjacency * Integer.BYTES;
+        myArena = myBytes + bytes;
+        if ((long) myArena + arenaBytes != myBuffer.capacity()) {
+            throw new IOException("The model image is truncated or corrupt");
+        }
+        int registered = 0;
+        for (int u = 0; u < myUserCount; u++) {
+            registered += myBuffer.getInt(user(u) + REGISTERED);
+        }
+        myRegisteredCount = registered;
+    }
+
+    /**
+     * Writes theUsers and theConferences to a new image at thePath.
+     * @param thePath the file to write, replaced if it exists.
+     * @param theUsers the (non-null) registered users.
+     * @param theConferences the (non-null) conferences.
+     * @throws IOException if the file can not be written.
+     * @throws IllegalArgumentException if two conferences have the same name or the image would be larger
+     * than 2 GB.
+     */
+    public static void write(final Path thePath, final Collection<UserProfile> theUsers,
+            final Collection<Conference> theConferences) throws IOException {
+        write(thePath, null, theUsers, theConferences);
+    }
+
+    /**
+     * Writes the users and conferences of theBase, replaced by and together with theUsers and theConferences,
+     * to a new image at thePath. The conferences of theBase which are not replaced are copied without decoding
+     * them. thePath may be the file theBase is mapped from; the new image is written next to it and then moved
+     * over it, so theBase stays readable.
+     * @param thePath the file to write, replaced if it exists.
+     * @param theBase the image to merge the changes into, null for none.
+     * @param theUsers the (non-null) registered users which are new or changed.
+     * @param theConferences the (non-null) conferences which are new or changed.
+     * @throws IOException if the file can not be written.
+     * @throws IllegalArgumentException if two conferences have the same name or the image would be larger
+     * than 2 GB.
+     */
+    public static void write(final Path thePath, final ModelImage theBase, final Collection<UserProfile> theUsers,
+            final Collection<Conference> theConferences) throws IOException {
+        final Writer writer = new Writer();
+        for (final Conference conference : theConferences) {
+            writer.addConference(conference);
+        }
+        if (theBase != null) {
+            writer.addBase(theBase);
+        }
+        for (final UserProfile user : theUsers) {
+            writer.addUser(user);
+        }
+        final Path file = thePath.toAbsolutePath();
+        final Path temporary = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            writer.write(temporary);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Maps the image at thePath. Only the header is read; the file is closed again and the mapping is released
+     * once this image is no longer reachable.
+     * @param thePath the (non-null) file written by write().
+     * @return the mapped image.
+     * @throws IOException if the file can not be mapped or is not an image.
+     */
+    public static ModelImage open(final Path thePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(thePath, StandardOpenOption.READ)) {
+            return new ModelImage(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * @return the amount of registered users in the image.
+     */
+    public int getUserCount() {
+        return myRegisteredCount;
+    }
+
+    /**
+     * @return the amount of conferences in the image.
+     */
+    public int getConferenceCount() {
+        return myConferenceCount;
+    }
+
+    /**
+     * @param theUserID the UID of a user.
+     * @return true if the user is registered in the image.
+     */
+    public boolean containsUser(final String theUserID) {
+        final int user = findUser(theUserID);
+        return user >= 0 && myBuffer.getInt(user(user) + REGISTERED) != 0;
+    }
+
+    /**
+     * Builds the UserProfile of a registered user from its table entry.
+     * @param theUserID the UID of the user.
+     * @return a new UserProfile of the user, null if the user is not registered in the image.
+     */
+    public UserProfile getUserProfile(final String theUserID) {
+        final int user = findUser(theUserID);
+        if (user < 0 || myBuffer.getInt(user(user) + REGISTERED) == 0) {
+            return null;
+        }
+        return new UserProfile(theUserID, string(myBuffer.getInt(user(user) + NAME)));
+    }
+
+    /**
+     * @return the (non-null) UIDs of all registered users, in the order of the table.
+     */
+    public List<String> getUserIDs() {
+        final List<String> result = new ArrayList<>(myRegisteredCount);
+        for (int u = 0; u < myUserCount; u++) {
+            if (myBuffer.getInt(user(u) + REGISTERED) != 0) {
+                result.add(string(myBuffer.getInt(user(u) + UID)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param theConferenceName the name of a conference.
+     * @return true if the conference is in the image.
+     */
+    public boolean containsConference(final String theConferenceName) {
+        return findConference(theConferenceName) >= 0;
+    }
+
+    /**
+     * Decodes a conference. Every call decodes a new copy, which schedules its deadlines like a conference of
+     * a snapshot.
+     * @param theConferenceName the name of the conference.
+     * @return the conference, null if it is not in the image.
+     * @throws UncheckedIOException if the conference can not be decoded.
+     */
+    public Conference readConference(final String theConferenceName) {
+        final int conference = findConference(theConferenceName);
+        if (conference < 0) {
+            return null;
+        }
+        CONFERENCE_READS.increment();
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(conferenceBytes(conference)))) {
+            return (Conference) in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new UncheckedIOException(new IOException(e));
+        }
+    }
+
+    /**
+     * @return the (non-null) names of all conferences, in the order of the table.
+     */
+    public List<String> getConferenceNames() {
+        final List<String> result = new ArrayList<>(myConferenceCount);
+        for (int c = 0; c < myConferenceCount; c++) {
+            result.add(conferenceName(c));
+        }
+        return result;
+    }
+
+    /**
+     * @param theConferenceName the name of a conference.
+     * @return the amount of papers submitted to the conference, -1 if it is not in the image.
+     */
+    public int getPaperCount(final String theConferenceName) {
+        final int conference = findConference(theConferenceName);
+        return conference < 0 ? -1 : myBuffer.getInt(conference(conference) + PAPER_COUNT);
+    }
+
+    /**
+     * @param theConferenceName the name of a conference.
+     * @return the submission deadline of the conference, null if it is not in the image.
+     */
+    public Date getSubmissionDate(final String theConferenceName) {
+        final int conference = findConference(theConferenceName);
+        return conference < 0 ? null : new Date(myBuffer.getLong(conference(conference) + SUBMISSION));
+    }
+
+    /**
+     * @param theUserID the UID of a user.
+     * @return the (non-null) names of the conferences the user submitted papers to.
+     */
+    public List<String> getSubmittedConferences(final String theUserID) {
+        return adjacent(theUserID, SUBMITTED_START, SUBMITTED_COUNT);
+    }
+
+    /**
+     * @param theUserID the UID of a user.
+     * @return the (non-null) names of the conferences in which papers are assigned to the user for review.
+     */
+    public List<String> getReviewedConferences(final String theUserID) {
+        return adjacent(theUserID, REVIEWED_START, REVIEWED_COUNT);
+    }
+
+    private List<String> adjacent(final String theUserID, final int theStart, final int theCount) {
+        final int user = findUser(theUserID);
+        if (user < 0) {
+            return Collections.emptyList();
+        }
+        final int start = myAdjacency + myBuffer.getInt(user(user) + theStart) * Integer.BYTES;
+        final int count = myBuffer.getInt(user(user) + theCount);
+        final List<String> result = new ArrayList<>(count);
+        for (int a = 0; a < count; a++) {
+            result.add(conferenceName(myBuffer.getInt(start + a * Integer.BYTES)));
+        }
+        return result;
+    }
+
+    private int user(final int theIndex) {
+        return HEADER_BYTES + theIndex * USER_BYTES;
+    }
+
+    private int conference(final int theIndex) {
+        return myConferences + theIndex * CONFERENCE_BYTES;
+    }
+
+    private String conferenceName(final int theIndex) {
+        return string(myBuffer.getInt(conference(theIndex)));
+    }
+
+    private byte[] conferenceBytes(final int theIndex) {
+        final byte[] result = new byte[myBuffer.getInt(conference(theIndex) + BYTES_LENGTH)];
+        myBuffer.duplicate().position(myBytes + myBuffer.getInt(conference(theIndex) + BYTES_START)).get(result);
+        return result;
+    }
+
+    private int findUser(final String theUserID) {
+        return find(HEADER_BYTES, USER_BYTES, myUserCount, theUserID);
+    }
+
+    private int findConference(final String theConferenceName) {
+        return find(myConferences, CONFERENCE_BYTES, myConferenceCount, theConferenceName);
+    }
+
+    /**
+     * Binary searches a table sorted by the string its entries start with.
+     * @return the index of the entry with theKey, -1 if there is none.
+     */
+    private int find(final int theTable, final int theEntryBytes, final int theCount, final String theKey) {
+        if (theKey == null) {
+            return -1;
+        }
+        final byte[] key = theKey.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = theCount - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int order = compare(myBuffer.getInt(theTable + middle * theEntryBytes), key);
+            if (order < 0) {
+                low = middle + 1;
+            } else if (order > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares the arena string at theOffset with theKey as unsigned bytes, the order the tables are sorted in.
+     */
+    private int compare(final int theOffset, final byte[] theKey) {
+        final int length = myBuffer.getInt(myArena + theOffset);
+        final int start = myArena + theOffset + Integer.BYTES;
+        final int common = Math.min(length, theKey.length);
+        for (int b = 0; b < common; b++) {
+            final int order = Byte.toUnsignedInt(myBuffer.get(start + b)) - Byte.toUnsignedInt(theKey[b]);
+            if (order != 0) {
+                return order;
+            }
+        }
+        return length - theKey.length;
+    }
+
+    private String string(final int theOffset) {
+        final byte[] bytes = new byte[myBuffer.getInt(myArena + theOffset)];
+        myBuffer.duplicate().position(myArena + theOffset + Integer.BYTES).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(final String theString) {
+        return theString.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A user as collected by the Writer.
+     */
+    private static final class UserEntry {
+        private String myName;
+        private boolean myRegistered;
+        private final Set<String> mySubmitted = new LinkedHashSet<>();
+        private final Set<String> myReviewed = new LinkedHashSet<>();
+    }
+
+    /**
+     * A conference as collected by the Writer, either serialized or in the bytes of a base image.
+     */
+    private static final class ConferenceEntry {
+        private final byte[] myBytes;
+        private final ModelImage myBase;
+        private final int myBaseIndex;
+        private final int myPaperCount;
+        private final long mySubmissionMillis;
+
+        private ConferenceEntry(final byte[] theBytes, final ModelImage theBase, final int theBaseIndex,
+                final int thePaperCount, final long theSubmissionMillis) {
+            myBytes = theBytes;
+            myBase = theBase;
+            myBaseIndex = theBaseIndex;
+            myPaperCount = thePaperCount;
+            mySubmissionMillis = theSubmissionMillis;
+        }
+
+        private int length() {
+            return myBytes != null ? myBytes.length
+                    : myBase.myBuffer.getInt(myBase.conference(myBaseIndex) + BYTES_LENGTH);
+        }
+
+        private ByteBuffer bytes() {
+            if (myBytes != null) {
+                return ByteBuffer.wrap(myBytes);
+            }
+            final int start = myBase.myBytes + myBase.myBuffer.getInt(myBase.conference(myBaseIndex) + BYTES_START);
+            final ByteBuffer result = myBase.myBuffer.duplicate();
+            result.limit(start + length()).position(start);
+            return result;
+        }
+    }
+
+    /**
+     * Collects the users and conferences of an image in memory, sorts them and writes them at once.
+     */
+    private static final class Writer {
+
+        private final Map<String, UserEntry> myUsers = new HashMap<>();
+        private final Map<String, ConferenceEntry> myConferences = new HashMap<>();
+        private final Map<String, Integer> myStrings = new HashMap<>();
+        private final ByteArrayOutputStream myArena = new ByteArrayOutputStream();
+
+        private UserEntry user(final String theUserID, final String theName) {
+            UserEntry entry = myUsers.get(theUserID);
+            if (entry == null) {
+                entry = new UserEntry();
+                entry.myName = theName;
+                myUsers.put(theUserID, entry);
+            }
+            return entry;
+        }
+
+        private void addConference(final Conference theConference) {
+            final ConferenceData data = theConference.getInfo();
+            if (myConferences.containsKey(data.getName())) {
+                throw new IllegalArgumentException("Two conferences are named " + data.getName() + "!");
+            }
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(theConference);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            myConferences.put(data.getName(), new ConferenceEntry(bytes.toByteArray(), null, -1,
+                    data.getPaperCount(), data.getSubmissionDate().getTime()));
+            for (final Entry<UserProfile, List<Paper>> submitted : data.getPaperSubmissionMap().entrySet()) {
+                if (!submitted.getValue().isEmpty()) {
+                    final UserProfile submitter = submitted.getKey();
+                    user(submitter.getUID(), submitter.getName()).mySubmitted.add(data.getName());
+                }
+            }
+            for (final Entry<UserProfile, List<Paper>> assigned : data.getReviewerAssignmentMap().entrySet()) {
+                if (!assigned.getValue().isEmpty()) {
+                    final UserProfile reviewer = assigned.getKey();
+                    user(reviewer.getUID(), reviewer.getName()).myReviewed.add(data.getName());
+                }
+            }
+        }
+
+        /**
+         * Adds what theBase holds of the conferences and users which were not added before it.
+         */
+        private void addBase(final ModelImage theBase) {
+            final boolean[] copied = new boolean[theBase.myConferenceCount];
+            for (int c = 0; c < theBase.myConferenceCount; c++) {
+                final String name = theBase.conferenceName(c);
+                if (!myConferences.containsKey(name)) {
+                    copied[c] = true;
+                    myConferences.put(name, new ConferenceEntry(null, theBase, c,
+                            theBase.myBuffer.getInt(theBase.conference(c) + PAPER_COUNT),
+                            theBase.myBuffer.getLong(theBase.conference(c) + SUBMISSION)));
+                }
+            }
+            for (int u = 0; u < theBase.myUserCount; u++) {
+                final int base = theBase.user(u);
+                final UserEntry entry = user(theBase.string(theBase.myBuffer.getInt(base + UID)),
+                        theBase.string(theBase.myBuffer.getInt(base + NAME)));
+                entry.myRegistered |= theBase.myBuffer.getInt(base + REGISTERED) != 0;
+                addBaseAdjacency(theBase, copied, base + SUBMITTED_START, base + SUBMITTED_COUNT, entry.mySubmitted);
+                addBaseAdjacency(theBase, copied, base + REVIEWED_START, base + REVIEWED_COUNT, entry.myReviewed);
+            }
+        }
+
+        private static void addBaseAdjacency(final ModelImage theBase, final boolean[] theCopied,
+                final int theStart, final int theCount, final Set<String> theNames) {
+            final int start = theBase.myAdjacency + theBase.myBuffer.getInt(theStart) * Integer.BYTES;
+            for (int a = 0; a < theBase.myBuffer.getInt(theCount); a++) {
+                final int conference = theBase.myBuffer.getInt(start + a * Integer.BYTES);
+                if (theCopied[conference]) {
+                    theNames.add(theBase.conferenceName(conference));
+                }
+            }
+        }
+
+        private void addUser(final UserProfile theUser) {
+            final UserEntry entry = user(theUser.getUID(), theUser.getName());
+            entry.myName = theUser.getName();
+            entry.myRegistered = true;
+        }
+
+        private int string(final String theString) {
+            Integer offset = myStrings.get(theString);
+            if (offset == null) {
+                offset = myArena.size();
+                final byte[] bytes = utf8(theString);
+                myArena.write(bytes.length);
+                myArena.write(bytes.length >>> 8);
+                myArena.write(bytes.length >>> 16);
+                myArena.write(bytes.length >>> 24);
+                myArena.write(bytes, 0, bytes.length);
+                myStrings.put(theString, offset);
+            }
+            return offset;
+        }
+
+        private static String[] sorted(final Set<String> theKeys) {
+            final String[] result = theKeys.toArray(new String[0]);
+            final byte[][] keys = new byte[result.length][];
+            final Integer[] order = new Integer[result.length];
+            for (int k = 0; k < result.length; k++) {
+                keys[k] = utf8(result[k]);
+                order[k] = k;
+            }
+            Arrays.sort(order, (first, second) -> Arrays.compareUnsigned(keys[first], keys[second]));
+            final String[] copy = result.clone();
+            for (int k = 0; k < result.length; k++) {
+                result[k] = copy[order[k]];
+            }
+            return result;
+        }
+
+        private void write(final Path thePath) throws IOException {
+            final String[] users = sorted(myUsers.keySet());
+            final String[] conferences = sorted(myConferences.keySet());
+            final Map<String, Integer> conferenceIndexes = new HashMap<>();
+            for (int c = 0; c < conferences.length; c++) {
+                conferenceIndexes.put(conferences[c], c);
+            }
+
+            int adjacency = 0;
+            for (final UserEntry entry : myUsers.values()) {
+                adjacency += entry.mySubmitted.size() + entry.myReviewed.size();
+            }
+            long bytes = 0;
+            for (final ConferenceEntry entry : myConferences.values()) {
+                bytes += entry.length();
+            }
+            final long tables = HEADER_BYTES + (long) users.length * USER_BYTES
+                    + (long) conferences.length * CONFERENCE_BYTES + (long) adjacency * Integer.BYTES;
+            if (tables + bytes > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The model image would be larger than 2 GB!");
+            }
+
+            final ByteBuffer out = ByteBuffer.allocate((int) tables).order(ByteOrder.LITTLE_ENDIAN);
+            out.position(HEADER_BYTES);
+            final ByteBuffer adjacent = ByteBuffer.allocate(adjacency * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (final String uid : users) {
+                final UserEntry entry = myUsers.get(uid);
+                out.putInt(string(uid)).putInt(string(entry.myName)).putInt(entry.myRegistered ? 1 : 0);
+                out.putInt(adjacent.position() / Integer.BYTES).putInt(entry.mySubmitted.size());
+                for (final String name : entry.mySubmitted) {
+                    adjacent.putInt(conferenceIndexes.get(name));
+                }
+                out.putInt(adjacent.position() / Integer.BYTES).putInt(entry.myReviewed.size());
+                for (final String name : entry.myReviewed) {
+                    adjacent.putInt(conferenceIndexes.get(name));
+                }
+            }
+            int start = 0;
+            for (final String name : conferences) {
+                final ConferenceEntry entry = myConferences.get(name);
+                out.putInt(string(name)).putInt(start).putInt(entry.length()).putInt(entry.myPaperCount)
+                        .putLong(entry.mySubmissionMillis);
+                start += entry.length();
+            }
+            out.put(adjacent.array());
+            if (tables + bytes + myArena.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The model image would be larger than 2 GB!");
+            }
+            out.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, users.length).putInt(12, conferences.length)
+                    .putInt(16, adjacency).putInt(20, (int) bytes).putInt(24, myArena.size()).putInt(28, 0);
+            out.flip();
+
+            try (FileChannel channel = FileChannel.open(thePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeFully(channel, out);
+                for (final String name : conferences) {
+                    writeFully(channel, myConferences.get(name).bytes());
+                }
+                writeFully(channel, ByteBuffer.wrap(myArena.toByteArray()));
+                channel.force(true);
+            }
+        }
+
+        private static void writeFully(final FileChannel theChannel, final ByteBuffer theBuffer)
+                throws IOException {
+            while (theBuffer.hasRemaining()) {
+                theChannel.write(theBuffer);
+            }
+        }
+    }
+}
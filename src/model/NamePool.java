@@ -0,0 +1,60 @@
+package model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A pool of canonical name strings shared by the model.
+ *
+ * The same author and user names are repeated on every paper and profile; pooling them keeps one String per distinct
+ * name on the heap. The pool only grows, which is fine for names since every pooled name is also held by a
+ * UserProfile or Paper for the life of the model.
+ *
+ * @version 10/19/2026
+ */
+public final class NamePool {
+
+    private static final ConcurrentHashMap<String, String> POOL = new ConcurrentHashMap<>();
+
+    private NamePool() {
+    }
+
+    /**
+     * @param theName a name, may be null.
+     * @return the pooled String equal to theName, or null if theName is null.
+     */
+    public static String intern(final String theName) {
+        if (theName == null) {
+            return null;
+        }
+        String pooled = POOL.get(theName);
+        if (pooled == null) {
+            pooled = POOL.putIfAbsent(theName, theName);
+        }
+        return pooled == null ? theName : pooled;
+    }
+
+    /**
+     * @param theNames the names to pool; the list is copied, not kept.
+     * @return an unmodifiable list of the pooled names, in order.
+     * @throws NullPointerException if a name is null.
+     */
+    public static List<String> internAll(final List<String> theNames) {
+        final String[] result = new String[theNames.size()];
+        int i = 0;
+        for (final String name : theNames) {
+            result[i++] = intern(Objects.requireNonNull(name));
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * @return the amount of distinct pooled names.
+     */
+    public static int size() {
+        return POOL.size();
+    }
+}
@@ -1,12 +1,18 @@
 package model;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 
 /**
  * A class for storing all the information associated with a Paper.
@@ -14,6 +20,10 @@ import java.util.Objects;
  * 
  * INVARIANT: All getters return non-null objects.
  * All strings are non-empty.
+ * 
+ * The fields are kept compact since a model holds one Paper per submission: the path instead of the File, the
+ * submission time as epoch millis, the pooled author names (see NamePool) and the reviews in an array.
+ * The serialized form is unchanged (see serialPersistentFields).
  * @author Dimitar Kumanov
  * @version 04/24/2017
  */
@@ -22,14 +32,47 @@ public class Paper implements Serializable{
 	 * 
 	 */
 	private static final long serialVersionUID = -1981414852704428147L;
-	private final File myPaperFile;
-	private Date mySubmissionDate;
-	private final List<String> myAuthors;
-	private final List<Review> myReviews;
-	private final String myTitle;
-	private final UserProfile mySubmitter;
-	private Review myRecommendation;
-	private String myRecommendationShort;
+	
+	/** The fields of the serialized form, as written by earlier versions. */
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("myPaperFile", File.class),
+			new ObjectStreamField("mySubmissionDate", Date.class),
+			new ObjectStreamField("myAuthors", List.class),
+			new ObjectStreamField("myReviews", List.class),
+			new ObjectStreamField("myTitle", String.class),
+			new ObjectStreamField("mySubmitter", UserProfile.class),
+			new ObjectStreamField("myRecommendation", Review.class),
+			new ObjectStreamField("myRecommendationShort", String.class)
+	};
+	
+	/** Shared by all papers without reviews. */
+	private static final Review[] NO_REVIEWS = new Review[0];
+	
+	/** The initial capacity of the reviews; a recommendation needs three. */
+	private static final int INITIAL_REVIEWS = 4;
+	
+	private transient String myPaperPath;
+	private transient long mySubmissionMillis;
+	private transient List<String> myAuthors;
+	/** The AuthorDictionary IDs of myAuthors, in the same order. */
+	private transient int[] myAuthorIds;
+	/** A one word Bloom filter of myAuthorIds, see authorBit(). */
+	private transient long myAuthorMask;
+	private transient Review[] myReviews;
+	private transient int myReviewCount;
+	private transient String myTitle;
+	private transient UserProfile mySubmitter;
+	private transient Review myRecommendation;
+	private transient String myRecommendationShort;
+	/** The running statistics of the review scores, see addReview(). */
+	private transient long myScoreSum;
+	private transient long myScoreSquareSum;
+	private transient int myMinScore;
+	private transient int myMaxScore;
+	/** The conference this paper is submitted to, told about new reviews and state changes. */
+	private transient ConferenceData myConferenceData;
+	/** Where this paper is in its life; rebuilt from the reviews and assignments on load. */
+	private transient PaperState myState;
 	
 	/**
 	 * Private; see createPaper()
@@ -42,13 +85,16 @@ public class Paper implements Serializable{
 			final UserProfile theSubmitterUserProfile
 			) throws IllegalArgumentException{
 		
-		myPaperFile = Objects.requireNonNull(thePaper);
-		mySubmissionDate = Objects.requireNonNull(theSubmissionDate);
-		myAuthors = Objects.requireNonNull(theAuthors);
+		myPaperPath = thePaper.getPath();
+		mySubmissionMillis = theSubmissionDate.getTime();
+		myAuthors = NamePool.internAll(Objects.requireNonNull(theAuthors));
+		myAuthorIds = toAuthorIds(myAuthors);
+		myAuthorMask = authorMask(myAuthorIds);
 		myTitle = Objects.requireNonNull(thePaperTitle);
 		mySubmitter = Objects.requireNonNull(theSubmitterUserProfile);
-		myReviews = new LinkedList<Review>();
-		myRecommendationShort = new String();
+		myReviews = NO_REVIEWS;
+		myRecommendationShort = "";
+		myState = PaperState.SUBMITTED;
 		if(thePaperTitle.isEmpty())
 			throw new IllegalArgumentException();
 	}
@@ -58,7 +104,7 @@ public class Paper implements Serializable{
 	 * PRECONDITION: All parameters must be non-null,
 	 * Strings can't be empty.
 	 * @param thePaperFile The file associated with the text itself.
-	 * @param theAuthors The list of Authors of this paper.
+	 * @param theAuthors The list of Authors of this paper; it is copied, later changes to it are not seen.
 	 * @param thePaperTitle The title of the paper.
 	 * @param theSubmitterUserProfile The System UserProfile of the person actually submitting the paper.
 	 * @exception When the precondition is violated.
@@ -73,7 +119,7 @@ public class Paper implements Serializable{
 
 		return new Paper(
 				thePaperFile,
-				new Date(),
+				new Date(DeadlineScheduler.getInstance().currentTimeMillis()),
 				theAuthors,
 				thePaperTitle,
 				theSubmitterUserProfile
@@ -85,15 +131,24 @@ public class Paper implements Serializable{
 	 * @return the (non-null) file pointing to the Paper.
 	 */
 	public File getPaperFile(){
-		return myPaperFile;
+		return new File(myPaperPath);
 	}
 	
 	/**
-	 * Gets the Date this paper was submitted(Date of createPaper()).
+	 * Gets a copy of the Date this paper was submitted(Date of createPaper()).
+	 * Use setSubmissionDate() to change it.
 	 * @return the Date this paper was submitted(Date of createPaper()).
 	 */
 	public Date getSubmitDate(){
-		return mySubmissionDate;
+		return new Date(mySubmissionMillis);
+	}
+	
+	/**
+	 * Gets the time this paper was submitted without allocating a Date.
+	 * @return the submission time in milliseconds since the epoch.
+	 */
+	public long getSubmitMillis(){
+		return mySubmissionMillis;
 	}
 	
 	/**
@@ -113,15 +168,72 @@ public class Paper implements Serializable{
 	}
 	
 	/**
-	 * Gets a List(non-null but possibly empty) of Strings with the names of all the authors of this Paper. 
+	 * Gets an unmodifiable List(non-null but possibly empty) of Strings with the names of all the authors of this Paper. 
 	 * @return a List of Strings(non-null but possibly empty) with the names of all the authors of this Paper.
 	 */
 	public List<String> getAuthors(){
 		return myAuthors;
 	}
 	
+	/**
+	 * Gets the IDs of the authors of this Paper, see ConferenceSystem.getAuthorDictionary().
+	 * @return a copy of the author IDs, in the order of getAuthors().
+	 */
+	public int[] getAuthorIds(){
+		return myAuthorIds.clone();
+	}
+	
+	/**
+	 * The author IDs without a copy, for the indexes of the model.
+	 */
+	int[] authorIds(){
+		return myAuthorIds;
+	}
+	
+	/**
+	 * Checks whether the author with theAuthorId is one of the authors of this Paper.
+	 * @param theAuthorId an ID of the author dictionary.
+	 * @return true iff theAuthorId is the ID of one of the authors.
+	 */
+	public boolean isAuthor(final int theAuthorId){
+		if((myAuthorMask & authorBit(theAuthorId)) == 0){
+			return false;
+		}
+		for(final int id: myAuthorIds){
+			if(id == theAuthorId){
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Checks whether theName matches one of the authors of this Paper after normalization (see AuthorDictionary).
+	 * @param theName the name to check, may be null.
+	 * @return true iff theName is the name of one of the authors.
+	 */
+	public boolean isAuthoredBy(final String theName){
+		final int id = ConferenceSystem.getAuthorDictionary().lookup(theName);
+		return id != AuthorDictionary.NO_ID && isAuthor(id);
+	}
+	
+	/**
+	 * Checks whether theUser is one of the authors of this Paper, like isAuthoredBy(theUser.getName()) but with the
+	 * author ID the profile remembers, so most checks of users who are not authors take one probe of a bit mask.
+	 * @param theUser the (non-null) user to check.
+	 * @return true iff the name of theUser is the name of one of the authors.
+	 */
+	public boolean isAuthoredBy(final UserProfile theUser){
+		final int id = theUser.authorId();
+		return id != AuthorDictionary.NO_ID && isAuthor(id);
+	}
+	
+	/**
+	 * Gets an unmodifiable view of the reviews of this Paper, in the order they were added.
+	 * @return the (non-null) reviews of this Paper.
+	 */
 	public List<Review> getReviews() {
-		return Collections.unmodifiableList(myReviews);
+		return new ReviewList();
 	}
 
 	/**
@@ -129,7 +241,7 @@ public class Paper implements Serializable{
 	 * @param newSubDate The Date to change the submission Date of this Paper.
 	 */
 	public void setSubmissionDate(final Date newSubDate) {
-		mySubmissionDate = newSubDate;
+		mySubmissionMillis = newSubDate.getTime();
 	}
 	//Added these for the reviews and dashboard display. (Kevin Nguyen)
 	/**
@@ -137,7 +249,7 @@ public class Paper implements Serializable{
 	 * From the radio buttons of the gui.
 	 */
 	public void setRecommendationShort(String theRecommendation) {
-		myRecommendationShort = theRecommendation;
+		myRecommendationShort = NamePool.intern(theRecommendation);
 	}
 	public String getRecommendationShort() {
 		return myRecommendationShort;
@@ -151,24 +263,269 @@ public class Paper implements Serializable{
 
 	/**
 	 * @param recommendation the myRecommendation to set
+	 * @throws IllegalArgumentException if there aren't three reviews yet or the paper was withdrawn.
 	 */
 	public void setMyRecommendation(Review recommendation) {
-		if(myReviews.size() < 3) {
+		if(myReviewCount < PaperState.REQUIRED_REVIEWS || !canMoveTo(PaperState.RECOMMENDED)) {
 			throw new IllegalArgumentException();
 		}
 		
 		this.myRecommendation = recommendation;
-		
+		moveTo(PaperState.RECOMMENDED);
 	}
 	
+	/**
+	 * Adds review to this Paper and updates the score statistics, the state and the rankings of its conference.
+	 * @param review the (non-null) review to add.
+	 * @throws IllegalArgumentException if the paper was withdrawn.
+	 */
 	public void addReview(Review review) {
 		Objects.requireNonNull(review);
-		myReviews.add(review);
+		if (myState == PaperState.WITHDRAWN) {
+			throw new IllegalArgumentException("Paper was withdrawn.");
+		}
+		if (myReviewCount == myReviews.length) {
+			myReviews = Arrays.copyOf(myReviews, Math.max(INITIAL_REVIEWS, myReviewCount + (myReviewCount >> 1)));
+		}
+		myReviews[myReviewCount++] = review;
+		addScore(review.score);
+		if (myReviewCount >= PaperState.REQUIRED_REVIEWS) {
+			moveTo(PaperState.REVIEWED);
+		}
+		if (myConferenceData != null) {
+			myConferenceData.reviewAdded(this);
+		}
+	}
+	
+	/**
+	 * @return the (non-null) stage of the life of this Paper.
+	 */
+	public PaperState getState() {
+		return myState;
+	}
+	
+	/**
+	 * Checks whether an event which brings this Paper to theTarget is allowed, see PaperState.after().
+	 * @param theTarget the (non-null) state the event brings the paper to.
+	 * @return true iff the event is allowed.
+	 */
+	public boolean canMoveTo(final PaperState theTarget) {
+		return myState.after(theTarget) != null;
+	}
+	
+	/**
+	 * Moves this Paper on to theTarget, or leaves it if it is further already, and updates its conference.
+	 * @throws IllegalArgumentException if the move is not allowed, see canMoveTo().
+	 */
+	void moveTo(final PaperState theTarget) {
+		final PaperState next = myState.after(theTarget);
+		if (next == null) {
+			throw new IllegalArgumentException("A " + myState + " paper can not become " + theTarget + ".");
+		}
+		if (next != myState) {
+			final PaperState old = myState;
+			myState = next;
+			if (myConferenceData != null) {
+				myConferenceData.paperStateChanged(this, old, next);
+			}
+		}
+	}
+	
+	/**
+	 * Gets a review without the view of getReviews().
+	 * @param theIndex the index of the review, in the order they were added.
+	 * @return the (non-null) review at theIndex.
+	 * @throws IndexOutOfBoundsException if theIndex is not less than getReviewCount().
+	 */
+	public Review getReview(final int theIndex) {
+		if (theIndex < 0 || theIndex >= myReviewCount) {
+			throw new IndexOutOfBoundsException("Index: " + theIndex + ", Size: " + myReviewCount);
+		}
+		return myReviews[theIndex];
+	}
+	
+	/**
+	 * @return the amount of reviews of this Paper.
+	 */
+	public int getReviewCount() {
+		return myReviewCount;
+	}
+	
+	/**
+	 * @return the sum of the review scores.
+	 */
+	public long getScoreSum() {
+		return myScoreSum;
+	}
+	
+	/**
+	 * @return the sum of the squares of the review scores.
+	 */
+	public long getScoreSquareSum() {
+		return myScoreSquareSum;
+	}
+	
+	/**
+	 * @return the lowest review score, or 0 if there are no reviews.
+	 */
+	public int getMinScore() {
+		return myMinScore;
+	}
+	
+	/**
+	 * @return the highest review score, or 0 if there are no reviews.
+	 */
+	public int getMaxScore() {
+		return myMaxScore;
+	}
+	
+	/**
+	 * @return the mean review score, or NaN if there are no reviews.
+	 */
+	public double getMeanScore() {
+		return myReviewCount == 0 ? Double.NaN : myScoreSum / (double) myReviewCount;
+	}
+	
+	/**
+	 * @return the population variance of the review scores, or NaN if there are no reviews.
+	 */
+	public double getScoreVariance() {
+		if (myReviewCount == 0) {
+			return Double.NaN;
+		}
+		final double mean = getMeanScore();
+		return Math.max(0, myScoreSquareSum / (double) myReviewCount - mean * mean);
+	}
+	
+	/**
+	 * Gets how far the reviewers disagree: the highest minus the lowest score.
+	 * @return the range of the review scores, 0 if there are less than two reviews.
+	 */
+	public int getScoreRange() {
+		return myMaxScore - myMinScore;
+	}
+	
+	private void addScore(final int theScore) {
+		if (myReviewCount == 1) {
+			myMinScore = theScore;
+			myMaxScore = theScore;
+		} else {
+			myMinScore = Math.min(myMinScore, theScore);
+			myMaxScore = Math.max(myMaxScore, theScore);
+		}
+		myScoreSum += theScore;
+		myScoreSquareSum += (long) theScore * theScore;
+	}
+	
+	/**
+	 * @return the conference this paper is submitted to, or null.
+	 */
+	ConferenceData conferenceData() {
+		return myConferenceData;
+	}
+	
+	/**
+	 * Sets the conference which is told about new reviews and state changes, or null.
+	 */
+	void setConferenceData(final ConferenceData theConferenceData) {
+		myConferenceData = theConferenceData;
 	}
 	
 	@Override
 	public String toString() {
 	    return myTitle;
 	}
+	
+	/**
+	 * Writes the fields in the serialized form of earlier versions.
+	 */
+	private void writeObject(final ObjectOutputStream theStream) throws IOException {
+		final ObjectOutputStream.PutField fields = theStream.putFields();
+		fields.put("myPaperFile", new File(myPaperPath));
+		fields.put("mySubmissionDate", new Date(mySubmissionMillis));
+		fields.put("myAuthors", new ArrayList<String>(myAuthors));
+		fields.put("myReviews", new ArrayList<Review>(getReviews()));
+		fields.put("myTitle", myTitle);
+		fields.put("mySubmitter", mySubmitter);
+		fields.put("myRecommendation", myRecommendation);
+		fields.put("myRecommendationShort", myRecommendationShort);
+		theStream.writeFields();
+	}
+	
+	/**
+	 * Reads the serialized form into the compact fields.
+	 */
+	@SuppressWarnings("unchecked")
+	private void readObject(final ObjectInputStream theStream) throws IOException, ClassNotFoundException {
+		final ObjectInputStream.GetField fields = theStream.readFields();
+		myPaperPath = ((File) fields.get("myPaperFile", null)).getPath();
+		mySubmissionMillis = ((Date) fields.get("mySubmissionDate", null)).getTime();
+		myAuthors = NamePool.internAll((List<String>) fields.get("myAuthors", null));
+		myAuthorIds = toAuthorIds(myAuthors);
+		myAuthorMask = authorMask(myAuthorIds);
+		final List<Review> reviews = (List<Review>) fields.get("myReviews", null);
+		myReviews = reviews.isEmpty() ? NO_REVIEWS : reviews.toArray(new Review[0]);
+		for (final Review review : myReviews) {
+			myReviewCount++;
+			addScore(review.score);
+		}
+		myTitle = (String) fields.get("myTitle", null);
+		mySubmitter = (UserProfile) fields.get("mySubmitter", null);
+		myRecommendation = (Review) fields.get("myRecommendation", null);
+		final String recommendation = (String) fields.get("myRecommendationShort", null);
+		myRecommendationShort = recommendation == null || recommendation.isEmpty() ? "" : NamePool.intern(recommendation);
+		if (myRecommendation != null) {
+			myState = PaperState.RECOMMENDED;
+		} else {
+			myState = myReviewCount >= PaperState.REQUIRED_REVIEWS ? PaperState.REVIEWED : PaperState.SUBMITTED;
+		}
+	}
+	
+	/**
+	 * @return the bit of theAuthorId in the author mask, picked by the top six bits of a multiplicative hash so that
+	 * consecutive IDs spread over the word.
+	 */
+	private static long authorBit(final int theAuthorId) {
+		return 1L << ((theAuthorId * 0x9E3779B9) >>> 26);
+	}
+	
+	/**
+	 * @return the author mask of theAuthorIds.
+	 */
+	private static long authorMask(final int[] theAuthorIds) {
+		long result = 0;
+		for (final int id : theAuthorIds) {
+			result |= authorBit(id);
+		}
+		return result;
+	}
+	
+	/**
+	 * @return the IDs of theAuthors in the author dictionary.
+	 */
+	private static int[] toAuthorIds(final List<String> theAuthors) {
+		final AuthorDictionary dictionary = ConferenceSystem.getAuthorDictionary();
+		final int[] result = new int[theAuthors.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = dictionary.idOf(theAuthors.get(i));
+		}
+		return result;
+	}
+	
+	/**
+	 * The live, unmodifiable view of the reviews array.
+	 */
+	private final class ReviewList extends AbstractList<Review> implements RandomAccess {
+		
+		@Override
+		public Review get(final int theIndex) {
+			return getReview(theIndex);
+		}
+		
+		@Override
+		public int size() {
+			return myReviewCount;
+		}
+	}
 }
 
@@ -0,0 +1,270 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The papers of a conference ranked by a review statistic, kept up to date as reviews arrive.
+ *
+ * An indexed skip list: every link also stores how many papers it skips, so the rank of a paper, the paper at a rank
+ * and an update of a paper are O(log n) expected, and the top k papers O(log n + k). Papers are ordered by their key
+ * descending, papers without reviews last, and papers with equal keys in the order they were added.
+ *
+ * Get a ranking from ConferenceData.getRanking(); the conference updates it when papers are added, removed or
+ * reviewed. Not thread safe.
+ *
+ * @version 10/19/2026
+ */
+public final class PaperRanking {
+
+    /**
+     * The statistic papers are ranked by, highest first.
+     */
+    public enum Criterion {
+        /** The mean review score; the best papers first. */
+        MEAN_SCORE(Paper::getMeanScore),
+        /** The variance of the review scores; the most contested papers first. */
+        VARIANCE(Paper::getScoreVariance),
+        /** The highest minus the lowest review score; the papers the reviewers disagree on most first. */
+        DISAGREEMENT(p -> p.getReviewCount() == 0 ? Double.NaN : p.getScoreRange());
+
+        private final ToDoubleFunction<Paper> myKey;
+
+        Criterion(final ToDoubleFunction<Paper> theKey) {
+            myKey = theKey;
+        }
+
+        /**
+         * @return the key of thePaper, negative infinity if it has no reviews.
+         */
+        public double keyOf(final Paper thePaper) {
+            final double key = myKey.applyAsDouble(thePaper);
+            return Double.isNaN(key) ? Double.NEGATIVE_INFINITY : key;
+        }
+    }
+
+    private static final int MAX_LEVEL = 32;
+
+    private final Criterion myCriterion;
+
+    private final Node myHead = new Node(null, 0, 0, MAX_LEVEL);
+
+    private final Map<Paper, Node> myNodes = new IdentityHashMap<>();
+
+    /** Decides the level of new nodes; seeded so the shape of the list is repeatable. */
+    private final Random myRandom = new Random(0x5EED);
+
+    private int myLevel = 1;
+
+    private long mySequence;
+
+    /**
+     * @param theCriterion the statistic to rank by.
+     */
+    PaperRanking(final Criterion theCriterion) {
+        myCriterion = theCriterion;
+    }
+
+    /**
+     * @return the statistic papers are ranked by.
+     */
+    public Criterion getCriterion() {
+        return myCriterion;
+    }
+
+    /**
+     * @return the amount of ranked papers.
+     */
+    public int size() {
+        return myNodes.size();
+    }
+
+    /**
+     * @return the rank of thePaper, starting at 1, or 0 if it is not ranked.
+     */
+    public int getRank(final Paper thePaper) {
+        final Node node = myNodes.get(thePaper);
+        if (node == null) {
+            return 0;
+        }
+        int rank = 0;
+        Node x = myHead;
+        for (int i = myLevel - 1; i >= 0; i--) {
+            while (x.myNext[i] != null && !before(node, x.myNext[i])) {
+                rank += x.mySpan[i];
+                x = x.myNext[i];
+            }
+            if (x == node) {
+                return rank;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * @param theRank a rank from 1 to size().
+     * @return the paper at theRank.
+     * @throws IndexOutOfBoundsException if theRank is out of range.
+     */
+    public Paper getPaper(final int theRank) {
+        return nodeAt(theRank).myPaper;
+    }
+
+    /**
+     * @param theCount the amount of papers.
+     * @return the first theCount papers, or all papers if there are fewer, best first.
+     */
+    public List<Paper> getTop(final int theCount) {
+        final List<Paper> result = new ArrayList<>(Math.min(theCount, size()));
+        Node x = myHead.myNext[0];
+        while (x != null && result.size() < theCount) {
+            result.add(x.myPaper);
+            x = x.myNext[0];
+        }
+        return result;
+    }
+
+    /**
+     * Ranks thePaper by its current statistics, or moves it if it is ranked already.
+     */
+    void update(final Paper thePaper) {
+        final Node old = myNodes.get(thePaper);
+        final double key = myCriterion.keyOf(thePaper);
+        if (old != null) {
+            if (Double.compare(old.myKey, key) == 0) {
+                return;
+            }
+            unlink(old);
+        }
+        insert(thePaper, key, old == null ? mySequence++ : old.mySequence);
+    }
+
+    /**
+     * Removes thePaper from the ranking if it is ranked.
+     */
+    void remove(final Paper thePaper) {
+        final Node node = myNodes.get(thePaper);
+        if (node != null) {
+            unlink(node);
+        }
+    }
+
+    private Node nodeAt(final int theRank) {
+        if (theRank < 1 || theRank > size()) {
+            throw new IndexOutOfBoundsException("Rank " + theRank + " of " + size());
+        }
+        int traversed = 0;
+        Node x = myHead;
+        for (int i = myLevel - 1; i >= 0; i--) {
+            while (x.myNext[i] != null && traversed + x.mySpan[i] <= theRank) {
+                traversed += x.mySpan[i];
+                x = x.myNext[i];
+            }
+            if (traversed == theRank) {
+                return x;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private void insert(final Paper thePaper, final double theKey, final long theSequence) {
+        final Node[] update = new Node[MAX_LEVEL];
+        final int[] rank = new int[MAX_LEVEL];
+        final Node node = new Node(thePaper, theKey, theSequence, randomLevel());
+
+        Node x = myHead;
+        for (int i = myLevel - 1; i >= 0; i--) {
+            rank[i] = i == myLevel - 1 ? 0 : rank[i + 1];
+            while (x.myNext[i] != null && before(x.myNext[i], node)) {
+                rank[i] += x.mySpan[i];
+                x = x.myNext[i];
+            }
+            update[i] = x;
+        }
+
+        final int level = node.myNext.length;
+        if (level > myLevel) {
+            for (int i = myLevel; i < level; i++) {
+                rank[i] = 0;
+                update[i] = myHead;
+                update[i].mySpan[i] = size();
+            }
+            myLevel = level;
+        }
+
+        for (int i = 0; i < level; i++) {
+            node.myNext[i] = update[i].myNext[i];
+            update[i].myNext[i] = node;
+            node.mySpan[i] = update[i].mySpan[i] - (rank[0] - rank[i]);
+            update[i].mySpan[i] = rank[0] - rank[i] + 1;
+        }
+        for (int i = level; i < myLevel; i++) {
+            update[i].mySpan[i]++;
+        }
+        myNodes.put(thePaper, node);
+    }
+
+    private void unlink(final Node theNode) {
+        final Node[] update = new Node[MAX_LEVEL];
+        Node x = myHead;
+        for (int i = myLevel - 1; i >= 0; i--) {
+            while (x.myNext[i] != null && x.myNext[i] != theNode && before(x.myNext[i], theNode)) {
+                x = x.myNext[i];
+            }
+            update[i] = x;
+        }
+
+        for (int i = 0; i < myLevel; i++) {
+            if (update[i].myNext[i] == theNode) {
+                update[i].mySpan[i] += theNode.mySpan[i] - 1;
+                update[i].myNext[i] = theNode.myNext[i];
+            } else {
+                update[i].mySpan[i]--;
+            }
+        }
+        while (myLevel > 1 && myHead.myNext[myLevel - 1] == null) {
+            myLevel--;
+        }
+        myNodes.remove(theNode.myPaper);
+    }
+
+    /**
+     * @return whether theFirst is ranked before theSecond.
+     */
+    private static boolean before(final Node theFirst, final Node theSecond) {
+        final int byKey = Double.compare(theSecond.myKey, theFirst.myKey);
+        return byKey < 0 || (byKey == 0 && theFirst.mySequence < theSecond.mySequence);
+    }
+
+    private int randomLevel() {
+        int level = 1;
+        while (level < MAX_LEVEL && (myRandom.nextInt() & 3) == 0) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * A ranked paper with its links on every level of the node.
+     */
+    private static final class Node {
+
+        private final Paper myPaper;
+        private final double myKey;
+        private final long mySequence;
+        private final Node[] myNext;
+        private final int[] mySpan;
+
+        private Node(final Paper thePaper, final double theKey, final long theSequence, final int theLevel) {
+            myPaper = thePaper;
+            myKey = theKey;
+            mySequence = theSequence;
+            myNext = new Node[theLevel];
+            mySpan = new int[theLevel];
+        }
+    }
+}
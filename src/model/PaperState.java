@@ -0,0 +1,49 @@
+package model;
+
+/**
+ * The stages of the life of a Paper, in order; see Paper.getState().
+ *
+ * A paper only moves forward: an event which would bring it to an earlier stage leaves it where it is, so a chair
+ * assigned after the reviewers does not set the paper back. A withdrawn paper takes no further events until it is
+ * submitted again, and a recommended paper can not be withdrawn.
+ *
+ * @version 10/19/2026
+ */
+public enum PaperState {
+
+    /** Submitted to a conference. */
+    SUBMITTED,
+
+    /** Assigned to a subprogram chair. */
+    ASSIGNED,
+
+    /** At least one reviewer is assigned and there are fewer than REQUIRED_REVIEWS reviews. */
+    UNDER_REVIEW,
+
+    /** Has REQUIRED_REVIEWS reviews and can be recommended. */
+    REVIEWED,
+
+    /** A subprogram chair submitted a recommendation. */
+    RECOMMENDED,
+
+    /** Removed from its conference by the author. */
+    WITHDRAWN;
+
+    /** The amount of reviews a paper needs before it can be recommended. */
+    public static final int REQUIRED_REVIEWS = 3;
+
+    /**
+     * Gets the state a paper in this state is in after an event which brings it to theTarget.
+     * @param theTarget the (non-null) state the event brings a paper to.
+     * @return the state after the event, this if the paper is further already, or null if the event is not allowed.
+     */
+    public PaperState after(final PaperState theTarget) {
+        if (this == WITHDRAWN) {
+            return theTarget == SUBMITTED ? SUBMITTED : null;
+        }
+        if (theTarget == WITHDRAWN) {
+            return this == RECOMMENDED ? null : WITHDRAWN;
+        }
+        return theTarget.ordinal() > ordinal() ? theTarget : this;
+    }
+}
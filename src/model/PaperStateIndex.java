@@ -0,0 +1,123 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The submitted papers of one conference by PaperState, with the amount of papers in each state for the conference
+ * and for each subprogram chair. Every query is O(1); the index is updated by ConferenceData as papers are added,
+ * removed, assigned to chairs and change state.
+ *
+ * Withdrawn papers leave the conference, so none are indexed. Not serialized: ConferenceData rebuilds it on load.
+ *
+ * @version 10/19/2026
+ */
+final class PaperStateIndex {
+
+    private static final PaperState[] STATES = PaperState.values();
+
+    private final Map<PaperState, Set<Paper>> myPapers;
+
+    /** The chairs of every paper assigned to one, indexed or not. */
+    private final Map<Paper, List<UserProfile>> myChairs;
+
+    /** The amount of indexed papers of each chair in each state, by ordinal. */
+    private final Map<UserProfile, int[]> myChairCounts;
+
+    PaperStateIndex() {
+        myPapers = new EnumMap<>(PaperState.class);
+        for (final PaperState state : STATES) {
+            myPapers.put(state, new LinkedHashSet<>());
+        }
+        myChairs = new IdentityHashMap<>();
+        myChairCounts = new HashMap<>();
+    }
+
+    /**
+     * @return the amount of indexed papers in theState.
+     */
+    int count(final PaperState theState) {
+        return myPapers.get(theState).size();
+    }
+
+    /**
+     * @return the amount of indexed papers of theChair in theState.
+     */
+    int count(final UserProfile theChair, final PaperState theState) {
+        final int[] counts = myChairCounts.get(theChair);
+        return counts == null ? 0 : counts[theState.ordinal()];
+    }
+
+    /**
+     * @return an unmodifiable live view of the indexed papers in theState, in the order they got there.
+     */
+    Set<Paper> papers(final PaperState theState) {
+        return Collections.unmodifiableSet(myPapers.get(theState));
+    }
+
+    /**
+     * @return whether thePaper is indexed.
+     */
+    boolean contains(final Paper thePaper) {
+        return myPapers.get(thePaper.getState()).contains(thePaper);
+    }
+
+    /**
+     * Indexes thePaper under its current state.
+     */
+    void add(final Paper thePaper) {
+        if (myPapers.get(thePaper.getState()).add(thePaper)) {
+            countChairs(thePaper, thePaper.getState(), 1);
+        }
+    }
+
+    /**
+     * Removes thePaper from the index.
+     */
+    void remove(final Paper thePaper) {
+        if (myPapers.get(thePaper.getState()).remove(thePaper)) {
+            countChairs(thePaper, thePaper.getState(), -1);
+        }
+    }
+
+    /**
+     * Moves thePaper from theOld to theNew state.
+     */
+    void move(final Paper thePaper, final PaperState theOld, final PaperState theNew) {
+        if (myPapers.get(theOld).remove(thePaper)) {
+            countChairs(thePaper, theOld, -1);
+            myPapers.get(theNew).add(thePaper);
+            countChairs(thePaper, theNew, 1);
+        }
+    }
+
+    /**
+     * Records that thePaper was assigned to theChair.
+     */
+    void chairAssigned(final UserProfile theChair, final Paper thePaper) {
+        final List<UserProfile> chairs = myChairs.computeIfAbsent(thePaper, paper -> new ArrayList<>(1));
+        if (chairs.contains(theChair)) {
+            return;
+        }
+        chairs.add(theChair);
+        if (contains(thePaper)) {
+            myChairCounts.computeIfAbsent(theChair, chair -> new int[STATES.length])[thePaper.getState().ordinal()]++;
+        }
+    }
+
+    private void countChairs(final Paper thePaper, final PaperState theState, final int theDelta) {
+        final List<UserProfile> chairs = myChairs.get(thePaper);
+        if (chairs != null) {
+            for (final UserProfile chair : chairs) {
+                myChairCounts.computeIfAbsent(chair, c -> new int[STATES.length])[theState.ordinal()] += theDelta;
+            }
+        }
+    }
+}
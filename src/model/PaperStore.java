@@ -0,0 +1,431 @@
+package model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the metadata and review scores of papers off the heap, in fixed layout records of a memory mapped file,
+ * so a large model does not add to the live objects the garbage collector traces.
+ *
+ * A store is written once with write() and then mapped with open(); opening a store again after a restart only
+ * maps the file, nothing is decoded. PaperView is a flyweight over one record at a time: at() moves it to another
+ * paper without allocating, and only the getters returning Strings allocate. The store is read only; papers which
+ * change stay on the heap and a new store is written at the next checkpoint.
+ *
+ * The file holds, little endian, a header of eight ints (magic, version and the counts of papers, users, authors,
+ * author references and review scores, and the size of the string arena), then
+ * <pre>
+ * papers      RECORD_BYTES each: title, file (arena offsets), submit millis (long), submitter (user index),
+ *             first author reference, author count, first score, score count, recommendation score
+ * users       UID and name (arena offsets) of every submitter
+ * authors     name (arena offset) of every author, in the order of first use
+ * author refs the author indexes of all papers, each paper a range of them
+ * scores      the review scores of all papers, each paper a range of them
+ * arena       every distinct String once, as its length in bytes and its UTF-8 bytes
+ * </pre>
+ * Author indexes belong to the store, not to the AuthorDictionary, whose IDs are not kept across restarts.
+ *
+ * @version 10/19/2026
+ */
+public final class PaperStore {
+
+    /** The size of one paper record in bytes. */
+    public static final int RECORD_BYTES = 40;
+
+    /** The recommendation score of papers without a recommendation. */
+    public static final int NO_RECOMMENDATION = Integer.MIN_VALUE;
+
+    private static final int MAGIC = 0x50535452;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8 * Integer.BYTES;
+
+    private static final int TITLE = 0;
+    private static final int FILE = 4;
+    private static final int SUBMIT_MILLIS = 8;
+    private static final int SUBMITTER = 16;
+    private static final int AUTHOR_START = 20;
+    private static final int AUTHOR_COUNT = 24;
+    private static final int SCORE_START = 28;
+    private static final int SCORE_COUNT = 32;
+    private static final int RECOMMENDATION = 36;
+
+    private final ByteBuffer myBuffer;
+    private final int myPaperCount;
+    private final int myUserCount;
+    private final int myAuthorCount;
+    private final int myUsers;
+    private final int myAuthors;
+    private final int myAuthorRefs;
+    private final int myScores;
+    private final int myArena;
+
+    private PaperStore(final ByteBuffer theBuffer) throws IOException {
+        myBuffer = theBuffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (myBuffer.capacity() < HEADER_BYTES || myBuffer.getInt(0) != MAGIC || myBuffer.getInt(4) != VERSION) {
+            throw new IOException("Not a paper store of version " + VERSION);
+        }
+        myPaperCount = myBuffer.getInt(8);
+        myUserCount = myBuffer.getInt(12);
+        myAuthorCount = myBuffer.getInt(16);
+        final int authorRefs = myBuffer.getInt(20);
+        final int scores = myBuffer.getInt(24);
+        final int arenaBytes = myBuffer.getInt(28);
+        myUsers = HEADER_BYTES + myPaperCount * RECORD_BYTES;
+        myAuthors = myUsers + myUserCount * 2 * Integer.BYTES;
+        myAuthorRefs = myAuthors + myAuthorCount * Integer.BYTES;
+        myScores = myAuthorRefs + authorRefs * Integer.BYTES;
+        myArena = myScores + scores * Integer.BYTES;
+        if ((long) myArena + arenaBytes != myBuffer.capacity()) {
+            throw new IOException("The paper store is truncated or corrupt");
+        }
+    }
+
+    /**
+     * Writes thePapers, with the scores of their reviews and recommendation, to a new store at thePath.
+     * @param thePath the file to write, replaced if it exists.
+     * @param thePapers the (non-null) papers, in the order of their indexes in the store.
+     * @throws IOException if the file can not be written.
+     * @throws IllegalArgumentException if the store would be larger than 2 GB.
+     */
+    public static void write(final Path thePath, final Collection<Paper> thePapers) throws IOException {
+        final Writer writer = new Writer(thePapers.size());
+        for (final Paper paper : thePapers) {
+            writer.add(paper);
+        }
+        writer.write(thePath);
+    }
+
+    /**
+     * Maps the store at thePath. The file is closed again; the mapping is released once this store and its views
+     * are no longer reachable.
+     * @param thePath the (non-null) file written by write().
+     * @return the mapped store.
+     * @throws IOException if the file can not be mapped or is not a store.
+     */
+    public static PaperStore open(final Path thePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(thePath, StandardOpenOption.READ)) {
+            return new PaperStore(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * @return the amount of papers in the store.
+     */
+    public int getPaperCount() {
+        return myPaperCount;
+    }
+
+    /**
+     * @return the amount of distinct authors in the store.
+     */
+    public int getAuthorCount() {
+        return myAuthorCount;
+    }
+
+    /**
+     * @param theAuthor the index of an author in the store.
+     * @return the name of the author, as first written.
+     * @throws IndexOutOfBoundsException if theAuthor is not an author index.
+     */
+    public String getAuthor(final int theAuthor) {
+        return string(myBuffer.getInt(myAuthors + checkIndex(theAuthor, myAuthorCount) * Integer.BYTES));
+    }
+
+    /**
+     * @return a new view, at the first paper.
+     */
+    public PaperView view() {
+        return new PaperView();
+    }
+
+    private String string(final int theOffset) {
+        final int length = myBuffer.getInt(myArena + theOffset);
+        final byte[] bytes = new byte[length];
+        myBuffer.duplicate().position(myArena + theOffset + Integer.BYTES).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checkIndex(final int theIndex, final int theSize) {
+        if (theIndex < 0 || theIndex >= theSize) {
+            throw new IndexOutOfBoundsException(theIndex + " of " + theSize);
+        }
+        return theIndex;
+    }
+
+    /**
+     * A flyweight over the record of one paper, moved with at(). Not safe for concurrent use; give every thread
+     * a view() of its own.
+     */
+    public final class PaperView {
+
+        private int myIndex;
+        private int myRecord = HEADER_BYTES;
+
+        private PaperView() {
+        }
+
+        /**
+         * Moves this view to another paper.
+         * @param theIndex the index of the paper in the store.
+         * @return this view.
+         * @throws IndexOutOfBoundsException if theIndex is not a paper index.
+         */
+        public PaperView at(final int theIndex) {
+            myIndex = checkIndex(theIndex, myPaperCount);
+            myRecord = HEADER_BYTES + theIndex * RECORD_BYTES;
+            return this;
+        }
+
+        /**
+         * @return the index of the paper this view is at.
+         */
+        public int getIndex() {
+            return myIndex;
+        }
+
+        public String getTitle() {
+            return string(myBuffer.getInt(myRecord + TITLE));
+        }
+
+        public String getPaperPath() {
+            return string(myBuffer.getInt(myRecord + FILE));
+        }
+
+        public long getSubmitMillis() {
+            return myBuffer.getLong(myRecord + SUBMIT_MILLIS);
+        }
+
+        /**
+         * @return the index of the submitter in the store, the same for every paper of the submitter.
+         */
+        public int getSubmitterIndex() {
+            return myBuffer.getInt(myRecord + SUBMITTER);
+        }
+
+        public String getSubmitterUID() {
+            return string(myBuffer.getInt(myUsers + getSubmitterIndex() * 2 * Integer.BYTES));
+        }
+
+        public String getSubmitterName() {
+            return string(myBuffer.getInt(myUsers + getSubmitterIndex() * 2 * Integer.BYTES + Integer.BYTES));
+        }
+
+        public int getAuthorCount() {
+            return myBuffer.getInt(myRecord + AUTHOR_COUNT);
+        }
+
+        /**
+         * @param theIndex the index among the authors of this paper.
+         * @return the index of the author in the store, see PaperStore.getAuthor().
+         */
+        public int getAuthorIndex(final int theIndex) {
+            checkIndex(theIndex, getAuthorCount());
+            final int ref = myBuffer.getInt(myRecord + AUTHOR_START) + theIndex;
+            return myBuffer.getInt(myAuthorRefs + ref * Integer.BYTES);
+        }
+
+        /**
+         * @param theAuthor the index of an author in the store.
+         * @return true iff the author is among the authors of this paper.
+         */
+        public boolean isAuthor(final int theAuthor) {
+            final int start = myAuthorRefs + myBuffer.getInt(myRecord + AUTHOR_START) * Integer.BYTES;
+            final int end = start + getAuthorCount() * Integer.BYTES;
+            for (int ref = start; ref < end; ref += Integer.BYTES) {
+                if (myBuffer.getInt(ref) == theAuthor) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public List<String> getAuthors() {
+            final List<String> result = new ArrayList<>(getAuthorCount());
+            for (int a = 0; a < getAuthorCount(); a++) {
+                result.add(getAuthor(getAuthorIndex(a)));
+            }
+            return result;
+        }
+
+        public int getReviewCount() {
+            return myBuffer.getInt(myRecord + SCORE_COUNT);
+        }
+
+        /**
+         * @param theIndex the index of a review of this paper.
+         * @return the score of the review.
+         */
+        public int getScore(final int theIndex) {
+            checkIndex(theIndex, getReviewCount());
+            final int score = myBuffer.getInt(myRecord + SCORE_START) + theIndex;
+            return myBuffer.getInt(myScores + score * Integer.BYTES);
+        }
+
+        public long getScoreSum() {
+            final int start = myScores + myBuffer.getInt(myRecord + SCORE_START) * Integer.BYTES;
+            final int end = start + getReviewCount() * Integer.BYTES;
+            long result = 0;
+            for (int score = start; score < end; score += Integer.BYTES) {
+                result += myBuffer.getInt(score);
+            }
+            return result;
+        }
+
+        /**
+         * @return the mean review score, NaN if there are no reviews.
+         */
+        public double getMeanScore() {
+            final int count = getReviewCount();
+            return count == 0 ? Double.NaN : getScoreSum() / (double) count;
+        }
+
+        /**
+         * @return the score of the recommendation, NO_RECOMMENDATION if there is none.
+         */
+        public int getRecommendationScore() {
+            return myBuffer.getInt(myRecord + RECOMMENDATION);
+        }
+    }
+
+    /**
+     * Collects the tables of a store in memory and writes them at once.
+     */
+    private static final class Writer {
+
+        private final ByteBuffer myRecords;
+        private final Map<String, Integer> myStrings = new HashMap<>();
+        private final ByteArrayOutputStream myArena = new ByteArrayOutputStream();
+        private final Map<String, Integer> myUserIndexes = new HashMap<>();
+        private final IntList myUsers = new IntList();
+        private final Map<String, Integer> myAuthorIndexes = new HashMap<>();
+        private final IntList myAuthors = new IntList();
+        private final IntList myAuthorRefs = new IntList();
+        private final IntList myScores = new IntList();
+
+        private Writer(final int thePapers) {
+            if ((long) thePapers * RECORD_BYTES > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many papers for one store!");
+            }
+            myRecords = ByteBuffer.allocate(thePapers * RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        private void add(final Paper thePaper) {
+            final int record = myRecords.position();
+            myRecords.putInt(record + TITLE, string(thePaper.getTitle()));
+            myRecords.putInt(record + FILE, string(thePaper.getPaperFile().getPath()));
+            myRecords.putLong(record + SUBMIT_MILLIS, thePaper.getSubmitMillis());
+
+            final UserProfile submitter = thePaper.getSubmitterUserProfile();
+            Integer user = myUserIndexes.get(submitter.getUID());
+            if (user == null) {
+                user = myUserIndexes.size();
+                myUserIndexes.put(submitter.getUID(), user);
+                myUsers.add(string(submitter.getUID()));
+                myUsers.add(string(submitter.getName()));
+            }
+            myRecords.putInt(record + SUBMITTER, user);
+
+            myRecords.putInt(record + AUTHOR_START, myAuthorRefs.size());
+            myRecords.putInt(record + AUTHOR_COUNT, thePaper.getAuthors().size());
+            for (final String author : thePaper.getAuthors()) {
+                final String key = AuthorDictionary.normalize(author);
+                Integer index = myAuthorIndexes.get(key);
+                if (index == null) {
+                    index = myAuthorIndexes.size();
+                    myAuthorIndexes.put(key, index);
+                    myAuthors.add(string(author));
+                }
+                myAuthorRefs.add(index);
+            }
+
+            myRecords.putInt(record + SCORE_START, myScores.size());
+            myRecords.putInt(record + SCORE_COUNT, thePaper.getReviewCount());
+            for (int r = 0; r < thePaper.getReviewCount(); r++) {
+                myScores.add(thePaper.getReview(r).score);
+            }
+            final Review recommendation = thePaper.getMyRecommendation();
+            myRecords.putInt(record + RECOMMENDATION,
+                    recommendation == null ? NO_RECOMMENDATION : recommendation.score);
+            myRecords.position(record + RECORD_BYTES);
+        }
+
+        private int string(final String theString) {
+            Integer offset = myStrings.get(theString);
+            if (offset == null) {
+                offset = myArena.size();
+                final byte[] bytes = theString.getBytes(StandardCharsets.UTF_8);
+                myArena.write(bytes.length);
+                myArena.write(bytes.length >>> 8);
+                myArena.write(bytes.length >>> 16);
+                myArena.write(bytes.length >>> 24);
+                myArena.write(bytes, 0, bytes.length);
+                myStrings.put(theString, offset);
+            }
+            return offset;
+        }
+
+        private void write(final Path thePath) throws IOException {
+            final long size = HEADER_BYTES + (long) myRecords.capacity()
+                    + (long) (myUsers.size() + myAuthors.size() + myAuthorRefs.size() + myScores.size())
+                    * Integer.BYTES
+                    + myArena.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The store would be larger than 2 GB!");
+            }
+            try (FileChannel channel = FileChannel.open(thePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                out.order(ByteOrder.LITTLE_ENDIAN);
+                out.putInt(MAGIC).putInt(VERSION).putInt(myRecords.capacity() / RECORD_BYTES)
+                        .putInt(myUsers.size() / 2).putInt(myAuthors.size()).putInt(myAuthorRefs.size())
+                        .putInt(myScores.size()).putInt(myArena.size());
+                out.put(myRecords.array());
+                myUsers.writeTo(out);
+                myAuthors.writeTo(out);
+                myAuthorRefs.writeTo(out);
+                myScores.writeTo(out);
+                out.put(myArena.toByteArray());
+                out.force();
+            }
+        }
+    }
+
+    /**
+     * A growable array of ints.
+     */
+    private static final class IntList {
+
+        private int[] myValues = new int[16];
+        private int mySize;
+
+        private void add(final int theValue) {
+            if (mySize == myValues.length) {
+                myValues = Arrays.copyOf(myValues, mySize * 2);
+            }
+            myValues[mySize++] = theValue;
+        }
+
+        private int size() {
+            return mySize;
+        }
+
+        private void writeTo(final ByteBuffer theOut) {
+            for (int i = 0; i < mySize; i++) {
+                theOut.putInt(myValues[i]);
+            }
+        }
+    }
+}
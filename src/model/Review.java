@@ -9,10 +9,30 @@ public class Review implements Serializable {
     
     public final int score;
     public final File review;
+    /** Who wrote the review, null if unknown as for reviews saved before it was recorded. */
+    public final UserProfile reviewer;
+    /** When the review was written in milliseconds, 0 if unknown. */
+    public final long time;
     
     
     public Review(File review, int score) {
+        this(review, score, null);
+    }
+    
+    /**
+     * Creates a review written by reviewer now, by the clock of the DeadlineScheduler.
+     */
+    public Review(File review, int score, UserProfile reviewer) {
+        this(review, score, reviewer, DeadlineScheduler.getInstance().currentTimeMillis());
+    }
+    
+    /**
+     * Creates a review written by reviewer at time, e.g. to replay a change of a ChangeJournal.
+     */
+    Review(File review, int score, UserProfile reviewer, long time) {
         this.score = score;
         this.review = review;
+        this.reviewer = reviewer;
+        this.time = time;
     }
 }
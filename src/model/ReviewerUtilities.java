@@ -2,25 +2,40 @@ package model;
 
 import java.io.File;
 import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A class to send reviews through.
  */
 public class ReviewerUtilities implements Serializable {
 
-    //private final ConferenceData myConferenceData;
-    
     /**
 	 * 
 	 */
 	private static final long serialVersionUID = -1373683496531886231L;
+	private static final LatencyHistogram SEND_REVIEW_LATENCY =
+			MetricsRegistry.getInstance().histogram("ReviewerUtilities.sendReview");
+	private static final LongAdder SEND_REVIEW_REJECTED =
+			MetricsRegistry.getInstance().counter("ReviewerUtilities.sendReview.rejected");
+	/**
+	 * The Conference reviews are sent for. null for snapshots saved
+	 * before it was kept, see Conference.readObject().
+	 */
+	private final ConferenceData myConferenceData;
 
 	/**
      * Creates a ReviewerUtilities Object for a Conference. 
      * @param theConferenceData The ConferenceData Object to manipulate.
      */
     public ReviewerUtilities(final ConferenceData theConferenceData){
-        //myConferenceData = theConferenceData;
+        myConferenceData = theConferenceData;
+    }
+    
+    /**
+     * @return true iff this ReviewerUtilities knows its ConferenceData.
+     */
+    boolean hasConferenceData() {
+        return myConferenceData != null;
     }
     
     public void sendReview(
@@ -28,14 +43,27 @@ public class ReviewerUtilities implements Serializable {
             Paper thePaper,
             File review, int score
             ) throws IllegalArgumentException {
-
-    	
-    	//added 5/29/2017
-    	//Prevents a user from sending a review to their own paper
-    	if (thePaper.getAuthors().contains(theReviewerProfile.getName())) {
-    		throw new IllegalArgumentException();
-    	} else {
-    		thePaper.addReview(new Review(review, score));
+    	final long start = System.nanoTime();
+    	final FlightEvents.ReviewSent event = new FlightEvents.ReviewSent();
+    	event.begin();
+    	try {
+	    	//added 5/29/2017
+	    	//Prevents a user from sending a review to their own paper
+	    	if (thePaper.isAuthoredBy(theReviewerProfile)) {
+	    		SEND_REVIEW_REJECTED.increment();
+	    		event.rejected = true;
+	    		throw new IllegalArgumentException();
+	    	} else {
+	    		final Review sent = new Review(review, score, theReviewerProfile);
+	    		thePaper.addReview(sent);
+	    		ChangeJournal.reviewAdded(myConferenceData, false, thePaper, sent);
+	    	}
+	    	SEND_REVIEW_LATENCY.recordSince(start);
+    	} finally {
+    		if (event.shouldCommit()) {
+    			event.set(myConferenceData, thePaper, theReviewerProfile, thePaper.getReviews().size());
+    			event.commit();
+    		}
     	}
 
     }
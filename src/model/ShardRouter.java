@@ -0,0 +1,304 @@
+package model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Partitions the Conferences by the hash of their name across ShardWorkers, e.g. worker processes on the same host
+ * so no single heap holds every Conference, and answers the ConferenceLookup queries over them.
+ *
+ * A Conference and its papers live in the worker shardOf() its name, and a UserProfile in the worker of the hash
+ * of its UID, so their lookups ask that worker only. getConferences() and the papers of a user scatter the query
+ * to every worker at once and gather the answers in the order of the workers. The Conferences and Papers returned
+ * are copies read from the workers: changing them does not change the workers.
+ *
+ * The latency of the routed and the scattered queries is recorded in the "ShardRouter.route" and
+ * "ShardRouter.scatter" histograms. A worker which can not be reached fails the query with an UncheckedIOException.
+ *
+ * @version 10/19/2026
+ */
+public final class ShardRouter implements ConferenceLookup, Closeable {
+
+    private static final LatencyHistogram ROUTE_LATENCY = MetricsRegistry.getInstance().histogram("ShardRouter.route");
+    private static final LatencyHistogram SCATTER_LATENCY =
+            MetricsRegistry.getInstance().histogram("ShardRouter.scatter");
+
+    private final Shard[] myShards;
+    private final ExecutorService myScatter;
+
+    private ShardRouter(final Shard[] theShards) {
+        myShards = theShards;
+        myScatter = Executors.newFixedThreadPool(theShards.length, r -> {
+            final Thread thread = new Thread(r, "shard-router");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Connects to running workers. The order of theWorkers decides which Conferences each one holds, so it must be
+     * the same every time the same workers are connected to.
+     * @param theWorkers the (non-empty) addresses of the workers.
+     * @return the router.
+     * @throws IOException if a worker can not be connected to; the connected ones are closed again.
+     * @throws IllegalArgumentException if theWorkers is empty.
+     */
+    public static ShardRouter connect(final List<InetSocketAddress> theWorkers) throws IOException {
+        if (theWorkers.isEmpty()) {
+            throw new IllegalArgumentException("There must be at least one worker!");
+        }
+        final Shard[] shards = new Shard[theWorkers.size()];
+        try {
+            for (int s = 0; s < shards.length; s++) {
+                shards[s] = new Shard(new Socket(theWorkers.get(s).getAddress(), theWorkers.get(s).getPort()), null);
+            }
+        } catch (IOException e) {
+            closeAll(shards);
+            throw e;
+        }
+        return new ShardRouter(shards);
+    }
+
+    /**
+     * Launches theWorkers worker processes with the class path of this JVM and connects to them. The processes
+     * are stopped by close(), or end by themselves once this JVM goes away.
+     * @param theWorkers the amount of workers, at least 1.
+     * @param theJvmOptions the options of the worker JVMs, e.g. -Xmx512m.
+     * @return the router.
+     * @throws IOException if a worker can not be launched or connected to; the launched ones are stopped again.
+     * @throws IllegalArgumentException if theWorkers is less than 1.
+     */
+    public static ShardRouter launch(final int theWorkers, final List<String> theJvmOptions) throws IOException {
+        if (theWorkers < 1) {
+            throw new IllegalArgumentException("There must be at least one worker!");
+        }
+        final Shard[] shards = new Shard[theWorkers];
+        try {
+            for (int s = 0; s < shards.length; s++) {
+                final List<String> command = new ArrayList<>();
+                command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+                command.addAll(theJvmOptions);
+                command.add("-cp");
+                command.add(System.getProperty("java.class.path"));
+                command.add(ShardWorker.class.getName());
+                final Process process = new ProcessBuilder(command)
+                        .redirectError(ProcessBuilder.Redirect.INHERIT).start();
+                final String line = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                        StandardCharsets.UTF_8)).readLine();
+                if (line == null || !line.startsWith(ShardWorker.LISTENING)) {
+                    process.destroy();
+                    throw new IOException("Shard worker " + s + " did not start: " + line);
+                }
+                final int port = Integer.parseInt(line.substring(ShardWorker.LISTENING.length()).trim());
+                shards[s] = new Shard(new Socket(InetAddress.getLoopbackAddress(), port), process);
+            }
+        } catch (IOException e) {
+            closeAll(shards);
+            throw e;
+        }
+        return new ShardRouter(shards);
+    }
+
+    /**
+     * @return the amount of workers.
+     */
+    public int getShardCount() {
+        return myShards.length;
+    }
+
+    /**
+     * @param theKey the name of a Conference or the UID of a UserProfile.
+     * @return the index of the worker which holds it.
+     */
+    public int shardOf(final String theKey) {
+        return Math.floorMod(theKey.hashCode(), myShards.length);
+    }
+
+    /**
+     * Sends theConference to its worker; it is copied, so change it before adding it.
+     * @param theConference the (non-null) Conference to add.
+     * @throws IllegalArgumentException if its worker has a Conference with the same name.
+     */
+    public void addConference(final Conference theConference) {
+        route(theConference.getInfo().getName(), ShardWorker.Op.ADD_CONFERENCE, theConference);
+    }
+
+    /**
+     * Sends theUserProfile to its worker.
+     * @param theUserProfile the (non-null) UserProfile to add.
+     * @throws IllegalArgumentException if its worker refuses it, see ConferenceSystem.addUserProfile().
+     */
+    public void addUserProfile(final UserProfile theUserProfile) {
+        route(theUserProfile.getUID(), ShardWorker.Op.ADD_USER, theUserProfile);
+    }
+
+    @Override
+    public Conference getConference(final String theConferenceName) {
+        return (Conference) route(theConferenceName, ShardWorker.Op.GET_CONFERENCE, theConferenceName);
+    }
+
+    @Override
+    public UserProfile getUserProfile(final String theUserID) {
+        return (UserProfile) route(theUserID, ShardWorker.Op.GET_USER, theUserID);
+    }
+
+    @Override
+    public List<Conference> getConferences() {
+        return scatter(ShardWorker.Op.GET_CONFERENCES, null);
+    }
+
+    @Override
+    public List<Paper> getAllPapersSubmitted(final UserProfile theUserProfile) {
+        return scatter(ShardWorker.Op.PAPERS_SUBMITTED, theUserProfile);
+    }
+
+    @Override
+    public List<Paper> getAllPapersAssignedTo(final UserProfile theUserProfile) {
+        return scatter(ShardWorker.Op.PAPERS_ASSIGNED, theUserProfile);
+    }
+
+    /**
+     * Collects the garbage of every worker and measures its heap, e.g. to compare how the model spreads.
+     * @return the used heap of each worker in bytes, in the order of the workers.
+     */
+    public long[] getHeapUsed() {
+        final List<Future<Object>> answers = new ArrayList<>(myShards.length);
+        for (final Shard shard : myShards) {
+            answers.add(myScatter.submit(() -> shard.call(ShardWorker.Op.HEAP_USED, null)));
+        }
+        final long[] result = new long[myShards.length];
+        for (int s = 0; s < result.length; s++) {
+            result[s] = (Long) get(answers.get(s));
+        }
+        return result;
+    }
+
+    /**
+     * Stops the workers launched by launch() and closes the connections.
+     */
+    @Override
+    public void close() {
+        myScatter.shutdownNow();
+        closeAll(myShards);
+    }
+
+    private Object route(final String theKey, final ShardWorker.Op theOp, final Serializable theArgument) {
+        final long start = System.nanoTime();
+        final Object result = myShards[shardOf(theKey)].call(theOp, theArgument);
+        ROUTE_LATENCY.recordSince(start);
+        return result;
+    }
+
+    /**
+     * Asks every worker at once and appends their lists in the order of the workers.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> scatter(final ShardWorker.Op theOp, final Serializable theArgument) {
+        final long start = System.nanoTime();
+        final List<Future<Object>> answers = new ArrayList<>(myShards.length);
+        for (int s = 1; s < myShards.length; s++) {
+            final Shard shard = myShards[s];
+            answers.add(myScatter.submit(() -> shard.call(theOp, theArgument)));
+        }
+        final List<T> result = new ArrayList<>((List<T>) myShards[0].call(theOp, theArgument));
+        for (final Future<Object> answer : answers) {
+            result.addAll((List<T>) get(answer));
+        }
+        SCATTER_LATENCY.recordSince(start);
+        return result;
+    }
+
+    private static Object get(final Future<Object> theAnswer) {
+        try {
+            return theAnswer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static void closeAll(final Shard[] theShards) {
+        for (final Shard shard : theShards) {
+            if (shard != null) {
+                shard.close();
+            }
+        }
+    }
+
+    /**
+     * The connection to one worker, used by one query at a time.
+     */
+    private static final class Shard {
+
+        private final Socket mySocket;
+        private final Process myProcess;
+        private final ObjectOutputStream myOut;
+        private final ObjectInputStream myIn;
+
+        private Shard(final Socket theSocket, final Process theProcess) throws IOException {
+            mySocket = theSocket;
+            myProcess = theProcess;
+            mySocket.setTcpNoDelay(true);
+            myOut = new ObjectOutputStream(new BufferedOutputStream(mySocket.getOutputStream()));
+            myOut.flush();
+            myIn = new ObjectInputStream(new BufferedInputStream(mySocket.getInputStream()));
+        }
+
+        /**
+         * Sends one request and waits for its answer.
+         * @throws RuntimeException the exception the request threw in the worker.
+         */
+        private synchronized Object call(final ShardWorker.Op theOp, final Serializable theArgument) {
+            final Object answer;
+            try {
+                myOut.writeObject(new ShardWorker.Request(theOp, theArgument));
+                myOut.reset();
+                myOut.flush();
+                answer = myIn.readObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+            if (answer instanceof RuntimeException) {
+                throw (RuntimeException) answer;
+            }
+            return answer;
+        }
+
+        private void close() {
+            try {
+                mySocket.close();
+            } catch (IOException e) {
+                // Closing anyway.
+            }
+            if (myProcess != null) {
+                myProcess.destroy();
+            }
+        }
+    }
+}
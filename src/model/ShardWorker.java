@@ -0,0 +1,197 @@
+package model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+
+/**
+ * Holds the part of the Conferences which a ShardRouter sends to it, in a ConferenceSystem of its own, and answers
+ * the requests of the router over a local socket.
+ *
+ * Every connection is served by a thread of its own, reading one request and writing its answer at a time with
+ * Java serialization; requests on the system are serialized, so the model keeps a single writer. Exceptions
+ * thrown by a request are sent back as the answer, for the router to throw again.
+ *
+ * Usage: java model.ShardWorker [port=n]
+ * which listens on the loopback address, prints the port it listens on and exits once its standard input is
+ * closed, i.e. when the router which launched it goes away.
+ *
+ * @version 10/19/2026
+ */
+public final class ShardWorker implements Closeable {
+
+    /** The line a worker process prints before the port it listens on. */
+    static final String LISTENING = "ShardWorker listening on ";
+
+    /**
+     * The requests of a ShardRouter, each with the argument it takes.
+     */
+    enum Op {
+        /** Adds a Conference. */
+        ADD_CONFERENCE,
+        /** Adds a UserProfile. */
+        ADD_USER,
+        /** Gets a UserProfile by UID. */
+        GET_USER,
+        /** Gets a Conference by name. */
+        GET_CONFERENCE,
+        /** Gets all Conferences, no argument. */
+        GET_CONFERENCES,
+        /** Gets the papers submitted by a UserProfile. */
+        PAPERS_SUBMITTED,
+        /** Gets the papers assigned to a UserProfile for review. */
+        PAPERS_ASSIGNED,
+        /** Gets the used heap in bytes after a full collection, no argument. */
+        HEAP_USED
+    }
+
+    /**
+     * One request of a ShardRouter.
+     */
+    static final class Request implements Serializable {
+
+        private static final long serialVersionUID = 4105773621349562210L;
+
+        final Op myOp;
+        final Serializable myArgument;
+
+        Request(final Op theOp, final Serializable theArgument) {
+            myOp = theOp;
+            myArgument = theArgument;
+        }
+    }
+
+    private final ConferenceSystem mySystem = ConferenceSystem.createReplica();
+    private final ServerSocket myServer;
+
+    private ShardWorker(final ServerSocket theServer) {
+        myServer = theServer;
+    }
+
+    /**
+     * Starts a worker in this JVM, serving connections on a daemon thread until close().
+     * @param thePort the port to listen on at the loopback address, 0 for any free port.
+     * @return the started worker.
+     * @throws IOException if the port can not be bound.
+     */
+    public static ShardWorker start(final int thePort) throws IOException {
+        final ShardWorker worker = new ShardWorker(new ServerSocket(thePort, 50, InetAddress.getLoopbackAddress()));
+        final Thread thread = new Thread(worker::accept, "shard-worker-" + worker.getPort());
+        thread.setDaemon(true);
+        thread.start();
+        return worker;
+    }
+
+    /**
+     * Runs a worker process until its standard input is closed.
+     * @param args optionally port=n.
+     * @throws IOException if the port can not be bound.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = 0;
+        for (final String arg : args) {
+            if (arg.startsWith("port=")) {
+                port = Integer.parseInt(arg.substring("port=".length()));
+            }
+        }
+        try (ShardWorker worker = start(port)) {
+            System.out.println(LISTENING + worker.getPort());
+            System.out.flush();
+            while (System.in.read() >= 0) {
+                // Wait for the router to go away.
+            }
+        }
+    }
+
+    /**
+     * @return the port this worker listens on.
+     */
+    public int getPort() {
+        return myServer.getLocalPort();
+    }
+
+    /**
+     * Stops accepting connections. Connections which are open are served until the router closes them.
+     */
+    @Override
+    public void close() throws IOException {
+        myServer.close();
+    }
+
+    private void accept() {
+        try {
+            while (true) {
+                final Socket socket = myServer.accept();
+                final Thread thread = new Thread(() -> serve(socket), "shard-connection-" + getPort());
+                thread.setDaemon(true);
+                thread.start();
+            }
+        } catch (IOException e) {
+            // The server socket was closed.
+        }
+    }
+
+    private void serve(final Socket theSocket) {
+        try (Socket socket = theSocket) {
+            socket.setTcpNoDelay(true);
+            final ObjectOutputStream out =
+                    new ObjectOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.flush();
+            final ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(socket.getInputStream()));
+            while (true) {
+                final Request request = (Request) in.readObject();
+                Object answer;
+                try {
+                    synchronized (mySystem) {
+                        answer = answer(request);
+                    }
+                } catch (RuntimeException e) {
+                    answer = e;
+                }
+                out.writeObject(answer);
+                out.reset();
+                out.flush();
+            }
+        } catch (EOFException | SocketException e) {
+            // The router closed the connection.
+        } catch (IOException | ClassNotFoundException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private Object answer(final Request theRequest) {
+        switch (theRequest.myOp) {
+        case ADD_CONFERENCE:
+            mySystem.addConference((Conference) theRequest.myArgument);
+            return null;
+        case ADD_USER:
+            mySystem.addUserProfile((UserProfile) theRequest.myArgument);
+            return null;
+        case GET_USER:
+            return mySystem.getUserProfile((String) theRequest.myArgument);
+        case GET_CONFERENCE:
+            return mySystem.getConference((String) theRequest.myArgument);
+        case GET_CONFERENCES:
+            return mySystem.getConferences();
+        case PAPERS_SUBMITTED:
+            return mySystem.getAllPapersSubmitted((UserProfile) theRequest.myArgument);
+        case PAPERS_ASSIGNED:
+            return mySystem.getAllPapersAssignedTo((UserProfile) theRequest.myArgument);
+        case HEAP_USED:
+            System.gc();
+            return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        default:
+            throw new IllegalArgumentException("Unknown request " + theRequest.myOp);
+        }
+    }
+}
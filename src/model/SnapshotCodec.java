@@ -0,0 +1,188 @@
+package model;
+
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses the blocks of a snapshot written by a SnapshotOutputStream and read by a SnapshotInputStream.
+ *
+ * The ID and level of the codec are written to the header of the stream, so a reader finds the codec again with
+ * forId(). A codec is called for many blocks at once from the threads of the writer, so it must not keep state
+ * between calls.
+ *
+ * @version 10/19/2026
+ */
+public interface SnapshotCodec {
+
+    /** The ID of none(). */
+    int STORED = 0;
+
+    /** The ID of deflate(). */
+    int DEFLATE = 1;
+
+    /** The ID of lz(). */
+    int LZ = 2;
+
+    /**
+     * @return the ID written to the header, 0 to 255.
+     */
+    int getId();
+
+    /**
+     * @return the level written to the header, 0 to 255.
+     */
+    int getLevel();
+
+    /**
+     * @return the name of the codec, e.g. for benchmark results.
+     */
+    String getName();
+
+    /**
+     * Compresses the first theLength bytes of theSource into theTarget, unless that does not make them smaller.
+     * @param theSource the bytes to compress.
+     * @param theLength the amount of bytes to compress.
+     * @param theTarget where to write the compressed bytes, at least theLength long.
+     * @return the amount of compressed bytes, -1 if they would not be fewer than theLength.
+     */
+    int compress(byte[] theSource, int theLength, byte[] theTarget);
+
+    /**
+     * Decompresses bytes written by compress().
+     * @param theSource the compressed bytes.
+     * @param theLength the amount of compressed bytes.
+     * @param theTarget where to write the original bytes.
+     * @param theTargetLength the amount of original bytes.
+     * @throws IOException if the compressed bytes are corrupt.
+     */
+    void decompress(byte[] theSource, int theLength, byte[] theTarget, int theTargetLength) throws IOException;
+
+    /**
+     * @return a codec which stores every block as it is.
+     */
+    static SnapshotCodec none() {
+        return new SnapshotCodec() {
+            @Override
+            public int getId() {
+                return STORED;
+            }
+
+            @Override
+            public int getLevel() {
+                return 0;
+            }
+
+            @Override
+            public String getName() {
+                return "stored";
+            }
+
+            @Override
+            public int compress(final byte[] theSource, final int theLength, final byte[] theTarget) {
+                return -1;
+            }
+
+            @Override
+            public void decompress(final byte[] theSource, final int theLength, final byte[] theTarget,
+                    final int theTargetLength) throws IOException {
+                throw new IOException("A stored block is not compressed");
+            }
+        };
+    }
+
+    /**
+     * @param theLevel the Deflater level, 0 to 9.
+     * @return a codec deflating every block with its own Deflater, without zlib header or checksum.
+     * @throws IllegalArgumentException if theLevel is not a Deflater level.
+     */
+    static SnapshotCodec deflate(final int theLevel) {
+        if (theLevel < Deflater.NO_COMPRESSION || theLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("No Deflater level " + theLevel);
+        }
+        return new SnapshotCodec() {
+            @Override
+            public int getId() {
+                return DEFLATE;
+            }
+
+            @Override
+            public int getLevel() {
+                return theLevel;
+            }
+
+            @Override
+            public String getName() {
+                return "deflate-" + theLevel;
+            }
+
+            @Override
+            public int compress(final byte[] theSource, final int theLength, final byte[] theTarget) {
+                final Deflater deflater = new Deflater(theLevel, true);
+                try {
+                    deflater.setInput(theSource, 0, theLength);
+                    deflater.finish();
+                    int length = 0;
+                    while (!deflater.finished() && length < theLength) {
+                        length += deflater.deflate(theTarget, length, theLength - length);
+                    }
+                    return deflater.finished() && length < theLength ? length : -1;
+                } finally {
+                    deflater.end();
+                }
+            }
+
+            @Override
+            public void decompress(final byte[] theSource, final int theLength, final byte[] theTarget,
+                    final int theTargetLength) throws IOException {
+                final Inflater inflater = new Inflater(true);
+                try {
+                    inflater.setInput(theSource, 0, theLength);
+                    int length = 0;
+                    while (length < theTargetLength && !inflater.finished()) {
+                        final int inflated = inflater.inflate(theTarget, length, theTargetLength - length);
+                        if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                            break;
+                        }
+                        length += inflated;
+                    }
+                    if (length != theTargetLength) {
+                        throw new IOException("A deflated block is truncated");
+                    }
+                } catch (DataFormatException e) {
+                    throw new IOException(e);
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * @return the LZ77 codec of this project, much faster than deflate() at a lower ratio.
+     */
+    static SnapshotCodec lz() {
+        return LzCodec.INSTANCE;
+    }
+
+    /**
+     * Finds one of the codecs of this interface by what a stream header holds.
+     * @param theId the ID of the codec.
+     * @param theLevel the level of the codec.
+     * @return the codec.
+     * @throws IllegalArgumentException if there is no such codec.
+     */
+    static SnapshotCodec forId(final int theId, final int theLevel) {
+        switch (theId) {
+            case STORED:
+                return none();
+            case DEFLATE:
+                return deflate(theLevel);
+            case LZ:
+                return lz();
+            default:
+                throw new IllegalArgumentException("No snapshot codec " + theId);
+        }
+    }
+}
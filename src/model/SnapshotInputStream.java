@@ -0,0 +1,180 @@
+package model;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.zip.CRC32;
+
+/**
+ * Reads a snapshot compressed by a SnapshotOutputStream. The blocks are read, decompressed and checked against
+ * their CRC32 one at a time as they are read, so memory stays at two blocks whatever the size of the snapshot.
+ *
+ * @version 10/19/2026
+ */
+public class SnapshotInputStream extends InputStream {
+
+    private static final LongAdder CHECKSUM_ERRORS =
+            MetricsRegistry.getInstance().counter("SnapshotInputStream.checksumErrors");
+
+    private final DataInputStream myIn;
+    private final SnapshotCodec myCodec;
+    private final int myBlockSize;
+    private final byte[] myRaw;
+    private final byte[] myCompressed;
+    private final CRC32 myCrc = new CRC32();
+    private int myPosition;
+    private int myLength;
+    private long myRawBytes;
+    private int myBlockCount;
+    private boolean myEnded;
+
+    /**
+     * Reads the header of a stream compressed with one of the codecs of SnapshotCodec.forId().
+     * @param theIn the (non-null) stream to read the compressed snapshot from; it is closed by close().
+     * @throws IOException if the header can not be read or names an unknown codec.
+     */
+    public SnapshotInputStream(final InputStream theIn) throws IOException {
+        this(theIn, SnapshotCodec::forId);
+    }
+
+    /**
+     * Reads the header of a stream.
+     * @param theIn the (non-null) stream to read the compressed snapshot from; it is closed by close().
+     * @param theCodecs finds the codec by the ID and level of the header, throwing IllegalArgumentException if
+     * there is none.
+     * @throws IOException if the header can not be read or names an unknown codec.
+     */
+    public SnapshotInputStream(final InputStream theIn,
+            final BiFunction<Integer, Integer, SnapshotCodec> theCodecs) throws IOException {
+        myIn = new DataInputStream(new BufferedInputStream(Objects.requireNonNull(theIn), 1 << 16));
+        if (myIn.readInt() != SnapshotOutputStream.MAGIC) {
+            throw new IOException("Not a compressed snapshot");
+        }
+        final int version = myIn.readUnsignedByte();
+        if (version != SnapshotOutputStream.VERSION) {
+            throw new IOException("Unknown compressed snapshot version " + version);
+        }
+        final int id = myIn.readUnsignedByte();
+        final int level = myIn.readUnsignedByte();
+        try {
+            myCodec = theCodecs.apply(id, level);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        myBlockSize = myIn.readInt();
+        if (myBlockSize < 1) {
+            throw new IOException("The block size of the compressed snapshot is corrupt");
+        }
+        myRaw = new byte[myBlockSize];
+        myCompressed = new byte[myBlockSize];
+    }
+
+    /**
+     * Decompresses theIn if it starts with a SnapshotOutputStream header, so old uncompressed snapshots are
+     * read as before. Nothing more than the header is read from theIn to find out.
+     * @param theIn the (non-null) stream of a snapshot.
+     * @return a stream of the uncompressed snapshot.
+     * @throws IOException if theIn can not be read or its header is corrupt.
+     */
+    public static InputStream decoding(final InputStream theIn) throws IOException {
+        final PushbackInputStream in = new PushbackInputStream(theIn, Integer.BYTES);
+        final byte[] magic = new byte[Integer.BYTES];
+        int read = 0;
+        while (read < magic.length) {
+            final int count = in.read(magic, read, magic.length - read);
+            if (count < 0) {
+                break;
+            }
+            read += count;
+        }
+        in.unread(magic, 0, read);
+        final int value = (magic[0] & 0xFF) << 24 | (magic[1] & 0xFF) << 16 | (magic[2] & 0xFF) << 8
+                | (magic[3] & 0xFF);
+        return read == magic.length && value == SnapshotOutputStream.MAGIC ? new SnapshotInputStream(in) : in;
+    }
+
+    /**
+     * @return the codec the blocks were compressed with.
+     */
+    public SnapshotCodec getCodec() {
+        return myCodec;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (myPosition == myLength && !nextBlock()) {
+            return -1;
+        }
+        return myRaw[myPosition++] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] theBytes, final int theOffset, final int theLength) throws IOException {
+        Objects.checkFromIndexSize(theOffset, theLength, theBytes.length);
+        if (theLength == 0) {
+            return 0;
+        }
+        if (myPosition == myLength && !nextBlock()) {
+            return -1;
+        }
+        final int count = Math.min(theLength, myLength - myPosition);
+        System.arraycopy(myRaw, myPosition, theBytes, theOffset, count);
+        myPosition += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return myLength - myPosition;
+    }
+
+    @Override
+    public void close() throws IOException {
+        myIn.close();
+    }
+
+    /**
+     * Reads and checks the next block, or the trailer at the end.
+     * @return false at the end of the snapshot.
+     */
+    private boolean nextBlock() throws IOException {
+        if (myEnded) {
+            return false;
+        }
+        final int length = myIn.readInt();
+        if (length == 0) {
+            myEnded = true;
+            if (myIn.readLong() != myRawBytes || myIn.readInt() != myBlockCount) {
+                throw new IOException("The compressed snapshot is missing blocks");
+            }
+            return false;
+        }
+        final int stored = myIn.readInt();
+        final int crc = myIn.readInt();
+        if (length < 0 || length > myBlockSize || stored < 0 || stored > length) {
+            throw new IOException("Block " + myBlockCount + " of the compressed snapshot is corrupt");
+        }
+        if (stored == length) {
+            myIn.readFully(myRaw, 0, length);
+        } else {
+            myIn.readFully(myCompressed, 0, stored);
+            myCodec.decompress(myCompressed, stored, myRaw, length);
+        }
+        myCrc.reset();
+        myCrc.update(myRaw, 0, length);
+        if ((int) myCrc.getValue() != crc) {
+            CHECKSUM_ERRORS.increment();
+            throw new IOException("Block " + myBlockCount + " of the compressed snapshot fails its checksum");
+        }
+        myPosition = 0;
+        myLength = length;
+        myRawBytes += length;
+        myBlockCount++;
+        return true;
+    }
+}
@@ -0,0 +1,280 @@
+package model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+/**
+ * Compresses a snapshot with a SnapshotCodec, in blocks which are compressed on a pool of threads and written in
+ * the order they were filled. At most twice the amount of threads blocks are in flight, so memory is bounded and
+ * the output is streamed. A SnapshotInputStream reads it again.
+ *
+ * The stream holds, big endian, a header
+ * <pre>
+ * int MAGIC, byte VERSION, byte codec ID, byte codec level, int block size
+ * </pre>
+ * then the blocks, each
+ * <pre>
+ * int original length (1 to the block size), int stored length, int CRC32 of the original bytes, stored bytes
+ * </pre>
+ * where a stored length equal to the original length means the block did not compress and is stored as it is,
+ * and last a trailer of int 0, long the total original length and int the amount of blocks.
+ *
+ * @version 10/19/2026
+ */
+public class SnapshotOutputStream extends OutputStream {
+
+    /** The first int of a compressed snapshot. */
+    public static final int MAGIC = 0x52534E50;
+
+    /** The size of the blocks unless another is given. */
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+
+    /** The version of the format. */
+    static final int VERSION = 1;
+
+    private static final LongAdder RAW_BYTES =
+            MetricsRegistry.getInstance().counter("SnapshotOutputStream.rawBytes");
+    private static final LongAdder COMPRESSED_BYTES =
+            MetricsRegistry.getInstance().counter("SnapshotOutputStream.compressedBytes");
+
+    private final DataOutputStream myOut;
+    private final SnapshotCodec myCodec;
+    private final int myBlockSize;
+    private final ExecutorService myPool;
+    private final int myWindow;
+    private final Deque<Future<Block>> myPending = new ArrayDeque<>();
+    private final Deque<Block> myFree = new ArrayDeque<>();
+    private Block myBlock;
+    private long myRawBytes;
+    private long myCompressedBytes;
+    private int myBlockCount;
+    private boolean myClosed;
+
+    /**
+     * Writes the header of a stream with blocks of DEFAULT_BLOCK_SIZE, compressed on a thread per processor.
+     * @param theOut the stream to write the compressed snapshot to; it is closed by close().
+     * @param theCodec the (non-null) codec compressing the blocks.
+     * @throws IOException if the header can not be written.
+     */
+    public SnapshotOutputStream(final OutputStream theOut, final SnapshotCodec theCodec) throws IOException {
+        this(theOut, theCodec, DEFAULT_BLOCK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Writes the header of a stream.
+     * @param theOut the stream to write the compressed snapshot to; it is closed by close().
+     * @param theCodec the (non-null) codec compressing the blocks.
+     * @param theBlockSize the amount of bytes compressed at once.
+     * @param theThreads the amount of threads compressing blocks, 1 to compress on the writing thread.
+     * @throws IOException if the header can not be written.
+     * @throws IllegalArgumentException if theBlockSize or theThreads is less than 1.
+     */
+    public SnapshotOutputStream(final OutputStream theOut, final SnapshotCodec theCodec, final int theBlockSize,
+            final int theThreads) throws IOException {
+        if (theBlockSize < 1 || theThreads < 1) {
+            throw new IllegalArgumentException("The block size and the amount of threads must be positive!");
+        }
+        myCodec = Objects.requireNonNull(theCodec);
+        myBlockSize = theBlockSize;
+        myWindow = theThreads * 2;
+        myPool = theThreads == 1 ? null : Executors.newFixedThreadPool(theThreads, r -> {
+            final Thread thread = new Thread(r, "snapshot-compressor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        myOut = new DataOutputStream(new BufferedOutputStream(theOut, 1 << 16));
+        try {
+            myOut.writeInt(MAGIC);
+            myOut.writeByte(VERSION);
+            myOut.writeByte(theCodec.getId());
+            myOut.writeByte(theCodec.getLevel());
+            myOut.writeInt(theBlockSize);
+        } catch (IOException | RuntimeException e) {
+            if (myPool != null) {
+                myPool.shutdownNow();
+            }
+            throw e;
+        }
+        myBlock = new Block(theBlockSize);
+    }
+
+    /**
+     * @return the codec compressing the blocks.
+     */
+    public SnapshotCodec getCodec() {
+        return myCodec;
+    }
+
+    /**
+     * @return the original bytes of the blocks written so far.
+     */
+    public long getRawBytes() {
+        return myRawBytes;
+    }
+
+    /**
+     * @return the stored bytes of the blocks written so far, without their headers.
+     */
+    public long getCompressedBytes() {
+        return myCompressedBytes;
+    }
+
+    @Override
+    public void write(final int theByte) throws IOException {
+        checkOpen();
+        if (myBlock.myLength == myBlockSize) {
+            submit();
+        }
+        myBlock.myRaw[myBlock.myLength++] = (byte) theByte;
+    }
+
+    @Override
+    public void write(final byte[] theBytes, final int theOffset, final int theLength) throws IOException {
+        Objects.checkFromIndexSize(theOffset, theLength, theBytes.length);
+        checkOpen();
+        int offset = theOffset;
+        int remaining = theLength;
+        while (remaining > 0) {
+            if (myBlock.myLength == myBlockSize) {
+                submit();
+            }
+            final int count = Math.min(remaining, myBlockSize - myBlock.myLength);
+            System.arraycopy(theBytes, offset, myBlock.myRaw, myBlock.myLength, count);
+            myBlock.myLength += count;
+            offset += count;
+            remaining -= count;
+        }
+    }
+
+    /**
+     * Compresses and writes the bytes written so far, ending the current block early, and flushes the output.
+     */
+    @Override
+    public void flush() throws IOException {
+        checkOpen();
+        if (myBlock.myLength > 0) {
+            submit();
+        }
+        while (!myPending.isEmpty()) {
+            writeNext();
+        }
+        myOut.flush();
+    }
+
+    /**
+     * Writes the remaining blocks and the trailer and closes the output.
+     */
+    @Override
+    public void close() throws IOException {
+        if (myClosed) {
+            return;
+        }
+        try {
+            flush();
+            myClosed = true;
+            myOut.writeInt(0);
+            myOut.writeLong(myRawBytes);
+            myOut.writeInt(myBlockCount);
+            myOut.close();
+        } finally {
+            myClosed = true;
+            myPending.clear();
+            if (myPool != null) {
+                myPool.shutdownNow();
+            }
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (myClosed) {
+            throw new IOException("The snapshot stream is closed");
+        }
+    }
+
+    /**
+     * Hands the current block to a worker, or compresses it if there are none, and starts a new block.
+     */
+    private void submit() throws IOException {
+        checkOpen();
+        while (myPending.size() >= myWindow) {
+            writeNext();
+        }
+        final Block block = myBlock;
+        if (myPool == null) {
+            block.compress(myCodec);
+            writeBlock(block);
+            block.myLength = 0;
+            return;
+        }
+        myPending.add(myPool.submit(() -> block.compress(myCodec)));
+        myBlock = myFree.isEmpty() ? new Block(myBlockSize) : myFree.removeFirst();
+    }
+
+    private void writeNext() throws IOException {
+        final Block block;
+        try {
+            block = myPending.removeFirst().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+        writeBlock(block);
+        block.myLength = 0;
+        myFree.add(block);
+    }
+
+    private void writeBlock(final Block theBlock) throws IOException {
+        final boolean stored = theBlock.myCompressedLength < 0;
+        final int length = stored ? theBlock.myLength : theBlock.myCompressedLength;
+        myOut.writeInt(theBlock.myLength);
+        myOut.writeInt(length);
+        myOut.writeInt(theBlock.myCrc);
+        myOut.write(stored ? theBlock.myRaw : theBlock.myCompressed, 0, length);
+        myRawBytes += theBlock.myLength;
+        myCompressedBytes += length;
+        myBlockCount++;
+        RAW_BYTES.add(theBlock.myLength);
+        COMPRESSED_BYTES.add(length);
+    }
+
+    /**
+     * The buffers of one block, reused once the block is written.
+     */
+    private static final class Block {
+
+        private final byte[] myRaw;
+        private final byte[] myCompressed;
+        private int myLength;
+        private int myCompressedLength;
+        private int myCrc;
+
+        private Block(final int theSize) {
+            myRaw = new byte[theSize];
+            myCompressed = new byte[theSize];
+        }
+
+        private Block compress(final SnapshotCodec theCodec) {
+            final CRC32 crc = new CRC32();
+            crc.update(myRaw, 0, myLength);
+            myCrc = (int) crc.getValue();
+            myCompressedLength = theCodec.compress(myRaw, myLength, myCompressed);
+            return this;
+        }
+    }
+}
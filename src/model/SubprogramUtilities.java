@@ -3,7 +3,16 @@ package model;
 import java.io.File;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Date;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A class containing all the functionality a Subprogram Chair has related to a Conference.
@@ -16,6 +25,18 @@ public class SubprogramUtilities implements Serializable {
 	 * 
 	 */
 	private static final long serialVersionUID = -3482896211225435402L;
+	private static final LatencyHistogram ASSIGN_REVIEWER_LATENCY =
+			MetricsRegistry.getInstance().histogram("SubprogramUtilities.assignReviewer");
+	private static final LongAdder ASSIGN_REVIEWER_REJECTED =
+			MetricsRegistry.getInstance().counter("SubprogramUtilities.assignReviewer.rejected");
+	private static final LatencyHistogram ASSIGN_REVIEWERS_LATENCY =
+			MetricsRegistry.getInstance().histogram("SubprogramUtilities.assignReviewers");
+	private static final LongAdder ASSIGN_REVIEWERS_REJECTED =
+			MetricsRegistry.getInstance().counter("SubprogramUtilities.assignReviewers.rejected");
+	private static final LatencyHistogram RECOMMEND_LATENCY =
+			MetricsRegistry.getInstance().histogram("SubprogramUtilities.recommend");
+	private static final LongAdder RECOMMEND_REJECTED =
+			MetricsRegistry.getInstance().counter("SubprogramUtilities.recommend.rejected");
 	private final ConferenceData myConferenceData;
     
 	/**
@@ -30,10 +51,11 @@ public class SubprogramUtilities implements Serializable {
      * Assigns a paper to a reviewer.
      * Also adds theReviewerProfile to the Reviewers for this Conference. 
      * 
-     * PRECONDITION: isPaperInReviewerAssignmentLimit and !isPaperAuthoredByReviewer
+     * PRECONDITION: isPaperInReviewerAssignmentLimit and !isPaperAuthoredByReviewer, and the other rules which
+     * assignReviewers() checks for each assignment.
      * @param theReviewerID the ID 
      * @param thePaper the paper object to be assigned to a reviewer.
-     * @exception Precondition violated
+     * @exception Precondition violated, with the reason as message
      * 
      * @author Danielle Lambion
      * @author Dimitar Kumanov
@@ -43,24 +65,127 @@ public class SubprogramUtilities implements Serializable {
             final UserProfile theReviewerProfile,
             Paper thePaper
             ) throws IllegalArgumentException {
-        
-        if(!myConferenceData.isReviewerInAssignmentLimit(theReviewerProfile) ||
-                myConferenceData.isPaperAuthoredByReviewer(theReviewerProfile.getName(), thePaper)) {
-            throw new IllegalArgumentException("Cannot assign reviewer to paper");
+        final long start = System.nanoTime();
+        final FlightEvents.Assignment event = new FlightEvents.Assignment();
+        event.begin();
+        try {
+            final String error = validate(theReviewerProfile, thePaper,
+                    new ReviewerBatch(myConferenceData.getReviewerAssignmentMap().get(theReviewerProfile)));
+            if(error != null) {
+                ASSIGN_REVIEWER_REJECTED.increment();
+                event.rejected = true;
+                throw new IllegalArgumentException(error);
+            }
+            
+            applyAssignment(theReviewerProfile, thePaper);
+            ChangeJournal.paperAssigned(myConferenceData, false, theReviewerProfile, thePaper);
+            ASSIGN_REVIEWER_LATENCY.recordSince(start);
+        } finally {
+            if (event.shouldCommit()) {
+                event.set(myConferenceData, thePaper, theReviewerProfile,
+                        myConferenceData.getPaperCountAssignedToReviewer(theReviewerProfile));
+                event.commit();
+            }
         }
-        
-        // A Reviewer cannot be assigned until after the author submission deadline.
-        Date assignReviewerDate = new Date();
-        if(!assignReviewerDate.after(myConferenceData.getSubmissionDate())) {
-        	throw new IllegalArgumentException("Reviewer cannot be assigned before author submission deadline.");
-        }
-        
+    }
+    
+    /**
+     * Assigns thePaper to theReviewerProfile without checking the preconditions of assignReviewer(),
+     * e.g. to replay a change of a ChangeJournal.
+     */
+    void applyAssignment(final UserProfile theReviewerProfile, final Paper thePaper) {
         if(!myConferenceData.getReviewerAssignmentMap().containsKey(theReviewerProfile)){
             myConferenceData.getReviewerAssignmentMap().put(theReviewerProfile, new ArrayList<>());
         }
         
         myConferenceData.addUserToRole(theReviewerProfile, Conference.REVIEW_ROLE);
         myConferenceData.getReviewerAssignmentMap().get(theReviewerProfile).add(thePaper);
+        myConferenceData.reviewerAssigned(theReviewerProfile, thePaper);
+        myConferenceData.advancePaper(thePaper, PaperState.UNDER_REVIEW);
+    }
+    
+    /**
+     * Assigns a batch of papers to reviewers, all or none of them.
+     * 
+     * The whole batch is validated in one pass before anything changes, each assignment by the same rules as
+     * assignReviewer(), where the papers of a reviewer include those before it in the batch. If any assignment
+     * fails the batch is rejected and the report says why for each failed assignment; otherwise every assignment
+     * is applied in order, as if by assignReviewer(), reviewer by reviewer in the order they first appear in the
+     * batch. Validation covers everything applying can fail on, so a batch is never applied in part.
+     * @param theAssignments the (non-null) assignments to make.
+     * @return the report of the batch, see BatchReport.isApplied().
+     * @throws NullPointerException if theAssignments or any of its assignments is null.
+     */
+    public BatchReport assignReviewers(final Collection<Assignment> theAssignments) {
+        final long start = System.nanoTime();
+        final Assignment[] assignments = theAssignments.toArray(new Assignment[0]);
+        final BatchReport report = new BatchReport(assignments.length);
+        final Map<UserProfile, ReviewerBatch> reviewers = new LinkedHashMap<>();
+        
+        for (int i = 0; i < assignments.length; i++) {
+            final Assignment assignment = Objects.requireNonNull(assignments[i]);
+            final Paper paper = assignment.myPaper;
+            ReviewerBatch reviewer = reviewers.get(assignment.myReviewer);
+            if (reviewer == null) {
+                reviewer = new ReviewerBatch(myConferenceData.getReviewerAssignmentMap().get(assignment.myReviewer));
+                reviewers.put(assignment.myReviewer, reviewer);
+            }
+            
+            final String error = validate(assignment.myReviewer, paper, reviewer);
+            if (error != null) {
+                report.reject(i, error);
+            } else {
+                reviewer.add(paper);
+            }
+        }
+        
+        if (report.getRejectedCount() > 0) {
+            ASSIGN_REVIEWERS_REJECTED.add(report.getRejectedCount());
+            return report;
+        }
+        
+        // Every paper was checked to be able to move to UNDER_REVIEW, and the batch only moves papers forward,
+        // so none of the calls below throws.
+        
+        for (final Map.Entry<UserProfile, ReviewerBatch> entry : reviewers.entrySet()) {
+            final List<Paper> papers = entry.getValue().myAssigned;
+            if (papers == null) {
+                myConferenceData.getReviewerAssignmentMap().put(entry.getKey(), entry.getValue().myAdded);
+            } else {
+                papers.addAll(entry.getValue().myAdded);
+            }
+            myConferenceData.addUserToRole(entry.getKey(), Conference.REVIEW_ROLE);
+        }
+        for (final Assignment assignment : assignments) {
+            myConferenceData.reviewerAssigned(assignment.myReviewer, assignment.myPaper);
+            myConferenceData.advancePaper(assignment.myPaper, PaperState.UNDER_REVIEW);
+            ChangeJournal.paperAssigned(myConferenceData, false, assignment.myReviewer, assignment.myPaper);
+        }
+        report.myApplied = true;
+        ASSIGN_REVIEWERS_LATENCY.recordSince(start);
+        return report;
+    }
+    
+    /**
+     * Checks an assignment of thePaper to theReviewer by the rules of assignReviewer() and assignReviewers().
+     * @param theBatch the papers theReviewer has, in the Conference and earlier in the batch.
+     * @return why the assignment is not allowed, null if it is.
+     */
+    private String validate(final UserProfile theReviewer, final Paper thePaper, final ReviewerBatch theBatch) {
+        // A Reviewer cannot be assigned until after the author submission deadline.
+        if (myConferenceData.getPhase() == ConferencePhase.SUBMISSION) {
+            return "Reviewer cannot be assigned before author submission deadline.";
+        } else if (theBatch.myCount >= myConferenceData.getReviewerAssignmentLimit()) {
+            return "The reviewer is at the assignment limit.";
+        } else if (thePaper.isAuthoredBy(theReviewer)) {
+            return "The reviewer is an author of the paper.";
+        } else if (thePaper.conferenceData() == myConferenceData && !thePaper.canMoveTo(PaperState.UNDER_REVIEW)) {
+            // the same condition as ConferenceData.advancePaper(), so applying can not fail
+            return "A " + thePaper.getState() + " paper can not be reviewed.";
+        } else if (theBatch.contains(thePaper)) {
+            return "The paper is assigned to the reviewer already.";
+        }
+        return null;
     }
     
     /**
@@ -74,10 +199,167 @@ public class SubprogramUtilities implements Serializable {
             Paper thePaper,
             File recommendation, RecommendStatus status
             ) throws IllegalArgumentException {
-    	thePaper.setMyRecommendation(new Review(recommendation, status.intRepresentation));
+        final long start = System.nanoTime();
+        final FlightEvents.Recommendation event = new FlightEvents.Recommendation();
+        event.begin();
+        try {
+            final Review review = new Review(recommendation, status.intRepresentation, theSubProgramProfile);
+            thePaper.setMyRecommendation(review);
+            ChangeJournal.reviewAdded(myConferenceData, true, thePaper, review);
+            RECOMMEND_LATENCY.recordSince(start);
+        } catch (IllegalArgumentException e) {
+            RECOMMEND_REJECTED.increment();
+            event.rejected = true;
+            throw e;
+        } finally {
+            if (event.shouldCommit()) {
+                event.set(myConferenceData, thePaper, theSubProgramProfile, thePaper.getReviews().size());
+                event.commit();
+            }
+        }
     }
     
     
+    /**
+     * A paper to assign to a reviewer with assignReviewers().
+     */
+    public static final class Assignment {
+        
+        private final UserProfile myReviewer;
+        private final Paper myPaper;
+        
+        /**
+         * Creates an assignment of thePaper to theReviewer.
+         * @param theReviewer the (non-null) reviewer.
+         * @param thePaper the (non-null) paper.
+         */
+        public Assignment(final UserProfile theReviewer, final Paper thePaper) {
+            myReviewer = Objects.requireNonNull(theReviewer);
+            myPaper = Objects.requireNonNull(thePaper);
+        }
+        
+        /**
+         * @return the reviewer to assign to.
+         */
+        public UserProfile getReviewer() {
+            return myReviewer;
+        }
+        
+        /**
+         * @return the paper to assign.
+         */
+        public Paper getPaper() {
+            return myPaper;
+        }
+    }
+    
+    /**
+     * The outcome of assignReviewers(): whether the batch was applied and else why each rejected assignment failed.
+     */
+    public static final class BatchReport {
+        
+        private final int mySize;
+        private final Map<Integer, String> myErrors = new TreeMap<>();
+        private boolean myApplied;
+        
+        private BatchReport(final int theSize) {
+            mySize = theSize;
+        }
+        
+        private void reject(final int theIndex, final String theError) {
+            myErrors.put(theIndex, theError);
+        }
+        
+        /**
+         * @return true iff every assignment of the batch was made, false if none was.
+         */
+        public boolean isApplied() {
+            return myApplied;
+        }
+        
+        /**
+         * @return the amount of assignments in the batch.
+         */
+        public int getSize() {
+            return mySize;
+        }
+        
+        /**
+         * @return the amount of assignments which failed validation.
+         */
+        public int getRejectedCount() {
+            return myErrors.size();
+        }
+        
+        /**
+         * @return the reason each failed assignment was rejected, by its index in the batch, in order.
+         */
+        public Map<Integer, String> getErrors() {
+            return Collections.unmodifiableMap(myErrors);
+        }
+        
+        /**
+         * @param theIndex the index of an assignment in the batch.
+         * @return why the assignment was rejected, null if it passed validation.
+         */
+        public String getError(final int theIndex) {
+            return myErrors.get(theIndex);
+        }
+    }
+    
+    /**
+     * The papers of one reviewer while a batch is validated and applied.
+     */
+    private static final class ReviewerBatch {
+        
+        /** The most papers of a reviewer which are searched without building myIndex. */
+        private static final int SCAN_LIMIT = 16;
+        
+        /** The list of the reviewer in the reviewer assignment map, null if there is none yet. */
+        private final List<Paper> myAssigned;
+        /** The papers assigned to the reviewer in the batch, in order. */
+        private final List<Paper> myAdded = new ArrayList<>();
+        /** All papers of the reviewer, null until there are more than SCAN_LIMIT. */
+        private Set<Paper> myIndex;
+        private int myCount;
+        
+        private ReviewerBatch(final List<Paper> theAssigned) {
+            myAssigned = theAssigned;
+            myCount = theAssigned == null ? 0 : theAssigned.size();
+        }
+        
+        private boolean contains(final Paper thePaper) {
+            if (myIndex == null && myCount > SCAN_LIMIT) {
+                myIndex = Collections.newSetFromMap(new IdentityHashMap<>(myCount * 2));
+                if (myAssigned != null) {
+                    myIndex.addAll(myAssigned);
+                }
+                myIndex.addAll(myAdded);
+            }
+            if (myIndex != null) {
+                return myIndex.contains(thePaper);
+            }
+            return indexOf(myAssigned, thePaper) >= 0 || indexOf(myAdded, thePaper) >= 0;
+        }
+        
+        private void add(final Paper thePaper) {
+            myAdded.add(thePaper);
+            if (myIndex != null) {
+                myIndex.add(thePaper);
+            }
+            myCount++;
+        }
+        
+        private static int indexOf(final List<Paper> thePapers, final Paper thePaper) {
+            for (int i = 0; thePapers != null && i < thePapers.size(); i++) {
+                if (thePapers.get(i) == thePaper) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+    
     public enum RecommendStatus {
         YES(1), NO(-1), NOT_SURE(0);
         
@@ -0,0 +1,215 @@
+package model;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timer wheel: timeouts are scheduled, cancelled and expired in constant time.
+ *
+ * The wheel counts time in milliseconds. Each of its LEVELS levels has SLOTS slots; a slot on level L covers
+ * SLOTS^L milliseconds. A timeout goes on the lowest level whose range covers it and is moved down a level each time
+ * the wheel reaches its slot, until it expires. Timeouts further away than the top level are parked on the top level
+ * and placed again when it comes around. Stretches of time without timeouts on the lower levels are skipped, so
+ * advancing the wheel by days costs no more than a few hundred slot visits.
+ *
+ * Not thread safe.
+ *
+ * @param <T> the type of the payload of a timeout.
+ * @version 10/19/2026
+ */
+final class TimerWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+
+    private static final int SLOTS = 1 << SLOT_BITS;
+
+    private static final int MASK = SLOTS - 1;
+
+    private static final int LEVELS = 6;
+
+    /** The sentinel heads of the slot lists, LEVELS * SLOTS of them. */
+    private final Timeout<T>[] mySlots;
+
+    /** The amount of timeouts on each level. */
+    private final int[] myCounts = new int[LEVELS];
+
+    /** The time the wheel has been advanced to; every timeout before it has expired. */
+    private long myTime;
+
+    private int mySize;
+
+    /**
+     * @param theStart the time the wheel starts at, in milliseconds.
+     */
+    @SuppressWarnings("unchecked")
+    TimerWheel(final long theStart) {
+        myTime = theStart;
+        mySlots = (Timeout<T>[]) new Timeout<?>[LEVELS * SLOTS];
+        for (int i = 0; i < mySlots.length; i++) {
+            final Timeout<T> head = new Timeout<>(0, null);
+            head.myNext = head;
+            head.myPrevious = head;
+            mySlots[i] = head;
+        }
+    }
+
+    /**
+     * @return the time the wheel has been advanced to, in milliseconds.
+     */
+    long getTime() {
+        return myTime;
+    }
+
+    /**
+     * @return the amount of scheduled timeouts.
+     */
+    int size() {
+        return mySize;
+    }
+
+    /**
+     * Schedules thePayload to expire at theDeadline.
+     * @param theDeadline the time in milliseconds, after getTime().
+     * @param thePayload the (non-null) payload to pass on when the timeout expires.
+     * @return the timeout, to cancel it with.
+     * @throws IllegalArgumentException if theDeadline is not after getTime().
+     */
+    Timeout<T> schedule(final long theDeadline, final T thePayload) {
+        Objects.requireNonNull(thePayload);
+        if (theDeadline <= myTime) {
+            throw new IllegalArgumentException("Deadline " + theDeadline + " is not after " + myTime);
+        }
+        final Timeout<T> timeout = new Timeout<>(theDeadline, thePayload);
+        place(timeout);
+        mySize++;
+        return timeout;
+    }
+
+    /**
+     * Cancels theTimeout if it is still scheduled.
+     * @return whether theTimeout was scheduled.
+     */
+    boolean cancel(final Timeout<T> theTimeout) {
+        if (theTimeout.myNext == null) {
+            return false;
+        }
+        unlink(theTimeout);
+        mySize--;
+        return true;
+    }
+
+    /**
+     * Advances the wheel to theTime and passes the payload of every timeout expiring on the way to theExpired, in the
+     * order of their deadlines.
+     * @param theTime the time in milliseconds; the wheel does not go back.
+     * @param theExpired the (non-null) action for expired payloads.
+     */
+    void advance(final long theTime, final Consumer<? super T> theExpired) {
+        while (myTime < theTime) {
+            if (mySize == 0) {
+                myTime = theTime;
+                return;
+            }
+            int level = 0;
+            while (myCounts[level] == 0) {
+                level++;
+            }
+            // Nothing below level expires before its next boundary, so jump there.
+            final long span = 1L << (SLOT_BITS * level);
+            final long next = (myTime & -span) + span;
+            if (next > theTime) {
+                myTime = theTime;
+                return;
+            }
+            myTime = next;
+            if ((myTime & MASK) == 0) {
+                cascade(theExpired);
+            } else {
+                expire(mySlots[(int) (myTime & MASK)], theExpired);
+            }
+        }
+    }
+
+    /**
+     * At a boundary of level 1, moves the timeouts of the slots the wheel reached on the upper levels down, then
+     * expires the level 0 slot.
+     */
+    private void cascade(final Consumer<? super T> theExpired) {
+        int top = 1;
+        while (top < LEVELS - 1 && (myTime & ((1L << (SLOT_BITS * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level >= 1; level--) {
+            expire(mySlots[level * SLOTS + (int) ((myTime >>> (SLOT_BITS * level)) & MASK)], theExpired);
+        }
+        expire(mySlots[(int) (myTime & MASK)], theExpired);
+    }
+
+    /**
+     * Expires the due timeouts of a slot and places the others again, on a lower level.
+     */
+    private void expire(final Timeout<T> theHead, final Consumer<? super T> theExpired) {
+        Timeout<T> t = theHead.myNext;
+        while (t != theHead) {
+            final Timeout<T> next = t.myNext;
+            unlink(t);
+            if (t.myDeadline <= myTime) {
+                mySize--;
+                theExpired.accept(t.myPayload);
+            } else {
+                place(t);
+            }
+            t = next;
+        }
+    }
+
+    private void place(final Timeout<T> theTimeout) {
+        final long delta = theTimeout.myDeadline - myTime;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        final long when = delta >= 1L << (SLOT_BITS * LEVELS)
+                ? myTime + (1L << (SLOT_BITS * LEVELS)) - 1
+                : theTimeout.myDeadline;
+        final Timeout<T> head = mySlots[level * SLOTS + (int) ((when >>> (SLOT_BITS * level)) & MASK)];
+        theTimeout.myLevel = level;
+        theTimeout.myPrevious = head.myPrevious;
+        theTimeout.myNext = head;
+        head.myPrevious.myNext = theTimeout;
+        head.myPrevious = theTimeout;
+        myCounts[level]++;
+    }
+
+    private void unlink(final Timeout<T> theTimeout) {
+        theTimeout.myPrevious.myNext = theTimeout.myNext;
+        theTimeout.myNext.myPrevious = theTimeout.myPrevious;
+        theTimeout.myNext = null;
+        theTimeout.myPrevious = null;
+        myCounts[theTimeout.myLevel]--;
+    }
+
+    /**
+     * A scheduled payload, linked into the slot it waits in.
+     */
+    static final class Timeout<T> {
+
+        private final long myDeadline;
+        private final T myPayload;
+        private Timeout<T> myNext;
+        private Timeout<T> myPrevious;
+        private int myLevel;
+
+        private Timeout(final long theDeadline, final T thePayload) {
+            myDeadline = theDeadline;
+            myPayload = thePayload;
+        }
+
+        /**
+         * @return the time the timeout expires at, in milliseconds.
+         */
+        long getDeadline() {
+            return myDeadline;
+        }
+    }
+}
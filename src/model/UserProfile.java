@@ -1,5 +1,7 @@
 package model;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Objects;
 
@@ -21,6 +23,8 @@ public class UserProfile implements Serializable{
 	private static final long serialVersionUID = 3960715525297567136L;
 	private String myUID;
 	private String myName;
+	/** One more than the AuthorDictionary ID of myName, 0 until the name is known as an author. */
+	private transient int myAuthorIdPlusOne;
 	
 
 	/**
@@ -35,7 +39,7 @@ public class UserProfile implements Serializable{
 			final String theName
 			) throws IllegalArgumentException{
 		myUID = Objects.requireNonNull(theUID);
-		myName = Objects.requireNonNull(theName);
+		myName = NamePool.intern(Objects.requireNonNull(theName));
 		if(myUID.isEmpty() || myName.isEmpty())
 			throw new IllegalArgumentException();
 	}
@@ -58,9 +62,36 @@ public class UserProfile implements Serializable{
 		return myName;
 	}
 	
+	/**
+	 * Gets the ID of the name of this profile in the author dictionary. Once the name has an ID it is remembered, as
+	 * IDs never change.
+	 * @return the author ID of the name, AuthorDictionary.NO_ID if no paper lists it as an author yet.
+	 */
+	int authorId(){
+		if(myAuthorIdPlusOne != 0){
+			return myAuthorIdPlusOne - 1;
+		}
+		final int id = ConferenceSystem.getAuthorDictionary().lookup(myName);
+		if(id != AuthorDictionary.NO_ID){
+			myAuthorIdPlusOne = id + 1;
+		}
+		return id;
+	}
+	
+	/**
+	 * Pools the name of a deserialized profile (see NamePool).
+	 */
+	private void readObject(final ObjectInputStream theStream) throws IOException, ClassNotFoundException {
+		theStream.defaultReadObject();
+		myName = NamePool.intern(myName);
+	}
+	
+	/**
+	 * The same value as Objects.hash(myUID), without allocating its varargs array on every map lookup.
+	 */
 	@Override
 	public int hashCode(){
-		return Objects.hash(myUID);
+		return 31 + Objects.hashCode(myUID);
 	}
 	
 	@Override
@@ -2,8 +2,10 @@ package model;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * A class containing all the functionality any User has related to a Conference.
@@ -15,6 +17,16 @@ public class UserUtilities implements Serializable {
 	 * 
 	 */
 	private static final long serialVersionUID = 1195711706694728517L;
+	private static final LatencyHistogram ADD_PAPER_LATENCY =
+			MetricsRegistry.getInstance().histogram("UserUtilities.addPaper");
+	private static final LongAdder ADD_PAPER_REJECTED =
+			MetricsRegistry.getInstance().counter("UserUtilities.addPaper.rejected");
+	private static final LatencyHistogram ADD_PAPERS_LATENCY =
+			MetricsRegistry.getInstance().histogram("UserUtilities.addPapers");
+	private static final LatencyHistogram REMOVE_PAPER_LATENCY =
+			MetricsRegistry.getInstance().histogram("UserUtilities.removePaper");
+	private static final LongAdder REMOVE_PAPER_REJECTED =
+			MetricsRegistry.getInstance().counter("UserUtilities.removePaper.rejected");
 	private final ConferenceData myConferenceData;
     
 	/**
@@ -40,21 +52,100 @@ public class UserUtilities implements Serializable {
     		final UserProfile theUserProfile,
     		final Paper thePaper
     		) throws IllegalArgumentException {
-    	if(!myConferenceData.isPaperInAuthorSubmissionLimit(thePaper)){
-    		throw new IllegalArgumentException("Paper exceeds paper submission limit.");
-    	}
-    	else if(!myConferenceData.isPaperInSubmissionDeadline(thePaper)){
-    		throw new IllegalArgumentException("Paper exceeds submission deadline.");
+    	final long start = System.nanoTime();
+    	final FlightEvents.Submission event = new FlightEvents.Submission();
+    	event.begin();
+    	try {
+	    	if(!myConferenceData.isPaperInAuthorSubmissionLimit(thePaper)){
+	    		ADD_PAPER_REJECTED.increment();
+	    		event.rejected = true;
+	    		throw new IllegalArgumentException("Paper exceeds paper submission limit.");
+	    	}
+	    	else if(!myConferenceData.isPaperInSubmissionDeadline(thePaper)){
+	    		ADD_PAPER_REJECTED.increment();
+	    		event.rejected = true;
+	    		throw new IllegalArgumentException("Paper exceeds submission deadline.");
+	    	}
+	    	applyPaper(theUserProfile, thePaper);
+	    	ChangeJournal.paperAdded(myConferenceData, theUserProfile, thePaper);
+	    	ADD_PAPER_LATENCY.recordSince(start);
+    	} finally {
+    		if (event.shouldCommit()) {
+    			event.set(myConferenceData, thePaper, theUserProfile, thePaper.getAuthors().size());
+    			event.commit();
+    		}
     	}
+    }
+    
+    /**
+     * Adds thePaper submitted by theUserProfile without checking the preconditions of addPaper(),
+     * e.g. to replay a change of a ChangeJournal.
+     */
+    void applyPaper(final UserProfile theUserProfile, final Paper thePaper) {
     	//Add paper to submission map:
         addPaperToSubmissionMap(theUserProfile, thePaper);
 
     	//Add paper to author map:
     	addPaperToAuthorshipMap(thePaper);
+    	myConferenceData.paperAdded(thePaper);
     	
     	myConferenceData.addUserToRole(theUserProfile, Conference.AUTHOR_ROLE);
     }
     
+    /**
+     * Adds a batch of Papers to the associated Conference with the same checks as addPaper(),
+     * each paper submitted by its getSubmitterUserProfile().
+     * The papers are checked in order, counting the papers accepted earlier in the batch towards the
+     * submission limit of their authors. The authorship index and the author roles are updated once
+     * for the whole batch.
+     * @param thePapers The papers being submitted.
+     * @return the rejected papers with the reason, in the order of thePapers. Empty if all papers were added.
+     */
+    public Map<Paper, String> addPapers(final List<Paper> thePapers) {
+    	final long start = System.nanoTime();
+    	final Map<Paper, String> rejected = new LinkedHashMap<>();
+    	final List<Paper> accepted = new ArrayList<>(thePapers.size());
+    	final IntObjectMap<int[]> pendingCounts = new IntObjectMap<>();
+    	final int limit = myConferenceData.getPaperSubmissionLimit();
+    	
+    	for(final Paper paper: thePapers){
+    		boolean inLimit = true;
+    		for(final int author: paper.authorIds()){
+    			final int[] pending = pendingCounts.get(author);
+    			final int submitted = myConferenceData.getPaperCountAuthoredBy(author)
+    					+ (pending == null ? 0 : pending[0]);
+    			if(submitted >= limit){
+    				inLimit = false;
+    				break;
+    			}
+    		}
+    		
+    		if(!inLimit){
+    			rejected.put(paper, "Paper exceeds paper submission limit.");
+    		}
+    		else if(!myConferenceData.isPaperInSubmissionDeadline(paper)){
+    			rejected.put(paper, "Paper exceeds submission deadline.");
+    		}
+    		else{
+    			for(final int author: paper.authorIds()){
+    				pendingCounts.computeIfAbsent(author, id -> new int[1])[0]++;
+    			}
+    			addPaperToSubmissionMap(paper.getSubmitterUserProfile(), paper);
+    			accepted.add(paper);
+    		}
+    	}
+    	
+    	for(final Paper paper: accepted){
+    		addPaperToAuthorshipMap(paper);
+    		myConferenceData.paperAdded(paper);
+    		myConferenceData.addUserToRole(paper.getSubmitterUserProfile(), Conference.AUTHOR_ROLE);
+    		ChangeJournal.paperAdded(myConferenceData, paper.getSubmitterUserProfile(), paper);
+    	}
+    	ADD_PAPER_REJECTED.add(rejected.size());
+    	ADD_PAPERS_LATENCY.recordSince(start);
+    	return rejected;
+    }
+    
     /**
      * Adds paper to ConferenceData's paperSubmissionMap
      * If the Author has not yet submitted a paper
@@ -82,11 +173,8 @@ public class UserUtilities implements Serializable {
      * @author Dimitar Kumanov
      */
     private void addPaperToAuthorshipMap(final Paper thePaper) {
-        for(final String currentAuthor: thePaper.getAuthors()){
-            if(!myConferenceData.getPaperAuthorshipMap().containsKey(currentAuthor)){
-            	myConferenceData.getPaperAuthorshipMap().put(currentAuthor, new ArrayList<>());
-            }
-            myConferenceData.getPaperAuthorshipMap().get(currentAuthor).add(thePaper);
+        for(final int currentAuthor: thePaper.authorIds()){
+            myConferenceData.getPaperAuthorshipMap().computeIfAbsent(currentAuthor, id -> new ArrayList<>()).add(thePaper);
         }
     }
 
@@ -99,6 +187,7 @@ public class UserUtilities implements Serializable {
      * @author Ian Jury
      */
     public void removePaper(final UserProfile theUserProfile, final Paper thePaper) throws IllegalArgumentException {
+    	final long start = System.nanoTime();
     	//if a reviewer has been assigned, then we can't do anything	
     	boolean foundPaper = false;
     	Map<UserProfile, List<Paper>> reviewerMap = myConferenceData.getReviewerAssignmentMap();
@@ -111,16 +200,32 @@ public class UserUtilities implements Serializable {
     	}
     	
         if (foundPaper) {
+        	REMOVE_PAPER_REJECTED.increment();
         	throw new IllegalArgumentException("Paper cannot be removed because "
         										+ "at least one reviewer has been assigned to it");
+        } else if (!thePaper.canMoveTo(PaperState.WITHDRAWN)) {
+        	REMOVE_PAPER_REJECTED.increment();
+        	throw new IllegalArgumentException("A " + thePaper.getState() + " paper cannot be removed");
         } else { //otherwise, remove the paper
-        	//Remove paper from submission map:
-            removePaperFromSubmissionMap(theUserProfile, thePaper);
-        	//Remove paper to author map:
-        	removePaperFromAuthorshipMap(thePaper);
+        	final int index = myConferenceData.getPapersSubmittedBy(theUserProfile).indexOf(thePaper);
+        	applyRemovePaper(theUserProfile, thePaper);
+        	ChangeJournal.paperRemoved(myConferenceData, theUserProfile, index);
+        	REMOVE_PAPER_LATENCY.recordSince(start);
         }	
     }
     
+    /**
+     * Removes thePaper of theUserProfile without checking the preconditions of removePaper(),
+     * e.g. to replay a change of a ChangeJournal.
+     */
+    void applyRemovePaper(final UserProfile theUserProfile, final Paper thePaper) {
+    	//Remove paper from submission map:
+        removePaperFromSubmissionMap(theUserProfile, thePaper);
+    	//Remove paper to author map:
+    	removePaperFromAuthorshipMap(thePaper);
+    	myConferenceData.paperRemoved(thePaper);
+    }
+    
     /**
      * Removes a paper from ConferenceData's paperSubmissionMap
      * @param theUserProfile the profile information of the user
@@ -140,10 +245,10 @@ public class UserUtilities implements Serializable {
      * @author Ian Jury
      */
     private void removePaperFromAuthorshipMap(final Paper thePaper) {
-    	for(final String currentAuthor: thePaper.getAuthors()){
-
-            if(myConferenceData.getPaperAuthorshipMap().containsKey(currentAuthor)){
-            	myConferenceData.getPaperAuthorshipMap().get(currentAuthor).remove(thePaper);
+    	for(final int currentAuthor: thePaper.authorIds()){
+            final List<Paper> authoredPapers = myConferenceData.getPaperAuthorshipMap().get(currentAuthor);
+            if(authoredPapers != null){
+            	authoredPapers.remove(thePaper);
             }  
         }  	
     }
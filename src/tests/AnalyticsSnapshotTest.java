@@ -0,0 +1,214 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import model.AnalyticsSnapshot;
+import model.Conference;
+import model.ConferenceSystem;
+import model.DeadlineScheduler;
+import model.Paper;
+import model.SubprogramUtilities.RecommendStatus;
+import model.UserProfile;
+
+/**
+ * Tests for the columnar analytics snapshot of the ConferenceSystem.
+ *
+ * @version 10/19/2026
+ */
+public class AnalyticsSnapshotTest {
+
+	private static int testRun;
+
+	private ConferenceSystem testSystem;
+
+	private Conference testConference;
+
+	private UserProfile testAuthor;
+
+	private UserProfile testReviewer;
+
+	private UserProfile testOtherReviewer;
+
+	private Paper[] testPapers;
+
+	private long testStart;
+
+	@Before
+	public void setUp() {
+		testStart = System.currentTimeMillis();
+		setTime(testStart);
+		testSystem = ConferenceSystem.getInstance();
+		String prefix = "Analytics" + (testRun++) + System.nanoTime();
+		testAuthor = new UserProfile(prefix + "a", prefix + " Author");
+		testReviewer = new UserProfile(prefix + "r", prefix + " Reviewer");
+		testOtherReviewer = new UserProfile(prefix + "o", prefix + " Other");
+		UserProfile chair = new UserProfile(prefix + "c", prefix + " Chair");
+		testConference = Conference.createConference(prefix, new Date(new Date().getTime() + 100000000L), 50, 50);
+		testSystem.addConference(testConference);
+		testPapers = new Paper[3];
+		for (int p = 0; p < testPapers.length; p++) {
+			testPapers[p] = Paper.createPaper(new File(""), Arrays.asList(testAuthor.getName()), prefix + " Paper " + p,
+					testAuthor);
+			testConference.getUserRole().addPaper(testAuthor, testPapers[p]);
+			testConference.getDirectorRole().assignPaperToSubProgramChair(chair, testPapers[p]);
+		}
+		testConference.getInfo().setSubmissionDate(new Date(new Date().getTime() - 1000));
+		testConference.getInfo().setReviewDeadline(new Date(new Date().getTime() + 100000000L));
+		for (Paper paper : testPapers) {
+			testConference.getSubprogramRole().assignReviewer(testReviewer, paper);
+		}
+		UserProfile third = new UserProfile(prefix + "t", prefix + " Third");
+		testConference.getSubprogramRole().assignReviewer(testOtherReviewer, testPapers[0]);
+		testConference.getSubprogramRole().assignReviewer(testOtherReviewer, testPapers[1]);
+		testConference.getSubprogramRole().assignReviewer(third, testPapers[1]);
+
+		testConference.getReviewerRole().sendReview(testReviewer, testPapers[0], new File(""), 2);
+		testConference.getReviewerRole().sendReview(testOtherReviewer, testPapers[0], new File(""), 4);
+		setTime(testStart + 4000);
+		testConference.getReviewerRole().sendReview(testReviewer, testPapers[1], new File(""), 5);
+		testConference.getReviewerRole().sendReview(testOtherReviewer, testPapers[1], new File(""), 5);
+		testConference.getReviewerRole().sendReview(third, testPapers[1], new File(""), 5);
+		testConference.getSubprogramRole().recommend(chair, testPapers[1], new File(""), RecommendStatus.YES);
+	}
+
+	@After
+	public void tearDown() {
+		DeadlineScheduler.getInstance().setClock(DeadlineScheduler.systemClock());
+	}
+
+	private void setTime(final long theMillis) {
+		DeadlineScheduler.getInstance().setClock(Clock.fixed(Instant.ofEpochMilli(theMillis), ZoneOffset.UTC));
+	}
+
+	@Test
+	public void aggregate_Paper_ScoresOfEachPaper() {
+		AnalyticsSnapshot snapshot = testSystem.getAnalytics(0);
+		AnalyticsSnapshot.Aggregate aggregate = snapshot.aggregate(AnalyticsSnapshot.Dimension.PAPER);
+
+		int first = paperId(snapshot, testPapers[0]);
+		assertEquals(2, aggregate.getCount(first));
+		assertEquals(6, aggregate.getSum(first));
+		assertEquals(3.0, aggregate.getMean(first), 0);
+		assertEquals(2, aggregate.getMin(first));
+		assertEquals(4, aggregate.getMax(first));
+		assertEquals(3, aggregate.getCount(paperId(snapshot, testPapers[1])));
+		assertEquals(0, aggregate.getCount(paperId(snapshot, testPapers[2])));
+		assertTrue(Double.isNaN(aggregate.getMean(paperId(snapshot, testPapers[2]))));
+	}
+
+	@Test
+	public void aggregate_ReviewerInConference_ThroughputOfEachReviewer() {
+		AnalyticsSnapshot snapshot = testSystem.getAnalytics(0);
+		int conference = conferenceId(snapshot);
+		AnalyticsSnapshot.Aggregate aggregate = snapshot.aggregate(AnalyticsSnapshot.Dimension.REVIEWER, conference,
+				Long.MIN_VALUE, Long.MAX_VALUE);
+		long[] assigned = snapshot.getAssignmentsPerReviewer();
+
+		int reviewer = reviewerId(snapshot, testReviewer);
+		assertEquals(2, aggregate.getCount(reviewer));
+		assertEquals(3, assigned[reviewer]);
+		assertEquals(2, aggregate.getCount(reviewerId(snapshot, testOtherReviewer)));
+		assertEquals(2, assigned[reviewerId(snapshot, testOtherReviewer)]);
+	}
+
+	@Test
+	public void aggregate_Period_OnlyReviewsWrittenInIt() {
+		AnalyticsSnapshot snapshot = testSystem.getAnalytics(0);
+		AnalyticsSnapshot.Aggregate aggregate = snapshot.aggregate(AnalyticsSnapshot.Dimension.CONFERENCE,
+				AnalyticsSnapshot.NO_ID, testStart + 1000, testStart + 5000);
+
+		assertEquals(3, aggregate.getCount(conferenceId(snapshot)));
+		assertEquals(15, aggregate.getSum(conferenceId(snapshot)));
+	}
+
+	@Test
+	public void getScoreHistogram_Conference_CountsEachScore() {
+		AnalyticsSnapshot snapshot = testSystem.getAnalytics(0);
+		long[] histogram = snapshot.getScoreHistogram(conferenceId(snapshot));
+
+		assertEquals(snapshot.getMaxScore() - snapshot.getMinScore() + 1, histogram.length);
+		assertEquals(1, histogram[2 - snapshot.getMinScore()]);
+		assertEquals(0, histogram[3 - snapshot.getMinScore()]);
+		assertEquals(1, histogram[4 - snapshot.getMinScore()]);
+		assertEquals(3, histogram[5 - snapshot.getMinScore()]);
+	}
+
+	@Test
+	public void getPapersPerAuthor_Accepted_OnlyRecommendedPapers() {
+		AnalyticsSnapshot snapshot = testSystem.getAnalytics(0);
+		int author = ConferenceSystem.getAuthorDictionary().idOf(testAuthor.getName());
+
+		assertTrue(snapshot.isPaperAccepted(paperId(snapshot, testPapers[1])));
+		assertFalse(snapshot.isPaperAccepted(paperId(snapshot, testPapers[0])));
+		assertEquals(3, snapshot.getPapersPerAuthor(false)[author]);
+		assertEquals(1, snapshot.getPapersPerAuthor(true)[author]);
+	}
+
+	@Test
+	public void aggregate_Everything_MatchesReviewStream() {
+		AnalyticsSnapshot snapshot = testSystem.getAnalytics(0);
+		AnalyticsSnapshot.Aggregate aggregate = snapshot.aggregate(AnalyticsSnapshot.Dimension.SCORE);
+
+		long count = 0;
+		long sum = 0;
+		for (int g = 0; g < aggregate.getGroupCount(); g++) {
+			count += aggregate.getCount(g);
+			sum += aggregate.getSum(g);
+		}
+		assertEquals(testSystem.reviews().count(), snapshot.getReviewCount());
+		assertEquals(snapshot.getReviewCount(), count);
+		assertEquals(testSystem.reviews().mapToLong(review -> review.score).sum(), sum);
+	}
+
+	@Test
+	public void getAnalytics_WithinMaxAge_SameSnapshot() {
+		AnalyticsSnapshot snapshot = testSystem.getAnalytics(0);
+
+		assertSame(snapshot, testSystem.getAnalytics(100));
+		setTime(testStart + 4100);
+		assertNotSame(snapshot, testSystem.getAnalytics(100));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getAnalytics_NegativeMaxAge_ThrowsException() {
+		testSystem.getAnalytics(-1);
+	}
+
+	private int conferenceId(final AnalyticsSnapshot theSnapshot) {
+		for (int c = 0; c < theSnapshot.getConferenceCount(); c++) {
+			if (theSnapshot.getConference(c) == testConference.getInfo()) {
+				return c;
+			}
+		}
+		throw new AssertionError();
+	}
+
+	private int paperId(final AnalyticsSnapshot theSnapshot, final Paper thePaper) {
+		for (int p = 0; p < theSnapshot.getPaperCount(); p++) {
+			if (theSnapshot.getPaper(p) == thePaper) {
+				return p;
+			}
+		}
+		throw new AssertionError();
+	}
+
+	private int reviewerId(final AnalyticsSnapshot theSnapshot, final UserProfile theReviewer) {
+		for (int r = 0; r < theSnapshot.getReviewerCount(); r++) {
+			if (theSnapshot.getReviewer(r).equals(theReviewer)) {
+				return r;
+			}
+		}
+		throw new AssertionError();
+	}
+}
@@ -0,0 +1,148 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import model.AssignmentGraph;
+import model.Conference;
+import model.ConferenceSystem;
+import model.Paper;
+import model.UserProfile;
+
+/**
+ * Tests for the primitive view of the assignments of a conference.
+ *
+ * @version 10/19/2026
+ */
+public class AssignmentGraphTest {
+
+	private Conference testConference;
+
+	private UserProfile testAuthor;
+
+	private UserProfile testReviewer;
+
+	private UserProfile testChair;
+
+	private Paper testPaper1;
+
+	private Paper testPaper2;
+
+	@Before
+	public void setUp() {
+		testConference = Conference.createConference("Graph Conference",
+				new Date(new Date().getTime() + 100000000L), 5, 8);
+		testAuthor = new UserProfile("GraphAuthor", "Graph Author");
+		testReviewer = new UserProfile("GraphReviewer", "Graph Reviewer");
+		testChair = new UserProfile("GraphChair", "Graph Chair");
+
+		List<String> authors = new ArrayList<>();
+		authors.add(testAuthor.getName());
+		authors.add("Graph Coauthor");
+		testPaper1 = Paper.createPaper(new File(""), authors, "Graph Paper 1", testAuthor);
+		testPaper2 = Paper.createPaper(new File(""), authors, "Graph Paper 2", testAuthor);
+		testConference.getUserRole().addPaper(testAuthor, testPaper1);
+		testConference.getUserRole().addPaper(testAuthor, testPaper2);
+		testConference.getInfo().setSubmissionDate(new Date(new Date().getTime() - 1000));
+	}
+
+	@Test
+	public void getAssignmentGraph_Assignments_EdgesInBothDirections() {
+		testConference.getSubprogramRole().assignReviewer(testReviewer, testPaper2);
+		testConference.getDirectorRole().assignPaperToSubProgramChair(testChair, testPaper1);
+
+		AssignmentGraph graph = testConference.getInfo().getAssignmentGraph();
+		int paper1 = graph.getPaperId(testPaper1);
+		int paper2 = graph.getPaperId(testPaper2);
+		int reviewer = graph.getUserId(testReviewer);
+		int chair = graph.getUserId(testChair);
+
+		assertEquals(2, graph.getPaperCount());
+		assertEquals(0, graph.getPaperReviewers().getDegree(paper1));
+		assertArrayEquals(new int[] {reviewer}, graph.getPaperReviewers().toArray(paper2));
+		assertArrayEquals(new int[] {paper2}, graph.getReviewerPapers().toArray(reviewer));
+		assertArrayEquals(new int[] {paper1}, graph.getChairPapers().toArray(chair));
+
+		int coauthor = ConferenceSystem.getAuthorDictionary().lookup("Graph Coauthor");
+		assertTrue(graph.getPaperAuthors().contains(paper1, coauthor));
+		assertEquals(2, graph.getPaperAuthors().getDegree(paper2));
+	}
+
+	@Test
+	public void getAssignmentGraph_Unchanged_SameView() {
+		AssignmentGraph graph = testConference.getInfo().getAssignmentGraph();
+		assertSame(graph, testConference.getInfo().getAssignmentGraph());
+	}
+
+	@Test
+	public void getAssignmentGraph_PaperRemoved_KeepsIdNotSubmitted() {
+		AssignmentGraph before = testConference.getInfo().getAssignmentGraph();
+		int paper1 = before.getPaperId(testPaper1);
+
+		testConference.getUserRole().removePaper(testAuthor, testPaper1);
+		AssignmentGraph after = testConference.getInfo().getAssignmentGraph();
+
+		assertNotSame(before, after);
+		assertTrue(before.isSubmitted(paper1));
+		assertFalse(after.isSubmitted(paper1));
+		assertEquals(paper1, after.getPaperId(testPaper1));
+		assertEquals(0, after.getPaperAuthors().getDegree(paper1));
+		assertSame(before.getReviewerPapers(), after.getReviewerPapers());
+	}
+
+	@Test
+	public void getAssignmentGraph_AssignedAfterView_PatchesRowsKeepsOldView() {
+		UserProfile otherReviewer = new UserProfile("GraphReviewer2", "Graph Reviewer 2");
+		testConference.getSubprogramRole().assignReviewer(testReviewer, testPaper2);
+		AssignmentGraph first = testConference.getInfo().getAssignmentGraph();
+
+		testConference.getSubprogramRole().assignReviewer(otherReviewer, testPaper2);
+		testConference.getSubprogramRole().assignReviewer(otherReviewer, testPaper1);
+		AssignmentGraph second = testConference.getInfo().getAssignmentGraph();
+		testConference.getSubprogramRole().assignReviewer(testReviewer, testPaper1);
+		AssignmentGraph third = testConference.getInfo().getAssignmentGraph();
+
+		int paper1 = third.getPaperId(testPaper1);
+		int paper2 = third.getPaperId(testPaper2);
+		int reviewer = third.getUserId(testReviewer);
+		int other = third.getUserId(otherReviewer);
+
+		assertEquals(AssignmentGraph.NO_ID, first.getUserId(otherReviewer));
+		assertArrayEquals(new int[] {reviewer}, first.getPaperReviewers().toArray(paper2));
+		assertEquals(1, first.getReviewerPapers().getEdgeCount());
+		assertArrayEquals(new int[] {paper2}, second.getReviewerPapers().toArray(reviewer));
+		assertArrayEquals(new int[] {paper2, paper1}, second.getReviewerPapers().toArray(other));
+
+		assertArrayEquals(new int[] {paper2, paper1}, third.getReviewerPapers().toArray(reviewer));
+		assertArrayEquals(new int[] {paper2, paper1}, third.getReviewerPapers().toArray(other));
+		assertArrayEquals(new int[] {other, reviewer}, third.getPaperReviewers().toArray(paper1));
+		assertArrayEquals(new int[] {reviewer, other}, third.getPaperReviewers().toArray(paper2));
+		assertEquals(4, third.getReviewerPapers().getEdgeCount());
+		assertEquals(4, third.getPaperReviewers().getEdgeCount());
+		assertSame(first.getPaperAuthors(), third.getPaperAuthors());
+	}
+
+	@Test
+	public void getAssignmentGraph_PaperSubmittedAgain_AuthorsBack() {
+		testConference.getInfo().getAssignmentGraph();
+		testConference.getUserRole().removePaper(testAuthor, testPaper1);
+		AssignmentGraph removed = testConference.getInfo().getAssignmentGraph();
+		testConference.getInfo().setSubmissionDate(new Date(new Date().getTime() + 100000000L));
+		testConference.getUserRole().addPaper(testAuthor, testPaper1);
+		AssignmentGraph submitted = testConference.getInfo().getAssignmentGraph();
+
+		int paper1 = submitted.getPaperId(testPaper1);
+		int paper2 = submitted.getPaperId(testPaper2);
+		assertEquals(0, removed.getPaperAuthors().getDegree(paper1));
+		assertTrue(submitted.isSubmitted(paper1));
+		assertArrayEquals(submitted.getPaperAuthors().toArray(paper2), submitted.getPaperAuthors().toArray(paper1));
+		assertEquals(4, submitted.getPaperAuthors().getEdgeCount());
+	}
+}
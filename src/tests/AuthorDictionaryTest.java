@@ -0,0 +1,89 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import model.AuthorDictionary;
+import model.Conference;
+import model.ConferenceSystem;
+import model.Paper;
+import model.UserProfile;
+
+/**
+ * Tests for the author dictionary and the conflict checks which use it.
+ *
+ * @version 10/19/2026
+ */
+public class AuthorDictionaryTest {
+
+	private AuthorDictionary testDictionary;
+
+	private Conference testConference;
+
+	private UserProfile testAuthorProfile;
+
+	private Paper testPaper;
+
+	@Before
+	public void setUp() {
+		testDictionary = new AuthorDictionary();
+		testConference = Conference.createConference("Dictionary Conference",
+				new Date(new Date().getTime() + 100000000L), 2, 8);
+		testAuthorProfile = new UserProfile("DictionaryAuthor", "Dictionary  Author ");
+		List<String> authors = new ArrayList<>();
+		authors.add(testAuthorProfile.getName());
+		testPaper = Paper.createPaper(new File(""), authors, "Dictionary Paper", testAuthorProfile);
+	}
+
+	@Test
+	public void normalize_WhitespaceAndCase_Collapsed() {
+		assertEquals("jane doe", AuthorDictionary.normalize("  Jane \t DOE\u00A0"));
+	}
+
+	@Test
+	public void idOf_NameVariants_SameDenseId() {
+		int first = testDictionary.idOf("Jane Doe");
+		int second = testDictionary.idOf("John Roe");
+
+		assertEquals(0, first);
+		assertEquals(1, second);
+		assertEquals(first, testDictionary.idOf("jane  doe"));
+		assertEquals(2, testDictionary.size());
+		assertEquals("Jane Doe", testDictionary.getName(first));
+	}
+
+	@Test
+	public void lookup_UnknownName_NoIdAssigned() {
+		assertEquals(AuthorDictionary.NO_ID, testDictionary.lookup("Nobody"));
+		assertEquals(AuthorDictionary.NO_ID, testDictionary.lookup(null));
+		assertEquals(0, testDictionary.size());
+	}
+
+	@Test
+	public void isPaperAuthoredByReviewer_NameVariant_True() {
+		assertTrue(testConference.getInfo().isPaperAuthoredByReviewer("dictionary author", testPaper));
+		assertFalse(testConference.getInfo().isPaperAuthoredByReviewer("Other Author", testPaper));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void sendReview_ReviewerNameVariantOfAuthor_ThrowsException() {
+		UserProfile reviewer = new UserProfile("DictionaryReviewer", "DICTIONARY AUTHOR");
+		testConference.getReviewerRole().sendReview(reviewer, testPaper, new File(""), 5);
+	}
+
+	@Test
+	public void getPapersAuthoredBy_NameVariant_FindsPaper() {
+		testConference.getUserRole().addPaper(testAuthorProfile, testPaper);
+
+		assertEquals(1, testConference.getInfo().getPapersAuthoredBy("Dictionary Author").size());
+		int id = ConferenceSystem.getAuthorDictionary().lookup("dictionary author");
+		assertSame(testPaper, testConference.getInfo().getPapersAuthoredBy(id).get(0));
+	}
+}
@@ -0,0 +1,95 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import model.Conference;
+import model.ConferenceSystem;
+import view.BulkImporter;
+
+/**
+ * Tests for the bulk import of users, conferences and papers.
+ *
+ * @version 10/19/2026
+ */
+public class BulkImporterTest {
+
+	private static int testRun;
+
+	private ConferenceSystem testSystem;
+
+	private String testPrefix;
+
+	@Before
+	public void setUp() {
+		testSystem = ConferenceSystem.getInstance();
+		testPrefix = "Import" + (testRun++) + System.nanoTime();
+	}
+
+	private BulkImporter.Report importText(final String theText, final boolean theJson, final int theBatchSize)
+			throws IOException {
+		BulkImporter importer = new BulkImporter(testSystem);
+		importer.setBatchSize(theBatchSize);
+		return importer.importRecords(new BufferedReader(new StringReader(theText)), theJson);
+	}
+
+	@Test
+	public void importRecords_Csv_SubmissionLimitAppliedWithinBatch() throws IOException {
+		String text = "# users\n"
+				+ "user," + testPrefix + "a,\"Doe, Jane\"\n"
+				+ "conference," + testPrefix + "C,2100-01-01,2,8\n"
+				+ "paper," + testPrefix + "C," + testPrefix + "a,First,,,\n"
+				+ "paper," + testPrefix + "C," + testPrefix + "a,Second,\"Doe, Jane;Someone Else\",,\n"
+				+ "paper," + testPrefix + "C," + testPrefix + "a,Third,,,\n";
+
+		BulkImporter.Report report = importText(text, false, 100);
+
+		assertEquals(5, report.getRecords());
+		assertEquals(1, report.getUsers());
+		assertEquals(1, report.getConferences());
+		assertEquals(2, report.getPapers());
+		assertEquals(1, report.getRejected());
+		Conference conference = testSystem.getConference(testPrefix + "C");
+		assertEquals(2, conference.getInfo().getPapersAuthoredBy("Doe, Jane").size());
+		assertEquals(1, conference.getInfo().getPapersAuthoredBy("Someone Else").size());
+		assertTrue(conference.getInfo().isUserAuthor(testSystem.getUserProfile(testPrefix + "a")));
+	}
+
+	@Test
+	public void importRecords_Json_DeadlineAndUnknownUserRejected() throws IOException {
+		String text = "{\"type\":\"user\",\"uid\":\"" + testPrefix + "b\",\"name\":\"Json User\"}\n"
+				+ "{\"type\":\"conference\",\"name\":\"" + testPrefix + "J\",\"deadline\":\"2020-01-01T00:00:00Z\","
+				+ "\"submissionLimit\":5,\"assignmentLimit\":8}\n"
+				+ "{\"type\":\"paper\",\"conference\":\"" + testPrefix + "J\",\"submitter\":\"" + testPrefix + "b\","
+				+ "\"title\":\"Early\",\"authors\":[\"Json User\"],\"submitted\":1500000000000}\n"
+				+ "{\"type\":\"paper\",\"conference\":\"" + testPrefix + "J\",\"submitter\":\"" + testPrefix + "b\","
+				+ "\"title\":\"Late\"}\n"
+				+ "{\"type\":\"paper\",\"conference\":\"" + testPrefix + "J\",\"submitter\":\"nobody\","
+				+ "\"title\":\"Orphan\"}\n"
+				+ "not json\n";
+
+		BulkImporter.Report report = importText(text, true, 1);
+
+		assertEquals(1, report.getPapers());
+		assertEquals(3, report.getRejected());
+		assertEquals(3, report.getErrors().size());
+		assertEquals("Early", testSystem.getConference(testPrefix + "J").getInfo().getAllPapers().get(0).getTitle());
+	}
+
+	@Test
+	public void importRecords_DuplicateUser_Rejected() throws IOException {
+		String text = "user," + testPrefix + "c,Name\nuser," + testPrefix + "c,Other Name\n";
+
+		BulkImporter.Report report = importText(text, false, 10);
+
+		assertEquals(1, report.getUsers());
+		assertEquals(1, report.getRejected());
+		assertEquals("Name", testSystem.getUserProfile(testPrefix + "c").getName());
+	}
+}
@@ -0,0 +1,126 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import model.Conference;
+import model.ConferenceInfoCache;
+import model.Paper;
+import model.UserProfile;
+
+/**
+ * Tests for the query cache of a conference and its invalidation by the mutators.
+ *
+ * @version 10/19/2026
+ */
+public class ConferenceInfoCacheTest {
+
+	private Conference testConference;
+
+	private ConferenceInfoCache testCache;
+
+	private UserProfile testAuthor;
+
+	private Paper testPaper1;
+
+	private Paper testPaper2;
+
+	@Before
+	public void setUp() {
+		testConference = Conference.createConference("Cache Conference",
+				new Date(new Date().getTime() + 100000000L), 5, 8);
+		testCache = testConference.getInfo().getCachedInfo();
+		testAuthor = new UserProfile("CacheAuthor", "Cache Author");
+		testPaper1 = Paper.createPaper(new File(""), Arrays.asList(testAuthor.getName()), "Cache Paper 1", testAuthor);
+		testPaper2 = Paper.createPaper(new File(""), Arrays.asList(testAuthor.getName()), "Cache Paper 2", testAuthor);
+		testConference.getUserRole().addPaper(testAuthor, testPaper1);
+		testConference.getUserRole().addPaper(testAuthor, testPaper2);
+	}
+
+	@Test
+	public void getAllPapers_AskedTwice_SecondIsHit() {
+		List<Paper> first = testCache.getAllPapers();
+		List<Paper> second = testCache.getAllPapers();
+
+		assertSame(first, second);
+		assertEquals(2, second.size());
+		assertEquals(1, testCache.getHitCount());
+		assertEquals(1, testCache.getMissCount());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void getAllPapers_Cached_Unmodifiable() {
+		testCache.getAllPapers().clear();
+	}
+
+	@Test
+	public void getAllPapers_PaperAddedAndRemoved_Reloaded() {
+		testCache.getAllPapers();
+		Paper paper = Paper.createPaper(new File(""), Arrays.asList(testAuthor.getName()), "Cache Paper 3", testAuthor);
+		testConference.getUserRole().addPaper(testAuthor, paper);
+		assertEquals(3, testCache.getAllPapers().size());
+
+		testConference.getUserRole().removePaper(testAuthor, paper);
+		assertEquals(2, testCache.getAllPapers().size());
+		assertEquals(2, testCache.getInvalidationCount());
+	}
+
+	@Test
+	public void getReviewersForPaper_ReviewerAssigned_OnlyThatPaperDropped() {
+		testConference.getInfo().setSubmissionDate(new Date(new Date().getTime() - 1000));
+		UserProfile reviewer = new UserProfile("CacheReviewer", "Cache Reviewer");
+		assertTrue(testCache.getReviewersForPaper(testPaper1).isEmpty());
+		assertTrue(testCache.getReviewersForPaper(testPaper2).isEmpty());
+		assertTrue(testCache.getReviewers().isEmpty());
+
+		testConference.getSubprogramRole().assignReviewer(reviewer, testPaper1);
+
+		long hits = testCache.getHitCount();
+		assertTrue(testCache.getReviewersForPaper(testPaper2).isEmpty());
+		assertEquals(hits + 1, testCache.getHitCount());
+		assertEquals(Arrays.asList(reviewer), testCache.getReviewersForPaper(testPaper1));
+		assertEquals(Arrays.asList(reviewer), testCache.getReviewers());
+		assertEquals(hits + 1, testCache.getHitCount());
+	}
+
+	@Test
+	public void getPapersAssignedToSubProgramChair_ChairAssigned_Reloaded() {
+		UserProfile chair = new UserProfile("CacheChair", "Cache Chair");
+		assertNull(testCache.getPapersAssignedToSubProgramChair(chair));
+
+		testConference.getDirectorRole().assignPaperToSubProgramChair(chair, testPaper1);
+		assertEquals(Arrays.asList(testPaper1), testCache.getPapersAssignedToSubProgramChair(chair));
+
+		testConference.getDirectorRole().assignPaperToSubProgramChair(chair, testPaper2);
+		assertEquals(Arrays.asList(testPaper1, testPaper2), testCache.getPapersAssignedToSubProgramChair(chair));
+	}
+
+	@Test
+	public void setCapacity_MoreQueries_LeastRecentlyUsedEvicted() {
+		testCache.setCapacity(2);
+		testCache.getReviewersForPaper(testPaper1);
+		testCache.getReviewersForPaper(testPaper2);
+		testCache.getReviewersForPaper(testPaper1);
+		testCache.getAllPapers();
+
+		assertEquals(2, testCache.size());
+		assertEquals(1, testCache.getEvictionCount());
+		long misses = testCache.getMissCount();
+		testCache.getReviewersForPaper(testPaper1);
+		assertEquals(misses, testCache.getMissCount());
+		testCache.getReviewersForPaper(testPaper2);
+		assertEquals(misses + 1, testCache.getMissCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setCapacity_Negative_ThrowsException() {
+		testCache.setCapacity(-1);
+	}
+}
@@ -124,7 +124,7 @@ public class ConferenceModelTests {
 	 */
 	@Test
 	public void setUserRoleToReviewer_ValidUser_IsAssigned() throws IllegalArgumentException {
-		deadline.setTime(0L);
+		TEST_CON.getInfo().setSubmissionDate(new Date(0L));
 		TEST_CON.getSubprogramRole().assignReviewer(TEST_USER_PROFILE_REVIEWER, testPaper1);
 		assertTrue(TEST_CON.getInfo().isUserReviewer(TEST_USER_PROFILE_REVIEWER));
 	}
@@ -136,7 +136,7 @@ public class ConferenceModelTests {
 	 */
 	@Test
 	public void getPapersAssignedToReviewer_ValidReviewer_AllPapersReturned() throws IllegalArgumentException {
-		deadline.setTime(0L);
+		TEST_CON.getInfo().setSubmissionDate(new Date(0L));
 		for(int i = 0; i < TEST_PAPER_LIST.size();i++) {
 			TEST_CON.getSubprogramRole().assignReviewer(TEST_USER_PROFILE_REVIEWER, TEST_PAPER_LIST.get(i));
 		}
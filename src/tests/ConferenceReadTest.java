@@ -0,0 +1,178 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import benchmarks.Allocation;
+import model.Conference;
+import model.ConferenceData;
+import model.Cursor;
+import model.Paper;
+import model.UserProfile;
+
+/**
+ * Tests for the allocation free reads of a conference: forEach, counts and cursors.
+ *
+ * @version 10/19/2026
+ */
+public class ConferenceReadTest {
+
+	private Conference testConference;
+
+	private ConferenceData testInfo;
+
+	private UserProfile testAuthor;
+
+	private UserProfile testReviewer;
+
+	private UserProfile testChair;
+
+	private List<Paper> testPapers;
+
+	@Before
+	public void setUp() {
+		testConference = Conference.createConference("Read Conference",
+				new Date(new Date().getTime() + 100000000L), 5, 8);
+		testInfo = testConference.getInfo();
+		testAuthor = new UserProfile("ReadAuthor", "Read Author");
+		testReviewer = new UserProfile("ReadReviewer", "Read Reviewer");
+		testChair = new UserProfile("ReadChair", "Read Chair");
+		testPapers = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			Paper paper = Paper.createPaper(new File(""), Arrays.asList(testAuthor.getName()), "Read Paper " + i,
+					testAuthor);
+			testConference.getUserRole().addPaper(testAuthor, paper);
+			testPapers.add(paper);
+		}
+		testConference.getDirectorRole().assignPaperToSubProgramChair(testChair, testPapers.get(1));
+		testConference.getDirectorRole().assignPaperToSubProgramChair(testChair, testPapers.get(2));
+		testInfo.setSubmissionDate(new Date(new Date().getTime() - 1000));
+		testConference.getSubprogramRole().assignReviewer(testReviewer, testPapers.get(0));
+	}
+
+	@Test
+	public void forEachPaper_Submitted_InSubmissionOrder() {
+		List<Paper> visited = new ArrayList<>();
+		testInfo.forEachPaper(visited::add);
+
+		assertEquals(testPapers, visited);
+		assertEquals(4, testInfo.getPaperCount());
+		assertEquals(testPapers, testInfo.getAllPapers());
+	}
+
+	@Test
+	public void getPaperCount_EveryQuery_MatchesLists() {
+		assertEquals(testInfo.getPapersSubmittedBy(testAuthor).size(), testInfo.getPaperCountSubmittedBy(testAuthor));
+		assertEquals(4, testInfo.getPaperCountAuthoredBy(testAuthor.getName()));
+		assertEquals(1, testInfo.getPaperCountAssignedToReviewer(testReviewer));
+		assertEquals(2, testInfo.getPaperCountAssignedToSubProgramChair(testChair));
+		assertEquals(1, testInfo.getReviewerCount());
+		assertEquals(0, testInfo.getPaperCountSubmittedBy(testReviewer));
+		assertEquals(0, testInfo.getPaperCountAuthoredBy("Nobody"));
+	}
+
+	@Test
+	public void openPapers_ReusedCursor_EachQueryFromStart() {
+		Cursor<Paper> cursor = new Cursor<>();
+
+		testInfo.openPapersAssignedToSubProgramChair(testChair, cursor);
+		assertTrue(cursor.next());
+		assertSame(testPapers.get(1), cursor.get());
+		assertTrue(cursor.next());
+		assertSame(testPapers.get(2), cursor.get());
+		assertFalse(cursor.next());
+		assertFalse(cursor.next());
+
+		testInfo.openPapersAssignedToReviewer(testReviewer, cursor);
+		assertEquals(1, cursor.size());
+		assertTrue(cursor.next());
+		assertSame(testPapers.get(0), cursor.get());
+
+		testInfo.openPapersSubmittedBy(testReviewer, cursor);
+		assertEquals(0, cursor.size());
+		assertFalse(cursor.next());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void get_BeforeNext_ThrowsException() {
+		testInfo.openPapers(new Cursor<>()).get();
+	}
+
+	@Test
+	public void getReviewers_RoleGivenByDirector_Counted() {
+		UserProfile other = new UserProfile("ReadOther", "Read Other");
+		testConference.getDirectorRole().addUserRole(other, Conference.REVIEW_ROLE);
+		testConference.getDirectorRole().addUserRole(other, Conference.REVIEW_ROLE);
+
+		List<UserProfile> visited = new ArrayList<>();
+		testInfo.forEachReviewer(visited::add);
+		assertEquals(Arrays.asList(testReviewer, other), visited);
+		assertEquals(visited, testInfo.getReviewers());
+	}
+
+	@Test
+	public void getReviewersForPaper_TwoReviewers_MatchesReads() {
+		UserProfile other = new UserProfile("ReadOther", "Read Other");
+		testConference.getSubprogramRole().assignReviewer(other, testPapers.get(0));
+
+		List<UserProfile> visited = new ArrayList<>();
+		testInfo.forEachReviewerForPaper(testPapers.get(0), visited::add);
+		assertEquals(Arrays.asList(testReviewer, other), visited);
+		assertEquals(visited, testInfo.getReviewersForPaper(testPapers.get(0)));
+		assertEquals(2, testInfo.getReviewerCountForPaper(testPapers.get(0)));
+		assertEquals(0, testInfo.getReviewerCountForPaper(testPapers.get(1)));
+		assertTrue(testInfo.getReviewersForPaper(testPapers.get(1)).isEmpty());
+
+		Cursor<UserProfile> cursor = testInfo.openReviewersForPaper(testPapers.get(0), new Cursor<>());
+		assertTrue(cursor.next());
+		assertSame(testReviewer, cursor.get());
+	}
+
+	@Test
+	public void getPapersSubmittedBy_NoPapers_EmptyWithoutAllocating() {
+		assertTrue(testInfo.getPapersSubmittedBy(testReviewer).isEmpty());
+		assertSame(testInfo.getPapersSubmittedBy(testReviewer), testInfo.getPapersSubmittedBy(testChair));
+	}
+
+	@Test
+	public void forEachPaper_Repeated_NoAllocation() {
+		final long[] count = new long[1];
+		final Consumer<Paper> action = paper -> count[0]++;
+		final Cursor<Paper> cursor = new Cursor<>();
+		for (int i = 0; i < 1000; i++) {
+			read(action, cursor, count);
+		}
+
+		long before = Allocation.currentThreadAllocatedBytes();
+		for (int i = 0; i < 10000; i++) {
+			read(action, cursor, count);
+		}
+		long allocated = Allocation.currentThreadAllocatedBytes() - before;
+
+		if (before >= 0) {
+			assertTrue("Allocated " + allocated + " bytes", allocated < 10000);
+		}
+		assertEquals(11000 * 9, count[0]);
+	}
+
+	private void read(final Consumer<Paper> theAction, final Cursor<Paper> theCursor,
+			final long[] theCount) {
+		testInfo.forEachPaper(theAction);
+		testInfo.forEachPaperSubmittedBy(testAuthor, theAction);
+		theCount[0] -= testInfo.getPaperCountAssignedToReviewer(testReviewer);
+		testInfo.openPapersAssignedToSubProgramChair(testChair, theCursor);
+		while (theCursor.next()) {
+			theCount[0] += theCursor.get() == null ? 0 : 1;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import model.Conference;
+import model.ConferenceSystem;
+import model.Paper;
+import model.Review;
+import model.UserProfile;
+
+/**
+ * Tests for the streams over all papers, reviews and assignments of the ConferenceSystem.
+ *
+ * @version 10/19/2026
+ */
+public class ConferenceSystemStreamTest {
+
+	private static int testRun;
+
+	private ConferenceSystem testSystem;
+
+	private UserProfile testReviewer;
+
+	@Before
+	public void setUp() {
+		testSystem = ConferenceSystem.getInstance();
+		String prefix = "Stream" + (testRun++) + System.nanoTime();
+		UserProfile author = new UserProfile(prefix + "a", prefix + " Author");
+		testReviewer = new UserProfile(prefix + "r", prefix + " Reviewer");
+		for (int c = 0; c < 3; c++) {
+			Conference conference = Conference.createConference(prefix + c,
+					new Date(new Date().getTime() + 100000000L), 50, 50);
+			testSystem.addConference(conference);
+			// The middle conference stays empty.
+			for (int p = 0; c != 1 && p < 20; p++) {
+				Paper paper = Paper.createPaper(new File(""), Arrays.asList(author.getName()),
+						prefix + " Paper " + c + "." + p, author);
+				conference.getUserRole().addPaper(author, paper);
+				for (int r = 0; r < p % 4; r++) {
+					paper.addReview(new Review(new File(""), r + 1));
+				}
+			}
+			conference.getInfo().setSubmissionDate(new Date(new Date().getTime() - 1000));
+			for (int p = 0; p < conference.getInfo().getPaperCount() / 2; p++) {
+				conference.getSubprogramRole().assignReviewer(testReviewer, conference.getInfo().getAllPapers().get(p));
+			}
+		}
+	}
+
+	@Test
+	public void papers_Sequential_EveryPaperOfEveryConferenceInOrder() {
+		List<Paper> expected = new ArrayList<>();
+		for (Conference conference : testSystem.getConferences()) {
+			expected.addAll(conference.getInfo().getAllPapers());
+		}
+
+		assertEquals(expected, testSystem.papers().collect(Collectors.toList()));
+		assertEquals(expected.size(), testSystem.papers().spliterator().getExactSizeIfKnown());
+	}
+
+	@Test
+	public void papers_Parallel_SameAsSequential() {
+		List<Paper> sequential = testSystem.papers().collect(Collectors.toList());
+
+		assertEquals(sequential, testSystem.papers().parallel().collect(Collectors.toList()));
+		assertEquals(sequential.size(), testSystem.papers().parallel().count());
+	}
+
+	@Test
+	public void reviews_Parallel_EveryReviewOfEveryPaper() {
+		List<Review> expected = new ArrayList<>();
+		for (Conference conference : testSystem.getConferences()) {
+			for (Paper paper : conference.getInfo().getAllPapers()) {
+				expected.addAll(paper.getReviews());
+			}
+		}
+
+		assertEquals(expected.size(), testSystem.reviews().spliterator().getExactSizeIfKnown());
+		assertEquals(expected, testSystem.reviews().parallel().collect(Collectors.toList()));
+		assertEquals(expected.stream().mapToInt(review -> review.score).sum(),
+				testSystem.reviews().parallel().mapToInt(review -> review.score).sum());
+	}
+
+	@Test
+	public void assignments_Reviewer_EveryAssignedPaper() {
+		List<Paper> expected = testSystem.getAllPapersAssignedTo(testReviewer);
+
+		List<Paper> streamed = testSystem.assignments().parallel()
+				.filter(assignment -> assignment.getReviewer().equals(testReviewer))
+				.map(ConferenceSystem.Assignment::getPaper)
+				.collect(Collectors.toList());
+
+		assertEquals(20, expected.size());
+		assertEquals(expected.size(), streamed.size());
+		assertTrue(streamed.containsAll(expected));
+	}
+
+	@Test
+	public void trySplit_Papers_ExactSizesAddUp() {
+		Spliterator<Paper> suffix = testSystem.papers().spliterator();
+		long size = suffix.getExactSizeIfKnown();
+		assertTrue(suffix.hasCharacteristics(Spliterator.SUBSIZED));
+
+		List<Paper> visited = new ArrayList<>();
+		while (suffix.estimateSize() > 1) {
+			Spliterator<Paper> prefix = suffix.trySplit();
+			int before = visited.size();
+			prefix.forEachRemaining(visited::add);
+			assertEquals(0, prefix.getExactSizeIfKnown());
+			assertEquals(size, visited.size() + suffix.estimateSize());
+			assertTrue(visited.size() > before);
+		}
+		suffix.forEachRemaining(visited::add);
+
+		assertEquals(testSystem.papers().collect(Collectors.toList()), visited);
+	}
+}
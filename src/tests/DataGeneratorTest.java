@@ -0,0 +1,89 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import model.Conference;
+import model.ConferenceSystem;
+import model.DeadlineScheduler;
+import model.Paper;
+import model.Review;
+import model.UserProfile;
+import view.DataGenerator;
+
+/**
+ * Tests that the DataGenerator only depends on its settings.
+ *
+ * @version 10/19/2026
+ */
+public class DataGeneratorTest {
+
+	private ConferenceSystem testSystem;
+
+	@Before
+	public void setUp() {
+		testSystem = ConferenceSystem.getInstance();
+		testSystem.clear();
+		DeadlineScheduler.getInstance().setClock(
+				Clock.fixed(Instant.ofEpochMilli(DataGenerator.DEFAULT_BASE_TIME), ZoneOffset.UTC));
+	}
+
+	@After
+	public void tearDown() {
+		testSystem.clear();
+		DeadlineScheduler.getInstance().setClock(DeadlineScheduler.systemClock());
+	}
+
+	/**
+	 * Generates into the cleared system.
+	 * @return everything generated, in the order of the conference names.
+	 */
+	private String generate(final long theSeed) {
+		testSystem.clear();
+		new DataGenerator(theSeed, 6, 300, 30, 3).generate(testSystem);
+
+		List<Conference> conferences = new ArrayList<>(testSystem.getConferences());
+		conferences.sort((a, b) -> a.getInfo().getName().compareTo(b.getInfo().getName()));
+		StringBuilder result = new StringBuilder();
+		for (Conference c : conferences) {
+			result.append(c.getInfo().getName()).append(' ').append(c.getInfo().getSubmissionDate().getTime())
+					.append(' ').append(c.getInfo().getPhase()).append('\n');
+			for (Paper p : c.getInfo().getAllPapers()) {
+				result.append(p.getTitle()).append(' ').append(p.getAuthors()).append(' ')
+						.append(p.getSubmitterUserProfile().getUID()).append(' ').append(p.getSubmitMillis())
+						.append(' ').append(p.getState()).append(' ').append(p.getRecommendationShort());
+				for (UserProfile reviewer : c.getInfo().getReviewersForPaper(p)) {
+					result.append(' ').append(reviewer.getUID());
+				}
+				for (Review r : p.getReviews()) {
+					result.append(' ').append(r.reviewer.getUID()).append('=').append(r.score).append('@')
+							.append(r.time);
+				}
+				result.append('\n');
+			}
+		}
+		return result.toString();
+	}
+
+	@Test
+	public void generate_SameSeed_SameModel() {
+		String first = generate(42);
+		String second = generate(42);
+
+		assertEquals(first, second);
+	}
+
+	@Test
+	public void generate_OtherSeed_OtherModel() {
+		assertNotEquals(generate(42), generate(43));
+	}
+}
@@ -0,0 +1,212 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import model.Conference;
+import model.ConferenceData;
+import model.ConferencePhase;
+import model.ConferenceSystem;
+import model.DeadlineScheduler;
+import model.DeadlineScheduler.PhaseListener;
+
+/**
+ * Tests for the phase changes of conferences as their deadlines pass, on a manual clock.
+ *
+ * @version 10/19/2026
+ */
+public class DeadlineSchedulerTest {
+
+	private static final long DAY = 24L * 60 * 60 * 1000;
+
+	private static final long START = 1800000000000L;
+
+	private ManualClock testClock;
+
+	private List<String> testChanges;
+
+	private Set<ConferenceData> testConferences;
+
+	private PhaseListener testListener;
+
+	@Before
+	public void setUp() {
+		testClock = new ManualClock(START);
+		DeadlineScheduler.getInstance().setClock(testClock);
+		ConferenceSystem.getInstance().clear();
+		testChanges = Collections.synchronizedList(new ArrayList<>());
+		testConferences = Collections.newSetFromMap(new IdentityHashMap<>());
+		testListener = (conference, oldPhase, newPhase) -> {
+			if (testConferences.contains(conference)) {
+				testChanges.add(conference.getName() + " " + oldPhase + " " + newPhase);
+			}
+		};
+		DeadlineScheduler.getInstance().addPhaseListener(testListener);
+	}
+
+	@After
+	public void tearDown() {
+		DeadlineScheduler.getInstance().removePhaseListener(testListener);
+		ConferenceSystem.getInstance().clear();
+		DeadlineScheduler.getInstance().setClock(DeadlineScheduler.systemClock());
+	}
+
+	@Test
+	public void runPending_DeadlinesPass_EachPhaseChangedOnce() {
+		ConferenceData conference = create("Scheduler A", START + DAY);
+		conference.setReviewDeadline(new Date(START + 8 * DAY));
+		assertEquals(ConferencePhase.SUBMISSION, conference.getPhase());
+		assertTrue(conference.isSubmissionOpen());
+
+		advance(DAY - 1);
+		assertEquals(ConferencePhase.SUBMISSION, conference.getPhase());
+		advance(1);
+		assertEquals(ConferencePhase.REVIEW, conference.getPhase());
+		assertFalse(conference.isSubmissionOpen());
+		advance(DAY);
+		advance(7 * DAY);
+		assertEquals(ConferencePhase.RECOMMENDATION, conference.getPhase());
+		advance(100 * DAY);
+
+		assertEquals(List.of("Scheduler A SUBMISSION REVIEW",
+				"Scheduler A REVIEW RECOMMENDATION"), testChanges);
+	}
+
+	@Test
+	public void runPending_ExactlyAtDeadline_PhaseChanged() {
+		ConferenceData conference = create("Scheduler B", START + 10);
+		testClock.set(START + 10);
+		assertEquals(ConferencePhase.SUBMISSION, conference.getPhase());
+		DeadlineScheduler.getInstance().runPending();
+		assertEquals(ConferencePhase.REVIEW, conference.getPhase());
+	}
+
+	@Test
+	public void setSubmissionDate_MovedBack_PhaseChangedRightAway() {
+		ConferenceData conference = create("Scheduler C", START + DAY);
+		conference.setSubmissionDate(new Date(START - 1));
+		assertEquals(ConferencePhase.REVIEW, conference.getPhase());
+		conference.setSubmissionDate(new Date(START + DAY));
+		assertEquals(ConferencePhase.SUBMISSION, conference.getPhase());
+		advance(DAY);
+		assertEquals(ConferencePhase.REVIEW, conference.getPhase());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setReviewDeadline_BeforeSubmission_ThrowsException() {
+		create("Scheduler D", START + DAY).setReviewDeadline(new Date(START));
+	}
+
+	@Test
+	public void runPending_ManyRandomDeadlines_AllFlipInTime() {
+		Random random = new Random(37);
+		List<ConferenceData> conferences = new ArrayList<>();
+		List<Long> deadlines = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			// From milliseconds up to three years away, beyond the range of the wheel.
+			long deadline = START + 1 + (long) (Math.pow(random.nextDouble(), 4) * 1000 * DAY);
+			conferences.add(create("Scheduler R" + i, deadline));
+			deadlines.add(deadline);
+		}
+
+		long time = START;
+		while (time < START + 1001 * DAY) {
+			time += 1 + (long) (random.nextDouble() * random.nextDouble() * 20 * DAY);
+			testClock.set(time);
+			DeadlineScheduler.getInstance().runPending();
+			for (int i = 0; i < conferences.size(); i++) {
+				ConferencePhase expected = time < deadlines.get(i) ? ConferencePhase.SUBMISSION : ConferencePhase.REVIEW;
+				assertEquals("Conference " + i + " at " + time, expected, conferences.get(i).getPhase());
+			}
+		}
+		assertEquals(200, testChanges.size());
+	}
+
+	@Test
+	public void getPhase_NotInSystem_FollowsClock() {
+		Conference conference = Conference.createConference("Scheduler E", new Date(START + DAY), 5, 8);
+		testConferences.add(conference.getInfo());
+		assertEquals(ConferencePhase.SUBMISSION, conference.getInfo().getPhase());
+
+		testClock.set(START + DAY);
+		assertEquals(ConferencePhase.REVIEW, conference.getInfo().getPhase());
+		DeadlineScheduler.getInstance().runPending();
+		assertTrue(testChanges.isEmpty());
+	}
+
+	@Test
+	public void clear_ConferenceDropped_NoLongerScheduled() {
+		ConferenceData conference = create("Scheduler F", START + DAY);
+		ConferenceSystem.getInstance().clear();
+
+		advance(DAY);
+		assertEquals(ConferencePhase.REVIEW, conference.getPhase());
+		assertTrue(testChanges.isEmpty());
+	}
+
+	/**
+	 * Creates a conference in the system, so the DeadlineScheduler tracks it.
+	 */
+	private ConferenceData create(final String theName, final long theDeadline) {
+		Conference conference = Conference.createConference(theName, new Date(theDeadline), 5, 8);
+		ConferenceSystem.getInstance().addConference(conference);
+		testConferences.add(conference.getInfo());
+		return conference.getInfo();
+	}
+
+	private void advance(final long theMillis) {
+		testClock.set(testClock.millis() + theMillis);
+		DeadlineScheduler.getInstance().runPending();
+	}
+
+	/**
+	 * A clock which only moves when told to.
+	 */
+	private static final class ManualClock extends Clock {
+
+		private volatile long myMillis;
+
+		private ManualClock(final long theMillis) {
+			myMillis = theMillis;
+		}
+
+		private void set(final long theMillis) {
+			myMillis = theMillis;
+		}
+
+		@Override
+		public long millis() {
+			return myMillis;
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(myMillis);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(final ZoneId theZone) {
+			return this;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import model.Conference;
+import model.FlightEvents;
+import model.Paper;
+import model.UserProfile;
+import view.FlightRecordingSummary;
+import view.PanelUpdateEvent;
+
+/**
+ * Tests that model operations and panel updates are recorded by the JDK Flight Recorder
+ * and read back by FlightRecordingSummary.
+ *
+ * @version 10/19/2026
+ */
+public class FlightEventsTest {
+
+	private static final String TEST_CON_NAME = "Flight Recorded Conference";
+
+	@Rule
+	public TemporaryFolder testFolder = new TemporaryFolder();
+
+	/**
+	 * Submits two papers to a conference with a submission limit of one and commits a panel update,
+	 * all while recording.
+	 * @return the recording file.
+	 */
+	private Path record() throws IOException {
+		Path file = testFolder.getRoot().toPath().resolve("model.jfr");
+		UserProfile author = new UserProfile("flight", "Flight Author");
+		Conference con = Conference.createConference(TEST_CON_NAME,
+				new Date(new Date().getTime() + 100000000L), 1, 5);
+
+		try (Recording recording = new Recording()) {
+			recording.enable(FlightEvents.Submission.class).withThreshold(Duration.ZERO);
+			recording.enable(PanelUpdateEvent.class).withThreshold(Duration.ZERO);
+			recording.start();
+
+			con.getUserRole().addPaper(author, Paper.createPaper(new File(""),
+					new ArrayList<>(Arrays.asList("Flight Author", "Co Author")), "First Flight", author));
+			try {
+				con.getUserRole().addPaper(author, Paper.createPaper(new File(""),
+						new ArrayList<>(Arrays.asList("Flight Author")), "Second Flight", author));
+				fail("The submission limit was not enforced.");
+			} catch (IllegalArgumentException e) {
+				// recorded as rejected
+			}
+
+			PanelUpdateEvent panel = new PanelUpdateEvent();
+			panel.begin();
+			panel.set(con.getInfo(), null, author, 7);
+			panel.panelName = "TestPanel";
+			panel.commit();
+
+			recording.stop();
+			recording.dump(file);
+		}
+		return file;
+	}
+
+	@Test
+	public void addPaper_Recording_EventWithFields() throws IOException {
+		List<RecordedEvent> submissions = new ArrayList<>();
+		List<RecordedEvent> panels = new ArrayList<>();
+		for (RecordedEvent event : RecordingFile.readAllEvents(record())) {
+			if (event.getEventType().getName().equals("model.PaperSubmission")) {
+				submissions.add(event);
+			} else if (event.getEventType().getName().equals("view.PanelUpdate")) {
+				panels.add(event);
+			}
+		}
+
+		assertEquals(2, submissions.size());
+		RecordedEvent accepted = submissions.get(0);
+		assertEquals(TEST_CON_NAME, accepted.getString("conferenceName"));
+		assertEquals("First Flight".hashCode(), accepted.getInt("paperTitleHash"));
+		assertEquals("flight", accepted.getString("userUID"));
+		assertEquals(2, accepted.getLong("itemCount"));
+		assertFalse(accepted.getBoolean("rejected"));
+		assertTrue(submissions.get(1).getBoolean("rejected"));
+
+		assertEquals(1, panels.size());
+		assertEquals("TestPanel", panels.get(0).getString("panelName"));
+		assertEquals(7, panels.get(0).getLong("itemCount"));
+	}
+
+	@Test
+	public void summarize_Recording_CountsEvents() throws IOException {
+		Path file = record();
+
+		Map<String, FlightRecordingSummary.Summary> summaries = FlightRecordingSummary.summarize(file, false);
+		FlightRecordingSummary.Summary submissions = summaries.get("model.PaperSubmission");
+		assertEquals(2, submissions.getCount());
+		assertEquals(1, submissions.getRejected());
+		assertEquals(3, submissions.getItems());
+		assertEquals(1, summaries.get("view.PanelUpdate").getCount());
+
+		Map<String, FlightRecordingSummary.Summary> byConference = FlightRecordingSummary.summarize(file, true);
+		assertEquals(2, byConference.get("model.PaperSubmission [" + TEST_CON_NAME + "]").getCount());
+	}
+}
@@ -3,14 +3,19 @@ package tests;
 import static org.junit.Assert.*;
 
 import java.io.File;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import model.Conference;
+import model.DeadlineScheduler;
 import model.Paper;
 import model.UserProfile;
 
@@ -33,6 +38,9 @@ public class GetAuthorsTest {
 		* Create a new conference
 		*/
 		Date deadline = new Date(1496386799000L);//2017/6/1 23:59:59
+		// Submit the paper a month before the deadline, whenever the test runs.
+		DeadlineScheduler.getInstance().setClock(
+				Clock.fixed(Instant.ofEpochMilli(deadline.getTime() - 30L * 24 * 60 * 60 * 1000), ZoneOffset.UTC));
 		int Author_Paper_Submission_Limit = 5;
 		int Reviewer_Paper_Assignment_Limit = 8;
 		new_conference = Conference.createConference("Test Conference", deadline, 
@@ -66,6 +74,11 @@ public class GetAuthorsTest {
 		}
 	}
 	
+	@After
+	public void tearDown() {
+		DeadlineScheduler.getInstance().setClock(DeadlineScheduler.systemClock());
+	}
+	
 	@Test
 	public void getPapersByAuthor_AnAuthor_ListContainsNewestPaper() {
 		/*
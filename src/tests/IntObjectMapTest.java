@@ -0,0 +1,48 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import model.IntObjectMap;
+
+/**
+ * Tests for the int keyed map of the model indexes.
+ *
+ * @version 10/19/2026
+ */
+public class IntObjectMapTest {
+
+	@Test
+	public void randomOperations_SameAsHashMap() {
+		IntObjectMap<Integer> map = new IntObjectMap<>();
+		Map<Integer, Integer> expected = new HashMap<>();
+		Random random = new Random(7);
+
+		for (int i = 0; i < 100000; i++) {
+			int key = random.nextInt(2000) - 1000;
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(key), map.remove(key));
+			} else {
+				assertEquals(expected.put(key, i), map.put(key, i));
+			}
+			assertEquals(expected.size(), map.size());
+		}
+
+		for (int key = -1000; key < 1000; key++) {
+			assertEquals(expected.get(key), map.get(key));
+		}
+	}
+
+	@Test
+	public void computeIfAbsent_Present_KeepsValue() {
+		IntObjectMap<String> map = new IntObjectMap<>();
+		assertEquals("a", map.computeIfAbsent(5, k -> "a"));
+		assertEquals("a", map.computeIfAbsent(5, k -> "b"));
+		assertEquals(1, map.size());
+	}
+}
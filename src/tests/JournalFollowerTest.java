@@ -0,0 +1,240 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import model.ChangeJournal;
+import model.Conference;
+import model.ConferenceInfo;
+import model.ConferenceSystem;
+import model.DeadlineScheduler;
+import model.JournalFollower;
+import model.MetricsRegistry;
+import model.Paper;
+import model.PaperState;
+import model.SubprogramUtilities.RecommendStatus;
+import model.UserProfile;
+
+/**
+ * Tests for replicating a ConferenceSystem through a ChangeJournal to a JournalFollower.
+ *
+ * @version 10/19/2026
+ */
+public class JournalFollowerTest {
+
+	private static int testRun;
+
+	@Rule
+	public TemporaryFolder testFolder = new TemporaryFolder();
+
+	private ConferenceSystem testSystem;
+
+	private ChangeJournal testJournal;
+
+	private String testPrefix;
+
+	private UserProfile testAuthor;
+
+	private long testStart;
+
+	@Before
+	public void setUp() throws IOException {
+		testStart = System.currentTimeMillis();
+		setTime(testStart);
+		testSystem = ConferenceSystem.getInstance();
+		testPrefix = "Journal" + (testRun++) + System.nanoTime();
+		testAuthor = new UserProfile(testPrefix + "a", testPrefix + " Author");
+		testJournal = ChangeJournal.create(testFolder.getRoot().toPath().resolve("journal"));
+		testSystem.setJournal(testJournal);
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		testSystem.setJournal(null);
+		testJournal.close();
+		DeadlineScheduler.getInstance().setClock(DeadlineScheduler.systemClock());
+	}
+
+	private void setTime(final long theMillis) {
+		DeadlineScheduler.getInstance().setClock(Clock.fixed(Instant.ofEpochMilli(theMillis), ZoneOffset.UTC));
+	}
+
+	private Conference addConference(final String theName) {
+		Conference conference = Conference.createConference(theName, new Date(testStart + 100000000L), 5, 8);
+		testSystem.addConference(conference);
+		return conference;
+	}
+
+	private Paper addPaper(final Conference theConference, final String theTitle) {
+		Paper paper = Paper.createPaper(new File(theTitle + ".pdf"), Arrays.asList(testAuthor.getName()), theTitle,
+				testAuthor);
+		theConference.getUserRole().addPaper(testAuthor, paper);
+		return paper;
+	}
+
+	@Test
+	public void poll_ChangesThroughRoles_CopyMatchesPrimary() throws IOException {
+		Conference conference = addConference(testPrefix + " Conf");
+		Paper paper = addPaper(conference, "Replicated");
+		Paper withdrawn = addPaper(conference, "Withdrawn");
+		conference.getUserRole().removePaper(testAuthor, withdrawn);
+		UserProfile chair = new UserProfile(testPrefix + "c", testPrefix + " Chair");
+		conference.getDirectorRole().assignPaperToSubProgramChair(chair, paper);
+		conference.getDirectorRole().addUserRole(chair, Conference.SUBPROGRAM_ROLE);
+		conference.getInfo().setSubmissionDate(new Date(testStart - 1000));
+		conference.getInfo().setReviewDeadline(new Date(testStart + 50000000L));
+		for (int r = 0; r < 3; r++) {
+			UserProfile reviewer = new UserProfile(testPrefix + "r" + r, testPrefix + " Reviewer " + r);
+			conference.getSubprogramRole().assignReviewer(reviewer, paper);
+			setTime(testStart + r);
+			conference.getReviewerRole().sendReview(reviewer, paper, new File("review" + r), r + 2);
+		}
+		conference.getSubprogramRole().recommend(chair, paper, new File("recommendation"), RecommendStatus.YES);
+		testSystem.addUserProfile(chair);
+
+		try (JournalFollower follower = JournalFollower.open(testJournal.getPath())) {
+			assertEquals(testJournal.getSequence(), follower.poll());
+			assertEquals(testJournal.getSequence(), follower.getSequence());
+			assertEquals(0, follower.getBytesBehind());
+
+			assertEquals(Integer.valueOf(1), follower.query(testPrefix + " Conf", ConferenceInfo::getPaperCount));
+			Paper copy = follower.query(testPrefix + " Conf", info -> info.getPapersSubmittedBy(testAuthor).get(0));
+			assertNotSame(paper, copy);
+			assertEquals("Replicated", copy.getTitle());
+			assertEquals(PaperState.RECOMMENDED, copy.getState());
+			assertEquals(3, copy.getReviewCount());
+			assertEquals(4, copy.getReview(2).score);
+			assertEquals(testStart + 2, copy.getReview(2).time);
+			assertEquals(RecommendStatus.YES.intRepresentation, copy.getMyRecommendation().score);
+			assertEquals(chair, copy.getMyRecommendation().reviewer);
+			assertEquals(Integer.valueOf(3), follower.query(testPrefix + " Conf", ConferenceInfo::getReviewerCount));
+			assertEquals(new Date(testStart + 50000000L),
+					follower.query(testPrefix + " Conf", ConferenceInfo::getReviewDeadline));
+			assertTrue(follower.query(testPrefix + " Conf", info -> info.isUserSubprogramChair(chair)));
+			assertEquals(chair.getName(), follower.getUserProfile(chair.getUID()).getName());
+		}
+	}
+
+	@Test
+	public void setJournal_ExistingConference_WrittenBeforeLaterChanges() throws IOException {
+		testSystem.setJournal(null);
+		Conference conference = addConference(testPrefix + " Before");
+		addPaper(conference, "Before");
+		testSystem.setJournal(testJournal);
+		addPaper(conference, "After");
+
+		try (JournalFollower follower = JournalFollower.open(testJournal.getPath())) {
+			follower.poll();
+
+			assertTrue(follower.getConferenceNames().contains(testPrefix + " Before"));
+			assertEquals(Integer.valueOf(2), follower.query(testPrefix + " Before", ConferenceInfo::getPaperCount));
+			assertNull(follower.query(testPrefix + " Missing", ConferenceInfo::getPaperCount));
+		}
+	}
+
+	@Test
+	public void poll_PartialEntry_AppliedOnceComplete() throws IOException {
+		Conference conference = addConference(testPrefix + " Partial");
+		long complete = Files.size(testJournal.getPath());
+		addPaper(conference, "Torn");
+		byte[] bytes = Files.readAllBytes(testJournal.getPath());
+		Path copy = testFolder.getRoot().toPath().resolve("copy");
+		Files.write(copy, Arrays.copyOf(bytes, bytes.length - 3));
+
+		try (JournalFollower follower = JournalFollower.open(copy)) {
+			follower.poll();
+			assertEquals(bytes.length - 3 - complete, follower.getBytesBehind());
+			assertEquals(Integer.valueOf(0), follower.query(testPrefix + " Partial", ConferenceInfo::getPaperCount));
+
+			Files.write(copy, bytes);
+			assertEquals(1, follower.poll());
+			assertEquals(0, follower.getBytesBehind());
+			assertEquals(Integer.valueOf(1), follower.query(testPrefix + " Partial", ConferenceInfo::getPaperCount));
+		}
+	}
+
+	@Test
+	public void poll_LaterThanWritten_ReportsLag() throws IOException {
+		addConference(testPrefix + " Lag");
+		setTime(testStart + 250);
+
+		try (JournalFollower follower = JournalFollower.open(testJournal.getPath())) {
+			follower.poll();
+
+			assertEquals(250, follower.getLagMillis());
+		}
+	}
+
+	@Test
+	public void poll_SameTitleTwice_ChangesReachTheRightPaper() throws IOException {
+		Conference conference = addConference(testPrefix + " Twice");
+		addPaper(conference, "Twice");
+		Paper second = addPaper(conference, "Twice");
+		conference.getInfo().setSubmissionDate(new Date(testStart - 1000));
+		UserProfile reviewer = new UserProfile(testPrefix + "r", testPrefix + " Reviewer");
+		conference.getSubprogramRole().assignReviewer(reviewer, second);
+		conference.getReviewerRole().sendReview(reviewer, second, new File("review"), 4);
+
+		try (JournalFollower follower = JournalFollower.open(testJournal.getPath())) {
+			follower.poll();
+
+			assertEquals(Integer.valueOf(0), follower.query(testPrefix + " Twice",
+					info -> info.getPapersSubmittedBy(testAuthor).get(0).getReviewCount()));
+			assertEquals(Integer.valueOf(1), follower.query(testPrefix + " Twice",
+					info -> info.getPapersSubmittedBy(testAuthor).get(1).getReviewCount()));
+		}
+	}
+
+	@Test
+	public void poll_RecommendationWithoutChairOrFile_Replicated() throws IOException {
+		Conference conference = addConference(testPrefix + " Anonymous");
+		Paper paper = addPaper(conference, "Anonymous");
+		conference.getInfo().setSubmissionDate(new Date(testStart - 1000));
+		for (int r = 0; r < 3; r++) {
+			UserProfile reviewer = new UserProfile(testPrefix + "r" + r, testPrefix + " Reviewer " + r);
+			conference.getSubprogramRole().assignReviewer(reviewer, paper);
+			conference.getReviewerRole().sendReview(reviewer, paper, new File("review" + r), 3);
+		}
+		conference.getSubprogramRole().recommend(null, paper, null, RecommendStatus.NO);
+
+		try (JournalFollower follower = JournalFollower.open(testJournal.getPath())) {
+			assertEquals(testJournal.getSequence(), follower.poll());
+
+			Paper copy = follower.query(testPrefix + " Anonymous", info -> info.getPapersSubmittedBy(testAuthor).get(0));
+			assertEquals(PaperState.RECOMMENDED, copy.getState());
+			assertNull(copy.getMyRecommendation().reviewer);
+			assertNull(copy.getMyRecommendation().review);
+		}
+	}
+
+	@Test
+	public void addPaper_JournalClosed_PaperAddedJournalBroken() throws IOException {
+		Conference conference = addConference(testPrefix + " Broken");
+		long errors = MetricsRegistry.getInstance().counter("ChangeJournal.writeErrors").sum();
+		long sequence = testJournal.getSequence();
+		testJournal.close();
+
+		addPaper(conference, "Unjournaled");
+		addPaper(conference, "Dropped");
+
+		assertEquals(2, conference.getInfo().getPaperCount());
+		assertTrue(testJournal.isBroken());
+		assertEquals(sequence, testJournal.getSequence());
+		assertEquals(errors + 1, MetricsRegistry.getInstance().counter("ChangeJournal.writeErrors").sum());
+	}
+}
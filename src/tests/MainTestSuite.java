@@ -14,17 +14,39 @@ import org.junit.runners.Suite.SuiteClasses;
  */
 @RunWith(Suite.class)
 @SuiteClasses({
+        AnalyticsSnapshotTest.class,
+        AssignmentGraphTest.class,
+        AuthorDictionaryTest.class,
         AuthorRemovePaperTests.class,
+        BulkImporterTest.class,
         ConferenceDataTest.class,
+        ConferenceInfoCacheTest.class,
         ConferenceModelTests.class,
+        ConferenceReadTest.class,
+        ConferenceSystemStreamTest.class,
         ConferenceTest.class,
+        DataGeneratorTest.class,
+        DeadlineSchedulerTest.class,
+        FlightEventsTest.class,
         GetAuthorsTest.class,
+        IntObjectMapTest.class,
+        JournalFollowerTest.class,
+        MetricsRegistryTest.class,
+        ModelImageTest.class,
+        PaperRankingTest.class,
+        PaperStateTest.class,
+        PaperStoreTest.class,
+        PaperTest.class,
+        ProceedingsExporterTest.class,
         PaperSubmissionLimitTests.class,
         ReccomendationTests.class,
         ReviewerDeadlineAssignTests.class,
         ReviewerIsAuthorTests.class,
         ReviewerMaxPaperLimitTests.class,
         ReviewerUtilitiesTest.class,
+        ReviewImporterTest.class,
+        ShardRouterTest.class,
+        SnapshotStreamTest.class,
         SubmissionDeadlineTests.class,
         SubprogramUtilitiesTest.class,
         UserProfileTest.class,
@@ -0,0 +1,84 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import model.Conference;
+import model.LatencyHistogram;
+import model.MetricsRegistry;
+import model.Paper;
+import model.UserProfile;
+
+/**
+ * Tests for the model metrics and the latency histogram.
+ *
+ * @version 10/19/2026
+ */
+public class MetricsRegistryTest {
+
+	private Conference testConference;
+
+	private UserProfile testAuthorProfile;
+
+	private List<String> testAuthorList;
+
+	@Before
+	public void setUp() {
+		testConference = Conference.createConference("Metrics Conference",
+				new Date(new Date().getTime() + 100000000L), 1, 8);
+		testAuthorProfile = new UserProfile("MetricsAuthor", "Metrics Author");
+		testAuthorList = new ArrayList<>();
+		testAuthorList.add(testAuthorProfile.getName());
+	}
+
+	@Test
+	public void addPaper_CountsAcceptedAndRejectedSubmissions() {
+		MetricsRegistry metrics = MetricsRegistry.getInstance();
+		long accepted = metrics.histogram("UserUtilities.addPaper").getCount();
+		long rejected = metrics.counter("UserUtilities.addPaper.rejected").sum();
+
+		testConference.getUserRole().addPaper(testAuthorProfile,
+				Paper.createPaper(new File(""), testAuthorList, "First", testAuthorProfile));
+		try {
+			testConference.getUserRole().addPaper(testAuthorProfile,
+					Paper.createPaper(new File(""), testAuthorList, "Second", testAuthorProfile));
+			fail();
+		} catch (IllegalArgumentException e) {
+			// over the submission limit of one
+		}
+
+		assertEquals(accepted + 1, metrics.histogram("UserUtilities.addPaper").getCount());
+		assertEquals(rejected + 1, metrics.counter("UserUtilities.addPaper.rejected").sum());
+		assertTrue(metrics.snapshot().containsKey("UserUtilities.addPaper.p99Micros"));
+	}
+
+	@Test
+	public void histogram_PercentilesWithinBucketPrecision() {
+		LatencyHistogram histogram = new LatencyHistogram("test");
+		for (int i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000L);
+		}
+
+		assertEquals(1000, histogram.getCount());
+		assertEquals(1000000L, histogram.getMax());
+		assertEquals(500500.0, histogram.getMean(), 0.001);
+
+		long median = histogram.getPercentile(50);
+		assertTrue(median >= 500000L && median <= 500000L * 9 / 8);
+		assertEquals(1000000L, histogram.getPercentile(100));
+	}
+
+	@Test
+	public void histogram_Empty_ReturnsZero() {
+		LatencyHistogram histogram = new LatencyHistogram("empty");
+		assertEquals(0, histogram.getPercentile(99));
+		assertEquals(0.0, histogram.getMean(), 0.0);
+	}
+}
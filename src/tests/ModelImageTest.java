@@ -0,0 +1,213 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import model.Conference;
+import model.ConferenceSystem;
+import model.MetricsRegistry;
+import model.ModelImage;
+import model.Paper;
+import model.UserProfile;
+
+/**
+ * Tests for the memory mapped model image and the ConferenceSystem reading it in place.
+ *
+ * @version 10/19/2026
+ */
+public class ModelImageTest {
+
+	@Rule
+	public TemporaryFolder testFolder = new TemporaryFolder();
+
+	private Path testFile;
+
+	private List<UserProfile> testUsers;
+
+	private List<Conference> testConferences;
+
+	@Before
+	public void setUp() {
+		testFile = testFolder.getRoot().toPath().resolve("model.img");
+		testUsers = new ArrayList<>();
+		testUsers.add(new UserProfile("zed", "Zed Author"));
+		testUsers.add(new UserProfile("\u00E9mile", "\u00C9mile Reviewer"));
+		testUsers.add(new UserProfile("amy", "Amy Chair"));
+		testConferences = new ArrayList<>();
+		for (int c = 0; c < 3; c++) {
+			testConferences.add(Conference.createConference("Image Conference " + c,
+					new Date(new Date().getTime() + 100000000L), 10, 10));
+		}
+		addPaper(testConferences.get(1), "Submitted Paper");
+		addPaper(testConferences.get(2), "Reviewed Paper");
+		testConferences.get(2).getInfo().setSubmissionDate(new Date(new Date().getTime() - 1000));
+		testConferences.get(2).getSubprogramRole().assignReviewer(testUsers.get(1),
+				testConferences.get(2).getInfo().getAllPapers().get(0));
+	}
+
+	@After
+	public void tearDown() {
+		ConferenceSystem.getInstance().clear();
+	}
+
+	private void addPaper(final Conference theConference, final String theTitle) {
+		theConference.getUserRole().addPaper(testUsers.get(0), Paper.createPaper(new File("papers/image.pdf"),
+				Arrays.asList(testUsers.get(0).getName()), theTitle, testUsers.get(0)));
+	}
+
+	private static long conferenceReads() {
+		return MetricsRegistry.getInstance().counter("ModelImage.conferenceReads").sum();
+	}
+
+	@Test
+	public void open_WrittenModel_FindsEveryUserAndConference() throws IOException {
+		ModelImage.write(testFile, testUsers, testConferences);
+		ModelImage image = ModelImage.open(testFile);
+
+		assertEquals(3, image.getUserCount());
+		assertEquals(3, image.getConferenceCount());
+		for (UserProfile user : testUsers) {
+			assertEquals(user.getName(), image.getUserProfile(user.getUID()).getName());
+		}
+		assertNull(image.getUserProfile("nobody"));
+		assertFalse(image.containsUser("emile"));
+		assertTrue(image.containsConference("Image Conference 2"));
+		assertEquals(1, image.getPaperCount("Image Conference 1"));
+		assertEquals(-1, image.getPaperCount("Missing"));
+		assertEquals(testConferences.get(2).getInfo().getSubmissionDate(),
+				image.getSubmissionDate("Image Conference 2"));
+		assertNull(image.getSubmissionDate("Missing"));
+		assertEquals("Submitted Paper",
+				image.readConference("Image Conference 1").getInfo().getAllPapers().get(0).getTitle());
+		assertNull(image.readConference("Missing"));
+	}
+
+	@Test
+	public void open_WrittenModel_KeepsAdjacency() throws IOException {
+		ModelImage.write(testFile, testUsers, testConferences);
+		ModelImage image = ModelImage.open(testFile);
+
+		assertEquals(Arrays.asList("Image Conference 1", "Image Conference 2"),
+				sorted(image.getSubmittedConferences("zed")));
+		assertEquals(Collections.singletonList("Image Conference 2"),
+				image.getReviewedConferences("\u00E9mile"));
+		assertTrue(image.getReviewedConferences("zed").isEmpty());
+		assertTrue(image.getSubmittedConferences("nobody").isEmpty());
+	}
+
+	@Test
+	public void write_WithBase_MergesChanges() throws IOException {
+		ModelImage.write(testFile, testUsers, testConferences);
+		ModelImage base = ModelImage.open(testFile);
+		Conference changed = base.readConference("Image Conference 0");
+		addPaper(changed, "Added Paper");
+
+		ModelImage.write(testFile, base, Collections.singletonList(new UserProfile("bo", "Bo New")),
+				Collections.singletonList(changed));
+		ModelImage merged = ModelImage.open(testFile);
+
+		assertEquals(4, merged.getUserCount());
+		assertEquals("Bo New", merged.getUserProfile("bo").getName());
+		assertEquals(1, merged.getPaperCount("Image Conference 0"));
+		assertEquals(1, merged.getPaperCount("Image Conference 1"));
+		assertEquals(testConferences.get(1).getInfo().getSubmissionDate(),
+				merged.getSubmissionDate("Image Conference 1"));
+		assertEquals(3, sorted(merged.getSubmittedConferences("zed")).size());
+		assertEquals("Reviewed Paper",
+				merged.readConference("Image Conference 2").getInfo().getAllPapers().get(0).getTitle());
+		assertEquals(3, base.getUserCount());
+	}
+
+	@Test
+	public void openImage_ConferenceSystem_ReadsOnlyWhatIsUsed() throws IOException {
+		ModelImage.write(testFile, testUsers, testConferences);
+		ConferenceSystem system = ConferenceSystem.getInstance();
+		long reads = conferenceReads();
+		system.openImage(testFile);
+
+		UserProfile author = system.getUserProfile("zed");
+		assertEquals("Zed Author", author.getName());
+		assertSame(author, system.getUserProfile("zed"));
+		assertEquals(reads, conferenceReads());
+
+		assertEquals(2, system.getAllPapersSubmitted(author).size());
+		assertEquals(reads + 2, conferenceReads());
+		assertSame(system.getConference("Image Conference 1"), system.getConference("Image Conference 1"));
+		assertEquals(reads + 2, conferenceReads());
+		assertEquals(3, system.getConferences().size());
+	}
+
+	@Test
+	public void getConferenceNames_OpenImage_ReadsNoConference() throws IOException {
+		ModelImage.write(testFile, testUsers, testConferences);
+		ConferenceSystem system = ConferenceSystem.getInstance();
+		system.openImage(testFile);
+		system.addConference(Conference.createConference("Heap Conference",
+				new Date(new Date().getTime() + 100000000L), 10, 10));
+		long reads = conferenceReads();
+
+		assertEquals(Arrays.asList("Heap Conference", "Image Conference 0", "Image Conference 1",
+				"Image Conference 2"), system.getConferenceNames());
+		assertEquals(testConferences.get(0).getInfo().getSubmissionDate(),
+				system.getSubmissionDate("Image Conference 0"));
+		assertTrue(system.isSubmissionOpen("Image Conference 0"));
+		assertFalse(system.isSubmissionOpen("Image Conference 2"));
+		assertTrue(system.isSubmissionOpen("Heap Conference"));
+		assertFalse(system.isSubmissionOpen("Missing"));
+		assertNull(system.getSubmissionDate("Missing"));
+		assertEquals(reads, conferenceReads());
+	}
+
+	@Test
+	public void checkpoint_Changes_KeptAfterOpeningAgain() throws IOException {
+		ModelImage.write(testFile, testUsers, testConferences);
+		ConferenceSystem system = ConferenceSystem.getInstance();
+		system.openImage(testFile);
+		addPaper(system.getConference("Image Conference 0"), "Checkpointed Paper");
+		system.addUserProfile(new UserProfile("bo", "Bo New"));
+
+		system.checkpoint(testFile);
+		system.openImage(testFile);
+
+		assertEquals("Bo New", system.getUserProfile("bo").getName());
+		assertEquals("Checkpointed Paper",
+				system.getConference("Image Conference 0").getInfo().getAllPapers().get(0).getTitle());
+		assertEquals(3, system.getAllPapersSubmitted(system.getUserProfile("zed")).size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void addConference_NameInImage_ThrowsException() throws IOException {
+		ModelImage.write(testFile, testUsers, testConferences);
+		ConferenceSystem.getInstance().openImage(testFile);
+
+		ConferenceSystem.getInstance().addConference(Conference.createConference("Image Conference 1",
+				new Date(new Date().getTime() + 100000000L), 10, 10));
+	}
+
+	@Test(expected = IOException.class)
+	public void open_NotAnImage_ThrowsException() throws IOException {
+		Files.write(testFile, new byte[64]);
+		ModelImage.open(testFile);
+	}
+
+	private static List<String> sorted(final List<String> theNames) {
+		List<String> result = new ArrayList<>(theNames);
+		Collections.sort(result);
+		return result;
+	}
+}
@@ -0,0 +1,134 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import model.Conference;
+import model.Paper;
+import model.PaperRanking;
+import model.PaperRanking.Criterion;
+import model.Review;
+import model.UserProfile;
+
+/**
+ * Tests for the review statistics of a paper and the ranking of the papers of a conference.
+ *
+ * @version 10/19/2026
+ */
+public class PaperRankingTest {
+
+	private Conference testConference;
+
+	private UserProfile testAuthor;
+
+	private List<Paper> testPapers;
+
+	@Before
+	public void setUp() {
+		testConference = Conference.createConference("Ranking Conference",
+				new Date(new Date().getTime() + 100000000L), 50, 8);
+		testAuthor = new UserProfile("RankingAuthor", "Ranking Author");
+		testPapers = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			Paper paper = Paper.createPaper(new File(""), Arrays.asList(testAuthor.getName()),
+					"Ranking Paper " + i, testAuthor);
+			testConference.getUserRole().addPaper(testAuthor, paper);
+			testPapers.add(paper);
+		}
+	}
+
+	@Test
+	public void addReview_Scores_RunningStatistics() {
+		Paper paper = testPapers.get(0);
+		assertTrue(Double.isNaN(paper.getMeanScore()));
+		paper.addReview(new Review(new File(""), 2));
+		paper.addReview(new Review(new File(""), 4));
+		paper.addReview(new Review(new File(""), 9));
+
+		assertEquals(3, paper.getReviewCount());
+		assertEquals(15, paper.getScoreSum());
+		assertEquals(101, paper.getScoreSquareSum());
+		assertEquals(2, paper.getMinScore());
+		assertEquals(9, paper.getMaxScore());
+		assertEquals(7, paper.getScoreRange());
+		assertEquals(5.0, paper.getMeanScore(), 1e-9);
+		assertEquals(101 / 3.0 - 25, paper.getScoreVariance(), 1e-9);
+	}
+
+	@Test
+	public void getTop_ReviewsStreamIn_OrderedByMeanScore() {
+		PaperRanking ranking = testConference.getInfo().getRanking(Criterion.MEAN_SCORE);
+		assertEquals(20, ranking.size());
+		for (int i = 0; i < 20; i++) {
+			testPapers.get(i).addReview(new Review(new File(""), i));
+		}
+
+		List<Paper> top = ranking.getTop(3);
+		assertEquals(Arrays.asList(testPapers.get(19), testPapers.get(18), testPapers.get(17)), top);
+		for (int i = 0; i < 20; i++) {
+			assertEquals(20 - i, ranking.getRank(testPapers.get(i)));
+			assertSame(testPapers.get(i), ranking.getPaper(20 - i));
+		}
+
+		testPapers.get(0).addReview(new Review(new File(""), 100));
+		assertEquals(1, ranking.getRank(testPapers.get(0)));
+		assertEquals(2, ranking.getRank(testPapers.get(19)));
+	}
+
+	@Test
+	public void getRank_NoReviews_RankedLastInSubmissionOrder() {
+		PaperRanking ranking = testConference.getInfo().getRanking(Criterion.DISAGREEMENT);
+		Paper contested = testPapers.get(10);
+		contested.addReview(new Review(new File(""), 1));
+		contested.addReview(new Review(new File(""), 8));
+
+		assertEquals(1, ranking.getRank(contested));
+		assertSame(contested, ranking.getPaper(1));
+		assertEquals(20, ranking.size());
+	}
+
+	@Test
+	public void getRanking_PaperRemoved_NoLongerRanked() {
+		PaperRanking ranking = testConference.getInfo().getRanking(Criterion.VARIANCE);
+		Paper removed = testPapers.get(5);
+		testConference.getUserRole().removePaper(testAuthor, removed);
+
+		assertEquals(19, ranking.size());
+		assertEquals(0, ranking.getRank(removed));
+		try {
+			removed.addReview(new Review(new File(""), 3));
+			fail("A withdrawn paper accepted a review.");
+		} catch (IllegalArgumentException e) {
+			// withdrawn papers reject reviews
+		}
+		assertEquals(19, ranking.size());
+		assertEquals(0, ranking.getRank(removed));
+	}
+
+	@Test
+	public void getRanking_RandomUpdates_ConsistentWithSort() {
+		PaperRanking ranking = testConference.getInfo().getRanking(Criterion.MEAN_SCORE);
+		Random random = new Random(7);
+		for (int i = 0; i < 500; i++) {
+			testPapers.get(random.nextInt(20)).addReview(new Review(new File(""), random.nextInt(10)));
+		}
+
+		for (int rank = 1; rank <= ranking.size(); rank++) {
+			Paper paper = ranking.getPaper(rank);
+			assertEquals(rank, ranking.getRank(paper));
+			if (rank > 1) {
+				assertTrue(Criterion.MEAN_SCORE.keyOf(ranking.getPaper(rank - 1))
+						>= Criterion.MEAN_SCORE.keyOf(paper));
+			}
+		}
+	}
+}
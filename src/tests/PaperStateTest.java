@@ -0,0 +1,148 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import model.Conference;
+import model.ConferenceData;
+import model.Paper;
+import model.PaperState;
+import model.Review;
+import model.SubprogramUtilities.RecommendStatus;
+import model.UserProfile;
+
+/**
+ * Tests for the life cycle of a paper and the paper counters of a conference.
+ *
+ * @version 10/19/2026
+ */
+public class PaperStateTest {
+
+	private Conference testConference;
+
+	private UserProfile testAuthor;
+
+	private UserProfile testChair;
+
+	private Paper testPaper1;
+
+	private Paper testPaper2;
+
+	@Before
+	public void setUp() {
+		testConference = Conference.createConference("State Conference",
+				new Date(new Date().getTime() + 100000000L), 5, 8);
+		testAuthor = new UserProfile("StateAuthor", "State Author");
+		testChair = new UserProfile("StateChair", "State Chair");
+		testPaper1 = Paper.createPaper(new File(""), Arrays.asList(testAuthor.getName()), "State Paper 1", testAuthor);
+		testPaper2 = Paper.createPaper(new File(""), Arrays.asList(testAuthor.getName()), "State Paper 2", testAuthor);
+		testConference.getUserRole().addPaper(testAuthor, testPaper1);
+		testConference.getUserRole().addPaper(testAuthor, testPaper2);
+	}
+
+	@Test
+	public void getState_FullLifeCycle_CountersFollow() {
+		ConferenceData info = testConference.getInfo();
+		assertEquals(2, info.getPaperCount(PaperState.SUBMITTED));
+
+		testConference.getDirectorRole().assignPaperToSubProgramChair(testChair, testPaper1);
+		assertEquals(PaperState.ASSIGNED, testPaper1.getState());
+		assertEquals(1, info.getPaperCount(testChair, PaperState.ASSIGNED));
+
+		info.setSubmissionDate(new Date(new Date().getTime() - 1000));
+		for (int i = 0; i < PaperState.REQUIRED_REVIEWS; i++) {
+			testConference.getSubprogramRole().assignReviewer(new UserProfile("StateReviewer" + i, "Reviewer " + i),
+					testPaper1);
+		}
+		assertEquals(PaperState.UNDER_REVIEW, testPaper1.getState());
+		assertEquals(1, info.getPaperCount(PaperState.UNDER_REVIEW));
+		assertEquals(1, info.getPaperCount(testChair, PaperState.UNDER_REVIEW));
+		assertEquals(0, info.getPaperCount(testChair, PaperState.ASSIGNED));
+
+		for (int i = 0; i < PaperState.REQUIRED_REVIEWS; i++) {
+			testPaper1.addReview(new Review(new File(""), 5));
+		}
+		assertEquals(PaperState.REVIEWED, testPaper1.getState());
+		assertTrue(info.getPapers(PaperState.REVIEWED).contains(testPaper1));
+
+		testConference.getSubprogramRole().recommend(testChair, testPaper1, new File(""), RecommendStatus.YES);
+		assertEquals(PaperState.RECOMMENDED, testPaper1.getState());
+		assertEquals(1, info.getPaperCount(testChair, PaperState.RECOMMENDED));
+		assertEquals(0, info.getPaperCount(PaperState.UNDER_REVIEW));
+		assertEquals(1, info.getPaperCount(PaperState.SUBMITTED));
+	}
+
+	@Test
+	public void assignPaperToSubProgramChair_AfterReviewers_StateNotSetBack() {
+		testConference.getInfo().setSubmissionDate(new Date(new Date().getTime() - 1000));
+		testConference.getSubprogramRole().assignReviewer(new UserProfile("StateReviewer", "Reviewer"), testPaper2);
+		testConference.getDirectorRole().assignPaperToSubProgramChair(testChair, testPaper2);
+
+		assertEquals(PaperState.UNDER_REVIEW, testPaper2.getState());
+		assertEquals(1, testConference.getInfo().getPaperCount(testChair, PaperState.UNDER_REVIEW));
+	}
+
+	@Test
+	public void removePaper_Submitted_WithdrawnAndUncounted() {
+		testConference.getUserRole().removePaper(testAuthor, testPaper2);
+
+		assertEquals(PaperState.WITHDRAWN, testPaper2.getState());
+		assertEquals(1, testConference.getInfo().getPaperCount(PaperState.SUBMITTED));
+		assertEquals(0, testConference.getInfo().getPaperCount(PaperState.WITHDRAWN));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void addReview_WithdrawnPaper_ThrowsException() {
+		testConference.getUserRole().removePaper(testAuthor, testPaper2);
+		testPaper2.addReview(new Review(new File(""), 5));
+	}
+
+	@Test
+	public void addPaper_WithdrawnPaper_SubmittedAgain() {
+		testConference.getUserRole().removePaper(testAuthor, testPaper2);
+		testConference.getUserRole().addPaper(testAuthor, testPaper2);
+
+		assertEquals(PaperState.SUBMITTED, testPaper2.getState());
+		assertEquals(2, testConference.getInfo().getPaperCount(PaperState.SUBMITTED));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void removePaper_Recommended_ThrowsException() {
+		for (int i = 0; i < PaperState.REQUIRED_REVIEWS; i++) {
+			testPaper2.addReview(new Review(new File(""), 5));
+		}
+		testConference.getSubprogramRole().recommend(testChair, testPaper2, new File(""), RecommendStatus.NO);
+		testConference.getUserRole().removePaper(testAuthor, testPaper2);
+	}
+
+	@Test
+	public void readObject_Conference_StatesAndCountersRebuilt() throws IOException, ClassNotFoundException {
+		testConference.getDirectorRole().assignPaperToSubProgramChair(testChair, testPaper1);
+		testConference.getInfo().setSubmissionDate(new Date(new Date().getTime() - 1000));
+		testConference.getSubprogramRole().assignReviewer(new UserProfile("StateReviewer", "Reviewer"), testPaper1);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(testConference);
+		}
+		Conference copy;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (Conference) in.readObject();
+		}
+
+		assertEquals(1, copy.getInfo().getPaperCount(PaperState.SUBMITTED));
+		assertEquals(1, copy.getInfo().getPaperCount(PaperState.UNDER_REVIEW));
+		assertEquals(1, copy.getInfo().getPaperCount(testChair, PaperState.UNDER_REVIEW));
+	}
+}
@@ -0,0 +1,134 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import model.Conference;
+import model.Paper;
+import model.PaperStore;
+import model.SubprogramUtilities.RecommendStatus;
+import model.UserProfile;
+
+/**
+ * Tests for the memory mapped store of paper records.
+ *
+ * @version 10/19/2026
+ */
+public class PaperStoreTest {
+
+	@Rule
+	public TemporaryFolder testFolder = new TemporaryFolder();
+
+	private List<Paper> testPapers;
+
+	private UserProfile testSubmitter;
+
+	@Before
+	public void setUp() {
+		testSubmitter = new UserProfile("storeSubmitter", "Zo\u00EB Submitter");
+		UserProfile chair = new UserProfile("storeChair", "Store Chair");
+		Conference conference = Conference.createConference("Store Conference",
+				new Date(new Date().getTime() + 100000000L), 10, 10);
+		testPapers = new ArrayList<>();
+		testPapers.add(Paper.createPaper(new File("papers/first.pdf"),
+				Arrays.asList("Zo\u00EB Submitter", "Ann Other"), "First Paper", testSubmitter));
+		testPapers.add(Paper.createPaper(new File("papers/second.pdf"), Arrays.asList("ann  other"),
+				"Second Paper", new UserProfile("storeOther", "Ann Other")));
+		for (Paper paper : testPapers) {
+			conference.getUserRole().addPaper(paper.getSubmitterUserProfile(), paper);
+		}
+		conference.getDirectorRole().assignPaperToSubProgramChair(chair, testPapers.get(0));
+		conference.getInfo().setSubmissionDate(new Date(new Date().getTime() - 1000));
+		for (int r = 0; r < 3; r++) {
+			UserProfile reviewer = new UserProfile("storeReviewer" + r, "Store Reviewer " + r);
+			conference.getSubprogramRole().assignReviewer(reviewer, testPapers.get(0));
+			conference.getReviewerRole().sendReview(reviewer, testPapers.get(0), new File(""), r + 3);
+		}
+		conference.getSubprogramRole().recommend(chair, testPapers.get(0), new File(""), RecommendStatus.NO);
+	}
+
+	private PaperStore writeAndOpen() throws IOException {
+		Path file = testFolder.getRoot().toPath().resolve("papers.store");
+		PaperStore.write(file, testPapers);
+		return PaperStore.open(file);
+	}
+
+	@Test
+	public void open_WrittenPapers_ViewReadsEveryField() throws IOException {
+		PaperStore store = writeAndOpen();
+		PaperStore.PaperView view = store.view().at(0);
+
+		assertEquals(2, store.getPaperCount());
+		assertEquals("First Paper", view.getTitle());
+		assertEquals(new File("papers/first.pdf").getPath(), view.getPaperPath());
+		assertEquals(testPapers.get(0).getSubmitMillis(), view.getSubmitMillis());
+		assertEquals("storeSubmitter", view.getSubmitterUID());
+		assertEquals("Zo\u00EB Submitter", view.getSubmitterName());
+		assertEquals(Arrays.asList("Zo\u00EB Submitter", "Ann Other"), view.getAuthors());
+		assertEquals(3, view.getReviewCount());
+		assertEquals(5, view.getScore(2));
+		assertEquals(12, view.getScoreSum());
+		assertEquals(4.0, view.getMeanScore(), 0);
+		assertEquals(RecommendStatus.NO.intRepresentation, view.getRecommendationScore());
+	}
+
+	@Test
+	public void at_SecondPaper_SharesAuthorIndexes() throws IOException {
+		PaperStore store = writeAndOpen();
+		PaperStore.PaperView view = store.view();
+		int first = view.at(0).getAuthorIndex(0);
+		int other = view.getAuthorIndex(1);
+
+		assertSame(view, view.at(1));
+		assertEquals(2, store.getAuthorCount());
+		assertEquals(1, view.getAuthorCount());
+		assertEquals(other, view.getAuthorIndex(0));
+		assertTrue(view.isAuthor(other));
+		assertFalse(view.isAuthor(first));
+		assertEquals("Ann Other", store.getAuthor(other));
+		assertEquals(0, view.getReviewCount());
+		assertTrue(Double.isNaN(view.getMeanScore()));
+		assertEquals(PaperStore.NO_RECOMMENDATION, view.getRecommendationScore());
+	}
+
+	@Test
+	public void open_Again_SameRecords() throws IOException {
+		writeAndOpen();
+		PaperStore store = PaperStore.open(testFolder.getRoot().toPath().resolve("papers.store"));
+
+		assertEquals("Second Paper", store.view().at(1).getTitle());
+	}
+
+	@Test
+	public void write_NoPapers_EmptyStore() throws IOException {
+		testPapers = Collections.emptyList();
+
+		assertEquals(0, writeAndOpen().getPaperCount());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void at_PastLastPaper_ThrowsException() throws IOException {
+		writeAndOpen().view().at(2);
+	}
+
+	@Test(expected = IOException.class)
+	public void open_NotAStore_ThrowsException() throws IOException {
+		Path file = testFolder.newFile("other").toPath();
+		Files.write(file, new byte[64]);
+		PaperStore.open(file);
+	}
+}
@@ -0,0 +1,140 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import model.Paper;
+import model.Review;
+import model.UserProfile;
+
+/**
+ * Tests for the compact fields of Paper and its serialized form.
+ *
+ * @version 10/19/2026
+ */
+public class PaperTest {
+
+	private UserProfile testSubmitter;
+
+	private List<String> testAuthorList;
+
+	private Paper testPaper;
+
+	@Before
+	public void setUp() {
+		testSubmitter = new UserProfile("PaperTestSubmitter", "Paper Test Submitter");
+		testAuthorList = new ArrayList<>();
+		testAuthorList.add(testSubmitter.getName());
+		testAuthorList.add(new String("Paper Test Coauthor"));
+		testPaper = Paper.createPaper(new File("papers/test.pdf"), testAuthorList, "Paper Test", testSubmitter);
+	}
+
+	@Test
+	public void getAuthors_ChangedInputList_AuthorsUnchanged() {
+		testAuthorList.add("Late Author");
+		assertEquals(2, testPaper.getAuthors().size());
+	}
+
+	@Test
+	public void getAuthors_SameNameOnTwoPapers_SameString() {
+		Paper other = Paper.createPaper(new File(""), testAuthorList, "Other", testSubmitter);
+		assertSame(testSubmitter.getName(), other.getAuthors().get(0));
+		assertSame(testPaper.getAuthors().get(1), other.getAuthors().get(1));
+	}
+
+	@Test
+	public void isAuthoredBy_Profile_SameAsByName() {
+		UserProfile coauthor = new UserProfile("PaperTestCoauthor", "paper test  COAUTHOR");
+		UserProfile stranger = new UserProfile("PaperTestStranger", "Paper Test Stranger");
+
+		assertTrue(testPaper.isAuthoredBy(testSubmitter));
+		assertTrue(testPaper.isAuthoredBy(coauthor));
+		assertFalse(testPaper.isAuthoredBy(stranger));
+		assertEquals(testPaper.isAuthoredBy(stranger.getName()), testPaper.isAuthoredBy(stranger));
+		for (int id = 0; id < 1000; id++) {
+			assertEquals(id == testPaper.getAuthorIds()[0] || id == testPaper.getAuthorIds()[1],
+					testPaper.isAuthor(id));
+		}
+	}
+
+	@Test
+	public void isAuthoredBy_ProfileBecomesAuthorLater_Found() {
+		UserProfile late = new UserProfile("PaperTestLate" + System.nanoTime(), "Paper Test Late " + System.nanoTime());
+		assertFalse(testPaper.isAuthoredBy(late));
+
+		List<String> authors = new ArrayList<>();
+		authors.add(late.getName());
+		Paper paper = Paper.createPaper(new File(""), authors, "Late Paper", late);
+
+		assertTrue(paper.isAuthoredBy(late));
+		assertFalse(testPaper.isAuthoredBy(late));
+	}
+
+	@Test
+	public void getReviews_ManyReviewsAdded_ViewSeesAllInOrder() {
+		List<Review> view = testPaper.getReviews();
+		for (int i = 0; i < 10; i++) {
+			testPaper.addReview(new Review(new File(""), i));
+		}
+		assertEquals(10, view.size());
+		for (int i = 0; i < 10; i++) {
+			assertEquals(i, view.get(i).score);
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void getReviews_Add_ThrowsException() {
+		testPaper.getReviews().add(new Review(new File(""), 1));
+	}
+
+	@Test
+	public void getSubmitDate_ChangedCopy_SubmissionDateUnchanged() {
+		long submitted = testPaper.getSubmitMillis();
+		testPaper.getSubmitDate().setTime(0);
+		assertEquals(submitted, testPaper.getSubmitDate().getTime());
+
+		testPaper.setSubmissionDate(new Date(1234));
+		assertEquals(1234, testPaper.getSubmitMillis());
+	}
+
+	@Test
+	public void serialization_RoundTrip_AllFieldsRestored() throws IOException, ClassNotFoundException {
+		for (int i = 0; i < 3; i++) {
+			testPaper.addReview(new Review(new File("reviews/" + i), i));
+		}
+		testPaper.setMyRecommendation(new Review(new File("recommendation"), 5));
+		testPaper.setRecommendationShort("Recommend");
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(testPaper);
+		}
+		Paper copy;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (Paper) in.readObject();
+		}
+
+		assertEquals(testPaper.getPaperFile(), copy.getPaperFile());
+		assertEquals(testPaper.getSubmitMillis(), copy.getSubmitMillis());
+		assertEquals(testPaper.getAuthors(), copy.getAuthors());
+		assertSame(testSubmitter.getName(), copy.getAuthors().get(0));
+		assertEquals(3, copy.getReviews().size());
+		assertEquals(2, copy.getReviews().get(2).score);
+		assertEquals("Paper Test", copy.getTitle());
+		assertEquals(testSubmitter, copy.getSubmitterUserProfile());
+		assertEquals(5, copy.getMyRecommendation().score);
+		assertEquals("Recommend", copy.getRecommendationShort());
+	}
+}
@@ -0,0 +1,160 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import model.Conference;
+import model.Paper;
+import model.Review;
+import model.UserProfile;
+import model.SubprogramUtilities.RecommendStatus;
+import view.ParallelZipWriter;
+import view.ProceedingsExporter;
+import view.Records;
+
+/**
+ * Tests for the export of papers and the proceedings archive.
+ *
+ * @version 10/19/2026
+ */
+public class ProceedingsExporterTest {
+
+	private Conference testConference;
+
+	private File testDirectory;
+
+	private Paper testAccepted;
+
+	@Before
+	public void setUp() throws IOException {
+		testDirectory = Files.createTempDirectory("proceedings").toFile();
+		testDirectory.deleteOnExit();
+		testConference = Conference.createConference("Export Conference",
+				new Date(new Date().getTime() + 100000000L), 5, 8);
+		UserProfile author = new UserProfile("ExportAuthor", "Export Author");
+		UserProfile chair = new UserProfile("ExportChair", "Export Chair");
+		List<String> authors = new ArrayList<>();
+		authors.add(author.getName());
+		authors.add("Co, Author");
+
+		testAccepted = Paper.createPaper(file("accepted.pdf", "manuscript"), authors, "Accepted \"Paper\"", author);
+		testConference.getUserRole().addPaper(author, testAccepted);
+		for (int i = 0; i < 3; i++) {
+			testAccepted.addReview(new Review(file("review" + i + ".txt", "review " + i), 5 + i));
+		}
+		testConference.getSubprogramRole().recommend(chair, testAccepted, file("recommendation.txt", "yes"),
+				RecommendStatus.YES);
+
+		Paper rejected = Paper.createPaper(new File(testDirectory, "missing.pdf"), authors, "Rejected", author);
+		testConference.getUserRole().addPaper(author, rejected);
+	}
+
+	private File file(final String theName, final String theContent) throws IOException {
+		File result = new File(testDirectory, theName);
+		Files.write(result.toPath(), theContent.getBytes(StandardCharsets.UTF_8));
+		result.deleteOnExit();
+		return result;
+	}
+
+	@Test
+	public void writeArchive_AcceptedOnly_FilesAndMetadataInArchive() throws IOException {
+		ProceedingsExporter exporter = new ProceedingsExporter(testConference);
+		exporter.setAcceptedOnly(true);
+		exporter.setThreads(2);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		ProceedingsExporter.Report report = exporter.writeArchive(bytes);
+
+		assertEquals(1, report.getPapers());
+		assertEquals(3, report.getReviews());
+		assertEquals(5, report.getFiles());
+		Map<String, String> entries = unzip(bytes.toByteArray());
+		assertEquals(6, entries.size());
+		assertEquals("manuscript", entries.get("papers/000000/paper-accepted.pdf"));
+		assertEquals("review 2", entries.get("papers/000000/review-3-review2.txt"));
+		assertEquals("yes", entries.get("papers/000000/recommendation-recommendation.txt"));
+
+		Map<String, Object> metadata = Records.parseJson(entries.get(ProceedingsExporter.METADATA_ENTRY).trim());
+		assertEquals("Accepted \"Paper\"", metadata.get("title"));
+		assertEquals("papers/000000/paper-accepted.pdf", metadata.get("archiveFile"));
+		assertEquals(3, ((List<?>) metadata.get("reviews")).size());
+	}
+
+	@Test
+	public void writeArchive_AllPapers_MissingFilesCounted() throws IOException {
+		ProceedingsExporter.Report report = new ProceedingsExporter(testConference)
+				.writeArchive(new ByteArrayOutputStream());
+
+		assertEquals(2, report.getPapers());
+		assertEquals(1, report.getMissingFiles());
+	}
+
+	@Test
+	public void writeCsv_QuotedFields_OneLinePerPaper() throws IOException {
+		StringWriter out = new StringWriter();
+		assertEquals(2, new ProceedingsExporter(testConference).writeCsv(out));
+
+		String[] lines = out.toString().split("\n");
+		assertEquals(ProceedingsExporter.CSV_HEADER, lines[0]);
+		String accepted = lines[1].contains("Accepted") ? lines[1] : lines[2];
+		List<String> fields = Records.parseCsv(accepted);
+		assertEquals("Accepted \"Paper\"", fields.get(1));
+		assertEquals("Export Author;Co, Author", fields.get(3));
+		assertEquals("5;6;7", fields.get(7));
+		assertEquals("1", fields.get(9));
+	}
+
+	@Test
+	public void parallelZipWriter_ManyAndLargeEntries_ReadBackInOrder() throws IOException {
+		byte[] large = new byte[3 * ParallelZipWriter.SPOOL_MEMORY];
+		new Random(3).nextBytes(large);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (ParallelZipWriter zip = new ParallelZipWriter(bytes, 3, 1)) {
+			for (int i = 0; i < 50; i++) {
+				final byte[] content = ("entry " + i).getBytes(StandardCharsets.UTF_8);
+				zip.add("e" + i, 0, () -> new ByteArrayInputStream(content));
+			}
+			zip.add("large", System.currentTimeMillis(), () -> new ByteArrayInputStream(large));
+		}
+
+		try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			for (int i = 0; i < 50; i++) {
+				assertEquals("e" + i, in.getNextEntry().getName());
+				assertEquals("entry " + i, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+			}
+			assertEquals("large", in.getNextEntry().getName());
+			assertArrayEquals(large, in.readAllBytes());
+			assertNull(in.getNextEntry());
+		}
+	}
+
+	private static Map<String, String> unzip(final byte[] theArchive) throws IOException {
+		Map<String, String> result = new HashMap<>();
+		try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(theArchive))) {
+			ZipEntry entry;
+			while ((entry = in.getNextEntry()) != null) {
+				result.put(entry.getName(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,126 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import model.Conference;
+import model.ConferenceSystem;
+import model.Paper;
+import model.UserProfile;
+import view.ReviewImporter;
+
+/**
+ * Tests for the ingestion of directories of review files.
+ *
+ * @version 10/19/2026
+ */
+public class ReviewImporterTest {
+
+	private static int testRun;
+
+	@Rule
+	public TemporaryFolder testFolder = new TemporaryFolder();
+
+	private ConferenceSystem testSystem;
+
+	private String testPrefix;
+
+	private Paper testPaper;
+
+	private Paper testOtherPaper;
+
+	private UserProfile testReviewer;
+
+	@Before
+	public void setUp() {
+		testSystem = ConferenceSystem.getInstance();
+		testPrefix = "Reviews" + (testRun++) + System.nanoTime();
+		UserProfile author = new UserProfile(testPrefix + "a", testPrefix + " Author");
+		testReviewer = new UserProfile(testPrefix + "r", testPrefix + " Reviewer");
+		Conference conference = Conference.createConference(testPrefix + " Conf",
+				new Date(new Date().getTime() + 100000000L), 5, 8);
+		testSystem.addConference(conference);
+		testPaper = Paper.createPaper(new File(""), Arrays.asList(author.getName()), "What? A Paper: Part 1", author);
+		testOtherPaper = Paper.createPaper(new File(""), Arrays.asList(author.getName()), "Unassigned", author);
+		conference.getUserRole().addPaper(author, testPaper);
+		conference.getUserRole().addPaper(author, testOtherPaper);
+		conference.getInfo().setSubmissionDate(new Date(new Date().getTime() - 1000));
+		conference.getSubprogramRole().assignReviewer(testReviewer, testPaper);
+	}
+
+	private Path write(final String theConference, final String theReviewer, final String theName,
+			final String theText) throws IOException {
+		Path file = testFolder.getRoot().toPath().resolve("in").resolve(theConference).resolve(theReviewer)
+				.resolve(theName);
+		Files.createDirectories(file.getParent());
+		Files.write(file, theText.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	@Test
+	public void importDirectory_MatchingFile_ReviewSent() throws IOException {
+		Path file = write(testPrefix + " Conf", testPrefix + "r", "what a paper part 1#4.txt", "Fine work.");
+
+		ReviewImporter importer = new ReviewImporter(testSystem);
+		importer.setThreads(2);
+		ReviewImporter.Report report = importer.importDirectory(testFolder.getRoot().toPath().resolve("in"));
+
+		assertEquals(1, report.getFiles());
+		assertEquals(1, report.getReviews());
+		assertEquals(0, report.getRejected());
+		assertEquals(1, testPaper.getReviewCount());
+		assertEquals(4, testPaper.getReview(0).score);
+		assertEquals(testReviewer, testPaper.getReview(0).reviewer);
+		assertEquals(file.toFile(), testPaper.getReview(0).review);
+	}
+
+	@Test
+	public void importDirectory_BadFiles_EachRejectedAndReported() throws IOException {
+		write(testPrefix + " Conf", testPrefix + "r", "Unassigned#3.txt", "Not mine.");
+		write(testPrefix + " Conf", testPrefix + "r", "What A Paper Part 1#good.txt", "No score.");
+		write(testPrefix + " Conf", testPrefix + "r", "What A Paper Part 1.txt", "No separator.");
+		write(testPrefix + " Conf", testPrefix + "x", "What A Paper Part 1#3.txt", "Unknown reviewer.");
+		write(testPrefix + " Conf", testPrefix + "r", "What A Paper Part 1#5.txt", "");
+		Files.write(testFolder.getRoot().toPath().resolve("in").resolve("stray#1.txt"), new byte[] {1});
+
+		ReviewImporter.Report report = new ReviewImporter(testSystem)
+				.importDirectory(testFolder.getRoot().toPath().resolve("in"));
+
+		assertEquals(6, report.getFiles());
+		assertEquals(0, report.getReviews());
+		assertEquals(6, report.getRejected());
+		assertEquals(6, report.getErrors().size());
+		assertEquals(0, testPaper.getReviewCount());
+		assertEquals(0, testOtherPaper.getReviewCount());
+	}
+
+	@Test
+	public void importDirectory_Twice_SecondReviewRejected() throws IOException {
+		write(testPrefix + " Conf", testPrefix + "r", "What A Paper Part 1#4.txt", "First.");
+		Path store = testFolder.newFolder("store").toPath();
+		ReviewImporter importer = new ReviewImporter(testSystem);
+		importer.setStore(store);
+
+		assertEquals(1, importer.importDirectory(testFolder.getRoot().toPath().resolve("in")).getReviews());
+		ReviewImporter.Report report = importer.importDirectory(testFolder.getRoot().toPath().resolve("in"));
+
+		assertEquals(0, report.getReviews());
+		assertEquals(1, report.getRejected());
+		assertEquals(1, testPaper.getReviewCount());
+		assertTrue(testPaper.getReview(0).review.toPath().startsWith(store));
+		assertEquals("First.", new String(Files.readAllBytes(testPaper.getReview(0).review.toPath()),
+				StandardCharsets.UTF_8));
+	}
+}
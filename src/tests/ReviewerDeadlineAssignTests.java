@@ -3,14 +3,18 @@ package tests;
 import java.io.File;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import model.Conference;
+import model.DeadlineScheduler;
 import model.Paper;
 import model.UserProfile;
 
@@ -42,6 +46,10 @@ public class ReviewerDeadlineAssignTests {
         Date yearLaterHourEarly = format.parse("2018/04/30 20:00:00");
         Date yearLaterHourLate = format.parse("2018/04/30 21:00:00");
         
+        // Run the tests after the first deadline and before the second one.
+        DeadlineScheduler.getInstance().setClock(
+                Clock.fixed(format.parse("2017/05/01 00:00:00").toInstant(), ZoneId.systemDefault()));
+        
         int authorSubmitLimit = 5;
         int reviewwerAssignLimit = 8;
         String testID1 = "someid";
@@ -71,6 +79,11 @@ public class ReviewerDeadlineAssignTests {
         paper2.setSubmissionDate(yearLaterHourEarly);
     }
 
+    @After
+    public void tearDown() {
+        DeadlineScheduler.getInstance().setClock(DeadlineScheduler.systemClock());
+    }
+
     @Test (expected = IllegalArgumentException.class)
     public void testEarlyAssignement_ThrowsException() throws IllegalArgumentException {
         UserProfile aReviewerProfile = new UserProfile("Reviewer Joe", "Reviewer Guy");
@@ -0,0 +1,132 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import model.Conference;
+import model.Paper;
+import model.ShardRouter;
+import model.ShardWorker;
+import model.UserProfile;
+
+/**
+ * Tests for routing the lookups of Conferences across ShardWorkers.
+ *
+ * @version 10/19/2026
+ */
+public class ShardRouterTest {
+
+	private static final int SHARDS = 3;
+
+	private List<ShardWorker> testWorkers;
+
+	private ShardRouter testRouter;
+
+	private UserProfile testAuthor;
+
+	private UserProfile testReviewer;
+
+	@Before
+	public void setUp() throws IOException {
+		testWorkers = new ArrayList<>();
+		List<InetSocketAddress> addresses = new ArrayList<>();
+		for (int s = 0; s < SHARDS; s++) {
+			ShardWorker worker = ShardWorker.start(0);
+			testWorkers.add(worker);
+			addresses.add(new InetSocketAddress(InetAddress.getLoopbackAddress(), worker.getPort()));
+		}
+		testRouter = ShardRouter.connect(addresses);
+		testAuthor = new UserProfile("shardAuthor", "Shard Author");
+		testReviewer = new UserProfile("shardReviewer", "Shard Reviewer");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		testRouter.close();
+		for (ShardWorker worker : testWorkers) {
+			worker.close();
+		}
+	}
+
+	private Conference addConference(final String theName, final int thePapers) {
+		Conference conference = Conference.createConference(theName, new Date(new Date().getTime() + 100000000L),
+				thePapers, 8);
+		for (int p = 0; p < thePapers; p++) {
+			Paper paper = Paper.createPaper(new File(""), Arrays.asList(testAuthor.getName()), theName + " " + p,
+					testAuthor);
+			conference.getUserRole().addPaper(testAuthor, paper);
+		}
+		conference.getInfo().setSubmissionDate(new Date(new Date().getTime() - 1000));
+		conference.getSubprogramRole().assignReviewer(testReviewer, conference.getInfo().getAllPapers().get(0));
+		testRouter.addConference(conference);
+		return conference;
+	}
+
+	@Test
+	public void getConference_Added_CopyFromItsShard() {
+		addConference("Routed", 2);
+
+		Conference copy = testRouter.getConference("Routed");
+
+		assertEquals("Routed", copy.getInfo().getName());
+		assertEquals(2, copy.getInfo().getPaperCount());
+		assertNull(testRouter.getConference("Missing"));
+	}
+
+	@Test
+	public void getConferences_AcrossShards_GathersAll() {
+		List<String> names = new ArrayList<>();
+		boolean[] used = new boolean[SHARDS];
+		for (int c = 0; c < 12; c++) {
+			addConference("Conference " + c, 1);
+			names.add("Conference " + c);
+			used[testRouter.shardOf("Conference " + c)] = true;
+		}
+
+		List<String> gathered = new ArrayList<>();
+		for (Conference conference : testRouter.getConferences()) {
+			gathered.add(conference.getInfo().getName());
+		}
+
+		assertTrue(used[0] && used[1] && used[2]);
+		assertEquals(names.size(), gathered.size());
+		assertTrue(gathered.containsAll(names));
+	}
+
+	@Test
+	public void getAllPapers_AcrossShards_MergesEveryShard() {
+		for (int c = 0; c < 6; c++) {
+			addConference("Papers " + c, 2);
+		}
+
+		assertEquals(12, testRouter.getAllPapersSubmitted(testAuthor).size());
+		assertEquals(6, testRouter.getAllPapersAssignedTo(testReviewer).size());
+		assertTrue(testRouter.getAllPapersSubmitted(testReviewer).isEmpty());
+	}
+
+	@Test
+	public void addUserProfile_Routed_FoundByUID() {
+		testRouter.addUserProfile(testAuthor);
+
+		assertEquals(testAuthor.getName(), testRouter.getUserProfile(testAuthor.getUID()).getName());
+		assertNull(testRouter.getUserProfile("nobody"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void addConference_SameName_ThrowsException() {
+		addConference("Twice", 1);
+		addConference("Twice", 1);
+	}
+}
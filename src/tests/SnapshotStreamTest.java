@@ -0,0 +1,155 @@
+package tests;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import model.Conference;
+import model.ConferenceSystem;
+import model.SnapshotCodec;
+import model.SnapshotInputStream;
+import model.SnapshotOutputStream;
+
+/**
+ * Tests for compressing snapshots with SnapshotOutputStream and SnapshotInputStream.
+ *
+ * @version 10/19/2026
+ */
+public class SnapshotStreamTest {
+
+	private static final List<SnapshotCodec> CODECS = Arrays.asList(SnapshotCodec.none(), SnapshotCodec.lz(),
+			SnapshotCodec.deflate(1), SnapshotCodec.deflate(6), SnapshotCodec.deflate(9));
+
+	/**
+	 * @return text with many repeats followed by random bytes, so some blocks compress and some do not.
+	 */
+	private static byte[] testData() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (int i = 0; i < 2000; i++) {
+			byte[] line = ("Paper " + i + " by Author " + (i % 37) + ", papers/paper" + i + ".pdf\n").getBytes();
+			out.write(line, 0, line.length);
+		}
+		byte[] random = new byte[20000];
+		new Random(42).nextBytes(random);
+		out.write(random, 0, random.length);
+		return out.toByteArray();
+	}
+
+	private static byte[] compress(final byte[] theData, final SnapshotCodec theCodec, final int theThreads)
+			throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream out = new SnapshotOutputStream(bytes, theCodec, 4096, theThreads)) {
+			out.write(theData, 0, 1000);
+			out.write(theData[1000]);
+			out.write(theData, 1001, theData.length - 1001);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static byte[] readAll(final InputStream theIn) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[777];
+		int read;
+		while ((read = theIn.read(buffer)) >= 0) {
+			out.write(buffer, 0, read);
+		}
+		return out.toByteArray();
+	}
+
+	@Test
+	public void read_EveryCodec_SameBytes() throws IOException {
+		byte[] data = testData();
+		for (SnapshotCodec codec : CODECS) {
+			for (int threads : new int[] {1, 3}) {
+				byte[] compressed = compress(data, codec, threads);
+
+				assertArrayEquals(codec.getName(), data,
+						readAll(new SnapshotInputStream(new ByteArrayInputStream(compressed))));
+				if (codec.getId() != SnapshotCodec.STORED) {
+					assertTrue(codec.getName(), compressed.length < data.length * 3 / 4);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void lz_EdgeCases_RoundTrip() throws IOException {
+		byte[] runs = new byte[100000];
+		Arrays.fill(runs, 50000, 100000, (byte) 7);
+		byte[][] inputs = {"a".getBytes(), "abcdabcdabcdabcdabcdX".getBytes(), new byte[70000], runs,
+				"0123456789012345678".getBytes()};
+		SnapshotCodec lz = SnapshotCodec.lz();
+		for (byte[] input : inputs) {
+			byte[] compressed = new byte[input.length];
+			int length = lz.compress(input, input.length, compressed);
+			if (length >= 0) {
+				byte[] decompressed = new byte[input.length];
+				lz.decompress(compressed, length, decompressed, input.length);
+				assertArrayEquals(input, decompressed);
+			}
+		}
+		assertEquals(-1, lz.compress("a".getBytes(), 1, new byte[1]));
+	}
+
+	@Test
+	public void getCodec_FromHeader_SameCodec() throws IOException {
+		byte[] compressed = compress(testData(), SnapshotCodec.deflate(9), 2);
+
+		SnapshotInputStream in = new SnapshotInputStream(new ByteArrayInputStream(compressed));
+
+		assertEquals(SnapshotCodec.DEFLATE, in.getCodec().getId());
+		assertEquals("deflate-9", in.getCodec().getName());
+	}
+
+	@Test(expected = IOException.class)
+	public void read_CorruptBlock_ThrowsException() throws IOException {
+		byte[] compressed = compress(testData(), SnapshotCodec.lz(), 1);
+		compressed[compressed.length / 2] ^= 0x10;
+
+		readAll(new SnapshotInputStream(new ByteArrayInputStream(compressed)));
+	}
+
+	@Test(expected = IOException.class)
+	public void read_Truncated_ThrowsException() throws IOException {
+		byte[] compressed = compress(testData(), SnapshotCodec.lz(), 1);
+
+		readAll(new SnapshotInputStream(new ByteArrayInputStream(Arrays.copyOf(compressed, compressed.length - 16))));
+	}
+
+	@Test
+	public void decoding_PlainStream_Unchanged() throws IOException {
+		byte[] data = testData();
+
+		assertArrayEquals(data, readAll(SnapshotInputStream.decoding(new ByteArrayInputStream(data))));
+		assertArrayEquals(new byte[] {1, 2}, readAll(SnapshotInputStream.decoding(
+				new ByteArrayInputStream(new byte[] {1, 2}))));
+	}
+
+	@Test
+	public void readSnapshot_Compressed_ReadsModel() throws IOException, ClassNotFoundException {
+		ConferenceSystem system = ConferenceSystem.getInstance();
+		String name = "Compressed Snapshot " + System.nanoTime();
+		system.addConference(Conference.createConference(name, new Date(new Date().getTime() + 100000000L), 5, 5));
+		ByteArrayOutputStream users = new ByteArrayOutputStream();
+		ByteArrayOutputStream conferences = new ByteArrayOutputStream();
+		try (SnapshotOutputStream u = new SnapshotOutputStream(users, SnapshotCodec.lz());
+				SnapshotOutputStream c = new SnapshotOutputStream(conferences, SnapshotCodec.deflate(6))) {
+			system.writeSnapshot(u, c);
+		}
+
+		system.readSnapshot(new ByteArrayInputStream(users.toByteArray()),
+				new ByteArrayInputStream(conferences.toByteArray()));
+
+		assertEquals(name, system.getConference(name).getInfo().getName());
+	}
+}
@@ -4,6 +4,7 @@ import static org.junit.Assert.*;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 
@@ -11,7 +12,10 @@ import org.junit.Before;
 import org.junit.Test;
 
 import model.Conference;
+import model.MetricsRegistry;
 import model.Paper;
+import model.SubprogramUtilities;
+import model.SubprogramUtilities.Assignment;
 import model.UserProfile;
 
 /**
@@ -73,5 +77,86 @@ public class SubprogramUtilitiesTest {
 	public void assignReviewerToPaperWhenReviewerIsAuthor_IsntAssigned() throws IllegalArgumentException {
 		testConference.getSubprogramRole().assignReviewer(testAuthorProfile, testPaper);
 	}
+	
+	/**
+	 * Assigns the same paper to a reviewer twice, the second assignment is rejected as in a batch.
+	 */
+	@Test
+	public void assignReviewerTwice_SecondRejected() {
+		testConference.getSubprogramRole().assignReviewer(testReviewerProfile, testPaper);
+		try {
+			testConference.getSubprogramRole().assignReviewer(testReviewerProfile, testPaper);
+			fail("The paper was assigned to the reviewer twice.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("The paper is assigned to the reviewer already.", e.getMessage());
+		}
+		
+		assertEquals(1, testConference.getInfo().getPaperCountAssignedToReviewer(testReviewerProfile));
+	}
+	
+	/**
+	 * Assigns a valid batch, every assignment is made.
+	 */
+	@Test
+	public void assignReviewers_ValidBatch_AllAssigned() {
+		UserProfile otherReviewer = new UserProfile("OtherReviewerUID", "Other reviewer name");
+		Paper otherPaper = Paper.createPaper(new File("./path"), testAuthorList, "OtherTitle", testAuthorProfile);
+		
+		SubprogramUtilities.BatchReport report = testConference.getSubprogramRole().assignReviewers(Arrays.asList(
+				new Assignment(testReviewerProfile, testPaper),
+				new Assignment(otherReviewer, testPaper),
+				new Assignment(testReviewerProfile, otherPaper)));
+		
+		assertTrue(report.isApplied());
+		assertEquals(0, report.getRejectedCount());
+		assertEquals(Arrays.asList(testPaper, otherPaper),
+				testConference.getInfo().getPapersAssignedToReviewer(testReviewerProfile));
+		assertEquals(Arrays.asList(testPaper), testConference.getInfo().getPapersAssignedToReviewer(otherReviewer));
+		assertTrue(testConference.getInfo().getReviewers().contains(otherReviewer));
+	}
+	
+	/**
+	 * Assigns a batch with an author, a duplicate and one paper over the limit, nothing is assigned and each
+	 * failed assignment is reported.
+	 */
+	@Test
+	public void assignReviewers_InvalidItems_NoneAssignedEachReported() {
+		testConference.getSubprogramRole().assignReviewer(testReviewerProfile, testPaper);
+		List<Assignment> batch = new ArrayList<>();
+		batch.add(new Assignment(testAuthorProfile, testPaper));
+		batch.add(new Assignment(testReviewerProfile, testPaper));
+		for (int i = 1; i <= ASSIGNMENT_LIMIT; i++) {
+			batch.add(new Assignment(testReviewerProfile,
+					Paper.createPaper(new File("./TestPath"), testAuthorList, "Test" + i, testAuthorProfile)));
+		}
+		
+		long rejected = MetricsRegistry.getInstance().counter("SubprogramUtilities.assignReviewers.rejected").sum();
+		SubprogramUtilities.BatchReport report = testConference.getSubprogramRole().assignReviewers(batch);
+		
+		assertFalse(report.isApplied());
+		assertEquals(rejected + 3,
+				MetricsRegistry.getInstance().counter("SubprogramUtilities.assignReviewers.rejected").sum());
+		assertEquals(batch.size(), report.getSize());
+		assertEquals(Arrays.asList(0, 1, batch.size() - 1), new ArrayList<>(report.getErrors().keySet()));
+		assertNull(report.getError(2));
+		assertEquals(1, testConference.getInfo().getPaperCountAssignedToReviewer(testReviewerProfile));
+		assertEquals(0, testConference.getInfo().getPaperCountAssignedToReviewer(testAuthorProfile));
+	}
+	
+	/**
+	 * Assigns a batch before the submission deadline, every assignment is rejected.
+	 */
+	@Test
+	public void assignReviewers_BeforeDeadline_AllRejected() {
+		Conference openConference = Conference.createConference("Open Conference",
+				new Date(new Date().getTime() + 100000000L), 5, 8);
+		
+		SubprogramUtilities.BatchReport report = openConference.getSubprogramRole().assignReviewers(Arrays.asList(
+				new Assignment(testReviewerProfile, testPaper)));
+		
+		assertFalse(report.isApplied());
+		assertNotNull(report.getError(0));
+		assertTrue(openConference.getInfo().getPapersAssignedToReviewer(testReviewerProfile).isEmpty());
+	}
 
 }
@@ -5,6 +5,7 @@ import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -21,6 +22,7 @@ import javax.swing.border.LineBorder;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 
+import model.Paper;
 import model.UserProfile;
 
 
@@ -177,17 +179,14 @@ public class AssignReviewer extends PanelCard {
      * @return refined List of UserProfiles of reviewers
      */
     private List<UserProfile> refineByAuthors(List<UserProfile> reviewerList) {
-    	List<String> authors = context.getPaper().getAuthors(); // removing reviewers if they are an author
+    	Paper paper = context.getPaper(); // removing reviewers if they are an author
 
     	//getting rid of reviewers if they are an author
     	Iterator<UserProfile> refineByAuthor = reviewerList.iterator();
     	while(refineByAuthor.hasNext()) {
     		UserProfile nextReviewer = refineByAuthor.next();
-    		for(String author : authors) {
-    			if (nextReviewer.getName().equals(author)) {
-    				refineByAuthor.remove();
-    				break;
-    			}
+    		if (paper.isAuthoredBy(nextReviewer)) {
+    			refineByAuthor.remove();
     		}
     	}
 
@@ -221,7 +220,7 @@ public class AssignReviewer extends PanelCard {
      * @return refined List of UserProfiles of reviewers
      */
     private List<UserProfile> refineByCurrentReviewers(List<UserProfile> reviewerList) {
-    	List<UserProfile> currentReviewers = context.getCurrentConference().getInfo().getReviewersForPaper(context.getPaper());
+    	List<UserProfile> currentReviewers = context.getCurrentConference().getCachedInfo().getReviewersForPaper(context.getPaper());
 
 
     	Iterator<UserProfile> refineByCurrentReviewer = reviewerList.iterator();
@@ -263,7 +262,7 @@ public class AssignReviewer extends PanelCard {
      * @return JList of Strings of all current Reviewers of the paper
      */
     private JList<String> getCurrentReviewers() {
-    	List<UserProfile> currentReviewerList = context.getCurrentConference().getInfo().getReviewersForPaper(context.getPaper());
+    	List<UserProfile> currentReviewerList = context.getCurrentConference().getCachedInfo().getReviewersForPaper(context.getPaper());
       	
     	String[] nameArray = new String[currentReviewerList.size()]; // getting the name of reviewers to display
     	for(int i = 0; i < currentReviewerList.size(); i++) {
@@ -292,7 +291,7 @@ public class AssignReviewer extends PanelCard {
     	bottomPanel.setBorder(new CompoundBorder(new EmptyBorder(0, SIDE_PADDING, 0, SIDE_PADDING), BorderFactory.createTitledBorder(" Assign Another Reviewer")));
     	JPanel bottomLabelPanel = new JPanel(new BorderLayout());
     	bottomPanel.add(bottomLabelPanel, BorderLayout.NORTH);
-    	List<UserProfile> reviewerList = context.getCurrentConference().getInfo().getReviewers();
+    	List<UserProfile> reviewerList = new ArrayList<>(context.getCurrentConference().getCachedInfo().getReviewers());
 
     	reviewerList = refineByAuthors(reviewerList);
     	reviewerList = refineByCurrentReviewers(reviewerList);
@@ -0,0 +1,446 @@
+package view;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import model.Conference;
+import model.ConferenceSystem;
+import model.Paper;
+import model.UserProfile;
+
+/**
+ * Streams users, conferences and papers from CSV or JSON Lines files into a ConferenceSystem.
+ *
+ * Every line is one record; blank lines and lines starting with # are skipped. The first CSV field, or the "type"
+ * member of a JSON object, names the record:
+ * <pre>
+ * user,uid,name
+ * conference,name,deadline,submissionLimit,assignmentLimit
+ * paper,conference,submitter,title,authors,file,submitted
+ * </pre>
+ * The JSON members have the same names. Authors are separated by ; in CSV and are an array in JSON; they default to
+ * the name of the submitter. Dates are epoch milliseconds, ISO-8601 instants or ISO dates (midnight UTC); submitted
+ * defaults to now and file to none.
+ *
+ * Users and conferences are added as they are read. Papers are collected into batches and added per conference with
+ * UserUtilities.addPapers(), which applies the submission limit and deadline of addPaper() and updates the indexes
+ * once per batch. Only one batch and the first errors are kept, so the memory used does not depend on the size of the
+ * input. Bad records are counted and reported, they do not stop the import.
+ *
+ * Usage: java view.BulkImporter file... [batch=n] [progress=n]
+ * The result is saved with ConferenceSystem.serializeModel().
+ *
+ * @version 10/19/2026
+ */
+public class BulkImporter {
+
+    /** The amount of error messages kept in a Report. */
+    public static final int MAX_ERRORS = 100;
+
+    private final ConferenceSystem mySystem;
+
+    private int myBatchSize = 10_000;
+
+    private int myProgressInterval = 100_000;
+
+    private Consumer<Report> myProgressListener = r -> { };
+
+    /** The papers of the current batch by conference. */
+    private final Map<Conference, List<Paper>> myBatch = new LinkedHashMap<>();
+
+    private int myBatchCount;
+
+    private Report myReport;
+
+    /**
+     * @param theSystem the system to import into.
+     */
+    public BulkImporter(final ConferenceSystem theSystem) {
+        mySystem = theSystem;
+    }
+
+    /**
+     * Imports the files named in args and saves the model.
+     * @param args the files and optionally batch=n and progress=n.
+     * @throws IOException if a file can not be read.
+     */
+    public static void main(String[] args) throws IOException {
+        final ConferenceSystem sys = ConferenceSystem.getInstance();
+        sys.deserializeData();
+
+        final BulkImporter importer = new BulkImporter(sys);
+        importer.setProgressListener(r -> System.err.println(r));
+        final List<Path> files = new ArrayList<>();
+        for (final String arg : args) {
+            if (arg.startsWith("batch=")) {
+                importer.setBatchSize(Integer.parseInt(arg.substring("batch=".length())));
+            } else if (arg.startsWith("progress=")) {
+                importer.setProgressInterval(Integer.parseInt(arg.substring("progress=".length())));
+            } else {
+                files.add(Paths.get(arg));
+            }
+        }
+
+        for (final Path file : files) {
+            final Report report = importer.importFile(file);
+            System.out.println(file + ": " + report);
+            for (final String error : report.getErrors()) {
+                System.out.println("  " + error);
+            }
+        }
+
+        sys.serializeModel();
+    }
+
+    /**
+     * @param theBatchSize the amount of papers added at once.
+     */
+    public void setBatchSize(final int theBatchSize) {
+        if (theBatchSize < 1) {
+            throw new IllegalArgumentException();
+        }
+        myBatchSize = theBatchSize;
+    }
+
+    /**
+     * @param theInterval the amount of records between calls of the progress listener.
+     */
+    public void setProgressInterval(final int theInterval) {
+        if (theInterval < 1) {
+            throw new IllegalArgumentException();
+        }
+        myProgressInterval = theInterval;
+    }
+
+    /**
+     * @param theListener called with the running report every progress interval and once at the end.
+     */
+    public void setProgressListener(final Consumer<Report> theListener) {
+        myProgressListener = Objects.requireNonNull(theListener);
+    }
+
+    /**
+     * Imports theFile, JSON Lines if its name ends with .jsonl or .json and CSV otherwise.
+     * @return the report of the import.
+     * @throws IOException if theFile can not be read.
+     */
+    public Report importFile(final Path theFile) throws IOException {
+        final String name = theFile.getFileName().toString().toLowerCase(Locale.ROOT);
+        final boolean json = name.endsWith(".jsonl") || name.endsWith(".json");
+        try (BufferedReader reader = Files.newBufferedReader(theFile, StandardCharsets.UTF_8)) {
+            return importRecords(reader, json);
+        }
+    }
+
+    /**
+     * Imports all records of theReader.
+     * @param theReader the records, one per line. Not closed.
+     * @param theJson whether the records are JSON objects rather than CSV.
+     * @return the report of the import.
+     * @throws IOException if theReader fails.
+     */
+    public Report importRecords(final BufferedReader theReader, final boolean theJson) throws IOException {
+        myReport = new Report();
+        String line;
+        long lineNumber = 0;
+
+        while ((line = theReader.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            try {
+                if (theJson) {
+                    importJson(Records.parseJson(line));
+                } else {
+                    importCsv(Records.parseCsv(line));
+                }
+            } catch (RuntimeException e) {
+                myReport.reject("line " + lineNumber + ": " + e.getMessage());
+            }
+
+            myReport.myRecords++;
+            if (myReport.myRecords % myProgressInterval == 0) {
+                myProgressListener.accept(myReport);
+            }
+        }
+
+        flush();
+        myReport.myEndNanos = System.nanoTime();
+        myProgressListener.accept(myReport);
+        return myReport;
+    }
+
+    private void importCsv(final List<String> theFields) {
+        final String type = theFields.get(0).trim();
+        switch (type) {
+            case "user":
+                addUser(field(theFields, 1), field(theFields, 2));
+                break;
+            case "conference":
+                addConference(field(theFields, 1), field(theFields, 2), field(theFields, 3), field(theFields, 4));
+                break;
+            case "paper":
+                final String authors = field(theFields, 4);
+                addPaper(field(theFields, 1), field(theFields, 2), field(theFields, 3),
+                        authors == null ? null : Arrays.asList(authors.split(";")),
+                        field(theFields, 5), field(theFields, 6));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown record type " + type);
+        }
+    }
+
+    private void importJson(final Map<String, Object> theRecord) {
+        final String type = member(theRecord, "type");
+        if (type == null) {
+            throw new IllegalArgumentException("Missing type");
+        }
+        switch (type) {
+            case "user":
+                addUser(member(theRecord, "uid"), member(theRecord, "name"));
+                break;
+            case "conference":
+                addConference(member(theRecord, "name"), member(theRecord, "deadline"),
+                        member(theRecord, "submissionLimit"), member(theRecord, "assignmentLimit"));
+                break;
+            case "paper":
+                List<String> authors = null;
+                final Object value = theRecord.get("authors");
+                if (value instanceof List) {
+                    authors = new ArrayList<>();
+                    for (final Object author : (List<?>) value) {
+                        authors.add(String.valueOf(author));
+                    }
+                } else if (value != null) {
+                    authors = Collections.singletonList(String.valueOf(value));
+                }
+                addPaper(member(theRecord, "conference"), member(theRecord, "submitter"), member(theRecord, "title"),
+                        authors, member(theRecord, "file"), member(theRecord, "submitted"));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown record type " + type);
+        }
+    }
+
+    private void addUser(final String theUID, final String theName) {
+        if (mySystem.getUserProfile(required(theUID, "uid")) != null) {
+            throw new IllegalArgumentException("Duplicate user " + theUID);
+        }
+        mySystem.addUserProfile(new UserProfile(theUID, required(theName, "name")));
+        myReport.myUsers++;
+    }
+
+    private void addConference(
+            final String theName,
+            final String theDeadline,
+            final String theSubmissionLimit,
+            final String theAssignmentLimit
+            ) {
+        mySystem.addConference(Conference.createConference(required(theName, "name"),
+                parseDate(required(theDeadline, "deadline")),
+                Integer.parseInt(required(theSubmissionLimit, "submissionLimit").trim()),
+                Integer.parseInt(required(theAssignmentLimit, "assignmentLimit").trim())));
+        myReport.myConferences++;
+    }
+
+    private void addPaper(
+            final String theConference,
+            final String theSubmitter,
+            final String theTitle,
+            final List<String> theAuthors,
+            final String theFile,
+            final String theSubmitted
+            ) {
+        final Conference conference = mySystem.getConference(required(theConference, "conference"));
+        if (conference == null) {
+            throw new IllegalArgumentException("Unknown conference " + theConference);
+        }
+        final UserProfile submitter = mySystem.getUserProfile(required(theSubmitter, "submitter"));
+        if (submitter == null) {
+            throw new IllegalArgumentException("Unknown user " + theSubmitter);
+        }
+
+        final List<String> authors = new ArrayList<>();
+        if (theAuthors != null) {
+            for (final String author : theAuthors) {
+                if (!author.trim().isEmpty()) {
+                    authors.add(author.trim());
+                }
+            }
+        }
+        if (authors.isEmpty()) {
+            authors.add(submitter.getName());
+        }
+
+        final Paper paper = Paper.createPaper(new File(theFile == null ? "" : theFile), authors,
+                required(theTitle, "title"), submitter);
+        if (theSubmitted != null) {
+            paper.setSubmissionDate(parseDate(theSubmitted));
+        }
+
+        myBatch.computeIfAbsent(conference, c -> new ArrayList<>()).add(paper);
+        if (++myBatchCount >= myBatchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Adds the papers of the current batch.
+     */
+    private void flush() {
+        for (final Map.Entry<Conference, List<Paper>> entry : myBatch.entrySet()) {
+            final Map<Paper, String> rejected = entry.getKey().getUserRole().addPapers(entry.getValue());
+            myReport.myPapers += entry.getValue().size() - rejected.size();
+            for (final Map.Entry<Paper, String> rejection : rejected.entrySet()) {
+                myReport.reject("paper \"" + rejection.getKey().getTitle() + "\": " + rejection.getValue());
+            }
+        }
+        myBatch.clear();
+        myBatchCount = 0;
+    }
+
+    /**
+     * @return theDate as epoch milliseconds, an ISO-8601 instant or an ISO date at midnight UTC.
+     */
+    static Date parseDate(final String theDate) {
+        final String date = theDate.trim();
+        if (!date.isEmpty() && date.chars().allMatch(Character::isDigit)) {
+            return new Date(Long.parseLong(date));
+        }
+        if (date.indexOf('T') >= 0) {
+            return Date.from(Instant.parse(date));
+        }
+        return Date.from(LocalDate.parse(date).atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+
+    private static String field(final List<String> theFields, final int theIndex) {
+        if (theIndex >= theFields.size() || theFields.get(theIndex).isEmpty()) {
+            return null;
+        }
+        return theFields.get(theIndex);
+    }
+
+    private static String member(final Map<String, Object> theRecord, final String theName) {
+        final Object value = theRecord.get(theName);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Double && (Double) value == Math.rint((Double) value)) {
+            return String.valueOf(((Double) value).longValue());
+        }
+        return String.valueOf(value);
+    }
+
+    private static String required(final String theValue, final String theName) {
+        if (theValue == null || theValue.trim().isEmpty()) {
+            throw new IllegalArgumentException("Missing " + theName);
+        }
+        return theValue;
+    }
+
+    /**
+     * The counts, errors and throughput of an import.
+     */
+    public static class Report {
+
+        private final long myStartNanos = System.nanoTime();
+        private long myEndNanos;
+        private long myRecords;
+        private long myUsers;
+        private long myConferences;
+        private long myPapers;
+        private long myRejected;
+        private final List<String> myErrors = new ArrayList<>();
+
+        private void reject(final String theError) {
+            myRejected++;
+            if (myErrors.size() < MAX_ERRORS) {
+                myErrors.add(theError);
+            }
+        }
+
+        /**
+         * @return the amount of records read, including the rejected ones.
+         */
+        public long getRecords() {
+            return myRecords;
+        }
+
+        /**
+         * @return the amount of users added.
+         */
+        public long getUsers() {
+            return myUsers;
+        }
+
+        /**
+         * @return the amount of conferences added.
+         */
+        public long getConferences() {
+            return myConferences;
+        }
+
+        /**
+         * @return the amount of papers added.
+         */
+        public long getPapers() {
+            return myPapers;
+        }
+
+        /**
+         * @return the amount of records which were not added.
+         */
+        public long getRejected() {
+            return myRejected;
+        }
+
+        /**
+         * @return the first MAX_ERRORS reasons for rejected records.
+         */
+        public List<String> getErrors() {
+            return Collections.unmodifiableList(myErrors);
+        }
+
+        /**
+         * @return the time the import took, or has taken so far, in milliseconds.
+         */
+        public long getElapsedMillis() {
+            return ((myEndNanos == 0 ? System.nanoTime() : myEndNanos) - myStartNanos) / 1_000_000;
+        }
+
+        /**
+         * @return the records read per second.
+         */
+        public double getRecordsPerSecond() {
+            return myRecords * 1000.0 / Math.max(1, getElapsedMillis());
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%d records (%d users, %d conferences, %d papers, %d rejected) in %d ms, %.0f records/s",
+                    myRecords, myUsers, myConferences, myPapers, myRejected, getElapsedMillis(),
+                    getRecordsPerSecond());
+        }
+    }
+}
@@ -5,7 +5,6 @@ import java.awt.Dimension;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.File;
-import java.util.Date;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -27,7 +26,9 @@ import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableColumn;
 
 import model.Conference;
+import model.ConferenceInfo;
 import model.Paper;
+import model.PaperState;
 import model.Review;
 import model.UserProfile;
 import model.SubprogramUtilities.RecommendStatus;
@@ -72,7 +73,7 @@ public class DashBoard extends PanelCard {
         List<Paper> submittedPapers = context.getCurrentConference().getInfo()
                 .getPapersSubmittedBy(context.getUser());
         
-        List<Paper> assignedPapers = context.getCurrentConference().getInfo()
+        List<Paper> assignedPapers = context.getCurrentConference().getCachedInfo()
                 .getPapersAssignedToSubProgramChair(context.getUser());
         
         if (shouldShowSubProgramChairPane(context.getUser(), context.getCurrentConference())) {
@@ -89,7 +90,7 @@ public class DashBoard extends PanelCard {
      * Check if the subprogram chair panel will be shown for the given user at a given conference.
      */
     public static boolean shouldShowSubProgramChairPane(UserProfile user, Conference c) {
-        List<Paper> assignedPapers = c.getInfo().getPapersAssignedToSubProgramChair(user);
+        List<Paper> assignedPapers = c.getCachedInfo().getPapersAssignedToSubProgramChair(user);
         return assignedPapers != null && !assignedPapers.isEmpty();
     }
 
@@ -98,7 +99,7 @@ public class DashBoard extends PanelCard {
      */
     public static boolean shouldShowAuthorPane(UserProfile user, Conference c) {
         List<Paper> submittedPapers = c.getInfo().getPapersSubmittedBy(user);
-        return !submittedPapers.isEmpty() || c.getInfo().getSubmissionDate().after(new Date());
+        return !submittedPapers.isEmpty() || c.getInfo().isSubmissionOpen();
     }
     
     /**
@@ -111,7 +112,10 @@ public class DashBoard extends PanelCard {
         result.setLayout(new BoxLayout(result, BoxLayout.Y_AXIS));
         result.setAlignmentX(LEFT_ALIGNMENT);
 
-        JLabel assignedLabel = new JLabel("Assigned Papers");
+        ConferenceInfo info = context.getCurrentConference().getInfo();
+        JLabel assignedLabel = new JLabel("Assigned Papers ("
+                + info.getPaperCount(context.getUser(), PaperState.UNDER_REVIEW) + " under review, "
+                + info.getPaperCount(context.getUser(), PaperState.REVIEWED) + " ready to recommend)");
         assignedLabel.setAlignmentX(LEFT_ALIGNMENT);
         
         JTable assignedPapers = getAssignedPapersTable(actualPapers);
@@ -141,8 +145,9 @@ public class DashBoard extends PanelCard {
             public void valueChanged(ListSelectionEvent arg0) {
                 Paper p = getSelectedPaper(assignedPapers);
                 
-                submitRecomendationButton.setEnabled(p.getReviews().size() > 2);
-                assignReviewerButton.setEnabled(!context.getCurrentConference().getInfo().isSubmissionOpen(new Date()));
+                submitRecomendationButton.setEnabled(p.getState() == PaperState.REVIEWED
+                        || p.getState() == PaperState.RECOMMENDED);
+                assignReviewerButton.setEnabled(!context.getCurrentConference().getInfo().isSubmissionOpen());
             }
         });
         
@@ -174,15 +179,14 @@ public class DashBoard extends PanelCard {
         
         for (int i = 0; i < actualPapers.size(); i++) {
             Paper p = actualPapers.get(i);
-            Review[] reviews = p.getReviews().toArray(new Review[0]);
-            int amountOfReviewers = context.getCurrentConference().getInfo().getReviewersForPaper(p).size();
+            int amountOfReviewers = context.getCurrentConference().getCachedInfo().getReviewersForPaper(p).size();
             
             papers[i][0] = p;
             
             int j;
             
-            for (j = 0; j < 3 && j < reviews.length; j++) {
-                papers[i][j+1] = reviews[j].score;
+            for (j = 0; j < 3 && j < p.getReviewCount(); j++) {
+                papers[i][j+1] = p.getReview(j).score;
             }
             
             for (; j < 3; j++) {
@@ -270,7 +274,7 @@ public class DashBoard extends PanelCard {
         List<String> authors = new LinkedList<>();
         authors.add(context.getUser().getName());
         Paper thePaper = Paper.createPaper(new File(""), authors, "Test title", context.getUser());
-        submitPaperButton.setEnabled(context.getCurrentConference().getInfo().isSubmissionOpen(new Date())
+        submitPaperButton.setEnabled(context.getCurrentConference().getInfo().isSubmissionOpen()
         		&& context.getCurrentConference().getInfo().isPaperInAuthorSubmissionLimit(thePaper));
         
         JButton removePaperButton = new JButton("Remove Paper");
@@ -282,7 +286,7 @@ public class DashBoard extends PanelCard {
 
             @Override
             public void valueChanged(ListSelectionEvent arg0) {
-                removePaperButton.setEnabled(context.getCurrentConference().getInfo().getReviewersForPaper(
+                removePaperButton.setEnabled(context.getCurrentConference().getCachedInfo().getReviewersForPaper(
                         getSelectedPaper(submitedPapers)).isEmpty());
             }
         });
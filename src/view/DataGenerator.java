@@ -0,0 +1,527 @@
+package view;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import model.Conference;
+import model.ConferenceSystem;
+import model.Paper;
+import model.UserProfile;
+import model.SubprogramUtilities.RecommendStatus;
+
+/**
+ * A deterministic generator of synthetic conference data, a scalable version of Initialize.
+ *
+ * Author productivity follows a Zipf distribution, coauthors are drawn from fixed cliques of users, each conference
+ * has its own pool of reviewers and subprogram chairs and the reviews of a paper are scattered around a hidden
+ * quality of the paper. Conferences are generated in parallel, each from its own seed, so the output only depends on
+ * the settings and not on the amount of threads. Deadlines and submission dates are relative to a base time which is
+ * part of the settings, never to the time of generation, so the same settings always give the same conferences.
+ * Papers are added straight into their Conference as they are created, no intermediate copy of the model is kept.
+ *
+ * Usage: java view.DataGenerator [name=value ...]
+ * where the names are seed, conferences, users, papers (per conference), reviewers (per paper),
+ * zipf (exponent), clique (size), reviewProbability, openFraction (of conferences still open for submissions)
+ * and baseTime (in milliseconds).
+ * The result is saved with ConferenceSystem.serializeModel().
+ *
+ * @version 10/19/2026
+ */
+public class DataGenerator {
+
+    /** The paper submission limit of the generated conferences, the same as Initialize. */
+    public static final int SUBMISSION_LIMIT = 5;
+
+    /** The reviewer assignment limit of the generated conferences, the same as Initialize. */
+    public static final int ASSIGNMENT_LIMIT = 8;
+
+    /** The file all generated papers and reviews point to. */
+    private static final File EMPTY_FILE = new File("");
+
+    /** The amount of times a paper is redrawn when it would break the submission limit before it is skipped. */
+    private static final int MAX_SUBMISSION_TRIES = 16;
+
+    /** The amount of papers each subprogram chair handles. */
+    private static final int PAPERS_PER_CHAIR = 20;
+
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    /** The time deadlines are relative to unless another is set, 10/19/2026 00:00 UTC. */
+    public static final long DEFAULT_BASE_TIME = 1792368000000L;
+
+    private static final String[] FIRST_NAMES = {
+        "Ada", "Alan", "Barbara", "Brian", "Claude", "Dana", "Dennis", "Donald", "Edsger", "Frances",
+        "Grace", "Ivan", "John", "Ken", "Leslie", "Margaret", "Niklaus", "Radia", "Robin", "Shafi",
+        "Silvio", "Tim", "Tony", "Whitfield", "Yukihiro"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Allen", "Backus", "Cerf", "Dijkstra", "Engelbart", "Floyd", "Goldwasser", "Hamilton", "Hoare", "Hopper",
+        "Iverson", "Kahn", "Knuth", "Lamport", "Liskov", "McCarthy", "Milner", "Perlman", "Ritchie", "Rivest",
+        "Shannon", "Sutherland", "Thompson", "Turing", "Wirth"
+    };
+
+    private static final String[] TITLE_WORDS = {
+        "Adaptive", "Analysis", "Automation", "Clusters", "Control", "Design", "Distributed", "Dynamics",
+        "Efficient", "Engines", "Fluid", "Fusion", "Generators", "Learning", "Materials", "Motion", "Nuclear",
+        "Optical", "Power", "Reactors", "Robotics", "Safety", "Scalable", "Systems", "Thermal", "Vision"
+    };
+
+    private final long mySeed;
+    private final int myConferenceCount;
+    private final int myUserCount;
+    private final int myPapersPerConference;
+    private final int myReviewersPerPaper;
+    private double myZipfExponent;
+    private int myCliqueSize;
+    private double myReviewProbability;
+    private double myOpenFraction;
+    private long myBaseTime;
+
+    /**
+     * Creates a generator with the default distribution settings.
+     * @param theSeed the seed all generated data is derived from.
+     * @param theConferenceCount the amount of conferences to generate.
+     * @param theUserCount the amount of users to generate.
+     * @param thePapersPerConference the amount of papers to generate for each conference.
+     * @param theReviewersPerPaper the amount of reviewers to assign to each paper of a closed conference.
+     * @throws IllegalArgumentException if any of the counts are negative or theUserCount is zero.
+     */
+    public DataGenerator(
+            final long theSeed,
+            final int theConferenceCount,
+            final int theUserCount,
+            final int thePapersPerConference,
+            final int theReviewersPerPaper
+            ) {
+        if (theConferenceCount < 0 || theUserCount <= 0 || thePapersPerConference < 0 || theReviewersPerPaper < 0) {
+            throw new IllegalArgumentException();
+        }
+
+        mySeed = theSeed;
+        myConferenceCount = theConferenceCount;
+        myUserCount = theUserCount;
+        myPapersPerConference = thePapersPerConference;
+        myReviewersPerPaper = theReviewersPerPaper;
+        myZipfExponent = 1.1;
+        myCliqueSize = 5;
+        myReviewProbability = 0.85;
+        myOpenFraction = 0.25;
+        myBaseTime = DEFAULT_BASE_TIME;
+    }
+
+    /**
+     * Generates the data with the given command line settings and saves it.
+     * @param args name=value settings, see the class documentation.
+     */
+    public static void main(String[] args) {
+        final Map<String, String> settings = new HashMap<>();
+        for (final String arg : args) {
+            final int split = arg.indexOf('=');
+            if (split <= 0) {
+                throw new IllegalArgumentException("Expected name=value but was " + arg);
+            }
+            settings.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+
+        final DataGenerator generator = new DataGenerator(
+                Long.parseLong(settings.getOrDefault("seed", "42")),
+                Integer.parseInt(settings.getOrDefault("conferences", "10")),
+                Integer.parseInt(settings.getOrDefault("users", "10000")),
+                Integer.parseInt(settings.getOrDefault("papers", "1000")),
+                Integer.parseInt(settings.getOrDefault("reviewers", "3")));
+        generator.setZipfExponent(Double.parseDouble(settings.getOrDefault("zipf", "1.1")));
+        generator.setCliqueSize(Integer.parseInt(settings.getOrDefault("clique", "5")));
+        generator.setReviewProbability(Double.parseDouble(settings.getOrDefault("reviewProbability", "0.85")));
+        generator.setOpenFraction(Double.parseDouble(settings.getOrDefault("openFraction", "0.25")));
+        generator.setBaseTime(Long.parseLong(settings.getOrDefault("baseTime",
+                Long.toString(DEFAULT_BASE_TIME))));
+
+        final long start = System.nanoTime();
+        final ConferenceSystem sys = ConferenceSystem.getInstance();
+        generator.generate(sys);
+
+        long papers = 0;
+        for (final Conference c : sys.getConferences()) {
+            papers += c.getInfo().getAllPapers().size();
+        }
+        System.out.println(String.format("Generated %d conferences with %d papers in %d ms",
+                sys.getConferences().size(), papers, (System.nanoTime() - start) / 1_000_000));
+
+        sys.serializeModel();
+    }
+
+    /**
+     * @param theExponent the exponent of the Zipf distribution of papers per author, larger is more skewed.
+     */
+    public void setZipfExponent(final double theExponent) {
+        if (!(theExponent > 0)) {
+            throw new IllegalArgumentException();
+        }
+        myZipfExponent = theExponent;
+    }
+
+    /**
+     * @param theCliqueSize the amount of users in each group of coauthors.
+     */
+    public void setCliqueSize(final int theCliqueSize) {
+        if (theCliqueSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        myCliqueSize = theCliqueSize;
+    }
+
+    /**
+     * @param theProbability the probability that an assigned reviewer has submitted their review.
+     */
+    public void setReviewProbability(final double theProbability) {
+        if (theProbability < 0 || theProbability > 1) {
+            throw new IllegalArgumentException();
+        }
+        myReviewProbability = theProbability;
+    }
+
+    /**
+     * @param theFraction the fraction of conferences which are still open for submissions and have no reviews.
+     */
+    public void setOpenFraction(final double theFraction) {
+        if (theFraction < 0 || theFraction > 1) {
+            throw new IllegalArgumentException();
+        }
+        myOpenFraction = theFraction;
+    }
+
+    /**
+     * @param theMillis the time in milliseconds the deadlines of open conferences are after and the deadlines of
+     * closed conferences are before.
+     */
+    public void setBaseTime(final long theMillis) {
+        myBaseTime = theMillis;
+    }
+
+    /**
+     * Generates all users and conferences and adds them to theSystem.
+     * @param theSystem the system to add the generated data to.
+     * @throws IllegalArgumentException if theSystem already holds a generated user or conference.
+     */
+    public void generate(final ConferenceSystem theSystem) {
+        final UserProfile[] users = createUsers();
+        for (final UserProfile user : users) {
+            theSystem.addUserProfile(user);
+        }
+
+        final Population population = new Population(users);
+        final Conference[] conferences = new Conference[myConferenceCount];
+
+        IntStream.range(0, myConferenceCount).parallel().forEach(i -> {
+            conferences[i] = createConference(i, population);
+        });
+
+        for (final Conference c : conferences) {
+            theSystem.addConference(c);
+        }
+    }
+
+    /**
+     * @return all the users, ordered from the most to the least productive author.
+     */
+    private UserProfile[] createUsers() {
+        final UserProfile[] result = new UserProfile[myUserCount];
+        final int combinations = FIRST_NAMES.length * LAST_NAMES.length;
+
+        for (int i = 0; i < myUserCount; i++) {
+            final StringBuilder name = new StringBuilder();
+            name.append(FIRST_NAMES[i % FIRST_NAMES.length]);
+            name.append(' ');
+            name.append(LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length]);
+            if (i >= combinations) {
+                name.append(' ');
+                name.append(i / combinations + 1);
+            }
+
+            result[i] = new UserProfile("user" + i, name.toString());
+        }
+
+        return result;
+    }
+
+    /**
+     * Generates the conference with theIndex. Only depends on the settings and theIndex.
+     */
+    private Conference createConference(final int theIndex, final Population thePopulation) {
+        final Random random = new Random(mySeed * 31 + theIndex);
+        final boolean open = random.nextDouble() < myOpenFraction;
+        final long deadline = open ? myBaseTime + (30 + random.nextInt(300)) * DAY_MILLIS
+                                   : myBaseTime - (1 + random.nextInt(300)) * DAY_MILLIS;
+
+        final Conference result = Conference.createConference(
+                String.format("Synthetic Conference %d on %s %s", theIndex,
+                        TITLE_WORDS[random.nextInt(TITLE_WORDS.length)],
+                        TITLE_WORDS[random.nextInt(TITLE_WORDS.length)]),
+                new Date(deadline), SUBMISSION_LIMIT, ASSIGNMENT_LIMIT);
+
+        result.getDirectorRole().addUserRole(thePopulation.uniform(random), Conference.DIRECTOR_ROLE);
+        result.getDirectorRole().addUserRole(thePopulation.uniform(random), Conference.PROGRAM_ROLE);
+
+        final List<Paper> papers = addPapers(result, deadline, random, thePopulation);
+
+        if (!open) {
+            final UserProfile[] chairs = thePopulation.sample(random,
+                    Math.max(1, (papers.size() + PAPERS_PER_CHAIR - 1) / PAPERS_PER_CHAIR));
+            final ReviewerPool pool = new ReviewerPool(result, thePopulation.sample(random,
+                    (int) Math.ceil(papers.size() * (double) myReviewersPerPaper / ASSIGNMENT_LIMIT * 1.25)));
+
+            for (int i = 0; i < papers.size(); i++) {
+                final Paper p = papers.get(i);
+                final UserProfile chair = chairs[i % chairs.length];
+                result.getDirectorRole().assignPaperToSubProgramChair(chair, p);
+                reviewPaper(result, p, chair, pool, random);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates and submits the papers of theConference before theDeadline.
+     * @return the submitted papers.
+     */
+    private List<Paper> addPapers(
+            final Conference theConference,
+            final long theDeadline,
+            final Random theRandom,
+            final Population thePopulation
+            ) {
+        final List<Paper> result = new ArrayList<>(myPapersPerConference);
+
+        for (int i = 0; i < myPapersPerConference; i++) {
+            for (int tries = 0; tries < MAX_SUBMISSION_TRIES; tries++) {
+                final UserProfile submitter = tries == 0 ? thePopulation.zipf(theRandom)
+                                                         : thePopulation.uniform(theRandom);
+                final Paper p = Paper.createPaper(EMPTY_FILE,
+                        thePopulation.coauthors(theRandom, submitter), createTitle(theRandom), submitter);
+                p.setSubmissionDate(new Date(theDeadline - 1 - (long) (theRandom.nextDouble() * 60 * DAY_MILLIS)));
+
+                if (theConference.getInfo().isPaperInAuthorSubmissionLimit(p)) {
+                    theConference.getUserRole().addPaper(submitter, p);
+                    result.add(p);
+                    break;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Assigns reviewers to thePaper, submits their reviews and, if possible, the recommendation of theChair.
+     */
+    private void reviewPaper(
+            final Conference theConference,
+            final Paper thePaper,
+            final UserProfile theChair,
+            final ReviewerPool thePool,
+            final Random theRandom
+            ) {
+        final double quality = 1 + theRandom.nextDouble() * 9;
+        int scoreSum = 0;
+        int reviews = 0;
+
+        for (final UserProfile reviewer : thePool.assign(thePaper, myReviewersPerPaper, theRandom)) {
+            if (theRandom.nextDouble() < myReviewProbability) {
+                final int score = (int) Math.max(1, Math.min(10,
+                        Math.round(quality + theRandom.nextGaussian() * 1.5)));
+                theConference.getReviewerRole().sendReview(reviewer, thePaper, EMPTY_FILE, score);
+                scoreSum += score;
+                reviews++;
+            }
+        }
+
+        if (reviews >= 3 && theRandom.nextDouble() < myReviewProbability) {
+            final double mean = scoreSum / (double) reviews;
+            final RecommendStatus status;
+            if (mean >= 7) {
+                status = RecommendStatus.YES;
+                thePaper.setRecommendationShort("Recommend");
+            } else if (mean <= 4) {
+                status = RecommendStatus.NO;
+                thePaper.setRecommendationShort("Don't Recommend");
+            } else {
+                status = RecommendStatus.NOT_SURE;
+                thePaper.setRecommendationShort("Not Sure");
+            }
+            theConference.getSubprogramRole().recommend(theChair, thePaper, EMPTY_FILE, status);
+        }
+    }
+
+    private static String createTitle(final Random theRandom) {
+        final StringBuilder result = new StringBuilder();
+        final int words = 3 + theRandom.nextInt(4);
+
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                result.append(i == words - 2 ? " of " : " ");
+            }
+            result.append(TITLE_WORDS[theRandom.nextInt(TITLE_WORDS.length)]);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * The shared, read only view of the users used by all conferences.
+     */
+    private class Population {
+
+        private final UserProfile[] myUsers;
+
+        /** The cumulative Zipf distribution over the users. */
+        private final double[] myZipfCdf;
+
+        /** A seeded permutation of the users, consecutive runs of myCliqueSize users form a clique. */
+        private final int[] myCliqueOrder;
+
+        /** The position of each user in myCliqueOrder. */
+        private final int[] myCliquePosition;
+
+        private Population(final UserProfile[] theUsers) {
+            myUsers = theUsers;
+            myZipfCdf = new double[theUsers.length];
+            myCliqueOrder = new int[theUsers.length];
+            myCliquePosition = new int[theUsers.length];
+
+            double sum = 0;
+            for (int i = 0; i < theUsers.length; i++) {
+                sum += 1 / Math.pow(i + 1, myZipfExponent);
+                myZipfCdf[i] = sum;
+            }
+            for (int i = 0; i < theUsers.length; i++) {
+                myZipfCdf[i] /= sum;
+            }
+
+            final Random random = new Random(mySeed);
+            for (int i = 0; i < theUsers.length; i++) {
+                myCliqueOrder[i] = i;
+            }
+            for (int i = theUsers.length - 1; i > 0; i--) {
+                final int j = random.nextInt(i + 1);
+                final int swap = myCliqueOrder[i];
+                myCliqueOrder[i] = myCliqueOrder[j];
+                myCliqueOrder[j] = swap;
+            }
+            for (int i = 0; i < theUsers.length; i++) {
+                myCliquePosition[myCliqueOrder[i]] = i;
+            }
+        }
+
+        private UserProfile zipf(final Random theRandom) {
+            final int index = Arrays.binarySearch(myZipfCdf, theRandom.nextDouble());
+            return myUsers[Math.min(myUsers.length - 1, index < 0 ? -index - 1 : index)];
+        }
+
+        private UserProfile uniform(final Random theRandom) {
+            return myUsers[theRandom.nextInt(myUsers.length)];
+        }
+
+        /**
+         * @return theCount distinct random users, or all users if there are not enough.
+         */
+        private UserProfile[] sample(final Random theRandom, final int theCount) {
+            if (theCount >= myUsers.length) {
+                return myUsers.clone();
+            }
+
+            final Set<Integer> chosen = new LinkedHashSet<>();
+            while (chosen.size() < theCount) {
+                chosen.add(theRandom.nextInt(myUsers.length));
+            }
+
+            final UserProfile[] result = new UserProfile[theCount];
+            int i = 0;
+            for (final int index : chosen) {
+                result[i++] = myUsers[index];
+            }
+            return result;
+        }
+
+        /**
+         * @return the names of theSubmitter and up to three random members of their clique.
+         */
+        private List<String> coauthors(final Random theRandom, final UserProfile theSubmitter) {
+            final List<String> result = new ArrayList<>(4);
+            result.add(theSubmitter.getName());
+
+            final int index = Integer.parseInt(theSubmitter.getUID().substring(4));
+            final int cliqueStart = myCliquePosition[index] / myCliqueSize * myCliqueSize;
+            final int cliqueEnd = Math.min(myUsers.length, cliqueStart + myCliqueSize);
+            final int coauthors = theRandom.nextInt(4);
+
+            for (int i = 0; i < coauthors && cliqueEnd - cliqueStart > 1; i++) {
+                final String name = myUsers[myCliqueOrder[cliqueStart
+                        + theRandom.nextInt(cliqueEnd - cliqueStart)]].getName();
+                if (!result.contains(name)) {
+                    result.add(name);
+                }
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * The reviewers of a conference which have not yet reached the assignment limit.
+     */
+    private static class ReviewerPool {
+
+        private final Conference myConference;
+        private final UserProfile[] myAvailable;
+        private int mySize;
+
+        private ReviewerPool(final Conference theConference, final UserProfile[] theReviewers) {
+            myConference = theConference;
+            myAvailable = theReviewers;
+            mySize = theReviewers.length;
+
+            for (final UserProfile reviewer : theReviewers) {
+                theConference.getDirectorRole().addUserRole(reviewer, Conference.REVIEW_ROLE);
+            }
+        }
+
+        /**
+         * Assigns up to theCount random available reviewers who did not author thePaper to thePaper.
+         * @return the assigned reviewers.
+         */
+        private List<UserProfile> assign(final Paper thePaper, final int theCount, final Random theRandom) {
+            final List<UserProfile> result = new ArrayList<>(theCount);
+
+            for (int tries = 0; result.size() < theCount && mySize > 0 && tries < theCount * 4; tries++) {
+                final int index = theRandom.nextInt(mySize);
+                final UserProfile reviewer = myAvailable[index];
+
+                if (result.contains(reviewer)
+                        || thePaper.isAuthoredBy(reviewer)) {
+                    continue;
+                }
+
+                myConference.getSubprogramRole().assignReviewer(reviewer, thePaper);
+                result.add(reviewer);
+
+                if (!myConference.getInfo().isReviewerInAssignmentLimit(reviewer)) {
+                    myAvailable[index] = myAvailable[--mySize];
+                    myAvailable[mySize] = reviewer;
+                }
+            }
+
+            return result;
+        }
+    }
+}
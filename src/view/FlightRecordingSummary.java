@@ -0,0 +1,149 @@
+package view;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import model.FlightEvents;
+
+/**
+ * Summarizes the model events of a JDK Flight Recorder recording.
+ *
+ * Usage: java view.FlightRecordingSummary recording.jfr [conference]
+ * Prints the count, rejections, total, mean, p99 and max duration and the total item count of every event type.
+ * With the conference argument the events are also grouped by conference name.
+ *
+ * @version 10/19/2026
+ */
+public class FlightRecordingSummary {
+
+    /**
+     * Prints the summary of a recording.
+     * @param args the recording file and optionally "conference".
+     * @throws IOException if the recording can not be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: java view.FlightRecordingSummary recording.jfr [conference]");
+            System.exit(1);
+        }
+
+        final boolean byConference = args.length > 1 && args[1].equals("conference");
+        final Map<String, Summary> summaries = summarize(Paths.get(args[0]), byConference);
+
+        System.out.println(String.format("%-60s %8s %8s %12s %12s %12s %12s %12s",
+                "Event", "count", "rejected", "total ms", "mean ms", "p99 ms", "max ms", "items"));
+        for (final Map.Entry<String, Summary> entry : summaries.entrySet()) {
+            System.out.println(String.format("%-60s %s", entry.getKey(), entry.getValue()));
+        }
+    }
+
+    /**
+     * Reads all model and view events from theRecording.
+     * @param theRecording the path of the .jfr file.
+     * @param theByConference whether to group the events by conference as well as by type.
+     * @return the summaries by event type, sorted by name.
+     * @throws IOException if the recording can not be read.
+     */
+    public static Map<String, Summary> summarize(final Path theRecording, final boolean theByConference)
+            throws IOException {
+        final Map<String, Summary> result = new TreeMap<>();
+
+        try (RecordingFile recording = new RecordingFile(theRecording)) {
+            while (recording.hasMoreEvents()) {
+                final RecordedEvent event = recording.readEvent();
+                if (!event.getEventType().getCategoryNames().contains(FlightEvents.CATEGORY)) {
+                    continue;
+                }
+
+                String key = event.getEventType().getName();
+                if (theByConference && event.hasField("conferenceName")) {
+                    key += " [" + event.getString("conferenceName") + "]";
+                }
+
+                result.computeIfAbsent(key, k -> new Summary()).add(event);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * The summary of a group of events.
+     */
+    public static class Summary {
+
+        private final List<Long> myDurations = new ArrayList<>();
+        private long myRejected;
+        private long myItems;
+
+        private void add(final RecordedEvent theEvent) {
+            final Duration duration = theEvent.getDuration();
+            myDurations.add(duration.toNanos());
+
+            if (theEvent.hasField("rejected") && theEvent.getBoolean("rejected")) {
+                myRejected++;
+            }
+            if (theEvent.hasField("itemCount")) {
+                myItems += theEvent.getLong("itemCount");
+            }
+        }
+
+        /**
+         * @return the amount of events.
+         */
+        public int getCount() {
+            return myDurations.size();
+        }
+
+        /**
+         * @return the amount of rejected operations.
+         */
+        public long getRejected() {
+            return myRejected;
+        }
+
+        /**
+         * @return the sum of the item counts of the events.
+         */
+        public long getItems() {
+            return myItems;
+        }
+
+        /**
+         * @return the duration at thePercentile in nanoseconds.
+         */
+        public long getPercentile(final double thePercentile) {
+            final List<Long> sorted = new ArrayList<>(myDurations);
+            sorted.sort(null);
+            final int index = (int) Math.ceil(sorted.size() * thePercentile / 100) - 1;
+            return sorted.get(Math.max(0, Math.min(sorted.size() - 1, index)));
+        }
+
+        /**
+         * @return the total duration of the events in nanoseconds.
+         */
+        public long getTotal() {
+            long result = 0;
+            for (final long duration : myDurations) {
+                result += duration;
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            final double millis = 1e6;
+            return String.format("%8d %8d %12.3f %12.3f %12.3f %12.3f %12d",
+                    getCount(), myRejected, getTotal() / millis, getTotal() / millis / getCount(),
+                    getPercentile(99) / millis, getPercentile(100) / millis, myItems);
+        }
+    }
+}
@@ -118,7 +118,7 @@ public class Initialize {
         
         withPapers.getUserRole().addPaper(author, simplePaper);
         withPapers.getDirectorRole().assignPaperToSubProgramChair(subchair, simplePaper);
-        withPapers.getInfo().getSubmissionDate().setTime(now.getTime() - 1);
+        withPapers.getInfo().setSubmissionDate(new Date(now.getTime() - 1));
         withPapers.getSubprogramRole().assignReviewer(reviewer1, simplePaper);
         withPapers.getSubprogramRole().assignReviewer(reviewer2, simplePaper);
         withPapers.getSubprogramRole().assignReviewer(reviewer3, simplePaper);
@@ -143,11 +143,11 @@ public class Initialize {
         String paperName = "Simplified Data Processing on Large Clusters";
         
         Paper simplePaper = Paper.createPaper(new File(""), authors, paperName, author);
-        simplePaper.getSubmitDate().setTime(new Date().getTime() - 100);
+        simplePaper.setSubmissionDate(new Date(new Date().getTime() - 100));
         
         conference.getUserRole().addPaper(author, simplePaper);
         conference.getDirectorRole().assignPaperToSubProgramChair(subchair, simplePaper);
-        conference.getInfo().getSubmissionDate().setTime(now.getTime() - 1);
+        conference.getInfo().setSubmissionDate(new Date(now.getTime() - 1));
         conference.getSubprogramRole().assignReviewer(reviewer1, simplePaper);
 //        conference.getSubprogramRole().assignReviewer(reviewer2, simplePaper);
         conference.getSubprogramRole().assignReviewer(reviewer3, simplePaper);
@@ -170,10 +170,10 @@ public class Initialize {
         String paperName = "Super Fluids in Motion";
         
         Paper simplePaper = Paper.createPaper(new File(""), authors, paperName, author);
-        simplePaper.getSubmitDate().setTime(new Date().getTime() - 100);
+        simplePaper.setSubmissionDate(new Date(new Date().getTime() - 100));
         conference.getUserRole().addPaper(author, simplePaper);
         conference.getDirectorRole().assignPaperToSubProgramChair(subchair, simplePaper);
-        conference.getInfo().getSubmissionDate().setTime(now.getTime() - 1);
+        conference.getInfo().setSubmissionDate(new Date(now.getTime() - 1));
         conference.getSubprogramRole().assignReviewer(reviewer1, simplePaper);
     }
 
@@ -186,7 +186,7 @@ public class Initialize {
         authors.add(author.getName());
         
         Paper p = Paper.createPaper(new File(""), authors, "Flucating Fluids in a Fountain", author);
-        p.getSubmitDate().setTime(conference.getInfo().getSubmissionDate().getTime() - 1);
+        p.setSubmissionDate(new Date(conference.getInfo().getSubmissionDate().getTime() - 1));
         
         conference.getUserRole().addPaper(author, p);
         
@@ -269,7 +269,7 @@ public class Initialize {
         Paper p2 = Paper.createPaper(new File(""), authors2, "Engineering and Vision, the Beauty of a Camera", author2);
         conference.getUserRole().addPaper(author2, p);
         
-        conference.getInfo().getSubmissionDate().setTime(new Date().getTime() - 1);
+        conference.getInfo().setSubmissionDate(new Date(new Date().getTime() - 1));
 
         conference.getDirectorRole().assignPaperToSubProgramChair(subchair, p);
         conference.getDirectorRole().assignPaperToSubProgramChair(subchair, p2);
@@ -4,8 +4,10 @@ import java.awt.Dimension;
 
 import javax.swing.ImageIcon;
 import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
 
 import model.ConferenceSystem;
+import model.DeadlineScheduler;
 
 /**
  * A GUI to run the conference model.
@@ -61,6 +63,14 @@ public class Main {
         cards.addObserver(header);
         cards.changeTo(LoginScreen.PANEL_LOOKUP_NAME);
         
+        // Redraw the current panel when a deadline of the selected conference passes.
+        DeadlineScheduler.getInstance().addPhaseListener((conference, oldPhase, newPhase) ->
+            SwingUtilities.invokeLater(() -> {
+                if (context.getCurrentConference() != null && context.getCurrentConference().getInfo() == conference) {
+                    cards.changeTo(cards.getCurrentPanelName());
+                }
+            }));
+        
         frame.getContentPane().add(header);
         frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         frame.setVisible(true);
@@ -79,7 +79,18 @@ public class PanelChanger extends Observable {
         
         cardLayout.show(parent, panelName);
         card.setVisible(false);
+        
+        PanelUpdateEvent event = new PanelUpdateEvent();
+        event.begin();
         card.updatePanel();
+        if (event.shouldCommit()) {
+            UserContext context = card.context;
+            event.set(context.getCurrentConference() == null ? null : context.getCurrentConference().getInfo(),
+                    context.getPaper(), context.getUser(), card.getComponentCount());
+            event.panelName = panelName;
+            event.commit();
+        }
+        
         card.setVisible(true);
         card.repaint();
         
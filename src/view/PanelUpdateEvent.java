@@ -0,0 +1,22 @@
+package view;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import model.FlightEvents;
+
+/**
+ * A JDK Flight Recorder event for a single PanelCard.updatePanel() call.
+ * The item count is the amount of components in the panel after the update.
+ *
+ * @version 10/19/2026
+ */
+@Name("view.PanelUpdate")
+@Label("Panel Update")
+@Category(FlightEvents.CATEGORY)
+public class PanelUpdateEvent extends FlightEvents.ModelEvent {
+
+    @Label("Panel")
+    public String panelName;
+}
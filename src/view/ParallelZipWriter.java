@@ -0,0 +1,467 @@
+package view;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Writes a zip archive whose entries are compressed on a pool of threads.
+ *
+ * ZipOutputStream compresses on the calling thread, so this class writes the zip format itself: each added file is
+ * deflated by a worker into a spool (memory up to SPOOL_MEMORY bytes, a temporary file beyond that) and the spools are
+ * copied to the output in the order the files were added. At most twice the amount of threads entries are in flight,
+ * so memory is bounded and the output is streamed. ZIP64 records are written where sizes, offsets or the amount of
+ * entries need them, so archives may exceed 4 GB.
+ *
+ * @version 10/19/2026
+ */
+public class ParallelZipWriter implements Closeable {
+
+    /** The largest compressed entry kept in memory before it is spooled to a temporary file. */
+    public static final int SPOOL_MEMORY = 1 << 20;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long MAX_32 = 0xFFFFFFFFL;
+    private static final int MAX_16 = 0xFFFF;
+    private static final int FLAG_UTF8 = 0x0800;
+    private static final int DEFLATED = 8;
+
+    private final CountingOutputStream myOut;
+    private final ExecutorService myPool;
+    private final int myWindow;
+    private final int myLevel;
+    private final Deque<Future<Entry>> myPending = new ArrayDeque<>();
+    private final List<Entry> myWritten = new ArrayList<>();
+    private long myUncompressedBytes;
+    private boolean myClosed;
+
+    /**
+     * @param theOut the stream to write the archive to; it is closed by close().
+     * @param theThreads the amount of threads compressing entries.
+     * @param theLevel the Deflater compression level.
+     */
+    public ParallelZipWriter(final OutputStream theOut, final int theThreads, final int theLevel) {
+        if (theThreads < 1) {
+            throw new IllegalArgumentException();
+        }
+        myOut = new CountingOutputStream(new BufferedOutputStream(theOut, BUFFER_SIZE));
+        myPool = Executors.newFixedThreadPool(theThreads, r -> {
+            final Thread thread = new Thread(r, "zip-deflater");
+            thread.setDaemon(true);
+            return thread;
+        });
+        myWindow = theThreads * 2;
+        myLevel = theLevel;
+    }
+
+    /**
+     * Adds theFile as the entry theName. The file is read when a worker gets to it.
+     * @throws IOException if an earlier entry could not be read or written.
+     */
+    public void add(final String theName, final File theFile) throws IOException {
+        add(theName, theFile.lastModified(), () -> new FileInputStream(theFile));
+    }
+
+    /**
+     * Adds the content of theSource as the entry theName.
+     * @param theName the name of the entry, with / as separator.
+     * @param theModified the modification time of the entry in epoch milliseconds.
+     * @param theSource opens the content; it is called and the stream closed on a worker thread.
+     * @throws IOException if an earlier entry could not be read or written.
+     */
+    public void add(final String theName, final long theModified, final Source theSource) throws IOException {
+        if (myClosed) {
+            throw new IllegalStateException("closed");
+        }
+        while (myPending.size() >= myWindow) {
+            writeNext();
+        }
+        myPending.add(myPool.submit(() -> compress(theName, theModified, theSource)));
+    }
+
+    /**
+     * @return the amount of entries written so far.
+     */
+    public int getEntryCount() {
+        return myWritten.size();
+    }
+
+    /**
+     * @return the uncompressed bytes of the entries written so far.
+     */
+    public long getUncompressedBytes() {
+        return myUncompressedBytes;
+    }
+
+    /**
+     * @return the bytes of the archive written so far.
+     */
+    public long getArchiveBytes() {
+        return myOut.myCount;
+    }
+
+    /**
+     * Writes the remaining entries and the central directory and closes the output.
+     */
+    @Override
+    public void close() throws IOException {
+        if (myClosed) {
+            return;
+        }
+        myClosed = true;
+        try {
+            while (!myPending.isEmpty()) {
+                writeNext();
+            }
+            writeCentralDirectory();
+            myOut.close();
+        } finally {
+            for (final Future<Entry> pending : myPending) {
+                // delete the spools of entries which were compressed but not written
+                if (!pending.cancel(true)) {
+                    try {
+                        pending.get().myData.delete();
+                    } catch (InterruptedException | ExecutionException | RuntimeException e) {
+                        // nothing was spooled
+                    }
+                }
+            }
+            myPending.clear();
+            myPool.shutdownNow();
+        }
+    }
+
+    private void writeNext() throws IOException {
+        final Entry entry;
+        try {
+            entry = myPending.removeFirst().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+
+        try {
+            entry.myOffset = myOut.myCount;
+            writeLocalHeader(entry);
+            entry.myData.copyTo(myOut);
+        } finally {
+            entry.myData.delete();
+        }
+        entry.myData = null;
+        myUncompressedBytes += entry.mySize;
+        myWritten.add(entry);
+    }
+
+    /**
+     * Deflates theSource into a spool, on a worker thread.
+     */
+    private Entry compress(final String theName, final long theModified, final Source theSource) throws IOException {
+        final Entry entry = new Entry(theName, theModified);
+        final Spool spool = new Spool();
+        final Deflater deflater = new Deflater(myLevel, true);
+        final CRC32 crc = new CRC32();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+
+        try (InputStream in = theSource.open();
+             DeflaterOutputStream out = new DeflaterOutputStream(spool, deflater, BUFFER_SIZE)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+                entry.mySize += read;
+            }
+        } catch (IOException | RuntimeException e) {
+            spool.delete();
+            throw e;
+        } finally {
+            deflater.end();
+        }
+
+        entry.myCrc = crc.getValue();
+        entry.myCompressedSize = spool.size();
+        entry.myData = spool;
+        return entry;
+    }
+
+    private void writeLocalHeader(final Entry theEntry) throws IOException {
+        final boolean zip64 = theEntry.mySize >= MAX_32 || theEntry.myCompressedSize >= MAX_32;
+        final byte[] name = theEntry.myName.getBytes(StandardCharsets.UTF_8);
+
+        writeInt(0x04034b50);
+        writeShort(zip64 ? 45 : 20);
+        writeShort(FLAG_UTF8);
+        writeShort(DEFLATED);
+        writeInt(theEntry.myDosTime);
+        writeInt(theEntry.myCrc);
+        writeInt(zip64 ? MAX_32 : theEntry.myCompressedSize);
+        writeInt(zip64 ? MAX_32 : theEntry.mySize);
+        writeShort(name.length);
+        writeShort(zip64 ? 20 : 0);
+        myOut.write(name);
+        if (zip64) {
+            writeShort(0x0001);
+            writeShort(16);
+            writeLong(theEntry.mySize);
+            writeLong(theEntry.myCompressedSize);
+        }
+    }
+
+    private void writeCentralDirectory() throws IOException {
+        final long start = myOut.myCount;
+
+        for (final Entry entry : myWritten) {
+            final byte[] name = entry.myName.getBytes(StandardCharsets.UTF_8);
+            final boolean size64 = entry.mySize >= MAX_32;
+            final boolean compressed64 = entry.myCompressedSize >= MAX_32;
+            final boolean offset64 = entry.myOffset >= MAX_32;
+            final int extra = (size64 ? 8 : 0) + (compressed64 ? 8 : 0) + (offset64 ? 8 : 0);
+            final boolean zip64 = extra > 0;
+
+            writeInt(0x02014b50);
+            writeShort(zip64 ? 45 : 20);
+            writeShort(zip64 ? 45 : 20);
+            writeShort(FLAG_UTF8);
+            writeShort(DEFLATED);
+            writeInt(entry.myDosTime);
+            writeInt(entry.myCrc);
+            writeInt(compressed64 ? MAX_32 : entry.myCompressedSize);
+            writeInt(size64 ? MAX_32 : entry.mySize);
+            writeShort(name.length);
+            writeShort(zip64 ? extra + 4 : 0);
+            writeShort(0); // comment
+            writeShort(0); // disk
+            writeShort(0); // internal attributes
+            writeInt(0); // external attributes
+            writeInt(offset64 ? MAX_32 : entry.myOffset);
+            myOut.write(name);
+            if (zip64) {
+                writeShort(0x0001);
+                writeShort(extra);
+                if (size64) {
+                    writeLong(entry.mySize);
+                }
+                if (compressed64) {
+                    writeLong(entry.myCompressedSize);
+                }
+                if (offset64) {
+                    writeLong(entry.myOffset);
+                }
+            }
+        }
+
+        final long end = myOut.myCount;
+        final long size = end - start;
+        final int count = myWritten.size();
+        if (count >= MAX_16 || size >= MAX_32 || start >= MAX_32) {
+            writeInt(0x06064b50);
+            writeLong(44);
+            writeShort(45);
+            writeShort(45);
+            writeInt(0);
+            writeInt(0);
+            writeLong(count);
+            writeLong(count);
+            writeLong(size);
+            writeLong(start);
+
+            writeInt(0x07064b50);
+            writeInt(0);
+            writeLong(end);
+            writeInt(1);
+        }
+
+        writeInt(0x06054b50);
+        writeShort(0);
+        writeShort(0);
+        writeShort(Math.min(count, MAX_16));
+        writeShort(Math.min(count, MAX_16));
+        writeInt(Math.min(size, MAX_32));
+        writeInt(Math.min(start, MAX_32));
+        writeShort(0);
+    }
+
+    private void writeShort(final int theValue) throws IOException {
+        myOut.write(theValue & 0xFF);
+        myOut.write((theValue >>> 8) & 0xFF);
+    }
+
+    private void writeInt(final long theValue) throws IOException {
+        writeShort((int) (theValue & 0xFFFF));
+        writeShort((int) ((theValue >>> 16) & 0xFFFF));
+    }
+
+    private void writeLong(final long theValue) throws IOException {
+        writeInt(theValue & MAX_32);
+        writeInt(theValue >>> 32);
+    }
+
+    /**
+     * Opens the content of an entry.
+     */
+    @FunctionalInterface
+    public interface Source {
+
+        /**
+         * @return a new stream over the content.
+         * @throws IOException if the content can not be opened.
+         */
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * A compressed entry.
+     */
+    private static final class Entry {
+
+        private final String myName;
+        private final int myDosTime;
+        private long myCrc;
+        private long mySize;
+        private long myCompressedSize;
+        private long myOffset;
+        private Spool myData;
+
+        private Entry(final String theName, final long theModified) {
+            myName = theName;
+            myDosTime = dosTime(theModified);
+        }
+
+        private static int dosTime(final long theMillis) {
+            final LocalDateTime time = LocalDateTime.ofInstant(
+                    Instant.ofEpochMilli(Math.max(theMillis, 315532800000L)), ZoneId.systemDefault());
+            if (time.getYear() < 1980) {
+                return (1 << 21) | (1 << 16);
+            }
+            return ((time.getYear() - 1980) << 25) | (time.getMonthValue() << 21) | (time.getDayOfMonth() << 16)
+                    | (time.getHour() << 11) | (time.getMinute() << 5) | (time.getSecond() >> 1);
+        }
+    }
+
+    /**
+     * An output kept in memory up to SPOOL_MEMORY bytes and in a temporary file beyond that.
+     */
+    private static final class Spool extends OutputStream {
+
+        private ByteArrayOutputStream myMemory = new ByteArrayOutputStream();
+        private File myFile;
+        private OutputStream myFileOut;
+        private long mySize;
+
+        @Override
+        public void write(final int theByte) throws IOException {
+            write(new byte[] {(byte) theByte}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] theBytes, final int theOffset, final int theLength) throws IOException {
+            if (myMemory != null && myMemory.size() + theLength > SPOOL_MEMORY) {
+                myFile = File.createTempFile("zip-entry", ".deflate");
+                myFileOut = new BufferedOutputStream(new FileOutputStream(myFile), BUFFER_SIZE);
+                myMemory.writeTo(myFileOut);
+                myMemory = null;
+            }
+            if (myMemory != null) {
+                myMemory.write(theBytes, theOffset, theLength);
+            } else {
+                myFileOut.write(theBytes, theOffset, theLength);
+            }
+            mySize += theLength;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (myFileOut != null) {
+                myFileOut.close();
+            }
+        }
+
+        private long size() {
+            return mySize;
+        }
+
+        private void copyTo(final OutputStream theOut) throws IOException {
+            if (myMemory != null) {
+                myMemory.writeTo(theOut);
+                return;
+            }
+            try (InputStream in = new FileInputStream(myFile)) {
+                in.transferTo(theOut);
+            }
+        }
+
+        private void delete() {
+            myMemory = null;
+            if (myFile != null) {
+                try {
+                    close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    myFile.delete();
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes written, for the offsets of the entries.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream myOut;
+        private long myCount;
+
+        private CountingOutputStream(final OutputStream theOut) {
+            myOut = theOut;
+        }
+
+        @Override
+        public void write(final int theByte) throws IOException {
+            myOut.write(theByte);
+            myCount++;
+        }
+
+        @Override
+        public void write(final byte[] theBytes, final int theOffset, final int theLength) throws IOException {
+            myOut.write(theBytes, theOffset, theLength);
+            myCount += theLength;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            myOut.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            myOut.close();
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package view;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import model.Conference;
+import model.ConferenceSystem;
+import model.Paper;
+import model.Review;
+import model.SubprogramUtilities.RecommendStatus;
+
+/**
+ * Exports the papers of a conference, with their reviews and recommendation, as JSON Lines or CSV and builds a
+ * proceedings archive: a zip of the metadata and of the paper, review and recommendation files.
+ *
+ * Papers are written one at a time as the conference is iterated, so the metadata is never held in memory as a whole.
+ * The archive is written with ParallelZipWriter, which compresses the files on several threads and streams the
+ * archive, so it works for conferences with far more manuscript data than heap. Files which do not exist are left
+ * out of the archive and counted. In the archive the files of a paper are under papers/NNNNNN/ and the metadata,
+ * which names the entries of every paper, is papers.jsonl.
+ *
+ * Usage: java view.ProceedingsExporter conference=name [out=archive.zip] [jsonl=file] [csv=file]
+ * [accepted=true] [threads=n] [level=n]
+ *
+ * @version 10/19/2026
+ */
+public class ProceedingsExporter {
+
+    /** The header of the CSV export. */
+    public static final String CSV_HEADER = "conference,title,submitter,authors,submitted,file,reviews,"
+            + "scores,meanScore,recommendation,recommendationShort";
+
+    /** The name of the metadata entry in the archive. */
+    public static final String METADATA_ENTRY = "papers.jsonl";
+
+    private final Conference myConference;
+
+    private boolean myAcceptedOnly;
+
+    private int myThreads = Runtime.getRuntime().availableProcessors();
+
+    private int myLevel = Deflater.DEFAULT_COMPRESSION;
+
+    /**
+     * @param theConference the conference to export.
+     */
+    public ProceedingsExporter(final Conference theConference) {
+        myConference = theConference;
+    }
+
+    /**
+     * Exports a conference of the saved model.
+     * @param args the settings as name=value pairs.
+     * @throws IOException if an export file can not be written.
+     */
+    public static void main(String[] args) throws IOException {
+        final Map<String, String> settings = new HashMap<>();
+        for (final String arg : args) {
+            final int split = arg.indexOf('=');
+            if (split <= 0) {
+                throw new IllegalArgumentException("Expected name=value but was " + arg);
+            }
+            settings.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+
+        final ConferenceSystem sys = ConferenceSystem.getInstance();
+        sys.deserializeData();
+        final Conference conference = sys.getConference(settings.getOrDefault("conference", ""));
+        if (conference == null) {
+            System.err.println("Usage: java view.ProceedingsExporter conference=name [out=archive.zip] "
+                    + "[jsonl=file] [csv=file] [accepted=true] [threads=n] [level=n]");
+            System.exit(1);
+        }
+
+        final ProceedingsExporter exporter = new ProceedingsExporter(conference);
+        exporter.setAcceptedOnly(Boolean.parseBoolean(settings.getOrDefault("accepted", "false")));
+        exporter.setThreads(Integer.parseInt(settings.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors()))));
+        exporter.setLevel(Integer.parseInt(settings.getOrDefault("level", "-1")));
+
+        if (settings.containsKey("jsonl")) {
+            try (Writer out = writer(new FileOutputStream(settings.get("jsonl")))) {
+                System.out.println(exporter.writeJsonLines(out) + " papers written to " + settings.get("jsonl"));
+            }
+        }
+        if (settings.containsKey("csv")) {
+            try (Writer out = writer(new FileOutputStream(settings.get("csv")))) {
+                System.out.println(exporter.writeCsv(out) + " papers written to " + settings.get("csv"));
+            }
+        }
+        if (settings.containsKey("out") || !(settings.containsKey("jsonl") || settings.containsKey("csv"))) {
+            final String out = settings.getOrDefault("out", "proceedings.zip");
+            System.out.println(exporter.writeArchive(new FileOutputStream(out)) + " to " + out);
+        }
+    }
+
+    /**
+     * @param theAcceptedOnly whether only papers recommended with RecommendStatus.YES are exported.
+     */
+    public void setAcceptedOnly(final boolean theAcceptedOnly) {
+        myAcceptedOnly = theAcceptedOnly;
+    }
+
+    /**
+     * @param theThreads the amount of threads compressing archive entries.
+     */
+    public void setThreads(final int theThreads) {
+        if (theThreads < 1) {
+            throw new IllegalArgumentException();
+        }
+        myThreads = theThreads;
+    }
+
+    /**
+     * @param theLevel the Deflater level of the archive entries.
+     */
+    public void setLevel(final int theLevel) {
+        if (theLevel < Deflater.DEFAULT_COMPRESSION || theLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException();
+        }
+        myLevel = theLevel;
+    }
+
+    /**
+     * Writes one JSON object per exported paper to theOut.
+     * @param theOut the destination; flushed, not closed.
+     * @return the amount of papers written.
+     * @throws IOException if theOut fails.
+     */
+    public long writeJsonLines(final Writer theOut) throws IOException {
+        long result = 0;
+        final StringBuilder line = new StringBuilder();
+        for (final Paper paper : papers()) {
+            line.setLength(0);
+            appendJson(line, paper, null);
+            theOut.write(line.append('\n').toString());
+            result++;
+        }
+        theOut.flush();
+        return result;
+    }
+
+    /**
+     * Writes CSV_HEADER and one line per exported paper to theOut.
+     * @param theOut the destination; flushed, not closed.
+     * @return the amount of papers written.
+     * @throws IOException if theOut fails.
+     */
+    public long writeCsv(final Writer theOut) throws IOException {
+        theOut.write(CSV_HEADER + "\n");
+        long result = 0;
+        final StringBuilder line = new StringBuilder();
+        for (final Paper paper : papers()) {
+            line.setLength(0);
+            final List<Review> reviews = paper.getReviews();
+            final StringBuilder scores = new StringBuilder();
+            long sum = 0;
+            for (final Review review : reviews) {
+                if (scores.length() > 0) {
+                    scores.append(';');
+                }
+                scores.append(review.score);
+                sum += review.score;
+            }
+
+            Records.appendCsv(line, myConference.getInfo().getName()).append(',');
+            Records.appendCsv(line, paper.getTitle()).append(',');
+            Records.appendCsv(line, paper.getSubmitterUserProfile().getUID()).append(',');
+            Records.appendCsv(line, String.join(";", paper.getAuthors())).append(',');
+            line.append(Instant.ofEpochMilli(paper.getSubmitMillis())).append(',');
+            Records.appendCsv(line, paper.getPaperFile().getPath()).append(',');
+            line.append(reviews.size()).append(',');
+            line.append(scores).append(',');
+            if (!reviews.isEmpty()) {
+                line.append(String.format(Locale.ROOT, "%.3f", sum / (double) reviews.size()));
+            }
+            line.append(',');
+            if (paper.getMyRecommendation() != null) {
+                line.append(paper.getMyRecommendation().score);
+            }
+            line.append(',');
+            Records.appendCsv(line, paper.getRecommendationShort()).append('\n');
+
+            theOut.write(line.toString());
+            result++;
+        }
+        theOut.flush();
+        return result;
+    }
+
+    /**
+     * Writes the proceedings archive to theOut.
+     * @param theOut the destination; closed when the archive is complete.
+     * @return the report of the export.
+     * @throws IOException if a file can not be read or theOut fails.
+     */
+    public Report writeArchive(final OutputStream theOut) throws IOException {
+        final Report report = new Report();
+        final File metadata = File.createTempFile("papers", ".jsonl");
+        try {
+            final ParallelZipWriter zip = new ParallelZipWriter(theOut, myThreads, myLevel);
+            try (zip) {
+                try (Writer out = writer(new FileOutputStream(metadata))) {
+                    final StringBuilder line = new StringBuilder();
+                    int index = 0;
+                    for (final Paper paper : papers()) {
+                        final String directory = String.format("papers/%06d/", index++);
+                        final Map<Object, String> entries = new HashMap<>();
+
+                        entries.put(paper, addFile(zip, report, paper.getPaperFile(), directory + "paper-"));
+                        int reviewIndex = 1;
+                        for (final Review review : paper.getReviews()) {
+                            entries.put(review, addFile(zip, report, review.review,
+                                    directory + "review-" + reviewIndex++ + "-"));
+                            report.myReviews++;
+                        }
+                        final Review recommendation = paper.getMyRecommendation();
+                        if (recommendation != null) {
+                            entries.put(recommendation, addFile(zip, report, recommendation.review,
+                                    directory + "recommendation-"));
+                        }
+
+                        line.setLength(0);
+                        appendJson(line, paper, entries);
+                        out.write(line.append('\n').toString());
+                        report.myPapers++;
+                    }
+                }
+                zip.add(METADATA_ENTRY, metadata.lastModified(), () -> new FileInputStream(metadata));
+            }
+            report.myUncompressedBytes = zip.getUncompressedBytes();
+            report.myArchiveBytes = zip.getArchiveBytes();
+        } finally {
+            metadata.delete();
+        }
+        report.myEndNanos = System.nanoTime();
+        return report;
+    }
+
+    /**
+     * @return the papers to export.
+     */
+    private List<Paper> papers() {
+        final List<Paper> result = myConference.getInfo().getAllPapers();
+        if (myAcceptedOnly) {
+            result.removeIf(p -> p.getMyRecommendation() == null
+                    || p.getMyRecommendation().score != RecommendStatus.YES.intRepresentation);
+        }
+        return result;
+    }
+
+    /**
+     * Adds theFile to the archive if it exists.
+     * @return the name of the entry or null if theFile does not exist.
+     */
+    private static String addFile(
+            final ParallelZipWriter theZip,
+            final Report theReport,
+            final File theFile,
+            final String thePrefix
+            ) throws IOException {
+        if (theFile == null || !theFile.isFile()) {
+            theReport.myMissingFiles++;
+            return null;
+        }
+        final String name = thePrefix + theFile.getName();
+        theZip.add(name, theFile);
+        theReport.myFiles++;
+        return name;
+    }
+
+    /**
+     * Appends the JSON object of thePaper, with the archive entries of its files if theEntries is not null.
+     */
+    private void appendJson(final StringBuilder theOut, final Paper thePaper, final Map<Object, String> theEntries) {
+        theOut.append("{\"conference\":");
+        Records.appendJson(theOut, myConference.getInfo().getName());
+        theOut.append(",\"title\":");
+        Records.appendJson(theOut, thePaper.getTitle());
+        theOut.append(",\"submitter\":");
+        Records.appendJson(theOut, thePaper.getSubmitterUserProfile().getUID());
+        theOut.append(",\"authors\":[");
+        boolean first = true;
+        for (final String author : thePaper.getAuthors()) {
+            if (!first) {
+                theOut.append(',');
+            }
+            Records.appendJson(theOut, author);
+            first = false;
+        }
+        theOut.append("],\"submitted\":\"").append(Instant.ofEpochMilli(thePaper.getSubmitMillis())).append('"');
+        theOut.append(",\"file\":");
+        Records.appendJson(theOut, thePaper.getPaperFile().getPath());
+        appendEntry(theOut, theEntries, thePaper);
+
+        theOut.append(",\"reviews\":[");
+        first = true;
+        for (final Review review : thePaper.getReviews()) {
+            if (!first) {
+                theOut.append(',');
+            }
+            appendReview(theOut, review, theEntries);
+            first = false;
+        }
+        theOut.append("],\"recommendation\":");
+        if (thePaper.getMyRecommendation() == null) {
+            theOut.append("null");
+        } else {
+            appendReview(theOut, thePaper.getMyRecommendation(), theEntries);
+        }
+        theOut.append(",\"recommendationShort\":");
+        Records.appendJson(theOut, thePaper.getRecommendationShort());
+        theOut.append('}');
+    }
+
+    private static void appendReview(
+            final StringBuilder theOut,
+            final Review theReview,
+            final Map<Object, String> theEntries
+            ) {
+        theOut.append("{\"score\":").append(theReview.score).append(",\"file\":");
+        Records.appendJson(theOut, theReview.review == null ? null : theReview.review.getPath());
+        appendEntry(theOut, theEntries, theReview);
+        theOut.append('}');
+    }
+
+    private static void appendEntry(final StringBuilder theOut, final Map<Object, String> theEntries,
+            final Object theKey) {
+        if (theEntries != null) {
+            theOut.append(",\"archiveFile\":");
+            Records.appendJson(theOut, theEntries.get(theKey));
+        }
+    }
+
+    private static Writer writer(final OutputStream theOut) {
+        return new BufferedWriter(new OutputStreamWriter(theOut, StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    /**
+     * The counts and sizes of an archive export.
+     */
+    public static class Report {
+
+        private final long myStartNanos = System.nanoTime();
+        private long myEndNanos;
+        private long myPapers;
+        private long myReviews;
+        private long myFiles;
+        private long myMissingFiles;
+        private long myUncompressedBytes;
+        private long myArchiveBytes;
+
+        /**
+         * @return the amount of papers exported.
+         */
+        public long getPapers() {
+            return myPapers;
+        }
+
+        /**
+         * @return the amount of reviews of the exported papers.
+         */
+        public long getReviews() {
+            return myReviews;
+        }
+
+        /**
+         * @return the amount of paper, review and recommendation files in the archive.
+         */
+        public long getFiles() {
+            return myFiles;
+        }
+
+        /**
+         * @return the amount of referenced files which did not exist.
+         */
+        public long getMissingFiles() {
+            return myMissingFiles;
+        }
+
+        /**
+         * @return the size of all archive entries before compression.
+         */
+        public long getUncompressedBytes() {
+            return myUncompressedBytes;
+        }
+
+        /**
+         * @return the size of the archive.
+         */
+        public long getArchiveBytes() {
+            return myArchiveBytes;
+        }
+
+        /**
+         * @return the time the export took in milliseconds.
+         */
+        public long getElapsedMillis() {
+            return (myEndNanos - myStartNanos) / 1_000_000;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "%d papers, %d reviews, %d files (%d missing), %d bytes compressed to %d in %d ms (%.1f MB/s)",
+                    myPapers, myReviews, myFiles, myMissingFiles, myUncompressedBytes, myArchiveBytes,
+                    getElapsedMillis(), myUncompressedBytes / 1e3 / Math.max(1, getElapsedMillis()));
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package view;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reading and writing of single CSV and JSON Lines records, for the bulk import and export of the model.
+ *
+ * CSV follows RFC 4180 except that a record can not span lines. JSON objects are limited to what the records need:
+ * strings, numbers, booleans, null, arrays and nested objects. Numbers are parsed as Long or Double.
+ *
+ * @version 10/19/2026
+ */
+public final class Records {
+
+    private Records() {
+    }
+
+    /**
+     * Splits one CSV line into its fields.
+     * @param theLine the line without the line break.
+     * @return the unquoted fields.
+     * @throws IllegalArgumentException if a quoted field is not closed.
+     */
+    public static List<String> parseCsv(final String theLine) {
+        final List<String> result = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        int i = 0;
+
+        while (true) {
+            field.setLength(0);
+            if (i < theLine.length() && theLine.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i >= theLine.length()) {
+                        throw new IllegalArgumentException("Unclosed quote in CSV record");
+                    }
+                    final char c = theLine.charAt(i++);
+                    if (c == '"') {
+                        if (i < theLine.length() && theLine.charAt(i) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                }
+                while (i < theLine.length() && theLine.charAt(i) != ',') {
+                    i++;
+                }
+            } else {
+                while (i < theLine.length() && theLine.charAt(i) != ',') {
+                    field.append(theLine.charAt(i++));
+                }
+            }
+            result.add(field.toString());
+            if (i >= theLine.length()) {
+                return result;
+            }
+            i++; // the comma
+        }
+    }
+
+    /**
+     * Appends theValue as a CSV field to theOut, quoting it when needed.
+     * @return theOut.
+     */
+    public static StringBuilder appendCsv(final StringBuilder theOut, final String theValue) {
+        if (theValue == null) {
+            return theOut;
+        }
+        boolean quote = false;
+        for (int i = 0; i < theValue.length() && !quote; i++) {
+            final char c = theValue.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            return theOut.append(theValue);
+        }
+        theOut.append('"');
+        for (int i = 0; i < theValue.length(); i++) {
+            final char c = theValue.charAt(i);
+            if (c == '"') {
+                theOut.append('"');
+            }
+            theOut.append(c);
+        }
+        return theOut.append('"');
+    }
+
+    /**
+     * Parses one JSON object.
+     * @param theLine the text of the object.
+     * @return the members of the object in order; arrays are Lists and objects Maps.
+     * @throws IllegalArgumentException if theLine is not a JSON object.
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> parseJson(final String theLine) {
+        final JsonParser parser = new JsonParser(theLine);
+        final Object result = parser.value();
+        parser.skipWhitespace();
+        if (!(result instanceof Map) || parser.myIndex != theLine.length()) {
+            throw new IllegalArgumentException("Not a JSON object: " + abbreviate(theLine));
+        }
+        return (Map<String, Object>) result;
+    }
+
+    /**
+     * Appends theValue as a JSON string to theOut, or null if theValue is null.
+     * @return theOut.
+     */
+    public static StringBuilder appendJson(final StringBuilder theOut, final String theValue) {
+        if (theValue == null) {
+            return theOut.append("null");
+        }
+        theOut.append('"');
+        for (int i = 0; i < theValue.length(); i++) {
+            final char c = theValue.charAt(i);
+            switch (c) {
+                case '"':
+                    theOut.append("\\\"");
+                    break;
+                case '\\':
+                    theOut.append("\\\\");
+                    break;
+                case '\n':
+                    theOut.append("\\n");
+                    break;
+                case '\r':
+                    theOut.append("\\r");
+                    break;
+                case '\t':
+                    theOut.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        theOut.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        theOut.append(c);
+                    }
+            }
+        }
+        return theOut.append('"');
+    }
+
+    private static String abbreviate(final String theText) {
+        return theText.length() <= 80 ? theText : theText.substring(0, 77) + "...";
+    }
+
+    /**
+     * A recursive descent parser over one JSON text.
+     */
+    private static final class JsonParser {
+
+        private final String myText;
+        private int myIndex;
+
+        private JsonParser(final String theText) {
+            myText = theText;
+        }
+
+        private Object value() {
+            skipWhitespace();
+            if (myIndex >= myText.length()) {
+                throw error("Unexpected end");
+            }
+            final char c = myText.charAt(myIndex);
+            switch (c) {
+                case '{':
+                    return object();
+                case '[':
+                    return array();
+                case '"':
+                    return string();
+                case 't':
+                    return literal("true", Boolean.TRUE);
+                case 'f':
+                    return literal("false", Boolean.FALSE);
+                case 'n':
+                    return literal("null", null);
+                default:
+                    return number();
+            }
+        }
+
+        private Map<String, Object> object() {
+            final Map<String, Object> result = new LinkedHashMap<>();
+            myIndex++;
+            skipWhitespace();
+            if (peek() == '}') {
+                myIndex++;
+                return result;
+            }
+            while (true) {
+                skipWhitespace();
+                if (peek() != '"') {
+                    throw error("Expected a member name");
+                }
+                final String name = string();
+                skipWhitespace();
+                expect(':');
+                result.put(name, value());
+                skipWhitespace();
+                if (peek() == ',') {
+                    myIndex++;
+                } else {
+                    expect('}');
+                    return result;
+                }
+            }
+        }
+
+        private List<Object> array() {
+            final List<Object> result = new ArrayList<>();
+            myIndex++;
+            skipWhitespace();
+            if (peek() == ']') {
+                myIndex++;
+                return result;
+            }
+            while (true) {
+                result.add(value());
+                skipWhitespace();
+                if (peek() == ',') {
+                    myIndex++;
+                } else {
+                    expect(']');
+                    return result;
+                }
+            }
+        }
+
+        private String string() {
+            final StringBuilder result = new StringBuilder();
+            myIndex++;
+            while (true) {
+                if (myIndex >= myText.length()) {
+                    throw error("Unclosed string");
+                }
+                final char c = myText.charAt(myIndex++);
+                if (c == '"') {
+                    return result.toString();
+                }
+                if (c != '\\') {
+                    result.append(c);
+                    continue;
+                }
+                if (myIndex >= myText.length()) {
+                    throw error("Unclosed string");
+                }
+                final char escaped = myText.charAt(myIndex++);
+                switch (escaped) {
+                    case 'b':
+                        result.append('\b');
+                        break;
+                    case 'f':
+                        result.append('\f');
+                        break;
+                    case 'n':
+                        result.append('\n');
+                        break;
+                    case 'r':
+                        result.append('\r');
+                        break;
+                    case 't':
+                        result.append('\t');
+                        break;
+                    case 'u':
+                        if (myIndex + 4 > myText.length()) {
+                            throw error("Bad unicode escape");
+                        }
+                        result.append((char) Integer.parseInt(myText.substring(myIndex, myIndex + 4), 16));
+                        myIndex += 4;
+                        break;
+                    default:
+                        result.append(escaped);
+                }
+            }
+        }
+
+        private Object number() {
+            final int start = myIndex;
+            boolean decimal = false;
+            while (myIndex < myText.length()) {
+                final char c = myText.charAt(myIndex);
+                if (c == '.' || c == 'e' || c == 'E') {
+                    decimal = true;
+                } else if (!(c == '-' || c == '+' || (c >= '0' && c <= '9'))) {
+                    break;
+                }
+                myIndex++;
+            }
+            if (start == myIndex) {
+                throw error("Unexpected character");
+            }
+            final String number = myText.substring(start, myIndex);
+            try {
+                return decimal ? (Object) Double.valueOf(number) : (Object) Long.valueOf(number);
+            } catch (NumberFormatException e) {
+                throw error("Bad number " + number);
+            }
+        }
+
+        private Object literal(final String theLiteral, final Object theValue) {
+            if (!myText.startsWith(theLiteral, myIndex)) {
+                throw error("Unexpected character");
+            }
+            myIndex += theLiteral.length();
+            return theValue;
+        }
+
+        private void skipWhitespace() {
+            while (myIndex < myText.length() && Character.isWhitespace(myText.charAt(myIndex))) {
+                myIndex++;
+            }
+        }
+
+        private char peek() {
+            return myIndex < myText.length() ? myText.charAt(myIndex) : 0;
+        }
+
+        private void expect(final char theChar) {
+            if (peek() != theChar) {
+                throw error("Expected '" + theChar + "'");
+            }
+            myIndex++;
+        }
+
+        private IllegalArgumentException error(final String theMessage) {
+            return new IllegalArgumentException(theMessage + " at " + myIndex + " in " + abbreviate(myText));
+        }
+    }
+}
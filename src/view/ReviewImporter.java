@@ -0,0 +1,400 @@
+package view;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import model.Conference;
+import model.ConferenceInfo;
+import model.ConferenceSystem;
+import model.Paper;
+import model.PaperState;
+import model.UserProfile;
+
+/**
+ * Ingests a directory tree of review files written offline into a ConferenceSystem.
+ *
+ * Each review file lies at conference/reviewer/title#score.extension below the root directory: the name of the
+ * conference, the UID of the reviewer, the title of the reviewed paper and the score. Names are matched ignoring case,
+ * punctuation and spacing, so titles with characters which can not appear in file names still match. A file is
+ * matched to its (reviewer, paper) assignment through an index of all assignments built before the walk, and sent
+ * with ReviewerUtilities.sendReview(). Files without an assignment, with a bad score, for a paper the reviewer
+ * reviewed already or authored, or for a withdrawn paper are rejected.
+ *
+ * The files are checked, and copied to the store directory if one is set, on a fixed pool of threads which bounds
+ * the concurrent I/O; at most twice the amount of threads files are in flight. The reviews are sent on the calling
+ * thread in the order of the file names, so the model keeps a single writer and the result does not depend on the
+ * amount of threads. Bad files are counted and reported, they do not stop the import.
+ *
+ * Usage: java view.ReviewImporter directory [threads=n] [store=directory]
+ * The result is saved with ConferenceSystem.serializeModel().
+ *
+ * @version 10/19/2026
+ */
+public class ReviewImporter {
+
+    /** The amount of error messages kept in a Report. */
+    public static final int MAX_ERRORS = 100;
+
+    /** Separates the title from the score in the name of a review file. */
+    public static final char SCORE_SEPARATOR = '#';
+
+    private final ConferenceSystem mySystem;
+
+    private int myThreads = Runtime.getRuntime().availableProcessors();
+
+    private Path myStore;
+
+    /**
+     * @param theSystem the system to import into.
+     */
+    public ReviewImporter(final ConferenceSystem theSystem) {
+        mySystem = theSystem;
+    }
+
+    /**
+     * Imports the review directory named in args and saves the model.
+     * @param args the directory and optionally threads=n and store=directory.
+     * @throws IOException if the directory can not be walked.
+     */
+    public static void main(String[] args) throws IOException {
+        final ConferenceSystem sys = ConferenceSystem.getInstance();
+        sys.deserializeData();
+
+        final ReviewImporter importer = new ReviewImporter(sys);
+        Path root = null;
+        for (final String arg : args) {
+            if (arg.startsWith("threads=")) {
+                importer.setThreads(Integer.parseInt(arg.substring("threads=".length())));
+            } else if (arg.startsWith("store=")) {
+                importer.setStore(Paths.get(arg.substring("store=".length())));
+            } else {
+                root = Paths.get(arg);
+            }
+        }
+        if (root == null) {
+            System.err.println("Usage: java view.ReviewImporter directory [threads=n] [store=directory]");
+            return;
+        }
+
+        final Report report = importer.importDirectory(root);
+        System.out.println(root + ": " + report);
+        for (final String error : report.getErrors()) {
+            System.out.println("  " + error);
+        }
+
+        sys.serializeModel();
+    }
+
+    /**
+     * @param theThreads the amount of threads reading and copying review files.
+     */
+    public void setThreads(final int theThreads) {
+        if (theThreads < 1) {
+            throw new IllegalArgumentException();
+        }
+        myThreads = theThreads;
+    }
+
+    /**
+     * @param theStore the directory review files are copied to, keeping their place below the root, or null to let
+     * the reviews point to the imported files.
+     */
+    public void setStore(final Path theStore) {
+        myStore = theStore;
+    }
+
+    /**
+     * Imports every review file below theRoot.
+     * @param theRoot the directory holding a directory per conference.
+     * @return the report of the import.
+     * @throws IOException if theRoot can not be walked.
+     */
+    public Report importDirectory(final Path theRoot) throws IOException {
+        final Report report = new Report();
+        final Map<String, Map<String, Assignment>> index = indexAssignments();
+        final List<Path> files;
+        try (Stream<Path> walk = Files.walk(theRoot)) {
+            files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+
+        final ExecutorService pool = Executors.newFixedThreadPool(myThreads, r -> {
+            final Thread thread = new Thread(r, "review-importer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final Deque<Future<Ingested>> pending = new ArrayDeque<>();
+            final Iterator<Path> next = files.iterator();
+            while (next.hasNext() || !pending.isEmpty()) {
+                while (next.hasNext() && pending.size() < myThreads * 2) {
+                    final Path file = next.next();
+                    pending.add(pool.submit(() -> read(theRoot, file, index)));
+                }
+                send(pending.remove(), report);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        report.myEndNanos = System.nanoTime();
+        return report;
+    }
+
+    /**
+     * Maps the normalized conference name and reviewer UID, then the normalized title, to each assignment.
+     */
+    private Map<String, Map<String, Assignment>> indexAssignments() {
+        final Map<String, Map<String, Assignment>> result = new HashMap<>();
+        for (final Conference conference : mySystem.getConferences()) {
+            final ConferenceInfo info = conference.getInfo();
+            final String name = normalize(info.getName());
+            info.forEachReviewer(reviewer -> {
+                final Map<String, Assignment> papers =
+                        result.computeIfAbsent(key(name, normalize(reviewer.getUID())), k -> new HashMap<>());
+                info.forEachPaperAssignedToReviewer(reviewer, paper ->
+                        papers.put(normalize(paper.getTitle()), new Assignment(conference, reviewer, paper)));
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Matches theFile to its assignment and checks or copies it, on a worker thread.
+     */
+    private Ingested read(final Path theRoot, final Path theFile,
+            final Map<String, Map<String, Assignment>> theIndex) {
+        final Path relative = theRoot.relativize(theFile);
+        try {
+            return match(theFile, relative, theIndex);
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException(relative + ": " + e.getMessage(), e);
+        }
+    }
+
+    private Ingested match(final Path theFile, final Path theRelative,
+            final Map<String, Map<String, Assignment>> theIndex) throws IOException {
+        if (theRelative.getNameCount() != 3) {
+            throw new IllegalArgumentException("not in a conference/reviewer directory");
+        }
+
+        final String name = theRelative.getFileName().toString();
+        final int dot = name.lastIndexOf('.');
+        final String stem = dot > 0 ? name.substring(0, dot) : name;
+        final int separator = stem.lastIndexOf(SCORE_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("no score in the file name");
+        }
+        final int score;
+        try {
+            score = Integer.parseInt(stem.substring(separator + 1).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("bad score " + stem.substring(separator + 1));
+        }
+
+        final Map<String, Assignment> papers = theIndex.get(key(normalize(theRelative.getName(0).toString()),
+                normalize(theRelative.getName(1).toString())));
+        final Assignment assignment = papers == null ? null : papers.get(normalize(stem.substring(0, separator)));
+        if (assignment == null) {
+            throw new IllegalArgumentException("no paper with this title is assigned to the reviewer");
+        }
+
+        if (!Files.isReadable(theFile) || Files.size(theFile) == 0) {
+            throw new IllegalArgumentException("empty or unreadable file");
+        }
+        Path file = theFile;
+        if (myStore != null) {
+            file = myStore.resolve(theRelative.toString());
+            Files.createDirectories(file.getParent());
+            Files.copy(theFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return new Ingested(assignment, theRelative, file.toFile(), score);
+    }
+
+    /**
+     * Sends the review of theFuture, or records why its file was rejected.
+     */
+    private void send(final Future<Ingested> theFuture, final Report theReport) {
+        theReport.myFiles++;
+        final Ingested ingested;
+        try {
+            ingested = theFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            theReport.reject(e.getCause().getMessage());
+            return;
+        }
+
+        final Assignment assignment = ingested.myAssignment;
+        final Path file = ingested.myRelative;
+        for (int r = 0; r < assignment.myPaper.getReviewCount(); r++) {
+            if (assignment.myReviewer.equals(assignment.myPaper.getReview(r).reviewer)) {
+                theReport.reject(file + ": the reviewer reviewed the paper already");
+                return;
+            }
+        }
+        if (assignment.myPaper.isAuthoredBy(assignment.myReviewer)) {
+            theReport.reject(file + ": the reviewer is an author of the paper");
+            return;
+        }
+        if (assignment.myPaper.getState() == PaperState.WITHDRAWN) {
+            theReport.reject(file + ": the paper was withdrawn");
+            return;
+        }
+        try {
+            assignment.myConference.getReviewerRole().sendReview(assignment.myReviewer, assignment.myPaper,
+                    ingested.myFile, ingested.myScore);
+            theReport.myReviews++;
+        } catch (IllegalArgumentException e) {
+            theReport.reject(file + ": " + (e.getMessage() == null ? "the review was rejected" : e.getMessage()));
+        }
+    }
+
+    private static String key(final String theConference, final String theReviewer) {
+        return theConference + '/' + theReviewer;
+    }
+
+    /**
+     * @return theName in lower case with every run of characters other than letters and digits as one space.
+     */
+    static String normalize(final String theName) {
+        final StringBuilder result = new StringBuilder(theName.length());
+        boolean space = false;
+        for (int i = 0; i < theName.length(); i++) {
+            final char c = theName.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (space && result.length() > 0) {
+                    result.append(' ');
+                }
+                result.append(c);
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return result.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A paper assigned to a reviewer in a conference.
+     */
+    private static final class Assignment {
+
+        private final Conference myConference;
+        private final UserProfile myReviewer;
+        private final Paper myPaper;
+
+        private Assignment(final Conference theConference, final UserProfile theReviewer, final Paper thePaper) {
+            myConference = theConference;
+            myReviewer = theReviewer;
+            myPaper = thePaper;
+        }
+    }
+
+    /**
+     * A review file matched to its assignment, ready to send.
+     */
+    private static final class Ingested {
+
+        private final Assignment myAssignment;
+        private final Path myRelative;
+        private final File myFile;
+        private final int myScore;
+
+        private Ingested(final Assignment theAssignment, final Path theRelative, final File theFile,
+                final int theScore) {
+            myAssignment = theAssignment;
+            myRelative = theRelative;
+            myFile = theFile;
+            myScore = theScore;
+        }
+    }
+
+    /**
+     * The counts, errors and throughput of an import.
+     */
+    public static class Report {
+
+        private final long myStartNanos = System.nanoTime();
+        private long myEndNanos;
+        private long myFiles;
+        private long myReviews;
+        private long myRejected;
+        private final List<String> myErrors = new ArrayList<>();
+
+        private void reject(final String theError) {
+            myRejected++;
+            if (myErrors.size() < MAX_ERRORS) {
+                myErrors.add(theError);
+            }
+        }
+
+        /**
+         * @return the amount of files found, including the rejected ones.
+         */
+        public long getFiles() {
+            return myFiles;
+        }
+
+        /**
+         * @return the amount of reviews sent.
+         */
+        public long getReviews() {
+            return myReviews;
+        }
+
+        /**
+         * @return the amount of files which were not sent as reviews.
+         */
+        public long getRejected() {
+            return myRejected;
+        }
+
+        /**
+         * @return the first MAX_ERRORS reasons for rejected files.
+         */
+        public List<String> getErrors() {
+            return Collections.unmodifiableList(myErrors);
+        }
+
+        /**
+         * @return the time the import took in milliseconds.
+         */
+        public long getElapsedMillis() {
+            return ((myEndNanos == 0 ? System.nanoTime() : myEndNanos) - myStartNanos) / 1_000_000;
+        }
+
+        /**
+         * @return the files read per second.
+         */
+        public double getFilesPerSecond() {
+            return myFiles * 1000.0 / Math.max(1, getElapsedMillis());
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d files (%d reviews, %d rejected) in %d ms, %.0f files/s",
+                    myFiles, myReviews, myRejected, getElapsedMillis(), getFilesPerSecond());
+        }
+    }
+}